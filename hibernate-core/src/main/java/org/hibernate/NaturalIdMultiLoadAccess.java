@@ -0,0 +1,122 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Loads multiple entities at once by their natural identifiers, ultimately via one of the
+ * {@link #multiLoad} methods, using the various options specified (if any).
+ * <p/>
+ * Natural ids already resolved by the session, or found in the natural-id second-level cache
+ * region, are not looked up again; the others are resolved by batches, with one query per batch.
+ * <p/>
+ * Each natural id is given as its value for an entity with a simple (single attribute) natural
+ * id, or as a {@code Map} of the natural-id attribute names to their values (see
+ * {@link #compoundValue}) for an entity with a compound natural id.
+ *
+ * @see org.hibernate.annotations.NaturalId
+ */
+public interface NaturalIdMultiLoadAccess<T> {
+	/**
+	 * Specify the {@link LockOptions} to use when retrieving the entities.
+	 *
+	 * @param lockOptions The lock options to use.
+	 *
+	 * @return {@code this}, for method chaining
+	 */
+	NaturalIdMultiLoadAccess<T> with(LockOptions lockOptions);
+
+	/**
+	 * Specify the {@link CacheMode} to use when retrieving the entities.
+	 *
+	 * @param cacheMode The CacheMode to use.
+	 *
+	 * @return {@code this}, for method chaining
+	 */
+	NaturalIdMultiLoadAccess<T> with(CacheMode cacheMode);
+
+	/**
+	 * Specify a batch size for resolving the natural ids, and then loading the entities (how many
+	 * at a time).  The default is to use a batch sizing strategy defined by the Dialect in use.
+	 * Any greater-than-one value here will override that default behavior.
+	 *
+	 * @param batchSize The batch size
+	 *
+	 * @return {@code this}, for method chaining
+	 *
+	 * @see MultiIdentifierLoadAccess#withBatchSize
+	 */
+	NaturalIdMultiLoadAccess<T> withBatchSize(int batchSize);
+
+	/**
+	 * Should the return List be ordered and positional in relation to the incoming natural ids?
+	 * If enabled (the default), the return List is ordered and positional relative to the incoming
+	 * natural ids, with a null at the position of each unknown natural id.  If disabled, the
+	 * nulls are not put into the return List.
+	 *
+	 * @param enabled {@code true} (the default) enables ordering;
+	 * {@code false} disables it.
+	 *
+	 * @return {@code this}, for method chaining
+	 */
+	NaturalIdMultiLoadAccess<T> enableOrderedReturn(boolean enabled);
+
+	/**
+	 * For entities with mutable natural ids, should Hibernate perform "synchronization" prior to performing
+	 * lookups?  The default is to perform "synchronization" (for correctness).
+	 *
+	 * @param enabled Should synchronization be performed?
+	 *
+	 * @return {@code this}, for method chaining
+	 *
+	 * @see NaturalIdLoadAccess#setSynchronizationEnabled
+	 */
+	NaturalIdMultiLoadAccess<T> setSynchronizationEnabled(boolean enabled);
+
+	/**
+	 * Perform a load of multiple entities by natural ids.  See {@link #enableOrderedReturn} for
+	 * the size and "shape" of the return list.
+	 *
+	 * @param naturalIds The natural ids to load
+	 *
+	 * @return The persistent entities.
+	 */
+	List<T> multiLoad(Object... naturalIds);
+
+	/**
+	 * Perform a load of multiple entities by natural ids.  See {@link #enableOrderedReturn} for
+	 * the size and "shape" of the return list.
+	 *
+	 * @param naturalIds The natural ids to load
+	 *
+	 * @return The persistent entities.
+	 */
+	List<T> multiLoad(List<?> naturalIds);
+
+	/**
+	 * Helper for creating a compound natural id value from the names and values of its attributes,
+	 * given in turn:
+	 * {@code compoundValue( "system", "billing", "code", "ABC-1" )}
+	 *
+	 * @param elements The attribute names and values, alternately
+	 *
+	 * @return The natural id value
+	 */
+	static Map<String, ?> compoundValue(Object... elements) {
+		if ( elements.length % 2 != 0 ) {
+			throw new IllegalArgumentException( "Expecting attribute names and values in pairs" );
+		}
+		final Map<String, Object> value = new HashMap<>();
+		for ( int i = 0; i < elements.length; i += 2 ) {
+			value.put( (String) elements[i], elements[i + 1] );
+		}
+		return value;
+	}
+}
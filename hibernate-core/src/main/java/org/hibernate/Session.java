@@ -9,6 +9,7 @@ package org.hibernate;
 import java.io.Closeable;
 import java.io.Serializable;
 import java.sql.Connection;
+import java.util.Collection;
 import java.util.List;
 import javax.persistence.EntityGraph;
 import javax.persistence.EntityManager;
@@ -892,6 +893,32 @@ public interface Session extends SharedSessionContract, EntityManager, Hibernate
 	 */
 	<T> SimpleNaturalIdLoadAccess<T> bySimpleNaturalId(Class<T> entityClass);
 
+	/**
+	 * Create a {@link NaturalIdMultiLoadAccess} instance to retrieve multiple entities at once
+	 * as specified by their natural id values.
+	 *
+	 * @param entityClass The entity type to be retrieved
+	 *
+	 * @return load delegate for loading the specified entity type by natural id values
+	 *
+	 * @throws HibernateException If the specified Class cannot be resolved as a mapped entity, or if the
+	 * entity does not define a natural-id
+	 */
+	<T> NaturalIdMultiLoadAccess<T> byMultipleNaturalId(Class<T> entityClass);
+
+	/**
+	 * Create a {@link NaturalIdMultiLoadAccess} instance to retrieve multiple entities at once
+	 * as specified by their natural id values.
+	 *
+	 * @param entityName The entity name of the entity type to be retrieved
+	 *
+	 * @return load delegate for loading the specified entity type by natural id values
+	 *
+	 * @throws HibernateException If the specified entity name cannot be resolved as an entity name, or if the
+	 * entity does not define a natural-id
+	 */
+	NaturalIdMultiLoadAccess byMultipleNaturalId(String entityName);
+
 	/**
 	 * Enable the named filter for this current session.
 	 *
@@ -1129,6 +1156,19 @@ public interface Session extends SharedSessionContract, EntityManager, Hibernate
 		 * @param object The instance of the entity to lock
 		 */
 		void lock(Object object);
+
+		/**
+		 * Perform the requested locking on several instances.  Where possible, the instances
+		 * of each entity type already associated with the session are locked using a single
+		 * statement.
+		 *
+		 * @param objects The instances of the entities to lock
+		 */
+		default void lockAll(Collection<?> objects) {
+			for ( Object object : objects ) {
+				lock( object );
+			}
+		}
 	}
 
 	/**
@@ -1156,6 +1196,34 @@ public interface Session extends SharedSessionContract, EntityManager, Hibernate
 
 	<T> org.hibernate.query.Query<T> createNamedQuery(String name, Class<T> resultType);
 
+	/**
+	 * Create a {@link org.hibernate.query.Query} which claims up to {@code batchSize} instances of the
+	 * given entity type for exclusive processing, as done by the consumers of a database-backed work queue.
+	 * <p/>
+	 * The instances are selected, loaded and locked by a single {@code select ... for update skip locked}
+	 * statement, so that rows already locked by other transactions are skipped rather than waited for.
+	 * On dialects which do not {@linkplain org.hibernate.dialect.Dialect#supportsSkipLocked() support}
+	 * skipping locked rows, the rows are locked using {@link LockMode#PESSIMISTIC_WRITE}, meaning that
+	 * concurrent claims wait for each other.  Either way, the locks are held until the end of the
+	 * current transaction.  The rows are never locked by a follow-on statement, which would not skip the
+	 * rows claimed concurrently: where the database cannot lock the rows of a paged query (for example
+	 * Oracle with an order by clause), the query fails instead.
+	 * <p/>
+	 * The restriction is HQL, rendered as {@code where ( <predicate> ) <order by clause>}: it must never be
+	 * built from untrusted input, which has to be passed as parameters instead.
+	 * <p/>
+	 * Example usage:
+	 * {@code session.createClaimQuery( Job.class, "status = :status order by id", 10 ).setParameter( "status", NEW ).list();}
+	 *
+	 * @param entityClass The type of the entities to claim
+	 * @param restriction An optional, trusted HQL restriction on the properties of the entity (the contents of
+	 * the where clause, possibly followed by an order by clause, or an order by clause alone)
+	 * @param batchSize The maximum number of instances to claim
+	 *
+	 * @return The query
+	 */
+	<T> org.hibernate.query.Query<T> createClaimQuery(Class<T> entityClass, String restriction, int batchSize);
+
 	@Override
 	NativeQuery createSQLQuery(String queryString);
 }
@@ -148,7 +148,7 @@ public class EntityDeleteAction extends EntityAction {
 
 		final StatisticsImplementor statistics = getSession().getFactory().getStatistics();
 		if ( statistics.isStatisticsEnabled() && !veto ) {
-			statistics.deleteEntity( getPersister().getEntityName() );
+			statistics.deleteEntity( getPersister().getEntityName(), getSession().getTenantIdentifier() );
 		}
 	}
 
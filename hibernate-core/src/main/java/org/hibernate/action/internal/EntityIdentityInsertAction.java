@@ -7,6 +7,8 @@
 package org.hibernate.action.internal;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.HibernateException;
@@ -21,6 +23,7 @@ import org.hibernate.event.spi.PostInsertEvent;
 import org.hibernate.event.spi.PostInsertEventListener;
 import org.hibernate.event.spi.PreInsertEvent;
 import org.hibernate.event.spi.PreInsertEventListener;
+import org.hibernate.persister.entity.AbstractEntityPersister;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
@@ -81,17 +84,7 @@ public class EntityIdentityInsertAction extends AbstractEntityInsertAction  {
 		// else inserted the same pk first, the insert would fail
 
 		if ( !isVeto() ) {
-			generatedId = persister.insert( getState(), instance, session );
-			if ( persister.hasInsertGeneratedProperties() ) {
-				persister.processInsertGeneratedProperties( generatedId, instance, getState(), session );
-			}
-			//need to do that here rather than in the save event listener to let
-			//the post insert events to have a id-filled entity when IDENTITY is used (EJB3)
-			persister.setIdentifier( instance, generatedId, session );
-			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
-			persistenceContext.registerInsertedKey( getPersister(), generatedId );
-			entityKey = session.generateEntityKey( generatedId, persister );
-			persistenceContext.checkUniqueness( entityKey, getInstance() );
+			afterInsert( persister.insert( getState(), instance, session ) );
 		}
 
 
@@ -103,11 +96,99 @@ public class EntityIdentityInsertAction extends AbstractEntityInsertAction  {
 			persister.getCache().insert(generatedId, cacheEntry);
 		}*/
 
+		completeExecution();
+	}
+
+	/**
+	 * Can this (delayed) insert be executed as part of a JDBC batch of inserts of the same entity?
+	 *
+	 * @return {@code true} if this insert may be passed to {@link #executeBatch}
+	 */
+	public boolean isBatchable() {
+		return isDelayed && isBatchable( getPersister(), getSession() );
+	}
+
+	/**
+	 * Can inserts of the given entity be delayed and executed as JDBC batches?
+	 *
+	 * @param persister The entity persister
+	 * @param session The session
+	 *
+	 * @return {@code true} if identity inserts of the entity are batchable within the session
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#BATCH_IDENTITY_INSERTS
+	 */
+	public static boolean isBatchable(EntityPersister persister, SharedSessionContractImplementor session) {
+		return persister instanceof AbstractEntityPersister
+				&& ( (AbstractEntityPersister) persister ).isIdentityInsertBatchable()
+				&& session.getConfiguredJdbcBatchSize() > 1;
+	}
+
+	/**
+	 * Execute several delayed inserts of the same entity, issuing all of the SQL inserts as a single JDBC batch.
+	 * <p/>
+	 * The pre-insert events of all the inserts are fired before the batch is executed, and the post-insert
+	 * events after, so none of the entities may reference another one of the batch.
+	 *
+	 * @param actions The inserts, all of which are {@linkplain #isBatchable() batchable} and for the same persister
+	 *
+	 * @throws HibernateException Indicates a problem performing the inserts
+	 */
+	public static void executeBatch(List<EntityIdentityInsertAction> actions) throws HibernateException {
+		final AbstractEntityPersister persister = (AbstractEntityPersister) actions.get( 0 ).getPersister();
+		final SharedSessionContractImplementor session = actions.get( 0 ).getSession();
+
+		final List<EntityIdentityInsertAction> inserts = new ArrayList<>( actions.size() );
+		for ( EntityIdentityInsertAction action : actions ) {
+			action.nullifyTransientReferencesIfNotAlready();
+			action.setVeto( action.preInsert() );
+			if ( !action.isVeto() ) {
+				inserts.add( action );
+			}
+		}
+
+		if ( !inserts.isEmpty() ) {
+			final Object[][] states = new Object[inserts.size()][];
+			final Object[] instances = new Object[inserts.size()];
+			for ( int i = 0; i < instances.length; i++ ) {
+				states[i] = inserts.get( i ).getState();
+				instances[i] = inserts.get( i ).getInstance();
+			}
+			final Serializable[] generatedIds = persister.insertBatch( states, instances, session );
+			for ( int i = 0; i < generatedIds.length; i++ ) {
+				inserts.get( i ).afterInsert( generatedIds[i] );
+			}
+		}
+
+		for ( EntityIdentityInsertAction action : actions ) {
+			action.completeExecution();
+		}
+	}
+
+	private void afterInsert(Serializable generatedId) {
+		final EntityPersister persister = getPersister();
+		final SharedSessionContractImplementor session = getSession();
+		final Object instance = getInstance();
+
+		this.generatedId = generatedId;
+		if ( persister.hasInsertGeneratedProperties() ) {
+			persister.processInsertGeneratedProperties( generatedId, instance, getState(), session );
+		}
+		//need to do that here rather than in the save event listener to let
+		//the post insert events to have a id-filled entity when IDENTITY is used (EJB3)
+		persister.setIdentifier( instance, generatedId, session );
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		persistenceContext.registerInsertedKey( persister, generatedId );
+		entityKey = session.generateEntityKey( generatedId, persister );
+		persistenceContext.checkUniqueness( entityKey, instance );
+	}
+
+	private void completeExecution() {
 		postInsert();
 
-		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		final StatisticsImplementor statistics = getSession().getFactory().getStatistics();
 		if ( statistics.isStatisticsEnabled() && !isVeto() ) {
-			statistics.insertEntity( getPersister().getEntityName() );
+			statistics.insertEntity( getPersister().getEntityName(), getSession().getTenantIdentifier() );
 		}
 
 		markExecuted();
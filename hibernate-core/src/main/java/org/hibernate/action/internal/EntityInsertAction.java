@@ -153,7 +153,7 @@ public class EntityInsertAction extends AbstractEntityInsertAction {
 		postInsert();
 
 		if ( statistics.isStatisticsEnabled() && !veto ) {
-			statistics.insertEntity( getPersister().getEntityName() );
+			statistics.insertEntity( getPersister().getEntityName(), getSession().getTenantIdentifier() );
 		}
 
 		markExecuted();
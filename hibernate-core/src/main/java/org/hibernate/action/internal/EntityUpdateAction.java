@@ -271,7 +271,7 @@ public class EntityUpdateAction extends EntityAction {
 		postUpdate();
 
 		if ( statistics.isStatisticsEnabled() && !veto ) {
-			statistics.updateEntity( getPersister().getEntityName() );
+			statistics.updateEntity( getPersister().getEntityName(), getSession().getTenantIdentifier() );
 		}
 	}
 
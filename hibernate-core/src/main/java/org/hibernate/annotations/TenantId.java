@@ -0,0 +1,33 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.annotations;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.hibernate.tuple.TenantIdGeneration;
+
+/**
+ * Marks a property as the tenant discriminator of the containing entity, for the
+ * {@link org.hibernate.MultiTenancyStrategy#DISCRIMINATOR} strategy.
+ * <p>
+ * The property value is set to the tenant identifier of the session when the entity is persisted, and
+ * is never updated.  The rows of the other tenants are then excluded by a restriction on the tenant column,
+ * the tenant identifier being bound as a parameter, when the entity is loaded, batch loaded, updated
+ * or deleted by its identifier and when it is queried by HQL or JPQL.
+ * <p>
+ * The property must be of type {@link String}.
+ */
+@ValueGenerationType(generatedBy = TenantIdGeneration.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ FIELD, METHOD })
+public @interface TenantId {
+}
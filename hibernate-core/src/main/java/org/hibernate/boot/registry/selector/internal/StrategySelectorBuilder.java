@@ -95,6 +95,7 @@ import org.hibernate.event.internal.EntityCopyAllowedObserver;
 import org.hibernate.event.internal.EntityCopyNotAllowedObserver;
 import org.hibernate.event.spi.EntityCopyObserver;
 import org.hibernate.hql.spi.id.MultiTableBulkIdStrategy;
+import org.hibernate.hql.spi.id.cte.CteDataModifyingBulkIdStrategy;
 import org.hibernate.hql.spi.id.global.GlobalTemporaryTableBulkIdStrategy;
 import org.hibernate.hql.spi.id.local.LocalTemporaryTableBulkIdStrategy;
 import org.hibernate.hql.spi.id.persistent.PersistentTableBulkIdStrategy;
@@ -428,6 +429,11 @@ public class StrategySelectorBuilder {
 				LocalTemporaryTableBulkIdStrategy.SHORT_NAME,
 				LocalTemporaryTableBulkIdStrategy.class
 		);
+		strategySelector.registerStrategyImplementor(
+				MultiTableBulkIdStrategy.class,
+				CteDataModifyingBulkIdStrategy.SHORT_NAME,
+				CteDataModifyingBulkIdStrategy.class
+		);
 	}
 
 	private void addImplicitNamingStrategies(StrategySelectorImpl strategySelector) {
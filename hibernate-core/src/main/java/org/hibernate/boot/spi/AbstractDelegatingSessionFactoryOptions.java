@@ -177,6 +177,21 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isDelayBatchFetchLoaderCreationsEnabled();
 	}
 
+	@Override
+	public boolean isBatchFetchArrayParameterEnabled() {
+		return delegate.isBatchFetchArrayParameterEnabled();
+	}
+
+	@Override
+	public boolean isDeferredCollectionSnapshotEnabled() {
+		return delegate.isDeferredCollectionSnapshotEnabled();
+	}
+
+	@Override
+	public boolean isListIndexShiftingEnabled() {
+		return delegate.isListIndexShiftingEnabled();
+	}
+
 	@Override
 	public int getDefaultBatchFetchSize() {
 		return delegate.getDefaultBatchFetchSize();
@@ -217,6 +232,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isJtaTrackByThread();
 	}
 
+	@Override
+	public boolean isJtaJoinDeferred() {
+		return delegate.isJtaJoinDeferred();
+	}
+
 	@Override
 	public Map getQuerySubstitutions() {
 		return delegate.getQuerySubstitutions();
@@ -227,6 +247,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isNamedQueryStartupCheckingEnabled();
 	}
 
+	@Override
+	public int getNamedQueryStartupCheckingParallelism() {
+		return delegate.getNamedQueryStartupCheckingParallelism();
+	}
+
 	@Override
 	public boolean isConventionalJavaConstants() {
 		return delegate.isConventionalJavaConstants();
@@ -267,6 +292,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.getTimestampsCacheFactory();
 	}
 
+	@Override
+	public boolean isTenantScopedTimestampsEnabled() {
+		return delegate.isTenantScopedTimestampsEnabled();
+	}
+
 	@Override
 	public String getCacheRegionPrefix() {
 		return delegate.getCacheRegionPrefix();
@@ -307,6 +337,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isJdbcBatchVersionedData();
 	}
 
+	@Override
+	public boolean isIdentityInsertBatchingEnabled() {
+		return delegate.isIdentityInsertBatchingEnabled();
+	}
+
 	@Override
 	public boolean isScrollableResultSetsEnabled() {
 		return delegate.isScrollableResultSetsEnabled();
@@ -327,6 +362,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.getJdbcFetchSize();
 	}
 
+	@Override
+	public int getJdbcStatementCacheSize() {
+		return delegate.getJdbcStatementCacheSize();
+	}
+
 	@Override
 	public PhysicalConnectionHandlingMode getPhysicalConnectionHandlingMode() {
 		return delegate.getPhysicalConnectionHandlingMode();
@@ -438,6 +478,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.getQueryStatisticsMaxSize();
 	}
 
+	@Override
+	public int getTenantStatisticsMaxSize() {
+		return delegate.getTenantStatisticsMaxSize();
+	}
+
 	@Override
 	public boolean areJPACallbacksEnabled() {
 		return delegate.areJPACallbacksEnabled();
@@ -164,6 +164,18 @@ public interface SessionFactoryOptions {
 
 	boolean isDelayBatchFetchLoaderCreationsEnabled();
 
+	default boolean isBatchFetchArrayParameterEnabled() {
+		return false;
+	}
+
+	default boolean isDeferredCollectionSnapshotEnabled() {
+		return false;
+	}
+
+	default boolean isListIndexShiftingEnabled() {
+		return false;
+	}
+
 	int getDefaultBatchFetchSize();
 
 	Integer getMaximumFetchDepth();
@@ -180,6 +192,10 @@ public interface SessionFactoryOptions {
 
 	boolean isJtaTrackByThread();
 
+	default boolean isJtaJoinDeferred() {
+		return false;
+	}
+
 	Map getQuerySubstitutions();
 
 	/**
@@ -193,6 +209,10 @@ public interface SessionFactoryOptions {
 
 	boolean isNamedQueryStartupCheckingEnabled();
 
+	default int getNamedQueryStartupCheckingParallelism() {
+		return 1;
+	}
+
 	boolean isConventionalJavaConstants();
 
 	boolean isSecondLevelCacheEnabled();
@@ -201,6 +221,10 @@ public interface SessionFactoryOptions {
 
 	TimestampsCacheFactory getTimestampsCacheFactory();
 
+	default boolean isTenantScopedTimestampsEnabled() {
+		return false;
+	}
+
 	String getCacheRegionPrefix();
 
 	boolean isMinimalPutsEnabled();
@@ -217,6 +241,10 @@ public interface SessionFactoryOptions {
 
 	boolean isJdbcBatchVersionedData();
 
+	default boolean isIdentityInsertBatchingEnabled() {
+		return false;
+	}
+
 	boolean isScrollableResultSetsEnabled();
 
 	boolean isWrapResultSetsEnabled();
@@ -225,6 +253,10 @@ public interface SessionFactoryOptions {
 
 	Integer getJdbcFetchSize();
 
+	default int getJdbcStatementCacheSize() {
+		return 0;
+	}
+
 	PhysicalConnectionHandlingMode getPhysicalConnectionHandlingMode();
 
 	default boolean doesConnectionProviderDisableAutoCommit() {
@@ -296,6 +328,10 @@ public interface SessionFactoryOptions {
 		return Statistics.DEFAULT_QUERY_STATISTICS_MAX_SIZE;
 	}
 
+	default int getTenantStatisticsMaxSize() {
+		return 0;
+	}
+
 	/**
 	 * @deprecated Since 5.4.1, this is no longer used.
 	 */
@@ -25,6 +25,9 @@ public class StandardTimestampsCacheFactory implements TimestampsCacheFactory {
 	public TimestampsCache buildTimestampsCache(
 			CacheImplementor cacheManager,
 			TimestampsRegion timestampsRegion) {
-		return new TimestampsCacheEnabledImpl( timestampsRegion );
+		return new TimestampsCacheEnabledImpl(
+				timestampsRegion,
+				cacheManager.getSessionFactory().getSessionFactoryOptions().isTenantScopedTimestampsEnabled()
+		);
 	}
 }
@@ -20,6 +20,11 @@ import org.jboss.logging.Logger;
 
 /**
  * Standard implementation of TimestampsCache
+ * <p/>
+ * When {@linkplain org.hibernate.cfg.AvailableSettings#TENANT_SCOPED_TIMESTAMPS scoped by tenant}, the update
+ * timestamps of the sessions bound to a tenant are keyed by the tenant identifier along with the query space, so
+ * that the writes of a tenant do not invalidate the cached query results of the others.  The writes of the sessions
+ * without a tenant are keyed by the query space alone, and invalidate the cached query results of all the tenants.
  *
  * @author Steve Ebersole
  */
@@ -27,9 +32,15 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 	private static final Logger log = Logger.getLogger( TimestampsCacheEnabledImpl.class );
 
 	private final TimestampsRegion timestampsRegion;
+	private final boolean tenantScoped;
 
 	public TimestampsCacheEnabledImpl(TimestampsRegion timestampsRegion) {
+		this( timestampsRegion, false );
+	}
+
+	public TimestampsCacheEnabledImpl(TimestampsRegion timestampsRegion, boolean tenantScoped) {
 		this.timestampsRegion = timestampsRegion;
+		this.tenantScoped = tenantScoped;
 	}
 
 	@Override
@@ -62,7 +73,7 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 
 				//put() has nowait semantics, is this really appropriate?
 				//note that it needs to be async replication, never local or sync
-				timestampsRegion.putIntoCache( space, ts, session );
+				timestampsRegion.putIntoCache( toCacheKey( space, session ), ts, session );
 			}
 			finally {
 				eventListenerManager.cachePutEnd();
@@ -92,7 +103,7 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 			final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
 			try {
 				eventListenerManager.cachePutStart();
-				timestampsRegion.putIntoCache( space, ts, session );
+				timestampsRegion.putIntoCache( toCacheKey( space, session ), ts, session );
 			}
 			finally {
 				eventListenerManager.cachePutEnd();
@@ -143,10 +154,24 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 	}
 
 	private Long getLastUpdateTimestampForSpace(Serializable space, SharedSessionContractImplementor session) {
+		final Object key = toCacheKey( space, session );
+		final Long ts = getFromCache( key, session );
+		if ( key == space ) {
+			return ts;
+		}
+		// the writes of the sessions without a tenant invalidate the results of all the tenants
+		final Long sharedTs = getFromCache( space, session );
+		if ( ts == null || sharedTs != null && sharedTs > ts ) {
+			return sharedTs;
+		}
+		return ts;
+	}
+
+	private Long getFromCache(Object key, SharedSessionContractImplementor session) {
 		Long ts = null;
 		try {
 			session.getEventListenerManager().cacheGetStart();
-			ts = (Long) timestampsRegion.getFromCache( space, session );
+			ts = (Long) timestampsRegion.getFromCache( key, session );
 		}
 		finally {
 			session.getEventListenerManager().cacheGetEnd( ts != null );
@@ -154,4 +179,50 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 		return ts;
 	}
 
+	private Object toCacheKey(Serializable space, SharedSessionContractImplementor session) {
+		if ( tenantScoped ) {
+			final String tenantIdentifier = session.getTenantIdentifier();
+			if ( tenantIdentifier != null ) {
+				return new TenantScopedSpace( tenantIdentifier, space );
+			}
+		}
+		return space;
+	}
+
+	/**
+	 * The key of the update timestamp of a query space for a given tenant.
+	 */
+	private static final class TenantScopedSpace implements Serializable {
+		private final String tenantIdentifier;
+		private final Serializable space;
+		private final int hashCode;
+
+		private TenantScopedSpace(String tenantIdentifier, Serializable space) {
+			this.tenantIdentifier = tenantIdentifier;
+			this.space = space;
+			this.hashCode = 31 * tenantIdentifier.hashCode() + space.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( !( o instanceof TenantScopedSpace ) ) {
+				return false;
+			}
+			final TenantScopedSpace other = (TenantScopedSpace) o;
+			return tenantIdentifier.equals( other.tenantIdentifier ) && space.equals( other.space );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public String toString() {
+			return tenantIdentifier + ':' + space;
+		}
+	}
 }
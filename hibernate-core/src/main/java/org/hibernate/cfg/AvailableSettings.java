@@ -781,6 +781,19 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String STATEMENT_FETCH_SIZE = "hibernate.jdbc.fetch_size";
 
+	/**
+	 * The maximum number of prepared statements kept open by a session, once released, to be reused when the
+	 * same SQL is executed again on the same JDBC connection.  Useful when statements are not pooled by the
+	 * JDBC driver or the connection pool.  The statements are closed when the connection is released, so the
+	 * cache is disabled when connections are released after each statement, as by default with JTA transactions
+	 * (see {@link #CONNECTION_HANDLING}).
+	 * <p/>
+	 * The default value is {@code 0}, which disables the cache.
+	 *
+	 * @since 5.5
+	 */
+	String STATEMENT_CACHE_SIZE = "hibernate.jdbc.statement_cache_size";
+
 	/**
 	 * Maximum JDBC batch size. A nonzero value enables batch updates.
 	 */
@@ -795,6 +808,22 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String BATCH_VERSIONED_DATA = "hibernate.jdbc.batch_versioned_data";
 
+	/**
+	 * Should inserts of entities using IDENTITY identifier generation be delayed until flush and
+	 * executed as JDBC batches?  The generated identifiers are then read back from the batch using
+	 * {@link java.sql.Statement#getGeneratedKeys()}.
+	 * <p/>
+	 * Only applies to {@code persist()}, to entities mapped to a single table without dynamic-insert
+	 * or custom insert SQL, and to Dialects whose
+	 * {@link org.hibernate.dialect.identity.IdentityColumnSupport#supportsGetGeneratedKeysFromBatch()}
+	 * is {@code true}.  Batching also requires {@value #STATEMENT_BATCH_SIZE} to be greater than 1.
+	 * <p/>
+	 * The default value is {@code false}.
+	 *
+	 * @since 5.5
+	 */
+	String BATCH_IDENTITY_INSERTS = "hibernate.jdbc.batch_identity_inserts";
+
 	/**
 	 * Default JDBC TimeZone. Unless specified, the JVM default TimeZone is going to be used by the underlying JDBC Driver.
 	 *
@@ -906,6 +935,20 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String QUERY_STARTUP_CHECKING = "hibernate.query.startup_check";
 
+	/**
+	 * The number of threads translating the named queries in parallel when they are
+	 * {@linkplain #QUERY_STARTUP_CHECKING checked during startup}.  The plans of the named queries
+	 * checked during startup are kept for the lifetime of the SessionFactory, apart from the
+	 * {@linkplain #QUERY_PLAN_CACHE_MAX_SIZE bounded query plan cache}.
+	 * <p/>
+	 * The default value, {@code 1}, translates the named queries one after another, on the thread
+	 * building the SessionFactory; a greater value, such as the number of available processors,
+	 * enables the parallel translation.
+	 *
+	 * @since 5.5
+	 */
+	String QUERY_STARTUP_CHECKING_PARALLELISM = "hibernate.query.startup_check_parallelism";
+
 	/**
 	 * Setting which indicates whether or not Java constant follow the Java Naming conventions.
 	 * <p/>
@@ -1121,6 +1164,19 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String QUERY_CACHE_FACTORY = "hibernate.cache.query_cache_factory";
 
+	/**
+	 * Should the update timestamps of the query spaces be kept per tenant, so that the cached query results of
+	 * a tenant are only invalidated by the changes of that same tenant?  Only meaningful when each tenant has its
+	 * own tables, i.e. with the {@link org.hibernate.MultiTenancyStrategy#DATABASE} or
+	 * {@link org.hibernate.MultiTenancyStrategy#SCHEMA} strategies.
+	 * <p/>
+	 * The default value is {@code false}, meaning a change by any tenant invalidates the cached query results of
+	 * all tenants.
+	 *
+	 * @since 5.5
+	 */
+	String TENANT_SCOPED_TIMESTAMPS = "hibernate.cache.tenant_scoped_timestamps";
+
 	/**
 	 * The <tt>CacheProvider</tt> region name prefix
 	 */
@@ -1583,6 +1639,20 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String MULTI_TENANT_IDENTIFIER_RESOLVER = "hibernate.tenant_identifier_resolver";
 
+	/**
+	 * Names a schema which, wherever it qualifies a table in the SQL statements, is replaced by the schema of the
+	 * session tenant as these statements are prepared.  The tenant identifier is the name of its schema.  Meant for
+	 * the {@link org.hibernate.MultiTenancyStrategy#SCHEMA} strategy, usually along with {@link #DEFAULT_SCHEMA}, so
+	 * that all the tenants share the same connections, handed out by a
+	 * {@link org.hibernate.engine.jdbc.connections.spi.MultiTenantConnectionProvider} which does not switch their
+	 * schema.  The tenant identifiers must be plain identifiers, made of letters, digits and underscores.
+	 * <p/>
+	 * Not set by default.
+	 *
+	 * @since 5.5
+	 */
+	String MULTI_TENANT_SCHEMA_PLACEHOLDER = "hibernate.multi_tenant.schema_placeholder";
+
 	/**
 	 * Names a {@link org.hibernate.Interceptor} implementation to be applied to the
 	 * {@link org.hibernate.SessionFactory} and propagated to each Session created from the SessionFactory.
@@ -1644,6 +1714,52 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String BATCH_FETCH_STYLE = "hibernate.batch_fetch_style";
 
+	/**
+	 * Should batch and multi-id loading bind all of the keys as a single array parameter, when the
+	 * {@link org.hibernate.dialect.Dialect#supportsArrayParameterRestriction() Dialect supports it}?
+	 * The SQL then has the same shape whatever the number of keys, which allows the database to reuse
+	 * its execution plan and lifts the limit on the number of keys loaded per statement.
+	 * <p/>
+	 * Only applies to {@link org.hibernate.loader.BatchFetchStyle#DYNAMIC} batch fetching and to
+	 * {@link org.hibernate.MultiIdentifierLoadAccess}, and only to single column keys of type
+	 * {@code Long}, {@code Integer}, {@code Short} or {@code String}.
+	 * <p/>
+	 * The default value is {@code false}.
+	 *
+	 * @since 5.5
+	 */
+	String BATCH_FETCH_ARRAY_PARAMETER = "hibernate.batch_fetch_array_parameter";
+
+	/**
+	 * Should the snapshot of a collection loaded from the database be deferred until the collection is
+	 * first modified?  Read-only access to such a collection then never copies its elements.
+	 * <p/>
+	 * Only applies to collections whose elements (and map keys) are entities or immutable values, as
+	 * changes to those can only happen through the collection itself.  Other collections are always
+	 * snapshotted when loaded.
+	 * <p/>
+	 * The default value is {@code false}.
+	 *
+	 * @since 5.5
+	 */
+	String DEFERRED_COLLECTION_SNAPSHOT = "hibernate.deferred_collection_snapshot";
+
+	/**
+	 * Should changes to a list with an order column be written by moving the rows of the elements that kept
+	 * their relative order with set-based updates of the order column, instead of rewriting every row whose
+	 * position changed?  Inserting or removing an element near the head of a long list then only takes a
+	 * handful of statements.
+	 * <p/>
+	 * Only applies to lists of values (not one-to-many associations) whose order column is not a formula,
+	 * and which do not use custom SQL.  The set-based statements are only used when they need fewer
+	 * statements than the positional updates.
+	 * <p/>
+	 * The default value is {@code false}.
+	 *
+	 * @since 5.5
+	 */
+	String LIST_INDEX_SHIFTING = "hibernate.list_index_shifting";
+
 	/**
 	 * Controls how the individual Loaders for an entity are created.
 	 *
@@ -1669,6 +1785,18 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String JTA_TRACK_BY_THREAD = "hibernate.jta.track_by_thread";
 
+	/**
+	 * Should sessions wait until they are first used before joining the current JTA transaction, rather
+	 * than joining it as soon as they are opened?  They join it before their first statement at the latest.
+	 * Sessions opened but never used then register no synchronization with the JTA transaction.  The
+	 * sessions closed automatically as the transaction completes still join it right away.
+	 * <p/>
+	 * Default is <code>false</code>
+	 *
+	 * @since 5.5
+	 */
+	String JTA_DEFER_JOIN = "hibernate.jta.defer_join";
+
 	String JACC_CONTEXT_ID = "hibernate.jacc_context_id";
 	String JACC_PREFIX = "hibernate.jacc";
 	String JACC_ENABLED = "hibernate.jacc.enabled";
@@ -1731,6 +1859,22 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String LOG_SLOW_QUERY = "hibernate.session.events.log.LOG_QUERIES_SLOWER_THAN_MS";
 
+	/**
+	 * The number of slow queries (see {@link #LOG_SLOW_QUERY}) to keep, along with their bound parameter values,
+	 * timings and row counts, for inspection through {@link org.hibernate.stat.Statistics#getSlowQueries()}.
+	 * Default is 0 (slow queries are only logged).
+	 */
+	String SLOW_QUERY_LOG_SIZE = "hibernate.session.events.log.slow_query_log_size";
+
+	/**
+	 * Setting to obtain the execution plan of the kept slow queries (see {@link #SLOW_QUERY_LOG_SIZE}) executing
+	 * slower than the specified milliseconds.  The plan is obtained from a background thread, using a separate
+	 * connection.  Default is 0 (disabled).
+	 *
+	 * @see org.hibernate.dialect.Dialect#getExplainString(String)
+	 */
+	String SLOW_QUERY_EXPLAIN_THRESHOLD = "hibernate.session.events.log.slow_query_explain_threshold";
+
 	/**
 	 * Defines a default {@link org.hibernate.SessionEventListener} to be applied to opened Sessions.
 	 */
@@ -2045,6 +2189,18 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String QUERY_STATISTICS_MAX_SIZE = "hibernate.statistics.query_max_size";
 
+	/**
+	 * This setting controls the number of tenants whose {@link org.hibernate.stat.TenantStatistics} are
+	 * stored by the Hibernate {@link org.hibernate.stat.Statistics} object, the least recently used ones being
+	 * evicted beyond it.  The sessions of each tenant are then counted in its statistics as well as in the
+	 * global ones.
+	 * </p>
+	 * The default value is 0, meaning that no tenant statistics are collected.
+	 *
+	 * @since 5.5
+	 */
+	String TENANT_STATISTICS_MAX_SIZE = "hibernate.statistics.tenant_max_size";
+
 	/**
 	 * This setting defines the {@link org.hibernate.id.SequenceMismatchStrategy} used when
 	 * Hibernate detects a mismatch between a sequence configuration in an entity mapping
@@ -19,6 +19,7 @@ import org.hibernate.annotations.Generated;
 import org.hibernate.annotations.Immutable;
 import org.hibernate.annotations.NaturalId;
 import org.hibernate.annotations.OptimisticLock;
+import org.hibernate.annotations.TenantId;
 import org.hibernate.annotations.ValueGenerationType;
 import org.hibernate.annotations.common.AssertionFailure;
 import org.hibernate.annotations.common.reflection.XClass;
@@ -292,6 +293,11 @@ public class PropertyBinder {
 			prop.setNaturalIdentifier( true );
 		}
 
+		if ( property != null && property.isAnnotationPresent( TenantId.class ) ) {
+			// the tenant of a row never changes
+			updatable = false;
+		}
+
 		// HHH-4635 -- needed for dialect-specific property ordering
 		Lob lob = property != null ? property.getAnnotation( Lob.class ) : null;
 		prop.setLob( lob != null );
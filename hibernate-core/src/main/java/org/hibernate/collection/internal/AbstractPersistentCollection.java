@@ -6,6 +6,8 @@
  */
 package org.hibernate.collection.internal;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -73,6 +75,8 @@ public abstract class AbstractPersistentCollection implements Serializable, Pers
 	private boolean dirty;
 	protected boolean elementRemoved;
 	private Serializable storedSnapshot;
+	// set while the snapshot of the loaded state has not been taken yet, see #deferSnapshot
+	private transient CollectionPersister deferredSnapshotPersister;
 
 	private String sessionFactoryUuid;
 	private boolean allowLoadOutsideTransaction;
@@ -134,9 +138,48 @@ public abstract class AbstractPersistentCollection implements Serializable, Pers
 
 	@Override
 	public final Serializable getStoredSnapshot() {
+		return takeDeferredSnapshot();
+	}
+
+	/**
+	 * Defer taking the snapshot of the (just loaded) state of this collection until it is first
+	 * modified, or until the snapshot is actually asked for.
+	 * <p/>
+	 * Only valid when the elements (and indexes) of this collection cannot change without going
+	 * through the collection itself, which means the snapshot would be a mere copy of the current
+	 * state up to then.
+	 *
+	 * @param persister The persister used to take the snapshot, once needed
+	 */
+	public final void deferSnapshot(CollectionPersister persister) {
+		this.storedSnapshot = null;
+		this.deferredSnapshotPersister = persister;
+	}
+
+	public final boolean isSnapshotDeferred() {
+		return deferredSnapshotPersister != null;
+	}
+
+	/**
+	 * Take the snapshot which was {@link #deferSnapshot deferred}, if any.
+	 *
+	 * @return The stored snapshot
+	 */
+	public final Serializable takeDeferredSnapshot() {
+		if ( deferredSnapshotPersister != null ) {
+			final CollectionPersister persister = deferredSnapshotPersister;
+			deferredSnapshotPersister = null;
+			storedSnapshot = getSnapshot( persister );
+		}
 		return storedSnapshot;
 	}
 
+	private void writeObject(ObjectOutputStream oos) throws IOException {
+		// the persister needed for a deferred snapshot does not survive serialization
+		takeDeferredSnapshot();
+		oos.defaultWriteObject();
+	}
+
 	//Careful: these methods do not initialize the collection.
 
 	@Override
@@ -524,7 +567,11 @@ public abstract class AbstractPersistentCollection implements Serializable, Pers
 	public void setSnapshot(Serializable key, String role, Serializable snapshot) {
 		this.key = key;
 		this.role = role;
-		this.storedSnapshot = snapshot;
+		if ( snapshot != null || deferredSnapshotPersister == null ) {
+			// a deferred snapshot stays deferred until an actual one is given
+			this.storedSnapshot = snapshot;
+			this.deferredSnapshotPersister = null;
+		}
 	}
 
 	@Override
@@ -573,24 +620,27 @@ public abstract class AbstractPersistentCollection implements Serializable, Pers
 	 * Initialize the collection, if possible, wrapping any exceptions
 	 * in a runtime exception
 	 *
-	 * @param writing currently obsolete
+	 * @param writing whether the collection is about to be modified
 	 *
 	 * @throws LazyInitializationException if we cannot initialize
 	 */
 	protected final void initialize(final boolean writing) {
-		if ( initialized ) {
-			return;
+		if ( !initialized ) {
+			withTemporarySessionIfNeeded(
+					new LazyInitializationWork<Object>() {
+						@Override
+						public Object doWork() {
+							session.initializeCollection( AbstractPersistentCollection.this, writing );
+							return null;
+						}
+					}
+			);
 		}
 
-		withTemporarySessionIfNeeded(
-				new LazyInitializationWork<Object>() {
-					@Override
-					public Object doWork() {
-						session.initializeCollection( AbstractPersistentCollection.this, writing );
-						return null;
-					}
-				}
-		);
+		if ( writing ) {
+			// the snapshot has to reflect the state prior to the modification
+			takeDeferredSnapshot();
+		}
 	}
 
 	private void throwLazyInitializationExceptionIfNotConnected() {
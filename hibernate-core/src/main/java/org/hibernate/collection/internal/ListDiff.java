@@ -0,0 +1,256 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.collection.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.type.Type;
+
+/**
+ * The changes made to a {@link PersistentList} since its snapshot, as the rows to delete, the runs
+ * of rows to move to other indexes, and the rows to update or insert.  Elements which kept their
+ * relative order are found as the longest common subsequence of the snapshot and the list, once
+ * their common head and tail are set aside; their rows are moved rather than rewritten.
+ * <p/>
+ * Like the positional comparison, a {@code null} element has no row.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#LIST_INDEX_SHIFTING
+ */
+final class ListDiff {
+	// the size of the table used to find the common subsequence of the middle parts of the snapshot
+	// and the list; beyond that, their elements are simply not matched
+	private static final int MAX_SUBSEQUENCE_TABLE_SIZE = 250_000;
+
+	private final List snapshot;
+	private final List<Integer> deletes = new ArrayList<>();
+	private final List<int[]> shifts = new ArrayList<>();
+	private final boolean[] updates;
+	private final boolean[] inserts;
+	private int statementCount;
+
+	private ListDiff(List snapshot, int size) {
+		this.snapshot = snapshot;
+		this.updates = new boolean[size];
+		this.inserts = new boolean[size];
+	}
+
+	/**
+	 * Compute the changes made to a list since its snapshot.
+	 *
+	 * @return The changes, or {@code null} if moving rows would not take fewer statements than
+	 * rewriting them by position
+	 */
+	static ListDiff compute(List snapshot, List list, Type elementType, SharedSessionContractImplementor session) {
+		final int snapshotSize = snapshot.size();
+		final int size = list.size();
+
+		// the index each row of the snapshot ends up at, -1 if it is deleted
+		final int[] targets = new int[snapshotSize];
+		final boolean[] matched = new boolean[size];
+		for ( int i = 0; i < snapshotSize; i++ ) {
+			targets[i] = -1;
+		}
+
+		int head = 0;
+		while ( head < snapshotSize && head < size
+				&& isSame( list.get( head ), snapshot.get( head ), elementType, session ) ) {
+			targets[head] = head;
+			matched[head] = true;
+			head++;
+		}
+		int tail = 0;
+		while ( tail < snapshotSize - head && tail < size - head
+				&& isSame( list.get( size - 1 - tail ), snapshot.get( snapshotSize - 1 - tail ), elementType, session ) ) {
+			targets[snapshotSize - 1 - tail] = size - 1 - tail;
+			matched[size - 1 - tail] = true;
+			tail++;
+		}
+
+		matchSubsequence(
+				snapshot,
+				list,
+				head,
+				snapshotSize - tail,
+				size - tail,
+				targets,
+				matched,
+				elementType,
+				session
+		);
+
+		final ListDiff diff = new ListDiff( snapshot, size );
+
+		// rows whose element was replaced by another one are kept, and updated if needed
+		for ( int i = 0; i < snapshotSize && i < size; i++ ) {
+			if ( targets[i] < 0 && !matched[i] && snapshot.get( i ) != null && list.get( i ) != null ) {
+				targets[i] = i;
+				matched[i] = true;
+				if ( elementType.isDirty( list.get( i ), snapshot.get( i ), session ) ) {
+					diff.updates[i] = true;
+					diff.statementCount++;
+				}
+			}
+		}
+
+		int[] shift = null;
+		for ( int i = 0; i < snapshotSize; i++ ) {
+			if ( snapshot.get( i ) == null ) {
+				// no row, so it does not interrupt the current run
+				continue;
+			}
+			final int offset = targets[i] - i;
+			if ( targets[i] < 0 ) {
+				diff.deletes.add( i );
+				diff.statementCount++;
+				shift = null;
+			}
+			else if ( offset == 0 ) {
+				shift = null;
+			}
+			else if ( shift != null && shift[2] == offset ) {
+				shift[1] = i;
+			}
+			else {
+				shift = new int[] { i, i, offset };
+				diff.shifts.add( shift );
+				diff.statementCount++;
+			}
+		}
+		if ( diff.shifts.isEmpty() ) {
+			return null;
+		}
+		// the statement giving the rows their actual indexes back
+		diff.statementCount++;
+
+		for ( int i = 0; i < size; i++ ) {
+			if ( !matched[i] && list.get( i ) != null ) {
+				diff.inserts[i] = true;
+				diff.statementCount++;
+			}
+		}
+
+		return diff.statementCount < countPositionalStatements( snapshot, list, elementType, session )
+				? diff
+				: null;
+	}
+
+	private static boolean isSame(Object element, Object snapshotElement, Type elementType, SharedSessionContractImplementor session) {
+		if ( element == null || snapshotElement == null ) {
+			return element == snapshotElement;
+		}
+		return !elementType.isDirty( element, snapshotElement, session );
+	}
+
+	/**
+	 * Match the elements of the snapshot between {@code start} and {@code snapshotEnd} with the
+	 * elements of the list between {@code start} and {@code end}, as their longest common subsequence
+	 */
+	private static void matchSubsequence(
+			List snapshot,
+			List list,
+			int start,
+			int snapshotEnd,
+			int end,
+			int[] targets,
+			boolean[] matched,
+			Type elementType,
+			SharedSessionContractImplementor session) {
+		final int rows = snapshotEnd - start;
+		final int columns = end - start;
+		if ( rows == 0 || columns == 0 || (long) ( rows + 1 ) * ( columns + 1 ) > MAX_SUBSEQUENCE_TABLE_SIZE ) {
+			return;
+		}
+
+		// lengths[r][c] is the length of the common subsequence of the snapshot from start + r and
+		// of the list from start + c
+		final int[][] lengths = new int[rows + 1][columns + 1];
+		final boolean[][] same = new boolean[rows][columns];
+		for ( int r = rows - 1; r >= 0; r-- ) {
+			final Object snapshotElement = snapshot.get( start + r );
+			for ( int c = columns - 1; c >= 0; c-- ) {
+				final Object element = list.get( start + c );
+				// nulls have no row to move
+				same[r][c] = element != null
+						&& snapshotElement != null
+						&& !elementType.isDirty( element, snapshotElement, session );
+				lengths[r][c] = same[r][c]
+						? lengths[r + 1][c + 1] + 1
+						: Math.max( lengths[r + 1][c], lengths[r][c + 1] );
+			}
+		}
+
+		int r = 0;
+		int c = 0;
+		while ( r < rows && c < columns ) {
+			if ( same[r][c] ) {
+				targets[start + r] = start + c;
+				matched[start + c] = true;
+				r++;
+				c++;
+			}
+			else if ( lengths[r + 1][c] >= lengths[r][c + 1] ) {
+				r++;
+			}
+			else {
+				c++;
+			}
+		}
+	}
+
+	/**
+	 * The number of statements needed to delete, update and insert the rows whose element changed,
+	 * position by position
+	 */
+	private static int countPositionalStatements(
+			List snapshot,
+			List list,
+			Type elementType,
+			SharedSessionContractImplementor session) {
+		int count = 0;
+		for ( int i = 0; i < snapshot.size() || i < list.size(); i++ ) {
+			final Object element = i < list.size() ? list.get( i ) : null;
+			final Object snapshotElement = i < snapshot.size() ? snapshot.get( i ) : null;
+			if ( element == null
+					? snapshotElement != null
+					: ( snapshotElement == null || elementType.isDirty( element, snapshotElement, session ) ) ) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Is this the diff computed against the given snapshot?
+	 */
+	boolean isDiffOf(Object snapshot) {
+		return this.snapshot == snapshot;
+	}
+
+	/**
+	 * The indexes of the rows to delete, before any row is moved.
+	 */
+	List<Integer> getDeletes() {
+		return deletes;
+	}
+
+	/**
+	 * The runs of rows to move, as the first and last index of the run and the offset to add to them.
+	 */
+	List<int[]> getShifts() {
+		return shifts;
+	}
+
+	boolean needsUpdating(int i) {
+		return updates[i];
+	}
+
+	boolean needsInserting(int i) {
+		return inserts[i];
+	}
+}
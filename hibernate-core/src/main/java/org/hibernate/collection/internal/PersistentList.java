@@ -11,6 +11,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
@@ -32,6 +33,9 @@ import org.hibernate.type.Type;
 public class PersistentList extends AbstractPersistentCollection implements List {
 	protected List list;
 
+	// the changes computed by getDeletes(), when rows are moved rather than rewritten by position
+	private transient ListDiff diff;
+
 	/**
 	 * Constructs a PersistentList.  This form needed for SOAP libraries, etc
 	 */
@@ -441,8 +445,15 @@ public class PersistentList extends AbstractPersistentCollection implements List
 	@Override
 	@SuppressWarnings("unchecked")
 	public Iterator getDeletes(CollectionPersister persister, boolean indexIsFormula) throws HibernateException {
-		final List deletes = new ArrayList();
 		final List sn = (List) getSnapshot();
+		diff = !indexIsFormula && persister.isIndexShiftingEnabled()
+				? ListDiff.compute( sn, list, persister.getElementType(), getSession() )
+				: null;
+		if ( diff != null ) {
+			return diff.getDeletes().iterator();
+		}
+
+		final List deletes = new ArrayList();
 		int end;
 		if ( sn.size() > list.size() ) {
 			for ( int i=list.size(); i<sn.size(); i++ ) {
@@ -466,18 +477,39 @@ public class PersistentList extends AbstractPersistentCollection implements List
 	@Override
 	public boolean needsInserting(Object entry, int i, Type elemType) throws HibernateException {
 		final List sn = (List) getSnapshot();
+		if ( diff != null && diff.isDiffOf( sn ) ) {
+			return diff.needsInserting( i );
+		}
 		return list.get( i ) != null && ( i >= sn.size() || sn.get( i ) == null );
 	}
 
 	@Override
 	public boolean needsUpdating(Object entry, int i, Type elemType) throws HibernateException {
 		final List sn = (List) getSnapshot();
+		if ( diff != null && diff.isDiffOf( sn ) ) {
+			return diff.needsUpdating( i );
+		}
 		return i < sn.size()
 				&& sn.get( i ) != null
 				&& list.get( i ) != null
 				&& elemType.isDirty( list.get( i ), sn.get( i ), getSession() );
 	}
 
+	@Override
+	@SuppressWarnings("unchecked")
+	public Iterator<int[]> getIndexShifts(CollectionPersister persister) {
+		if ( diff != null && diff.isDiffOf( getSnapshot() ) ) {
+			return diff.getShifts().iterator();
+		}
+		return Collections.emptyIterator();
+	}
+
+	@Override
+	public void postAction() {
+		super.postAction();
+		diff = null;
+	}
+
 	@Override
 	public Object getIndex(Object entry, int i, CollectionPersister persister) {
 		return i;
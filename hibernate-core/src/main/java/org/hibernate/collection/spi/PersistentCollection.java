@@ -10,6 +10,7 @@ import java.io.Serializable;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 
 import org.hibernate.HibernateException;
@@ -326,6 +327,21 @@ public interface PersistentCollection {
 	 */
 	Iterator getDeletes(CollectionPersister persister, boolean indexIsFormula);
 
+	/**
+	 * Get the runs of rows which keep their relative order, but need moving to other indexes.  Only
+	 * reported when the persister {@linkplain CollectionPersister#isIndexShiftingEnabled() supports}
+	 * moving rows with set-based updates, and after {@link #getDeletes}, which decides between moving
+	 * rows and rewriting them in place.
+	 *
+	 * @param persister The collection persister
+	 *
+	 * @return An iterator over the runs to move, each an {@code int[]} holding the first and last
+	 * (current) index of the run and the offset to add to its indexes
+	 */
+	default Iterator<int[]> getIndexShifts(CollectionPersister persister) {
+		return Collections.emptyIterator();
+	}
+
 	/**
 	 * Is this the wrapper for the given collection instance?
 	 *
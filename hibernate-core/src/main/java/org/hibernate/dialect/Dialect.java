@@ -990,6 +990,19 @@ public abstract class Dialect implements ConversionContext {
 		throw new UnsupportedOperationException( getClass().getName() + " does not support GUIDs" );
 	}
 
+	/**
+	 * Get the command used to obtain the execution plan of the given query, without executing it.
+	 * <p/>
+	 * Optional operation.
+	 *
+	 * @param sql The SQL query
+	 *
+	 * @return The appropriate command, or {@code null} if execution plans cannot be obtained.
+	 */
+	public String getExplainString(String sql) {
+		return null;
+	}
+
 
 	// limit/offset support ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
@@ -2430,6 +2443,71 @@ public abstract class Dialect implements ConversionContext {
 		return false;
 	}
 
+	/**
+	 * Does this dialect support restricting a column to the elements of a single array parameter,
+	 * as an alternative to an IN list with one parameter per value?
+	 * <p/>
+	 * For example, "... where ID = any (?) ..."
+	 *
+	 * @return True if {@link #renderArrayParameterRestriction} and {@link #bindArrayParameter} are supported.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#BATCH_FETCH_ARRAY_PARAMETER
+	 * @since 5.5
+	 */
+	public boolean supportsArrayParameterRestriction() {
+		return false;
+	}
+
+	/**
+	 * Render a restriction matching the given column against all elements of a single array parameter.
+	 *
+	 * @param columnExpression The (qualified) column to restrict
+	 * @param elementTypeName The SQL type name of the array elements, see {@link #getArrayParameterElementTypeName}
+	 *
+	 * @return The restriction, containing exactly one parameter marker
+	 *
+	 * @since 5.5
+	 */
+	public String renderArrayParameterRestriction(String columnExpression, String elementTypeName) {
+		throw new UnsupportedOperationException( getClass().getName() + " does not support array parameter restrictions" );
+	}
+
+	/**
+	 * The SQL type name to use for the elements of an array parameter of the given JDBC type.
+	 *
+	 * @param sqlTypeCode The {@link java.sql.Types} type code of the elements
+	 *
+	 * @return The element type name, without any length, precision or scale
+	 *
+	 * @since 5.5
+	 */
+	public String getArrayParameterElementTypeName(int sqlTypeCode) {
+		final String typeName = getTypeName( sqlTypeCode );
+		final int parenthesis = typeName.indexOf( '(' );
+		return parenthesis < 0 ? typeName : typeName.substring( 0, parenthesis ).trim();
+	}
+
+	/**
+	 * Bind the given values as the single array parameter of a restriction rendered by
+	 * {@link #renderArrayParameterRestriction}.
+	 *
+	 * @param statement The statement to bind to
+	 * @param position The parameter position
+	 * @param elementTypeName The SQL type name of the array elements
+	 * @param elements The values to bind
+	 *
+	 * @throws SQLException Indicates problems binding the parameter
+	 *
+	 * @since 5.5
+	 */
+	public void bindArrayParameter(
+			PreparedStatement statement,
+			int position,
+			String elementTypeName,
+			Object[] elements) throws SQLException {
+		statement.setArray( position, statement.getConnection().createArrayOf( elementTypeName, elements ) );
+	}
+
 	/**
 	 * Should LOBs (both BLOB and CLOB) be bound using stream operations (i.e.
 	 * {@link PreparedStatement#setBinaryStream}).
@@ -2949,6 +3027,16 @@ public abstract class Dialect implements ConversionContext {
 		return false;
 	}
 
+	/**
+	 * Does this dialect/database support non-query statements (e.g. UPDATE, DELETE) as CTE (Common Table Expressions)
+	 * of another statement, all of them seeing the same snapshot of the data?
+	 *
+	 * @return {@code true} if non-query statements are supported as CTE
+	 */
+	public boolean supportsDataModifyingCTE() {
+		return false;
+	}
+
 	/**
 	 * Does this dialect/database support VALUES list (e.g. VALUES (1), (2), (3) )
 	 *
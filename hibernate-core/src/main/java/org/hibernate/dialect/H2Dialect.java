@@ -299,6 +299,11 @@ public class H2Dialect extends Dialect {
 		return querySequenceString;
 	}
 
+	@Override
+	public String getExplainString(String sql) {
+		return "explain " + sql;
+	}
+
 	@Override
 	public SequenceInformationExtractor getSequenceInformationExtractor() {
 		return sequenceInformationExtractor;
@@ -428,6 +433,17 @@ public class H2Dialect extends Dialect {
 	public boolean supportsTuplesInSubqueries() {
 		return false;
 	}
+
+	@Override
+	public boolean supportsArrayParameterRestriction() {
+		return true;
+	}
+
+	@Override
+	public String renderArrayParameterRestriction(String columnExpression, String elementTypeName) {
+		// H2 cannot compare against ANY of an array parameter, but can treat it as a table
+		return columnExpression + " in (select x from table(x " + elementTypeName + " = ?))";
+	}
 	
 	// Do not drop constraints explicitly, just do this by cascading instead.
 	@Override
@@ -334,6 +334,11 @@ public class MySQLDialect extends Dialect {
 		return "select uuid()";
 	}
 
+	@Override
+	public String getExplainString(String sql) {
+		return "explain " + sql;
+	}
+
 	@Override
 	public String getTableComment(String comment) {
 		return " comment='" + comment + "'";
@@ -246,6 +246,11 @@ public class PostgreSQL81Dialect extends Dialect {
 		return "select * from information_schema.sequences";
 	}
 
+	@Override
+	public String getExplainString(String sql) {
+		return "explain " + sql;
+	}
+
 	@Override
 	public LimitHandler getLimitHandler() {
 		return LIMIT_HANDLER;
@@ -591,6 +596,16 @@ public class PostgreSQL81Dialect extends Dialect {
 		return true;
 	}
 
+	@Override
+	public boolean supportsArrayParameterRestriction() {
+		return true;
+	}
+
+	@Override
+	public String renderArrayParameterRestriction(String columnExpression, String elementTypeName) {
+		return columnExpression + " = any (?)";
+	}
+
 	@Override
 	public String getForUpdateNowaitString() {
 		return getForUpdateString() + " nowait ";
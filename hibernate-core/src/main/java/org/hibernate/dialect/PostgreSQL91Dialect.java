@@ -22,4 +22,9 @@ public class PostgreSQL91Dialect extends PostgreSQL9Dialect {
 	public boolean supportsNonQueryWithCTE() {
 		return true;
 	}
+
+	@Override
+	public boolean supportsDataModifyingCTE() {
+		return true;
+	}
 }
@@ -12,12 +12,16 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 
 import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.id.IdentifierGeneratorHelper;
 import org.hibernate.id.PostInsertIdentityPersister;
 import org.hibernate.id.insert.AbstractReturningDelegate;
+import org.hibernate.id.insert.Binder;
 import org.hibernate.id.insert.IdentifierGeneratingInsert;
 import org.hibernate.id.insert.InsertGeneratedIdentifierDelegate;
+import org.hibernate.jdbc.Expectations;
+import org.hibernate.pretty.MessageHelper;
 
 /**
  * Delegate for dealing with IDENTITY columns using JDBC3 getGeneratedKeys
@@ -71,4 +75,71 @@ public class GetGeneratedKeysDelegate
 			}
 		}
 	}
+
+	/**
+	 * Perform the inserts of several entities as a single JDBC batch, reading back the generated
+	 * identifiers using {@link java.sql.Statement#getGeneratedKeys()}.
+	 *
+	 * @param insertSQL The (identity) insert SQL
+	 * @param session The session
+	 * @param binders The binders for the individual rows, in insertion order
+	 *
+	 * @return The generated identifiers, in the order of the given binders
+	 *
+	 * @see IdentityColumnSupport#supportsGetGeneratedKeysFromBatch()
+	 */
+	public Serializable[] performBatchInsert(
+			String insertSQL,
+			SharedSessionContractImplementor session,
+			Binder[] binders) {
+		final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+		try {
+			final PreparedStatement insert = prepare( insertSQL, session );
+			try {
+				for ( Binder binder : binders ) {
+					binder.bindValues( insert );
+					insert.addBatch();
+				}
+
+				final int[] rowCounts;
+				try {
+					jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver().jdbcExecuteBatchStart();
+					rowCounts = insert.executeBatch();
+				}
+				finally {
+					jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver().jdbcExecuteBatchEnd();
+				}
+				for ( int i = 0; i < rowCounts.length; i++ ) {
+					Expectations.BASIC.verifyOutcome( rowCounts[i], insert, i );
+				}
+
+				final Serializable[] ids = new Serializable[binders.length];
+				final ResultSet rs = insert.getGeneratedKeys();
+				try {
+					for ( int i = 0; i < ids.length; i++ ) {
+						ids[i] = IdentifierGeneratorHelper.getGeneratedIdentity(
+								rs,
+								persister.getRootTableKeyColumnNames()[0],
+								persister.getIdentifierType(),
+								dialect
+						);
+					}
+				}
+				finally {
+					jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( rs, insert );
+				}
+				return ids;
+			}
+			finally {
+				releaseStatement( insert, session );
+			}
+		}
+		catch (SQLException sqle) {
+			throw session.getJdbcServices().getSqlExceptionHelper().convert(
+					sqle,
+					"could not insert: " + MessageHelper.infoString( persister ),
+					insertSQL
+			);
+		}
+	}
 }
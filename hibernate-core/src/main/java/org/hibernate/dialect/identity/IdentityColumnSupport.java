@@ -92,6 +92,18 @@ public interface IdentityColumnSupport {
 	 */
 	String getIdentityInsertString();
 
+	/**
+	 * Does the JDBC driver return the generated IDENTITY values of every row from
+	 * {@link java.sql.Statement#getGeneratedKeys()} after executing a batch of inserts?
+	 *
+	 * @return {@code true} if inserts into IDENTITY tables can be batched.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#BATCH_IDENTITY_INSERTS
+	 */
+	default boolean supportsGetGeneratedKeysFromBatch() {
+		return false;
+	}
+
 	/**
 	 * The Delegate for dealing with IDENTITY columns using JDBC3 getGeneratedKeys
 	 *
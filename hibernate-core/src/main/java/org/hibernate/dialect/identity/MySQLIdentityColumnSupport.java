@@ -25,4 +25,9 @@ public class MySQLIdentityColumnSupport extends IdentityColumnSupportImpl {
 		//starts with 1, implicitly
 		return "not null auto_increment";
 	}
+
+	@Override
+	public boolean supportsGetGeneratedKeysFromBatch() {
+		return true;
+	}
 }
@@ -6,9 +6,25 @@
  */
 package org.hibernate.dialect.lock;
 
+import java.io.Serializable;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.JDBCException;
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
+import org.hibernate.StaleObjectStateException;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.StringHelper;
 import org.hibernate.persister.entity.Lockable;
+import org.hibernate.pretty.MessageHelper;
+import org.hibernate.sql.SimpleSelect;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 /**
  * Base {@link LockingStrategy} implementation to support implementations
@@ -17,6 +33,9 @@ import org.hibernate.persister.entity.Lockable;
  * @author Steve Ebersole
  */
 public abstract class AbstractSelectLockingStrategy implements LockingStrategy {
+	private static final String ID_ALIAS = "lock_id_";
+	private static final String VERSION_ALIAS = "lock_version_";
+
 	private final Lockable lockable;
 	private final LockMode lockMode;
 	private final String waitForeverSql;
@@ -69,4 +88,112 @@ public abstract class AbstractSelectLockingStrategy implements LockingStrategy {
 		}
 		return skipLockedSql;
 	}
+
+	/**
+	 * Locks the rows using {@code select ... where id in (...)} statements (limited by
+	 * {@link org.hibernate.dialect.Dialect#getInExpressionCountLimit()}), verifying the version of each row.
+	 * Entities with composite identifiers are locked one by one.
+	 */
+	@Override
+	public void lock(Serializable[] ids, Object[] versions, Object[] objects, int timeout, SharedSessionContractImplementor session) {
+		final SessionFactoryImplementor factory = session.getFactory();
+		if ( ids.length == 1 || lockable.getIdentifierType().getColumnSpan( factory ) != 1 ) {
+			LockingStrategy.super.lock( ids, versions, objects, timeout, session );
+			return;
+		}
+
+		final int inExpressionCountLimit = factory.getDialect().getInExpressionCountLimit();
+		final int chunkSize = inExpressionCountLimit > 0 ? inExpressionCountLimit : ids.length;
+		for ( int start = 0; start < ids.length; start += chunkSize ) {
+			lock( ids, versions, objects, start, Math.min( start + chunkSize, ids.length ), timeout, session );
+		}
+	}
+
+	private void lock(
+			Serializable[] ids,
+			Object[] versions,
+			Object[] objects,
+			int start,
+			int end,
+			int timeout,
+			SharedSessionContractImplementor session) {
+		final SessionFactoryImplementor factory = session.getFactory();
+		final String sql = generateLockString( timeout, end - start );
+		try {
+			try {
+				final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+				final PreparedStatement st = jdbcCoordinator.getStatementPreparer().prepareStatement( sql );
+				try {
+					for ( int i = start; i < end; i++ ) {
+						lockable.getIdentifierType().nullSafeSet( st, ids[i], i - start + 1, session );
+					}
+
+					final Map<Object, Object> lockedVersions = new HashMap<>();
+					final ResultSet rs = jdbcCoordinator.getResultSetReturn().extract( st );
+					try {
+						while ( rs.next() ) {
+							lockedVersions.put(
+									lockable.getIdentifierType().nullSafeGet( rs, ID_ALIAS, session, null ),
+									lockable.isVersioned()
+											? lockable.getVersionType().nullSafeGet( rs, VERSION_ALIAS, session, null )
+											: null
+							);
+						}
+					}
+					finally {
+						jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( rs, st );
+					}
+
+					for ( int i = start; i < end; i++ ) {
+						if ( !lockedVersions.containsKey( ids[i] )
+								|| lockable.isVersioned() && !lockable.getVersionType().isEqual( versions[i], lockedVersions.get( ids[i] ) ) ) {
+							final StatisticsImplementor statistics = factory.getStatistics();
+							if ( statistics.isStatisticsEnabled() ) {
+								statistics.optimisticFailure( lockable.getEntityName() );
+							}
+							throw new StaleObjectStateException( lockable.getEntityName(), ids[i] );
+						}
+					}
+				}
+				finally {
+					jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( st );
+					jdbcCoordinator.afterStatementExecution();
+				}
+			}
+			catch ( SQLException e ) {
+				throw session.getJdbcServices().getSqlExceptionHelper().convert(
+						e,
+						"could not lock: " + MessageHelper.infoString( lockable, ids[start], factory ),
+						sql
+				);
+			}
+		}
+		catch (JDBCException e) {
+			if ( lockMode == LockMode.PESSIMISTIC_READ || lockMode == LockMode.PESSIMISTIC_WRITE ) {
+				throw new PessimisticEntityLockException( objects[start], "could not obtain pessimistic lock", e );
+			}
+			throw e;
+		}
+	}
+
+	protected String generateLockString(int lockTimeout, int idCount) {
+		final SessionFactoryImplementor factory = lockable.getFactory();
+		final LockOptions lockOptions = new LockOptions( lockMode );
+		lockOptions.setTimeOut( lockTimeout );
+		final SimpleSelect select = new SimpleSelect( factory.getDialect() )
+				.setLockOptions( lockOptions )
+				.setTableName( lockable.getRootTableName() )
+				.addColumn( lockable.getRootTableIdentifierColumnNames()[0], ID_ALIAS )
+				.addCondition(
+						lockable.getRootTableIdentifierColumnNames()[0],
+						"in (" + StringHelper.repeat( "?", idCount, ", " ) + ")"
+				);
+		if ( lockable.isVersioned() ) {
+			select.addColumn( lockable.getVersionColumnName(), VERSION_ALIAS );
+		}
+		if ( factory.getSessionFactoryOptions().isCommentsEnabled() ) {
+			select.setComment( lockMode + " lock " + lockable.getEntityName() );
+		}
+		return select.toStatementString();
+	}
 }
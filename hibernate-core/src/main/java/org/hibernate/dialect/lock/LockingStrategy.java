@@ -41,4 +41,27 @@ public interface LockingStrategy {
 	 */
 	void lock(Serializable id, Object version, Object object, int timeout, SharedSessionContractImplementor session)
 			throws StaleObjectStateException, LockingStrategyException;
+
+	/**
+	 * Acquire an appropriate type of lock on the underlying data of several instances of the
+	 * entity, ideally using a single statement.
+	 * <p/>
+	 * The default implementation locks the instances one by one.
+	 *
+	 * @param ids The ids of the rows to be locked
+	 * @param versions The current versions (or nulls if not versioned), in the order of the ids
+	 * @param objects The objects logically being locked, in the order of the ids
+	 * @param timeout timeout in milliseconds, 0 = no wait, -1 = wait indefinitely
+	 * @param session The session from which the lock request originated
+	 *
+	 * @throws StaleObjectStateException Indicates an inability to locate one of the database rows, or
+	 * a version mismatch, as part of acquiring the requested locks.
+	 * @throws LockingStrategyException Indicates a failure in the lock attempt
+	 */
+	default void lock(Serializable[] ids, Object[] versions, Object[] objects, int timeout, SharedSessionContractImplementor session)
+			throws StaleObjectStateException, LockingStrategyException {
+		for ( int i = 0; i < ids.length; i++ ) {
+			lock( ids[i], versions[i], objects[i], timeout, session );
+		}
+	}
 }
@@ -355,7 +355,7 @@ public final class TwoPhaseLoad {
 		}
 
 		if ( statistics.isStatisticsEnabled() ) {
-			statistics.loadEntity( persister.getEntityName() );
+			statistics.loadEntity( persister.getEntityName(), session.getTenantIdentifier() );
 		}
 	}
 
@@ -19,6 +19,7 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
+import org.hibernate.BaseSessionEventListener;
 import org.hibernate.ConnectionReleaseMode;
 import org.hibernate.HibernateException;
 import org.hibernate.TransactionException;
@@ -26,14 +27,19 @@ import org.hibernate.engine.jdbc.batch.spi.Batch;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
+import org.hibernate.engine.jdbc.connections.spi.MultiTenantConnectionProvider;
 import org.hibernate.engine.jdbc.spi.InvalidatableWrapper;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.JdbcWrapper;
 import org.hibernate.engine.jdbc.spi.ResultSetReturn;
+import org.hibernate.engine.jdbc.spi.SlowQueryCapture;
+import org.hibernate.engine.jdbc.spi.SlowQueryLog;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.jdbc.spi.StatementPreparer;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.ContextualJdbcConnectionAccess;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.jdbc.WorkExecutor;
@@ -87,7 +93,8 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 		this.isUserSuppliedConnection = userSuppliedConnection != null;
 
 		final ResourceRegistry resourceRegistry = new ResourceRegistryStandardImpl(
-				owner.getJdbcSessionContext().getObserver()
+				owner.getJdbcSessionContext().getObserver(),
+				determineStatementCacheSize( isUserSuppliedConnection, owner )
 		);
 		if ( isUserSuppliedConnection ) {
 			this.logicalConnection = new LogicalConnectionProvidedImpl( userSuppliedConnection, resourceRegistry );
@@ -104,6 +111,22 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 		this.jdbcServices = jdbcServices;
 	}
 
+	private static int determineStatementCacheSize(boolean isUserSuppliedConnection, JdbcSessionOwner owner) {
+		final int statementCacheSize = owner.getJdbcSessionContext()
+				.getSessionFactory()
+				.getSessionFactoryOptions()
+				.getJdbcStatementCacheSize();
+		if ( statementCacheSize > 0
+				&& !isUserSuppliedConnection
+				&& owner.getJdbcSessionContext().getPhysicalConnectionHandlingMode().getReleaseMode() == ConnectionReleaseMode.AFTER_STATEMENT
+				&& owner.getJdbcConnectionAccess().supportsAggressiveRelease() ) {
+			// the cached statements are closed along with the connection, released after each statement
+			LOG.debug( "Statement cache disabled, as JDBC connections are released after each statement" );
+			return 0;
+		}
+		return statementCacheSize;
+	}
+
 	private JdbcCoordinatorImpl(
 			LogicalConnectionImplementor logicalConnection,
 			boolean isUserSuppliedConnection,
@@ -228,6 +251,33 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 		return resultSetExtractor;
 	}
 
+	private transient SlowQueryCapture slowQueryCapture;
+
+	@Override
+	public SlowQueryCapture getSlowQueryCapture() {
+		if ( slowQueryCapture == null ) {
+			final SlowQueryLog slowQueryLog = jdbcServices.getSlowQueryLog();
+			if ( slowQueryLog != null ) {
+				slowQueryCapture = new SlowQueryCapture( slowQueryLog, explainConnectionAccess() );
+			}
+		}
+		return slowQueryCapture;
+	}
+
+	private JdbcConnectionAccess explainConnectionAccess() {
+		// the execution plans are obtained from a background thread, so on a connection of the tenant
+		// of this session but which the session is not notified of
+		if ( sessionFactory().getSessionFactoryOptions().getMultiTenancyStrategy().requiresMultiTenantConnectionProvider()
+				&& owner instanceof SharedSessionContractImplementor ) {
+			return new ContextualJdbcConnectionAccess(
+					( (SharedSessionContractImplementor) owner ).getTenantIdentifier(),
+					new BaseSessionEventListener(),
+					sessionFactory().getServiceRegistry().getService( MultiTenantConnectionProvider.class )
+			);
+		}
+		return null;
+	}
+
 	@Override
 	public void setTransactionTimeOut(int seconds) {
 		transactionTimeOutInstant = System.currentTimeMillis() + ( seconds * 1000 );
@@ -253,6 +303,9 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 	@Override
 	public void afterStatementExecution() {
 		LOG.tracev( "Starting after statement execution processing [{0}]", getConnectionReleaseMode() );
+		if ( slowQueryCapture != null ) {
+			slowQueryCapture.statementCompleted();
+		}
 		if ( getConnectionReleaseMode() == ConnectionReleaseMode.AFTER_STATEMENT ) {
 			if ( ! releasesEnabled ) {
 				LOG.debug( "Skipping aggressive release due to manual disabling" );
@@ -19,19 +19,22 @@ import org.hibernate.engine.jdbc.env.spi.ExtractedDatabaseMetaData;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.ResultSetWrapper;
+import org.hibernate.engine.jdbc.spi.SlowQueryLog;
+import org.hibernate.engine.jdbc.spi.TenantSchemaSqlRewriter;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
 import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.service.spi.Configurable;
 import org.hibernate.service.spi.ServiceRegistryAwareService;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
+import org.hibernate.service.spi.Stoppable;
 
 /**
  * Standard implementation of the {@link JdbcServices} contract
  *
  * @author Steve Ebersole
  */
-public class JdbcServicesImpl implements JdbcServices, ServiceRegistryAwareService, Configurable {
+public class JdbcServicesImpl implements JdbcServices, ServiceRegistryAwareService, Configurable, Stoppable {
 	private ServiceRegistryImplementor serviceRegistry;
 	private JdbcEnvironment jdbcEnvironment;
 
@@ -39,6 +42,10 @@ public class JdbcServicesImpl implements JdbcServices, ServiceRegistryAwareServi
 
 	private SqlStatementLogger sqlStatementLogger;
 
+	private SlowQueryLog slowQueryLog;
+
+	private TenantSchemaSqlRewriter tenantSchemaSqlRewriter;
+
 	private ResultSetWrapperImpl resultSetWrapper;
 
 	@Override
@@ -59,6 +66,25 @@ public class JdbcServicesImpl implements JdbcServices, ServiceRegistryAwareServi
 
 		this.sqlStatementLogger = new SqlStatementLogger( showSQL, formatSQL, logSlowQuery );
 
+		final int slowQueryLogSize = ConfigurationHelper.getInt( Environment.SLOW_QUERY_LOG_SIZE, configValues, 0 );
+		if ( logSlowQuery > 0 && slowQueryLogSize > 0 ) {
+			this.slowQueryLog = new SlowQueryLog(
+					logSlowQuery,
+					slowQueryLogSize,
+					ConfigurationHelper.getLong( Environment.SLOW_QUERY_EXPLAIN_THRESHOLD, configValues, 0 ),
+					jdbcEnvironment.getDialect(),
+					getBootstrapJdbcConnectionAccess()
+			);
+		}
+
+		final String tenantSchemaPlaceholder = ConfigurationHelper.extractPropertyValue(
+				Environment.MULTI_TENANT_SCHEMA_PLACEHOLDER,
+				configValues
+		);
+		if ( tenantSchemaPlaceholder != null ) {
+			this.tenantSchemaSqlRewriter = new TenantSchemaSqlRewriter( tenantSchemaPlaceholder, jdbcEnvironment );
+		}
+
 		resultSetWrapper = new ResultSetWrapperImpl( serviceRegistry );
 	}
 
@@ -85,6 +111,16 @@ public class JdbcServicesImpl implements JdbcServices, ServiceRegistryAwareServi
 		return sqlStatementLogger;
 	}
 
+	@Override
+	public SlowQueryLog getSlowQueryLog() {
+		return slowQueryLog;
+	}
+
+	@Override
+	public TenantSchemaSqlRewriter getTenantSchemaSqlRewriter() {
+		return tenantSchemaSqlRewriter;
+	}
+
 	@Override
 	public SqlExceptionHelper getSqlExceptionHelper() {
 		if ( jdbcEnvironment != null ) {
@@ -113,4 +149,11 @@ public class JdbcServicesImpl implements JdbcServices, ServiceRegistryAwareServi
 	public ResultSetWrapper getResultSetWrapper() {
 		return resultSetWrapper;
 	}
+
+	@Override
+	public void stop() {
+		if ( slowQueryLog != null ) {
+			slowQueryLog.stop();
+		}
+	}
 }
@@ -0,0 +1,98 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.internal;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.Types;
+
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.engine.jdbc.spi.SlowQueryCapture;
+import org.hibernate.service.ServiceRegistry;
+
+/**
+ * A proxy for a PreparedStatement delegate, reporting the values bound to its parameters to the
+ * {@link SlowQueryCapture}.  Statements are only proxied while the slow query log is enabled, so that
+ * the binding of parameters is otherwise left as is.
+ */
+class ParameterCapturingStatementProxy implements InvocationHandler {
+	private final PreparedStatement statement;
+	private final SlowQueryCapture slowQueryCapture;
+
+	private ParameterCapturingStatementProxy(PreparedStatement statement, SlowQueryCapture slowQueryCapture) {
+		this.statement = statement;
+		this.slowQueryCapture = slowQueryCapture;
+	}
+
+	/**
+	 * Generates a proxy wrapping the PreparedStatement.
+	 *
+	 * @param statement The statement to wrap, possibly a CallableStatement
+	 * @param slowQueryCapture The capture the bound parameters are reported to
+	 * @param serviceRegistry Access to any needed services
+	 *
+	 * @return The generated proxy.
+	 */
+	static PreparedStatement generateProxy(
+			PreparedStatement statement,
+			SlowQueryCapture slowQueryCapture,
+			ServiceRegistry serviceRegistry) {
+		return serviceRegistry.getService( ClassLoaderService.class ).generateProxy(
+				new ParameterCapturingStatementProxy( statement, slowQueryCapture ),
+				statement instanceof CallableStatement ? CallableStatement.class : PreparedStatement.class
+		);
+	}
+
+	@Override
+	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+		if ( "equals".equals( method.getName() ) && method.getParameterCount() == 1 ) {
+			return proxy == args[0];
+		}
+		if ( "hashCode".equals( method.getName() ) && method.getParameterCount() == 0 ) {
+			return System.identityHashCode( proxy );
+		}
+
+		final Object result;
+		try {
+			result = method.invoke( statement, args );
+		}
+		catch ( InvocationTargetException e ) {
+			throw e.getTargetException();
+		}
+
+		if ( isParameterSetter( method ) ) {
+			parameterBound( (PreparedStatement) proxy, method, args );
+		}
+		return result;
+	}
+
+	private static boolean isParameterSetter(Method method) {
+		// the setters of positional parameters, such as setString(int, String) or setNull(int, int)
+		return method.getName().startsWith( "set" )
+				&& method.getParameterCount() > 1
+				&& method.getParameterTypes()[0].equals( int.class );
+	}
+
+	private void parameterBound(PreparedStatement proxy, Method method, Object[] args) {
+		final int position = (Integer) args[0];
+		if ( "setNull".equals( method.getName() ) ) {
+			slowQueryCapture.parameterBound( proxy, position, null, (Integer) args[1], "null" );
+		}
+		else if ( args[1] instanceof InputStream || args[1] instanceof Reader ) {
+			// streams are read by the driver, and cannot be bound again to obtain the execution plan
+			slowQueryCapture.parameterBound( proxy, position, null, Types.OTHER, "<stream>" );
+		}
+		else {
+			slowQueryCapture.parameterBound( proxy, position, args[1], Types.OTHER, String.valueOf( args[1] ) );
+		}
+	}
+}
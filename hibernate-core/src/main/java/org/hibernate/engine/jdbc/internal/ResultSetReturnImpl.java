@@ -16,6 +16,7 @@ import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.ResultSetReturn;
+import org.hibernate.engine.jdbc.spi.SlowQueryCapture;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
 
@@ -46,8 +47,9 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 	@Override
 	public ResultSet extract(PreparedStatement statement) {
 		// IMPL NOTE : SQL logged by caller
+		final SlowQueryCapture slowQueryCapture = jdbcCoordinator.getSlowQueryCapture();
 		long executeStartNanos = 0;
-		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
+		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 || slowQueryCapture != null ) {
 			executeStartNanos = System.nanoTime();
 		}
 		try {
@@ -59,6 +61,9 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 			finally {
 				jdbcExecuteStatementEnd();
 				sqlStatementLogger.logSlowQuery( statement, executeStartNanos );
+				if ( slowQueryCapture != null ) {
+					slowQueryCapture.statementExecuted( statement, null, executeStartNanos, true );
+				}
 			}
 			postExtract( rs, statement );
 			return rs;
@@ -79,8 +84,9 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 	@Override
 	public ResultSet extract(CallableStatement callableStatement) {
 		// IMPL NOTE : SQL logged by caller
+		final SlowQueryCapture slowQueryCapture = jdbcCoordinator.getSlowQueryCapture();
 		long executeStartNanos = 0;
-		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
+		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 || slowQueryCapture != null ) {
 			executeStartNanos = System.nanoTime();
 		}
 		try {
@@ -92,6 +98,9 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 			finally {
 				jdbcExecuteStatementEnd();
 				sqlStatementLogger.logSlowQuery( callableStatement, executeStartNanos );
+				if ( slowQueryCapture != null ) {
+					slowQueryCapture.statementExecuted( callableStatement, null, executeStartNanos, true );
+				}
 			}
 			postExtract( rs, callableStatement );
 			return rs;
@@ -104,8 +113,9 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 	@Override
 	public ResultSet extract(Statement statement, String sql) {
 		sqlStatementLogger.logStatement( sql );
+		final SlowQueryCapture slowQueryCapture = jdbcCoordinator.getSlowQueryCapture();
 		long executeStartNanos = 0;
-		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
+		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 || slowQueryCapture != null ) {
 			executeStartNanos = System.nanoTime();
 		}
 		try {
@@ -117,6 +127,9 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 			finally {
 				jdbcExecuteStatementEnd();
 				sqlStatementLogger.logSlowQuery( sql, executeStartNanos );
+				if ( slowQueryCapture != null ) {
+					slowQueryCapture.statementExecuted( statement, sql, executeStartNanos, true );
+				}
 			}
 			postExtract( rs, statement );
 			return rs;
@@ -129,8 +142,9 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 	@Override
 	public ResultSet execute(PreparedStatement statement) {
 		// sql logged by StatementPreparerImpl
+		final SlowQueryCapture slowQueryCapture = jdbcCoordinator.getSlowQueryCapture();
 		long executeStartNanos = 0;
-		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
+		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 || slowQueryCapture != null ) {
 			executeStartNanos = System.nanoTime();
 		}
 		try {
@@ -147,6 +161,9 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 			finally {
 				jdbcExecuteStatementEnd();
 				sqlStatementLogger.logSlowQuery( statement, executeStartNanos );
+				if ( slowQueryCapture != null ) {
+					slowQueryCapture.statementExecuted( statement, null, executeStartNanos, true );
+				}
 			}
 			postExtract( rs, statement );
 			return rs;
@@ -159,8 +176,9 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 	@Override
 	public ResultSet execute(Statement statement, String sql) {
 		sqlStatementLogger.logStatement( sql );
+		final SlowQueryCapture slowQueryCapture = jdbcCoordinator.getSlowQueryCapture();
 		long executeStartNanos = 0;
-		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
+		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 || slowQueryCapture != null ) {
 			executeStartNanos = System.nanoTime();
 		}
 		try {
@@ -177,6 +195,9 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 			finally {
 				jdbcExecuteStatementEnd();
 				sqlStatementLogger.logSlowQuery( statement, executeStartNanos );
+				if ( slowQueryCapture != null ) {
+					slowQueryCapture.statementExecuted( statement, sql, executeStartNanos, true );
+				}
 			}
 			postExtract( rs, statement );
 			return rs;
@@ -188,8 +209,9 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 
 	@Override
 	public int executeUpdate(PreparedStatement statement) {
+		final SlowQueryCapture slowQueryCapture = jdbcCoordinator.getSlowQueryCapture();
 		long executeStartNanos = 0;
-		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
+		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 || slowQueryCapture != null ) {
 			executeStartNanos = System.nanoTime();
 		}
 		try {
@@ -202,14 +224,18 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		finally {
 			jdbcExecuteStatementEnd();
 			sqlStatementLogger.logSlowQuery( statement, executeStartNanos );
+			if ( slowQueryCapture != null ) {
+				slowQueryCapture.statementExecuted( statement, null, executeStartNanos, false );
+			}
 		}
 	}
 
 	@Override
 	public int executeUpdate(Statement statement, String sql) {
 		sqlStatementLogger.logStatement( sql );
+		final SlowQueryCapture slowQueryCapture = jdbcCoordinator.getSlowQueryCapture();
 		long executeStartNanos = 0;
-		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
+		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 || slowQueryCapture != null ) {
 			executeStartNanos = System.nanoTime();
 		}
 		try {
@@ -222,6 +248,9 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		finally {
 			jdbcExecuteStatementEnd();
 			sqlStatementLogger.logSlowQuery( statement, executeStartNanos );
+			if ( slowQueryCapture != null ) {
+				slowQueryCapture.statementExecuted( statement, sql, executeStartNanos, false );
+			}
 		}
 	}
 
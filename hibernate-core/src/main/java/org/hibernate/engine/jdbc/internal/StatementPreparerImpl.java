@@ -16,8 +16,11 @@ import org.hibernate.AssertionFailure;
 import org.hibernate.ScrollMode;
 import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.jdbc.spi.SlowQueryCapture;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.jdbc.spi.StatementPreparer;
+import org.hibernate.engine.jdbc.spi.TenantSchemaSqlRewriter;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.resource.jdbc.spi.JdbcObserver;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
 
@@ -47,6 +50,10 @@ class StatementPreparerImpl implements StatementPreparer {
 	}
 
 	protected final Connection connection() {
+		if ( settings().isJtaJoinDeferred() ) {
+			// the session joins the JTA transaction before its first statement at the latest
+			jdbcCoordinator.getJdbcSessionOwner().getTransactionCoordinator().pulse();
+		}
 		return logicalConnection().getPhysicalConnection();
 	}
 
@@ -57,6 +64,17 @@ class StatementPreparerImpl implements StatementPreparer {
 	protected final SqlExceptionHelper sqlExceptionHelper() {
 		return jdbcServices.getSqlExceptionHelper();
 	}
+
+	private String qualifyWithTenantSchema(String sql) {
+		final TenantSchemaSqlRewriter tenantSchemaSqlRewriter = jdbcServices.getTenantSchemaSqlRewriter();
+		if ( tenantSchemaSqlRewriter == null
+				|| !( jdbcCoordinator.getJdbcSessionOwner() instanceof SharedSessionContractImplementor ) ) {
+			return sql;
+		}
+		final String tenantIdentifier = ( (SharedSessionContractImplementor) jdbcCoordinator.getJdbcSessionOwner() )
+				.getTenantIdentifier();
+		return tenantSchemaSqlRewriter.rewrite( sql, tenantIdentifier );
+	}
 	
 	@Override
 	public Statement createStatement() {
@@ -82,7 +100,7 @@ class StatementPreparerImpl implements StatementPreparer {
 	}
 
 	private StatementPreparationTemplate buildPreparedStatementPreparationTemplate(String sql, final boolean isCallable) {
-		return new StatementPreparationTemplate( sql ) {
+		return new StatementPreparationTemplate( sql, isCallable ? null : ResultSet.TYPE_FORWARD_ONLY ) {
 			@Override
 			protected PreparedStatement doPrepare() throws SQLException {
 				return isCallable
@@ -131,7 +149,7 @@ class StatementPreparerImpl implements StatementPreparer {
 			if ( ! settings().isScrollableResultSetsEnabled() ) {
 				throw new AssertionFailure("scrollable result sets are not enabled");
 			}
-			final PreparedStatement ps = new QueryStatementPreparationTemplate( sql ) {
+			final PreparedStatement ps = new QueryStatementPreparationTemplate( sql, isCallable ? null : scrollMode.toResultSetType() ) {
 				public PreparedStatement doPrepare() throws SQLException {
 						return isCallable
 								? connection().prepareCall( sql, scrollMode.toResultSetType(), ResultSet.CONCUR_READ_ONLY )
@@ -142,7 +160,7 @@ class StatementPreparerImpl implements StatementPreparer {
 			return ps;
 		}
 		else {
-			final PreparedStatement ps = new QueryStatementPreparationTemplate( sql ) {
+			final PreparedStatement ps = new QueryStatementPreparationTemplate( sql, isCallable ? null : ResultSet.TYPE_FORWARD_ONLY ) {
 				public PreparedStatement doPrepare() throws SQLException {
 						return isCallable
 								? connection().prepareCall( sql )
@@ -156,30 +174,56 @@ class StatementPreparerImpl implements StatementPreparer {
 
 	private abstract class StatementPreparationTemplate {
 		protected final String sql;
+		// the result set type the statement is kept for reuse under, null if it is not
+		private final Integer cacheableResultSetType;
 
 		protected StatementPreparationTemplate(String incomingSql) {
+			this( incomingSql, null );
+		}
+
+		protected StatementPreparationTemplate(String incomingSql, Integer cacheableResultSetType) {
 			final String inspectedSql = jdbcCoordinator.getJdbcSessionOwner()
 					.getJdbcSessionContext()
 					.getStatementInspector()
 					.inspect( incomingSql );
-			this.sql = inspectedSql == null ? incomingSql : inspectedSql;
+			this.sql = qualifyWithTenantSchema( inspectedSql == null ? incomingSql : inspectedSql );
+			this.cacheableResultSetType = cacheableResultSetType;
 		}
 
 		public PreparedStatement prepareStatement() {
 			try {
 				jdbcServices.getSqlStatementLogger().logStatement( sql );
 
-				final PreparedStatement preparedStatement;
-				final JdbcObserver observer = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver();
-				try {
-					observer.jdbcPrepareStatementStart();
-					preparedStatement = doPrepare();
+				final SlowQueryCapture slowQueryCapture = jdbcCoordinator.getSlowQueryCapture();
+				PreparedStatement preparedStatement = cacheableResultSetType == null
+						? null
+						: jdbcCoordinator.getResourceRegistry().getCachedStatement( sql, cacheableResultSetType );
+				if ( preparedStatement != null ) {
 					setStatementTimeout( preparedStatement );
 				}
-				finally {
-					observer.jdbcPrepareStatementEnd();
+				else {
+					final JdbcObserver observer = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver();
+					try {
+						observer.jdbcPrepareStatementStart();
+						preparedStatement = doPrepare();
+						setStatementTimeout( preparedStatement );
+					}
+					finally {
+						observer.jdbcPrepareStatementEnd();
+					}
+					if ( slowQueryCapture != null ) {
+						// the statement is kept in the registry, and possibly reused, as the proxy
+						preparedStatement = ParameterCapturingStatementProxy.generateProxy(
+								preparedStatement,
+								slowQueryCapture,
+								jdbcCoordinator.sessionFactory().getServiceRegistry()
+						);
+					}
 				}
 				postProcess( preparedStatement );
+				if ( slowQueryCapture != null ) {
+					slowQueryCapture.statementPrepared( preparedStatement, sql );
+				}
 				return preparedStatement;
 			}
 			catch ( SQLException e ) {
@@ -190,7 +234,12 @@ class StatementPreparerImpl implements StatementPreparer {
 		protected abstract PreparedStatement doPrepare() throws SQLException;
 
 		public void postProcess(PreparedStatement preparedStatement) throws SQLException {
-			jdbcCoordinator.getResourceRegistry().register( preparedStatement, true );
+			if ( cacheableResultSetType == null ) {
+				jdbcCoordinator.getResourceRegistry().register( preparedStatement, true );
+			}
+			else {
+				jdbcCoordinator.getResourceRegistry().register( preparedStatement, true, sql, cacheableResultSetType );
+			}
 //			logicalConnection().notifyObserversStatementPrepared();
 		}
 
@@ -203,8 +252,8 @@ class StatementPreparerImpl implements StatementPreparer {
 	}
 
 	private abstract class QueryStatementPreparationTemplate extends StatementPreparationTemplate {
-		protected QueryStatementPreparationTemplate(String sql) {
-			super( sql );
+		protected QueryStatementPreparationTemplate(String sql, Integer cacheableResultSetType) {
+			super( sql, cacheableResultSetType );
 		}
 
 		public void postProcess(PreparedStatement preparedStatement) throws SQLException {
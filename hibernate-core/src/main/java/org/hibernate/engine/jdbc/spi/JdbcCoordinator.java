@@ -76,6 +76,17 @@ public interface JdbcCoordinator extends Serializable, TransactionCoordinatorOwn
 	 */
 	ResultSetReturn getResultSetReturn();
 
+	/**
+	 * Obtain the capture of the statements executed through this JDBC coordinator for the slow query log.
+	 *
+	 * @return This coordinator's slow query capture, or {@code null} if slow queries are not kept.
+	 *
+	 * @see JdbcServices#getSlowQueryLog()
+	 */
+	default SlowQueryCapture getSlowQueryCapture() {
+		return null;
+	}
+
 	/**
 	 * Callback to let us know that a flush is beginning.  We use this fact
 	 * to temporarily circumvent aggressive connection releasing until after
@@ -45,6 +45,28 @@ public interface JdbcServices extends Service {
 	 */
 	SqlStatementLogger getSqlStatementLogger();
 
+	/**
+	 * Obtain the log of slow queries, if enabled.
+	 *
+	 * @return The slow query log, or {@code null} if slow queries are not kept.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#SLOW_QUERY_LOG_SIZE
+	 */
+	default SlowQueryLog getSlowQueryLog() {
+		return null;
+	}
+
+	/**
+	 * Obtain the rewriter substituting the tenant schema for a placeholder schema in the SQL statements, if enabled.
+	 *
+	 * @return The tenant schema rewriter, or {@code null} if statements are not rewritten.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#MULTI_TENANT_SCHEMA_PLACEHOLDER
+	 */
+	default TenantSchemaSqlRewriter getTenantSchemaSqlRewriter() {
+		return null;
+	}
+
 	/**
 	 * Obtain service for dealing with exceptions.
 	 *
@@ -0,0 +1,139 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.spi;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A statement captured by the {@link SlowQueryLog}, because its execution took longer than
+ * {@link org.hibernate.cfg.AvailableSettings#LOG_SLOW_QUERY}.
+ */
+public class SlowQuery implements Serializable {
+	private final long timestamp;
+	private final String sql;
+	private final String queryName;
+	private final List<String> parameters;
+	private final long executionTime;
+	private final long fetchTime;
+	private final long rowCount;
+
+	private volatile String executionPlan;
+
+	public SlowQuery(
+			long timestamp,
+			String sql,
+			String queryName,
+			List<String> parameters,
+			long executionTime,
+			long fetchTime,
+			long rowCount) {
+		this.timestamp = timestamp;
+		this.sql = sql;
+		this.queryName = queryName;
+		this.parameters = parameters == null
+				? Collections.emptyList()
+				: Collections.unmodifiableList( parameters );
+		this.executionTime = executionTime;
+		this.fetchTime = fetchTime;
+		this.rowCount = rowCount;
+	}
+
+	/**
+	 * The time at which the statement was executed, in milliseconds since the epoch.
+	 */
+	public long getTimestamp() {
+		return timestamp;
+	}
+
+	public String getSql() {
+		return sql;
+	}
+
+	/**
+	 * The name (or, for ad hoc queries, the query string) of the query being executed by the
+	 * session when the statement was issued, or {@code null} if the statement was not issued
+	 * while executing a query.
+	 */
+	public String getQueryName() {
+		return queryName;
+	}
+
+	/**
+	 * The loggable representation of the bound parameter values, in order of their position.
+	 */
+	public List<String> getParameters() {
+		return parameters;
+	}
+
+	/**
+	 * The time taken by the JDBC execution of the statement, in milliseconds.
+	 */
+	public long getExecutionTime() {
+		return executionTime;
+	}
+
+	/**
+	 * The time taken to read the results of the statement, in milliseconds.
+	 */
+	public long getFetchTime() {
+		return fetchTime;
+	}
+
+	/**
+	 * The number of rows read from the results of the statement, or {@code -1} if unknown.
+	 */
+	public long getRowCount() {
+		return rowCount;
+	}
+
+	/**
+	 * The execution plan of the statement, if requested through
+	 * {@link org.hibernate.cfg.AvailableSettings#SLOW_QUERY_EXPLAIN_THRESHOLD}.  The plan is
+	 * obtained asynchronously, so it may only become available some time after the statement
+	 * was captured.
+	 */
+	public String getExecutionPlan() {
+		return executionPlan;
+	}
+
+	void setExecutionPlan(String executionPlan) {
+		this.executionPlan = executionPlan;
+	}
+
+	/**
+	 * A description of the statement, with its timings, row count, bound parameters and, once obtained, execution
+	 * plan.
+	 */
+	public String getDescription() {
+		final StringBuilder description = new StringBuilder()
+				.append( executionTime ).append( " ms execution, " )
+				.append( fetchTime ).append( " ms fetch" );
+		if ( rowCount >= 0 ) {
+			description.append( ", " ).append( rowCount ).append( " rows" );
+		}
+		if ( queryName != null ) {
+			description.append( "\nQuery: " ).append( queryName );
+		}
+		description.append( "\nSQL: " ).append( sql );
+		if ( !parameters.isEmpty() ) {
+			description.append( "\nParameters: " ).append( parameters );
+		}
+		final String plan = executionPlan;
+		if ( plan != null ) {
+			description.append( "\nPlan:\n" ).append( plan );
+		}
+		return description.toString();
+	}
+
+	@Override
+	public String toString() {
+		return "SlowQuery(" + ( executionTime + fetchTime ) + " ms: " + sql
+				+ ( parameters.isEmpty() ? "" : " " + parameters ) + ")";
+	}
+}
@@ -0,0 +1,186 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.spi;
+
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
+
+/**
+ * Tracks the statement currently executed by a {@link JdbcCoordinator} - its bound parameters,
+ * execution and fetch timings - and reports it to the {@link SlowQueryLog} if it turns out to be
+ * slow.  Not thread-safe, like the owning session.
+ */
+public class SlowQueryCapture {
+	private final SlowQueryLog slowQueryLog;
+	private final JdbcConnectionAccess explainConnectionAccess;
+
+	private String queryName;
+
+	// the statement last prepared, and the parameters bound to it
+	private Statement preparedStatement;
+	private String preparedSql;
+	private List<Object> parameterValues = new ArrayList<>();
+	private List<Integer> parameterTypes = new ArrayList<>();
+	private List<String> parameters = new ArrayList<>();
+
+	// the executed statement whose results are being read
+	private String executedSql;
+	private long executionNanos;
+	private long fetchStartNanos;
+	private String executedQueryName;
+	private List<Object> executedParameterValues;
+	private List<Integer> executedParameterTypes;
+	private List<String> executedParameters;
+
+	/**
+	 * Constructs a SlowQueryCapture
+	 *
+	 * @param slowQueryLog The log slow statements are reported to
+	 * @param explainConnectionAccess Access to the connections used to obtain the execution plans of the
+	 * statements, as they see the same schema as the statements; {@code null} to use the connections of the log
+	 */
+	public SlowQueryCapture(SlowQueryLog slowQueryLog, JdbcConnectionAccess explainConnectionAccess) {
+		this.slowQueryLog = slowQueryLog;
+		this.explainConnectionAccess = explainConnectionAccess;
+	}
+
+	/**
+	 * The name of the query being executed, reported with the statements executed meanwhile.
+	 */
+	public void setQueryName(String queryName) {
+		this.queryName = queryName;
+	}
+
+	/**
+	 * Records the SQL of a prepared statement.
+	 *
+	 * @param statement The statement
+	 * @param sql The SQL of the statement
+	 */
+	public void statementPrepared(Statement statement, String sql) {
+		preparedStatement = statement;
+		preparedSql = sql;
+		parameterValues.clear();
+		parameterTypes.clear();
+		parameters.clear();
+	}
+
+	/**
+	 * Records the value bound to a parameter of a statement.
+	 *
+	 * @param statement The statement
+	 * @param position The (1-based) position of the parameter
+	 * @param value The bound value
+	 * @param sqlType The JDBC type code of the parameter
+	 * @param loggableValue The loggable representation of the value
+	 */
+	public void parameterBound(Statement statement, int position, Object value, int sqlType, String loggableValue) {
+		if ( statement != preparedStatement ) {
+			// some other statement, most likely part of a batch
+			statementPrepared( statement, null );
+		}
+		while ( parameters.size() < position ) {
+			parameterValues.add( null );
+			parameterTypes.add( Types.NULL );
+			parameters.add( null );
+		}
+		parameterValues.set( position - 1, value );
+		parameterTypes.set( position - 1, sqlType );
+		parameters.set( position - 1, loggableValue );
+	}
+
+	/**
+	 * Marks the end of the execution of a statement.  The statement is reported once its results
+	 * were read, or immediately if it does not return results.
+	 *
+	 * @param statement The statement
+	 * @param sql The SQL of the statement, if not a prepared statement
+	 * @param executeStartNanos The start of the execution
+	 * @param hasResults Whether the statement returns results to be read
+	 */
+	public void statementExecuted(Statement statement, String sql, long executeStartNanos, boolean hasResults) {
+		statementCompleted();
+
+		final long now = System.nanoTime();
+		executionNanos = now - executeStartNanos;
+		fetchStartNanos = now;
+		executedQueryName = queryName;
+		if ( sql == null && statement == preparedStatement && preparedSql != null ) {
+			executedSql = preparedSql;
+			executedParameterValues = parameterValues;
+			executedParameterTypes = parameterTypes;
+			executedParameters = parameters;
+			// the statement may be executed again, with other parameter values
+			parameterValues = new ArrayList<>();
+			parameterTypes = new ArrayList<>();
+			parameters = new ArrayList<>();
+		}
+		else {
+			executedSql = sql == null ? statement.toString() : sql;
+			executedParameterValues = Collections.emptyList();
+			executedParameterTypes = Collections.emptyList();
+			executedParameters = Collections.emptyList();
+		}
+
+		if ( !hasResults ) {
+			report( -1, 0 );
+		}
+	}
+
+	/**
+	 * Marks the end of the reading of the results of the executed statement.
+	 *
+	 * @param rowCount The number of rows read
+	 */
+	public void rowsFetched(long rowCount) {
+		if ( executedSql != null ) {
+			report( rowCount, System.nanoTime() - fetchStartNanos );
+		}
+	}
+
+	/**
+	 * Marks the end of the processing of the executed statement, reporting it if the number of
+	 * rows read was not known.
+	 */
+	public void statementCompleted() {
+		if ( executedSql != null ) {
+			report( -1, System.nanoTime() - fetchStartNanos );
+		}
+	}
+
+	private void report(long rowCount, long fetchNanos) {
+		final long executionTime = TimeUnit.NANOSECONDS.toMillis( executionNanos );
+		final long fetchTime = TimeUnit.NANOSECONDS.toMillis( fetchNanos );
+		if ( executionTime + fetchTime > slowQueryLog.getThreshold() ) {
+			slowQueryLog.add(
+					new SlowQuery(
+							System.currentTimeMillis() - executionTime - fetchTime,
+							executedSql,
+							executedQueryName,
+							executedParameters,
+							executionTime,
+							fetchTime,
+							rowCount
+					),
+					executedParameterValues,
+					executedParameterTypes,
+					explainConnectionAccess
+			);
+		}
+		executedSql = null;
+		executedQueryName = null;
+		executedParameterValues = null;
+		executedParameterTypes = null;
+		executedParameters = null;
+	}
+}
@@ -0,0 +1,255 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.spi;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
+import org.hibernate.internal.CoreLogging;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Keeps the most recent {@link SlowQuery slow queries} in a bounded ring buffer, and optionally
+ * obtains the execution plan of the slowest ones by running the dialect's
+ * {@linkplain Dialect#getExplainString(String) explain} statement on a separate connection,
+ * from a background thread.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#SLOW_QUERY_LOG_SIZE
+ * @see org.hibernate.cfg.AvailableSettings#SLOW_QUERY_EXPLAIN_THRESHOLD
+ */
+public class SlowQueryLog {
+	private static final Logger LOG = CoreLogging.logger( SlowQueryLog.class );
+
+	private static final int MAX_PENDING_EXPLAINS = 16;
+
+	private final long threshold;
+	private final long explainThreshold;
+	private final Dialect dialect;
+	private final JdbcConnectionAccess connectionAccess;
+
+	private final SlowQuery[] slowQueries;
+	private int position;
+	private int count;
+
+	private ThreadPoolExecutor explainExecutor;
+	private boolean stopped;
+	// only accessed by the thread obtaining execution plans
+	private boolean explainFailed;
+
+	/**
+	 * Constructs a SlowQueryLog
+	 *
+	 * @param threshold Execution time (in milliseconds) above which statements are captured
+	 * @param size The maximum number of slow queries kept
+	 * @param explainThreshold Execution time (in milliseconds) above which the execution plan of
+	 * queries is obtained; 0 to never obtain execution plans
+	 * @param dialect The dialect
+	 * @param connectionAccess Access to the connections used to obtain execution plans
+	 */
+	public SlowQueryLog(
+			long threshold,
+			int size,
+			long explainThreshold,
+			Dialect dialect,
+			JdbcConnectionAccess connectionAccess) {
+		if ( threshold <= 0 || size <= 0 ) {
+			throw new IllegalArgumentException( "Slow query threshold and log size must be greater than zero" );
+		}
+		this.threshold = threshold;
+		this.slowQueries = new SlowQuery[size];
+		this.explainThreshold = explainThreshold;
+		this.dialect = dialect;
+		this.connectionAccess = connectionAccess;
+	}
+
+	/**
+	 * The execution time (in milliseconds) above which statements are captured.
+	 */
+	public long getThreshold() {
+		return threshold;
+	}
+
+	/**
+	 * Adds a slow query to the log, evicting the oldest one if the log is full.
+	 *
+	 * @param slowQuery The slow query
+	 * @param parameterValues The values bound to the parameters of the statement, used to
+	 * obtain its execution plan
+	 * @param parameterTypes The JDBC type codes of the parameters of the statement
+	 * @param explainConnectionAccess Access to the connections used to obtain the execution plan, such as
+	 * those of the tenant of the session which executed the statement; {@code null} to use the
+	 * connections of this log
+	 */
+	public void add(
+			SlowQuery slowQuery,
+			List<Object> parameterValues,
+			List<Integer> parameterTypes,
+			JdbcConnectionAccess explainConnectionAccess) {
+		synchronized ( this ) {
+			slowQueries[position] = slowQuery;
+			position = ( position + 1 ) % slowQueries.length;
+			if ( count < slowQueries.length ) {
+				count++;
+			}
+		}
+
+		if ( explainThreshold > 0
+				&& slowQuery.getExecutionTime() + slowQuery.getFetchTime() > explainThreshold
+				&& isQuery( slowQuery.getSql() ) ) {
+			final String explainSql = dialect.getExplainString( slowQuery.getSql() );
+			if ( explainSql != null ) {
+				scheduleExplain(
+						slowQuery,
+						explainSql,
+						parameterValues,
+						parameterTypes,
+						explainConnectionAccess == null ? connectionAccess : explainConnectionAccess
+				);
+			}
+		}
+	}
+
+	/**
+	 * The slow queries currently kept in the log, oldest first.
+	 */
+	public synchronized List<SlowQuery> getSlowQueries() {
+		final List<SlowQuery> result = new ArrayList<>( count );
+		final int start = count < slowQueries.length ? 0 : position;
+		for ( int i = 0; i < count; i++ ) {
+			result.add( slowQueries[( start + i ) % slowQueries.length] );
+		}
+		return result;
+	}
+
+	public synchronized void clear() {
+		for ( int i = 0; i < slowQueries.length; i++ ) {
+			slowQueries[i] = null;
+		}
+		position = 0;
+		count = 0;
+	}
+
+	/**
+	 * Stops the thread obtaining execution plans, if any.
+	 */
+	public synchronized void stop() {
+		stopped = true;
+		if ( explainExecutor != null ) {
+			explainExecutor.shutdownNow();
+			explainExecutor = null;
+		}
+	}
+
+	private static boolean isQuery(String sql) {
+		String statement = sql.trim();
+		if ( statement.startsWith( "/*" ) ) {
+			final int commentEnd = statement.indexOf( "*/" );
+			if ( commentEnd < 0 ) {
+				return false;
+			}
+			statement = statement.substring( commentEnd + 2 ).trim();
+		}
+		statement = statement.toLowerCase( Locale.ROOT );
+		return statement.startsWith( "select" ) || statement.startsWith( "with" );
+	}
+
+	private void scheduleExplain(
+			SlowQuery slowQuery,
+			String explainSql,
+			List<Object> parameterValues,
+			List<Integer> parameterTypes,
+			JdbcConnectionAccess connectionAccess) {
+		final ThreadPoolExecutor executor = explainExecutor();
+		if ( executor != null ) {
+			// if the queue is full the plan is simply not obtained
+			executor.execute( () -> explain( slowQuery, explainSql, parameterValues, parameterTypes, connectionAccess ) );
+		}
+	}
+
+	private synchronized ThreadPoolExecutor explainExecutor() {
+		if ( explainExecutor == null && !stopped ) {
+			explainExecutor = new ThreadPoolExecutor(
+					1,
+					1,
+					0,
+					TimeUnit.MILLISECONDS,
+					new ArrayBlockingQueue<>( MAX_PENDING_EXPLAINS ),
+					runnable -> {
+						final Thread thread = new Thread( runnable, "Hibernate slow query explain" );
+						thread.setDaemon( true );
+						return thread;
+					},
+					new ThreadPoolExecutor.DiscardPolicy()
+			);
+		}
+		return explainExecutor;
+	}
+
+	private void explain(
+			SlowQuery slowQuery,
+			String explainSql,
+			List<Object> parameterValues,
+			List<Integer> parameterTypes,
+			JdbcConnectionAccess connectionAccess) {
+		try {
+			final Connection connection = connectionAccess.obtainConnection();
+			try {
+				try ( PreparedStatement statement = connection.prepareStatement( explainSql ) ) {
+					for ( int i = 0; i < parameterValues.size(); i++ ) {
+						final Object value = parameterValues.get( i );
+						if ( value == null ) {
+							statement.setNull( i + 1, parameterTypes.get( i ) );
+						}
+						else {
+							statement.setObject( i + 1, value );
+						}
+					}
+					final StringBuilder plan = new StringBuilder();
+					try ( ResultSet resultSet = statement.executeQuery() ) {
+						final int columnCount = resultSet.getMetaData().getColumnCount();
+						while ( resultSet.next() ) {
+							if ( plan.length() > 0 ) {
+								plan.append( '\n' );
+							}
+							for ( int column = 1; column <= columnCount; column++ ) {
+								if ( column > 1 ) {
+									plan.append( '\t' );
+								}
+								plan.append( resultSet.getString( column ) );
+							}
+						}
+					}
+					slowQuery.setExecutionPlan( plan.toString() );
+				}
+			}
+			finally {
+				connectionAccess.releaseConnection( connection );
+			}
+		}
+		catch (SQLException | RuntimeException e) {
+			if ( explainFailed ) {
+				LOG.debugf( e, "Unable to obtain the execution plan of slow query: %s", slowQuery.getSql() );
+			}
+			else {
+				// only the first failure is reported, as the following ones most likely have the same cause
+				explainFailed = true;
+				LOG.warnf( e, "Unable to obtain the execution plan of slow query: %s", slowQuery.getSql() );
+			}
+		}
+	}
+}
@@ -0,0 +1,219 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.spi;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.hibernate.HibernateException;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+
+/**
+ * Substitutes the schema of the session tenant for a placeholder schema qualifying the tables in the SQL
+ * statements, as they are prepared, so that all the tenants of the
+ * {@link org.hibernate.MultiTenancyStrategy#SCHEMA} strategy share the same connections without switching
+ * the schema of these.  The tenant identifier is the name of its schema: it must be a plain identifier, and
+ * is rendered with the quoting of the dialect.  The placeholder is substituted whether it is quoted or not,
+ * quoted tenant schemas being substituted for quoted placeholders, but not within string literals, comments
+ * and other quoted identifiers.
+ * <p/>
+ * The rewritten statements are cached per tenant, up to a bound beyond which they are rewritten each time,
+ * for the most recently used tenants.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#MULTI_TENANT_SCHEMA_PLACEHOLDER
+ */
+public class TenantSchemaSqlRewriter {
+	private static final int MAX_CACHED_TENANTS = 128;
+	private static final int MAX_CACHED_STATEMENTS_PER_TENANT = 2048;
+
+	private final String placeholder;
+	private final String quotedPlaceholder;
+	private final JdbcEnvironment jdbcEnvironment;
+	private final BoundedConcurrentHashMap<String, TenantStatements> statementsByTenant = new BoundedConcurrentHashMap<>(
+			MAX_CACHED_TENANTS,
+			4,
+			BoundedConcurrentHashMap.Eviction.LRU
+	);
+
+	/**
+	 * Constructs a TenantSchemaSqlRewriter
+	 *
+	 * @param placeholder The name of the schema to substitute the tenant schema for
+	 * @param jdbcEnvironment The JDBC environment, rendering the tenant schema names
+	 */
+	public TenantSchemaSqlRewriter(String placeholder, JdbcEnvironment jdbcEnvironment) {
+		if ( placeholder == null || placeholder.isEmpty() ) {
+			throw new IllegalArgumentException( "Tenant schema placeholder must not be empty" );
+		}
+		this.placeholder = placeholder;
+		this.quotedPlaceholder = quote( placeholder, jdbcEnvironment );
+		this.jdbcEnvironment = jdbcEnvironment;
+	}
+
+	/**
+	 * The name of the schema the tenant schema is substituted for.
+	 */
+	public String getPlaceholder() {
+		return placeholder;
+	}
+
+	/**
+	 * Substitutes the schema of the given tenant for the placeholder in a SQL statement.
+	 *
+	 * @param sql The SQL statement
+	 * @param tenantIdentifier The tenant identifier, which is also the name of its schema
+	 *
+	 * @return The SQL statement qualified by the tenant schema, or the given one if there is no tenant
+	 *
+	 * @throws HibernateException If the tenant identifier is not a plain identifier
+	 */
+	public String rewrite(String sql, String tenantIdentifier) {
+		if ( tenantIdentifier == null ) {
+			return sql;
+		}
+
+		TenantStatements statements = statementsByTenant.get( tenantIdentifier );
+		if ( statements == null ) {
+			statements = new TenantStatements(
+					toSchemaName( tenantIdentifier ),
+					quote( tenantIdentifier, jdbcEnvironment )
+			);
+			final TenantStatements previous = statementsByTenant.putIfAbsent( tenantIdentifier, statements );
+			if ( previous != null ) {
+				statements = previous;
+			}
+		}
+
+		String result = statements.rewrittenSql.get( sql );
+		if ( result == null ) {
+			result = substitute( sql, statements );
+			if ( statements.rewrittenSql.size() < MAX_CACHED_STATEMENTS_PER_TENANT ) {
+				statements.rewrittenSql.putIfAbsent( sql, result );
+			}
+		}
+		return result;
+	}
+
+	private String toSchemaName(String tenantIdentifier) {
+		// the identifier is written into the statements, so anything but a plain identifier is rejected
+		if ( !isPlainIdentifier( tenantIdentifier ) ) {
+			throw new HibernateException(
+					"Tenant identifier [" + tenantIdentifier + "] is not a valid schema name"
+			);
+		}
+		return jdbcEnvironment.getIdentifierHelper()
+				.toIdentifier( tenantIdentifier )
+				.render( jdbcEnvironment.getDialect() );
+	}
+
+	private static boolean isPlainIdentifier(String text) {
+		if ( text.isEmpty() ) {
+			return false;
+		}
+		for ( int i = 0; i < text.length(); i++ ) {
+			final char c = text.charAt( i );
+			final boolean valid = ( c >= 'a' && c <= 'z' ) || ( c >= 'A' && c <= 'Z' ) || c == '_'
+					|| ( i > 0 && c >= '0' && c <= '9' );
+			if ( !valid ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static String quote(String name, JdbcEnvironment jdbcEnvironment) {
+		final Dialect dialect = jdbcEnvironment.getDialect();
+		return dialect.openQuote() + name + dialect.closeQuote();
+	}
+
+	private String substitute(String sql, TenantStatements statements) {
+		final char openQuote = jdbcEnvironment.getDialect().openQuote();
+		final char closeQuote = jdbcEnvironment.getDialect().closeQuote();
+		StringBuilder result = null;
+		int last = 0;
+		final int length = sql.length();
+		int index = 0;
+		while ( index < length ) {
+			final char c = sql.charAt( index );
+			if ( c == '\'' ) {
+				index = endOfQuoted( sql, index, '\'' );
+			}
+			else if ( c == openQuote ) {
+				if ( isQualifying( sql, index, quotedPlaceholder ) ) {
+					if ( result == null ) {
+						result = new StringBuilder( length + 16 );
+					}
+					result.append( sql, last, index ).append( statements.quotedSchemaName );
+					index += quotedPlaceholder.length();
+					last = index;
+				}
+				else {
+					index = endOfQuoted( sql, index, closeQuote );
+				}
+			}
+			else if ( c == '-' && sql.startsWith( "-", index + 1 ) ) {
+				final int endOfLine = sql.indexOf( '\n', index );
+				index = endOfLine < 0 ? length : endOfLine + 1;
+			}
+			else if ( c == '/' && sql.startsWith( "*", index + 1 ) ) {
+				final int endOfComment = sql.indexOf( "*/", index + 2 );
+				index = endOfComment < 0 ? length : endOfComment + 2;
+			}
+			else if ( isQualifying( sql, index, placeholder )
+					&& ( index == 0 || !Character.isJavaIdentifierPart( sql.charAt( index - 1 ) ) ) ) {
+				if ( result == null ) {
+					result = new StringBuilder( length + 16 );
+				}
+				result.append( sql, last, index ).append( statements.schemaName );
+				index += placeholder.length();
+				last = index;
+			}
+			else {
+				index++;
+			}
+		}
+		if ( result == null ) {
+			return sql;
+		}
+		return result.append( sql, last, length ).toString();
+	}
+
+	private static int endOfQuoted(String sql, int start, char closeQuote) {
+		int index = start + 1;
+		while ( index < sql.length() ) {
+			if ( sql.charAt( index ) == closeQuote ) {
+				// a doubled quote escapes the quote
+				if ( index + 1 < sql.length() && sql.charAt( index + 1 ) == closeQuote ) {
+					index += 2;
+					continue;
+				}
+				return index + 1;
+			}
+			index++;
+		}
+		return index;
+	}
+
+	private static boolean isQualifying(String sql, int index, String name) {
+		// only identifiers qualifying an object, i.e. "placeholder.table"
+		final int end = index + name.length();
+		return sql.startsWith( name, index ) && end < sql.length() && sql.charAt( end ) == '.';
+	}
+
+	private static final class TenantStatements {
+		private final String schemaName;
+		private final String quotedSchemaName;
+		private final ConcurrentMap<String, String> rewrittenSql = new ConcurrentHashMap<>();
+
+		private TenantStatements(String schemaName, String quotedSchemaName) {
+			this.schemaName = schemaName;
+			this.quotedSchemaName = quotedSchemaName;
+		}
+	}
+}
@@ -307,7 +307,7 @@ public class CollectionLoadContext {
 		}
 		final StatisticsImplementor statistics = session.getFactory().getStatistics();
 		if ( statistics.isStatisticsEnabled() ) {
-			statistics.loadCollection( persister.getRole() );
+			statistics.loadCollection( persister.getRole(), session.getTenantIdentifier() );
 		}
 	}
 
@@ -13,6 +13,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.Filter;
@@ -58,6 +59,12 @@ public class QueryPlanCache implements Serializable {
 	 */
 	private final BoundedConcurrentHashMap queryPlanCache;
 
+	/**
+	 * the plans pinned for the lifetime of the cache (the named queries checked at startup), which are
+	 * never evicted, whatever the number of other plans
+	 */
+	private final ConcurrentHashMap<Object, Object> pinnedQueryPlans = new ConcurrentHashMap<>();
+
 	/**
 	 * simple cache of param metadata based on query string.  Ideally, the original "user-supplied query"
 	 * string should be used to obtain this metadata (i.e., not the para-list-expanded query string) to avoid
@@ -144,22 +151,15 @@ public class QueryPlanCache implements Serializable {
 	public HQLQueryPlan getHQLQueryPlan(String queryString, boolean shallow, Map<String, Filter> enabledFilters)
 			throws QueryException, MappingException {
 		final HQLQueryPlanKey key = new HQLQueryPlanKey( queryString, shallow, enabledFilters );
-		HQLQueryPlan value = (HQLQueryPlan) queryPlanCache.get( key );
+		HQLQueryPlan value = (HQLQueryPlan) pinnedQueryPlans.get( key );
+		if ( value == null ) {
+			value = (HQLQueryPlan) queryPlanCache.get( key );
+		}
 		final StatisticsImplementor statistics = factory.getStatistics();
 		boolean stats = statistics.isStatisticsEnabled();
 
 		if ( value == null ) {
-			final long startTime = ( stats ) ? System.nanoTime() : 0L;
-
-			LOG.tracev( "Unable to locate HQL query plan in cache; generating ({0})", queryString );
-			value = new HQLQueryPlan( queryString, shallow, enabledFilters, factory );
-
-			if ( stats ) {
-				final long endTime = System.nanoTime();
-				final long microseconds = TimeUnit.MICROSECONDS.convert( endTime - startTime, TimeUnit.NANOSECONDS );
-				statistics.queryCompiled( queryString, microseconds );
-			}
-
+			value = createHQLQueryPlan( queryString, shallow, enabledFilters );
 			queryPlanCache.putIfAbsent( key, value );
 		}
 		else {
@@ -172,6 +172,51 @@ public class QueryPlanCache implements Serializable {
 		return value;
 	}
 
+	/**
+	 * Get the query plan for the given HQL query, creating it if not already cached, and pin it in the cache:
+	 * unlike the other plans, it will never be evicted.
+	 *
+	 * @param queryString The HQL query string
+	 * @param shallow Whether the execution will be shallow
+	 *
+	 * @return The query plan, as returned by {@link #getHQLQueryPlan} when no filter is enabled
+	 *
+	 * @throws QueryException Indicates a problem translating the query
+	 * @throws MappingException Indicates a problem translating the query
+	 */
+	public HQLQueryPlan pinHQLQueryPlan(String queryString, boolean shallow) throws QueryException, MappingException {
+		final HQLQueryPlanKey key = new HQLQueryPlanKey( queryString, shallow, Collections.emptyMap() );
+		HQLQueryPlan value = (HQLQueryPlan) pinnedQueryPlans.get( key );
+		if ( value == null ) {
+			value = (HQLQueryPlan) queryPlanCache.get( key );
+			if ( value == null ) {
+				value = createHQLQueryPlan( queryString, shallow, Collections.emptyMap() );
+			}
+			// not computed while holding a lock of the map, as plans are pinned concurrently at startup
+			final Object previous = pinnedQueryPlans.putIfAbsent( key, value );
+			if ( previous != null ) {
+				value = (HQLQueryPlan) previous;
+			}
+		}
+		return value;
+	}
+
+	private HQLQueryPlan createHQLQueryPlan(String queryString, boolean shallow, Map<String, Filter> enabledFilters) {
+		final StatisticsImplementor statistics = factory.getStatistics();
+		final boolean stats = statistics.isStatisticsEnabled();
+		final long startTime = ( stats ) ? System.nanoTime() : 0L;
+
+		LOG.tracev( "Unable to locate HQL query plan in cache; generating ({0})", queryString );
+		final HQLQueryPlan value = new HQLQueryPlan( queryString, shallow, enabledFilters, factory );
+
+		if ( stats ) {
+			final long endTime = System.nanoTime();
+			final long microseconds = TimeUnit.MICROSECONDS.convert( endTime - startTime, TimeUnit.NANOSECONDS );
+			statistics.queryCompiled( queryString, microseconds );
+		}
+		return value;
+	}
+
 	/**
 	 * Get the query plan for the given collection HQL filter fragment, creating it and caching it if not already cached
 	 *
@@ -220,7 +265,10 @@ public class QueryPlanCache implements Serializable {
 	 */
 	@SuppressWarnings("unchecked")
 	public NativeSQLQueryPlan getNativeSQLQueryPlan(final NativeSQLQuerySpecification spec) {
-		NativeSQLQueryPlan value = (NativeSQLQueryPlan) queryPlanCache.get( spec );
+		NativeSQLQueryPlan value = (NativeSQLQueryPlan) pinnedQueryPlans.get( spec );
+		if ( value == null ) {
+			value = (NativeSQLQueryPlan) queryPlanCache.get( spec );
+		}
 		if ( value == null ) {
 			LOG.tracev( "Unable to locate native-sql query plan in cache; generating ({0})", spec.getQueryString() );
 			value = nativeQueryInterpreter.createQueryPlan( spec, factory );
@@ -232,6 +280,32 @@ public class QueryPlanCache implements Serializable {
 		return value;
 	}
 
+	/**
+	 * Get the query plan for a native SQL query, creating it if not already cached, and pin it in the cache:
+	 * unlike the other plans, it will never be evicted.
+	 *
+	 * @param spec The native SQL query specification
+	 *
+	 * @return The query plan
+	 *
+	 * @throws QueryException Indicates a problem translating the query
+	 * @throws MappingException Indicates a problem translating the query
+	 */
+	public NativeSQLQueryPlan pinNativeSQLQueryPlan(final NativeSQLQuerySpecification spec) {
+		NativeSQLQueryPlan value = (NativeSQLQueryPlan) pinnedQueryPlans.get( spec );
+		if ( value == null ) {
+			value = (NativeSQLQueryPlan) queryPlanCache.get( spec );
+			if ( value == null ) {
+				value = nativeQueryInterpreter.createQueryPlan( spec, factory );
+			}
+			final Object previous = pinnedQueryPlans.putIfAbsent( spec, value );
+			if ( previous != null ) {
+				value = (NativeSQLQueryPlan) previous;
+			}
+		}
+		return value;
+	}
+
 	/**
 	 * Clean up the caches when the SessionFactory is closed.
 	 * <p>
@@ -244,6 +318,7 @@ public class QueryPlanCache implements Serializable {
 	public void cleanup() {
 		LOG.trace( "Cleaning QueryPlan Cache" );
 		queryPlanCache.clear();
+		pinnedQueryPlans.clear();
 		parameterMetadataCache.clear();
 	}
 
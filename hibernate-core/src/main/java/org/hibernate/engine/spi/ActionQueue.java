@@ -11,8 +11,10 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -599,22 +601,26 @@ public class ActionQueue {
 		//		1) we explicitly iterate list here to perform Executable#execute()
 		//		2) ExecutableList#getQuerySpaces also iterates the Executables to collect query spaces.
 		try {
-			for ( E e : list ) {
-				try {
-					e.execute();
-				}
-				finally {
-					if ( e.getBeforeTransactionCompletionProcess() != null ) {
-						if ( beforeTransactionProcesses == null ) {
-							beforeTransactionProcesses = new BeforeTransactionCompletionProcessQueue( session );
-						}
-						beforeTransactionProcesses.register( e.getBeforeTransactionCompletionProcess() );
+			for ( int i = 0; i < list.size(); i++ ) {
+				final List<EntityIdentityInsertAction> identityInserts = collectIdentityInsertBatch( list, i );
+				if ( identityInserts != null ) {
+					try {
+						EntityIdentityInsertAction.executeBatch( identityInserts );
 					}
-					if ( e.getAfterTransactionCompletionProcess() != null ) {
-						if ( afterTransactionProcesses == null ) {
-							afterTransactionProcesses = new AfterTransactionCompletionProcessQueue( session );
+					finally {
+						for ( EntityIdentityInsertAction identityInsert : identityInserts ) {
+							registerTransactionCompletionProcesses( identityInsert );
 						}
-						afterTransactionProcesses.register( e.getAfterTransactionCompletionProcess() );
+					}
+					i += identityInserts.size() - 1;
+				}
+				else {
+					final E e = list.get( i );
+					try {
+						e.execute();
+					}
+					finally {
+						registerTransactionCompletionProcesses( e );
 					}
 				}
 			}
@@ -633,6 +639,78 @@ public class ActionQueue {
 		session.getJdbcCoordinator().executeBatch();
 	}
 
+	private void registerTransactionCompletionProcesses(Executable e) {
+		if ( e.getBeforeTransactionCompletionProcess() != null ) {
+			if ( beforeTransactionProcesses == null ) {
+				beforeTransactionProcesses = new BeforeTransactionCompletionProcessQueue( session );
+			}
+			beforeTransactionProcesses.register( e.getBeforeTransactionCompletionProcess() );
+		}
+		if ( e.getAfterTransactionCompletionProcess() != null ) {
+			if ( afterTransactionProcesses == null ) {
+				afterTransactionProcesses = new AfterTransactionCompletionProcessQueue( session );
+			}
+			afterTransactionProcesses.register( e.getAfterTransactionCompletionProcess() );
+		}
+	}
+
+	/**
+	 * Collect the delayed identity inserts starting at the given position which can be executed as a single
+	 * JDBC batch: consecutive inserts of the same entity, none of which references another one of the batch.
+	 *
+	 * @return The inserts to execute as a batch, or {@code null} if there are not at least two of them
+	 */
+	private <E extends Executable & Comparable<?> & Serializable> List<EntityIdentityInsertAction> collectIdentityInsertBatch(
+			ExecutableList<E> list,
+			int start) {
+		final E e = list.get( start );
+		if ( !( e instanceof EntityIdentityInsertAction ) || !( (EntityIdentityInsertAction) e ).isBatchable() ) {
+			return null;
+		}
+		final EntityIdentityInsertAction first = (EntityIdentityInsertAction) e;
+
+		final int batchSize = session.getConfiguredJdbcBatchSize();
+		final List<EntityIdentityInsertAction> batch = new ArrayList<>();
+		final Set<Object> instances = Collections.newSetFromMap( new IdentityHashMap<>() );
+		batch.add( first );
+		instances.add( first.getInstance() );
+		for ( int i = start + 1; i < list.size() && batch.size() < batchSize; i++ ) {
+			final E next = list.get( i );
+			if ( !( next instanceof EntityIdentityInsertAction ) ) {
+				break;
+			}
+			final EntityIdentityInsertAction insert = (EntityIdentityInsertAction) next;
+			if ( insert.getPersister() != first.getPersister()
+					|| !insert.isBatchable()
+					|| referencesAny( insert.getState(), insert.getPersister().getPropertyTypes(), instances ) ) {
+				break;
+			}
+			batch.add( insert );
+			instances.add( insert.getInstance() );
+		}
+		return batch.size() > 1 ? batch : null;
+	}
+
+	private boolean referencesAny(Object[] values, Type[] types, Set<Object> instances) {
+		for ( int i = 0; i < types.length; i++ ) {
+			if ( values[i] == null ) {
+				continue;
+			}
+			if ( types[i].isEntityType() ) {
+				if ( instances.contains( values[i] ) ) {
+					return true;
+				}
+			}
+			else if ( types[i].isComponentType() ) {
+				final CompositeType componentType = (CompositeType) types[i];
+				if ( referencesAny( componentType.getPropertyValues( values[i], session ), componentType.getSubtypes(), instances ) ) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
 	private static String[] convertTimestampSpaces(Set spaces) {
 		return (String[]) spaces.toArray( new String[ spaces.size() ] );
 	}
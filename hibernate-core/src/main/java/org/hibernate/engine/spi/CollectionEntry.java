@@ -11,6 +11,7 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.Collection;
+import java.util.Collections;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.HibernateException;
@@ -36,6 +37,9 @@ public final class CollectionEntry implements Serializable {
 	// session-start/post-flush persistent state
 	private Serializable snapshot;
 	// allow the CollectionSnapshot to be serialized
+
+	// the collection whose snapshot was deferred when it got loaded, see #postInitialize
+	private transient AbstractPersistentCollection deferredSnapshotCollection;
 	private String role;
 
 	// "loaded" means the reference that is consistent
@@ -198,10 +202,18 @@ public final class CollectionEntry implements Serializable {
 
 	public void postInitialize(PersistentCollection collection) throws HibernateException {
 		final CollectionPersister loadedPersister = getLoadedPersister();
-		snapshot = loadedPersister.isMutable()
-				? collection.getSnapshot( loadedPersister )
-				: null;
-		collection.setSnapshot(loadedKey, role, snapshot);
+		if ( isSnapshotDeferrable( collection, loadedPersister ) ) {
+			snapshot = null;
+			collection.setSnapshot( loadedKey, role, null );
+			deferredSnapshotCollection = (AbstractPersistentCollection) collection;
+			deferredSnapshotCollection.deferSnapshot( loadedPersister );
+		}
+		else {
+			snapshot = loadedPersister.isMutable()
+					? collection.getSnapshot( loadedPersister )
+					: null;
+			collection.setSnapshot( loadedKey, role, snapshot );
+		}
 		if ( loadedPersister.getBatchSize() > 1 ) {
 			( (AbstractPersistentCollection) collection ).getSession()
 					.getPersistenceContextInternal()
@@ -210,6 +222,19 @@ public final class CollectionEntry implements Serializable {
 		}
 	}
 
+	/**
+	 * Taking the snapshot can be deferred when the collection elements (and indexes) cannot change
+	 * other than through the collection, as those changes are then detected by the collection itself.
+	 */
+	private static boolean isSnapshotDeferrable(PersistentCollection collection, CollectionPersister persister) {
+		return persister.isMutable()
+				&& collection instanceof AbstractPersistentCollection
+				&& !collection.isDirectlyAccessible()
+				&& !persister.getElementType().isMutable()
+				&& ( !persister.hasIndex() || !persister.getIndexType().isMutable() )
+				&& persister.getFactory().getSessionFactoryOptions().isDeferredCollectionSnapshotEnabled();
+	}
+
 	/**
 	 * Called after a successful flush
 	 */
@@ -220,7 +245,7 @@ public final class CollectionEntry implements Serializable {
 		else if ( !isProcessed() ) {
 			throw new HibernateException( LOG.collectionNotProcessedByFlush( collection.getRole() ) );
 		}
-		collection.setSnapshot( loadedKey, role, snapshot );
+		collection.setSnapshot( loadedKey, role, isSnapshotStillDeferred() ? null : getSnapshot() );
 	}
 
 	/**
@@ -236,6 +261,7 @@ public final class CollectionEntry implements Serializable {
 			snapshot = loadedPersister == null || !loadedPersister.isMutable() ?
 					null :
 					collection.getSnapshot( loadedPersister ); //re-snapshot
+			deferredSnapshotCollection = null;
 		}
 
 		collection.postAction();
@@ -250,9 +276,17 @@ public final class CollectionEntry implements Serializable {
 	}
 
 	public Serializable getSnapshot() {
+		if ( deferredSnapshotCollection != null ) {
+			snapshot = deferredSnapshotCollection.takeDeferredSnapshot();
+			deferredSnapshotCollection = null;
+		}
 		return snapshot;
 	}
 
+	private boolean isSnapshotStillDeferred() {
+		return deferredSnapshotCollection != null && deferredSnapshotCollection.isSnapshotDeferred();
+	}
+
 	private boolean fromMerge;
 
 	/**
@@ -270,6 +304,7 @@ public final class CollectionEntry implements Serializable {
 		}
 
 		snapshot = storedSnapshot;
+		deferredSnapshotCollection = null;
 		collection.setSnapshot( loadedKey, role, snapshot );
 		fromMerge = true;
 	}
@@ -381,6 +416,11 @@ public final class CollectionEntry implements Serializable {
 	 * Get the collection orphans (entities which were removed from the collection)
 	 */
 	public Collection getOrphans(String entityName, PersistentCollection collection) throws HibernateException {
+		if ( isSnapshotStillDeferred() ) {
+			// not modified since loaded
+			return Collections.emptyList();
+		}
+		final Serializable snapshot = getSnapshot();
 		if ( snapshot == null ) {
 			throw new AssertionFailure( "no collection snapshot for orphan delete" );
 		}
@@ -392,6 +432,10 @@ public final class CollectionEntry implements Serializable {
 		//      does the collection already have
 		//      it's own up-to-date snapshot?
 		final CollectionPersister loadedPersister = getLoadedPersister();
+		if ( isSnapshotStillDeferred() ) {
+			// not modified since loaded
+			return collection.empty();
+		}
 		return collection.wasInitialized() &&
 			( loadedPersister ==null || loadedPersister.isMutable() ) &&
 			collection.isSnapshotEmpty( getSnapshot() );
@@ -408,7 +452,7 @@ public final class CollectionEntry implements Serializable {
 	 */
 	public void serialize(ObjectOutputStream oos) throws IOException {
 		oos.writeObject( role );
-		oos.writeObject( snapshot );
+		oos.writeObject( getSnapshot() );
 		oos.writeObject( loadedKey );
 	}
 
@@ -303,6 +303,24 @@ public final class QueryParameters {
 		positionalParameterValues = objects;
 	}
 
+	/**
+	 * Appends a parameter to the positional parameters.
+	 *
+	 * @param type The type of the parameter
+	 * @param value The value of the parameter
+	 */
+	public void appendPositionalParameter(Type type, Object value) {
+		final int count = positionalParameterValues.length;
+		final Type[] types = new Type[count + 1];
+		final Object[] values = new Object[count + 1];
+		System.arraycopy( positionalParameterTypes, 0, types, 0, count );
+		System.arraycopy( positionalParameterValues, 0, values, 0, count );
+		types[count] = type;
+		values[count] = value;
+		positionalParameterTypes = types;
+		positionalParameterValues = values;
+	}
+
 	@SuppressWarnings( {"UnusedDeclaration"})
 	public void setRowSelection(RowSelection selection) {
 		rowSelection = selection;
@@ -38,6 +38,7 @@ import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
 import org.hibernate.MultiIdentifierLoadAccess;
 import org.hibernate.NaturalIdLoadAccess;
+import org.hibernate.NaturalIdMultiLoadAccess;
 import org.hibernate.Query;
 import org.hibernate.ReplicationMode;
 import org.hibernate.ScrollMode;
@@ -581,6 +582,11 @@ public class SessionDelegatorBaseImpl implements SessionImplementor {
 		return delegate.createQuery( queryString, resultType );
 	}
 
+	@Override
+	public <T> org.hibernate.query.Query<T> createClaimQuery(Class<T> entityClass, String restriction, int batchSize) {
+		return delegate.createClaimQuery( entityClass, restriction, batchSize );
+	}
+
 	@Override
 	public <T> QueryImplementor<T> createQuery(CriteriaQuery<T> criteriaQuery) {
 		return delegate.createQuery( criteriaQuery );
@@ -1070,6 +1076,16 @@ public class SessionDelegatorBaseImpl implements SessionImplementor {
 		return delegate.bySimpleNaturalId( entityClass );
 	}
 
+	@Override
+	public <T> NaturalIdMultiLoadAccess<T> byMultipleNaturalId(Class<T> entityClass) {
+		return delegate.byMultipleNaturalId( entityClass );
+	}
+
+	@Override
+	public NaturalIdMultiLoadAccess byMultipleNaturalId(String entityName) {
+		return delegate.byMultipleNaturalId( entityName );
+	}
+
 	@Override
 	public Filter enableFilter(String filterName) {
 		return delegate.enableFilter( filterName );
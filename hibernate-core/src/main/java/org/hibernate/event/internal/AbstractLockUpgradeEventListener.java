@@ -6,12 +6,22 @@
  */
 package org.hibernate.event.internal;
 
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
 import org.hibernate.ObjectDeletedException;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.Status;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.internal.CoreLogging;
@@ -93,4 +103,64 @@ public abstract class AbstractLockUpgradeEventListener extends AbstractReassocia
 
 		}
 	}
+
+	/**
+	 * Performs a pessimistic lock upgrade on several managed entities, if needed.  The instances of
+	 * each entity are locked together, using a single statement where the locking strategy allows it.
+	 *
+	 * @param objects The (managed, non-proxy) entities for which to upgrade the lock.
+	 * @param lockOptions contains the requested lock mode.
+	 * @param source The session which is the source of the event being processed.
+	 */
+	public void upgradeLocks(List<?> objects, LockOptions lockOptions, EventSource source) {
+		final LockMode requestedLockMode = lockOptions.getLockMode();
+		final PersistenceContext persistenceContext = source.getPersistenceContextInternal();
+		final Map<EntityPersister, List<Object>> objectsByPersister = new LinkedHashMap<>();
+		final Set<Object> seen = Collections.newSetFromMap( new IdentityHashMap<>() );
+		for ( Object object : objects ) {
+			final EntityEntry entry = persistenceContext.getEntry( object );
+			final EntityPersister persister = entry.getPersister();
+			if ( requestedLockMode == LockMode.FORCE || persister.canWriteToCache() ) {
+				// these need to deal with each instance individually anyway
+				upgradeLock( object, entry, lockOptions, source );
+			}
+			else if ( requestedLockMode.greaterThan( entry.getLockMode() ) && seen.add( object ) ) {
+				if ( entry.getStatus() != Status.MANAGED ) {
+					throw new ObjectDeletedException(
+							"attempted to lock a deleted instance",
+							entry.getId(),
+							persister.getEntityName()
+					);
+				}
+				objectsByPersister.computeIfAbsent( persister, p -> new ArrayList<>() ).add( object );
+			}
+		}
+
+		for ( Map.Entry<EntityPersister, List<Object>> entry : objectsByPersister.entrySet() ) {
+			final EntityPersister persister = entry.getKey();
+			final Object[] entities = entry.getValue().toArray();
+			final EntityEntry[] entityEntries = new EntityEntry[entities.length];
+			final Serializable[] ids = new Serializable[entities.length];
+			final Object[] versions = new Object[entities.length];
+			for ( int i = 0; i < entities.length; i++ ) {
+				entityEntries[i] = persistenceContext.getEntry( entities[i] );
+				ids[i] = entityEntries[i].getId();
+				versions[i] = entityEntries[i].getVersion();
+			}
+
+			if ( log.isTraceEnabled() ) {
+				log.tracev(
+						"Locking {0} instances of {1} in mode: {2}",
+						entities.length,
+						persister.getEntityName(),
+						requestedLockMode
+				);
+			}
+
+			persister.lock( ids, versions, entities, lockOptions, source );
+			for ( EntityEntry entityEntry : entityEntries ) {
+				entityEntry.setLockMode( requestedLockMode );
+			}
+		}
+	}
 }
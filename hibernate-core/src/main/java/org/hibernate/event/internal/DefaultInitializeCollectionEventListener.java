@@ -81,7 +81,8 @@ public class DefaultInitializeCollectionEventListener implements InitializeColle
 				final StatisticsImplementor statistics = source.getFactory().getStatistics();
 				if ( statistics.isStatisticsEnabled() ) {
 					statistics.fetchCollection(
-							ceLoadedPersister.getRole()
+							ceLoadedPersister.getRole(),
+							source.getTenantIdentifier()
 					);
 				}
 			}
@@ -576,7 +576,7 @@ public class DefaultLoadEventListener implements LoadEventListener {
 
 		final StatisticsImplementor statistics = event.getSession().getFactory().getStatistics();
 		if ( event.isAssociationFetch() && statistics.isStatisticsEnabled() ) {
-			statistics.fetchEntity( event.getEntityClassName() );
+			statistics.fetchEntity( event.getEntityClassName(), event.getSession().getTenantIdentifier() );
 		}
 
 		return entity;
@@ -7,9 +7,13 @@
 package org.hibernate.event.internal;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 import org.hibernate.HibernateException;
 import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
 import org.hibernate.TransientObjectException;
 import org.hibernate.engine.internal.Cascade;
 import org.hibernate.engine.internal.CascadePoint;
@@ -82,6 +86,38 @@ public class DefaultLockEventListener extends AbstractLockUpgradeEventListener i
 
 		upgradeLock( entity, entry, event.getLockOptions(), event.getSession() );
 	}
+
+	/**
+	 * Handle a lock request for several instances.  The lock of the instances already
+	 * associated with the session is upgraded together, one statement per entity type
+	 * where the locking strategy allows it; all other instances are handled one by one.
+	 */
+	@Override
+	public void onLock(Collection<?> objects, LockOptions lockOptions, EventSource source) throws HibernateException {
+		if ( lockOptions.getLockMode() == LockMode.WRITE ) {
+			throw new HibernateException( "Invalid lock mode for lock()" );
+		}
+
+		if ( lockOptions.getLockMode() == LockMode.UPGRADE_SKIPLOCKED ) {
+			LOG.explicitSkipLockedLockCombo();
+		}
+
+		final PersistenceContext persistenceContext = source.getPersistenceContextInternal();
+		final List<Object> managedEntities = new ArrayList<>( objects.size() );
+		for ( Object object : objects ) {
+			if ( object != null && persistenceContext.getEntry( object ) != null ) {
+				managedEntities.add( object );
+			}
+			else {
+				// proxies and detached instances need to be reassociated first
+				onLock( new LockEvent( object, lockOptions, source ) );
+			}
+		}
+
+		if ( !managedEntities.isEmpty() ) {
+			upgradeLocks( managedEntities, lockOptions, source );
+		}
+	}
 	
 	private void cascadeOnLock(LockEvent event, EntityPersister persister, Object entity) {
 		EventSource source = event.getSession();
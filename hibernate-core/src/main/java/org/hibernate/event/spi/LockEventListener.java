@@ -7,8 +7,10 @@
 package org.hibernate.event.spi;
 
 import java.io.Serializable;
+import java.util.Collection;
 
 import org.hibernate.HibernateException;
+import org.hibernate.LockOptions;
 
 /**
  * Defines the contract for handling of lock events generated from a session.
@@ -23,4 +25,19 @@ public interface LockEventListener extends Serializable {
      * @throws HibernateException
      */
 	public void onLock(LockEvent event) throws HibernateException;
+
+	/**
+	 * Handle a lock request for several instances at once.  By default each instance is handled
+	 * as a separate {@link LockEvent}.
+	 *
+	 * @param objects The instances to lock
+	 * @param lockOptions The requested lock options
+	 * @param source The session from which the request originated
+	 * @throws HibernateException
+	 */
+	default void onLock(Collection<?> objects, LockOptions lockOptions, EventSource source) throws HibernateException {
+		for ( Object object : objects ) {
+			onLock( new LockEvent( object, lockOptions, source ) );
+		}
+	}
 }
@@ -845,7 +845,8 @@ public class HqlSqlWalker extends HqlSqlBaseWalker implements ErrorReporter, Par
 //			        fromElement.getTableAlias()
 //			);
 //		}
-		if ( persister.getDiscriminatorType() != null || !queryTranslatorImpl.getEnabledFilters().isEmpty() ) {
+		if ( persister.getDiscriminatorType() != null || !queryTranslatorImpl.getEnabledFilters().isEmpty()
+				|| persister.isTenantDiscriminated() ) {
 			new SyntheticAndFactory( this ).addDiscriminatorWhereFragment(
 					statement,
 					persister,
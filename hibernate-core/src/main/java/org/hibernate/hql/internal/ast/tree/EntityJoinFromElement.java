@@ -163,6 +163,8 @@ public class EntityJoinFromElement extends FromElement {
 					enabledFilters,
 					Collections.<String>emptySet()
 			);
+			// the tenant identifier is bound after the parameters of the with clause
+			final String tenantRestriction = joinable.tenantDiscriminatorFragment( entityTableAlias );
 
 			if ( fromFragment.isEmpty() || renderTableGroup ) {
 				buffer.append( filters );
@@ -172,6 +174,12 @@ public class EntityJoinFromElement extends FromElement {
 					}
 					buffer.append( withClauseFragment );
 				}
+				if ( tenantRestriction != null ) {
+					if ( StringHelper.isNotEmpty( filters ) || withClauseFragment != null ) {
+						buffer.append( " and " );
+					}
+					buffer.append( tenantRestriction );
+				}
 			}
 			else {
 				// We know there is a fromFragment and that we shouldn't render a table group
@@ -196,6 +204,10 @@ public class EntityJoinFromElement extends FromElement {
 					whereBuffer.append( " and " );
 					whereBuffer.append( withClauseFragment );
 				}
+				if ( tenantRestriction != null ) {
+					whereBuffer.append( " and " );
+					whereBuffer.append( tenantRestriction );
+				}
 
 				whereFragment = whereBuffer.toString();
 			}
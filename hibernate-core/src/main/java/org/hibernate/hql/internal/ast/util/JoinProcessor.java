@@ -26,6 +26,7 @@ import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.hql.internal.antlr.SqlTokenTypes;
 import org.hibernate.hql.internal.ast.HqlSqlWalker;
 import org.hibernate.hql.internal.ast.tree.DotNode;
+import org.hibernate.hql.internal.ast.tree.EntityJoinFromElement;
 import org.hibernate.hql.internal.ast.tree.FromClause;
 import org.hibernate.hql.internal.ast.tree.FromElement;
 import org.hibernate.hql.internal.ast.tree.FromReferenceNode;
@@ -42,6 +43,7 @@ import org.hibernate.internal.util.StringHelper;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.param.DynamicFilterParameterSpecification;
+import org.hibernate.param.TenantIdentifierParameterSpecification;
 import org.hibernate.persister.entity.AbstractEntityPersister;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.sql.JoinFragment;
@@ -308,6 +310,17 @@ public class JoinProcessor implements SqlTokenTypes {
 				fromElement,
 				walker
 		);
+
+		// the entities reached by an association share the tenant of their origin
+		if ( fromElement instanceof EntityJoinFromElement ) {
+			// the join condition of an entity join already holds the restriction, see EntityJoinFromElement
+			if ( fromElement.getQueryable().isTenantDiscriminated() ) {
+				fromElement.addEmbeddedParameter( new TenantIdentifierParameterSpecification() );
+			}
+		}
+		else if ( fromElement.getOrigin() == null && fromElement.getQueryable() != null ) {
+			syntheticAndFactory.addTenantWhereFragment( query, fromElement );
+		}
 	}
 
 	private String processFromFragment(String frag, JoinSequence join) {
@@ -19,6 +19,7 @@ import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.StringHelper;
 import org.hibernate.param.CollectionFilterKeyParameterSpecification;
+import org.hibernate.param.TenantIdentifierParameterSpecification;
 import org.hibernate.persister.entity.Queryable;
 import org.hibernate.sql.JoinFragment;
 import org.hibernate.type.Type;
@@ -108,17 +109,7 @@ public class SyntheticAndFactory implements HqlSqlTokenTypes {
 		// theta join node.  This is because org.hibernate.loader.Loader binds the filter parameters first,
 		// then it binds all the HQL query parameters, see org.hibernate.loader.Loader.processFilterParameters().
 		if ( fragment.getFromElement().isFilter() || fragment.hasFilterCondition() ) {
-			if ( filters == null ) {
-				// Find or create the WHERE clause
-				AST where = query.getWhereClause();
-				// Create a new FILTERS node as a parent of all filters
-				filters = create( FILTERS, "{filter conditions}" );
-				// Put the FILTERS node before the HQL condition and theta joins
-				ASTUtil.insertChild( where, filters );
-			}
-
-			// add the current fragment to the FILTERS node
-			filters.addChild( fragment );
+			addFilterCondition( fragment, query );
 		}
 		else {
 			if ( thetaJoins == null ) {
@@ -141,12 +132,47 @@ public class SyntheticAndFactory implements HqlSqlTokenTypes {
 
 	}
 
+	/**
+	 * Restricts the rows of an entity discriminated by tenant to those of the session tenant, like a filter.
+	 *
+	 * @see Queryable#tenantDiscriminatorFragment(String)
+	 */
+	public void addTenantWhereFragment(QueryNode query, FromElement fromElement) {
+		final String tenantRestriction = fromElement.getQueryable().tenantDiscriminatorFragment( fromElement.getTableAlias() );
+		if ( tenantRestriction == null ) {
+			return;
+		}
+
+		SqlFragment fragment = (SqlFragment) create( SQL_TOKEN, tenantRestriction );
+		fragment.setFromElement( fromElement );
+		fragment.addEmbeddedParameter( new TenantIdentifierParameterSpecification() );
+		addFilterCondition( fragment, query );
+	}
+
+	private void addFilterCondition(SqlFragment fragment, QueryNode query) {
+		if ( filters == null ) {
+			// Find or create the WHERE clause
+			AST where = query.getWhereClause();
+			// Create a new FILTERS node as a parent of all filters
+			filters = create( FILTERS, "{filter conditions}" );
+			// Put the FILTERS node before the HQL condition and theta joins
+			ASTUtil.insertChild( where, filters );
+		}
+
+		// add the current fragment to the FILTERS node
+		filters.addChild( fragment );
+	}
+
 	public void addDiscriminatorWhereFragment(
 			RestrictableStatement statement,
 			Queryable persister,
 			Map enabledFilters,
 			String alias) {
 		String whereFragment = persister.filterFragment( alias, enabledFilters ).trim();
+		final String tenantRestriction = persister.tenantDiscriminatorFragment( alias );
+		if ( tenantRestriction != null ) {
+			whereFragment = whereFragment.isEmpty() ? tenantRestriction : whereFragment + " and " + tenantRestriction;
+		}
 		if ( "".equals( whereFragment ) ) {
 			return;
 		}
@@ -176,6 +202,9 @@ public class SyntheticAndFactory implements HqlSqlTokenTypes {
 				discrimNode,
 				hqlSqlWalker
 		);
+		if ( tenantRestriction != null ) {
+			discrimNode.addEmbeddedParameter( new TenantIdentifierParameterSpecification() );
+		}
 
 		if ( statement.getWhereClause().getNumberOfChildren() == 0 ) {
 			statement.getWhereClause().setFirstChild( discrimNode );
@@ -1081,7 +1081,8 @@ public class QueryTranslatorImpl extends BasicLoader implements FilterTranslator
 				statistics.queryExecuted(
 						"HQL: " + queryString,
 						0,
-						milliseconds
+						milliseconds,
+						session.getTenantIdentifier()
 				);
 			}
 
@@ -75,10 +75,12 @@ public abstract class AbstractIdsBulkIdHandler
 			SharedSessionContractImplementor session,
 			QueryParameters queryParameters) {
 		List<Object[]> ids = new ArrayList<>();
+		PreparedStatement ps = null;
 		try {
-			try (PreparedStatement ps = session.getJdbcCoordinator()
+			try {
+				ps = session.getJdbcCoordinator()
 					.getStatementPreparer()
-					.prepareStatement( idSelect, false )) {
+					.prepareStatement( idSelect, false );
 				int position = 1;
 				for ( ParameterSpecification parameterSpecification : idSelectParameterSpecifications ) {
 					position += parameterSpecification.bind( ps, queryParameters, session, position );
@@ -100,6 +102,12 @@ public abstract class AbstractIdsBulkIdHandler
 					ids.add( result );
 				}
 			}
+			finally {
+				if ( ps != null ) {
+					session.getJdbcCoordinator().getLogicalConnection().getResourceRegistry().release( ps );
+					session.getJdbcCoordinator().afterStatementExecution();
+				}
+			}
 		}
 		catch ( SQLException e ) {
 			throw convert( e, "could not select ids for bulk operation", idSelect );
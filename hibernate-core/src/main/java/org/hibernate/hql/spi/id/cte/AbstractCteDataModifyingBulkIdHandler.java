@@ -0,0 +1,168 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.hql.spi.id.cte;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
+import org.hibernate.engine.spi.QueryParameters;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.hql.internal.ast.HqlSqlWalker;
+import org.hibernate.hql.internal.ast.tree.AbstractRestrictableStatement;
+import org.hibernate.hql.internal.ast.tree.FromElement;
+import org.hibernate.hql.spi.id.AbstractTableBasedBulkIdHandler;
+import org.hibernate.internal.util.StringHelper;
+import org.hibernate.param.ParameterSpecification;
+import org.hibernate.persister.collection.AbstractCollectionPersister;
+import org.hibernate.persister.entity.Queryable;
+
+/**
+ * Builds the single statement updating or deleting the rows of all the tables, the identifiers
+ * being selected by its first CTE.
+ *
+ * @see CteDataModifyingBulkIdStrategy
+ */
+public abstract class AbstractCteDataModifyingBulkIdHandler extends AbstractTableBasedBulkIdHandler {
+
+	private final Queryable targetedPersister;
+
+	private final String cteName;
+	private final String idCte;
+	private final String idSubselect;
+	private final List<ParameterSpecification> idSelectParameterSpecifications;
+
+	public AbstractCteDataModifyingBulkIdHandler(SessionFactoryImplementor sessionFactory, HqlSqlWalker walker) {
+		super( sessionFactory, walker );
+		final JdbcEnvironment jdbcEnvironment = sessionFactory.getJdbcServices().getJdbcEnvironment();
+		final Dialect dialect = jdbcEnvironment.getDialect();
+		if ( !dialect.supportsDataModifyingCTE() ) {
+			throw new UnsupportedOperationException(
+					"The " + getClass().getSimpleName() +
+							" can only be used with Dialects that support data-modifying CTE!"
+			);
+		}
+
+		final AbstractRestrictableStatement statement = (AbstractRestrictableStatement) walker.getAST();
+		final FromElement fromElement = statement.getFromClause().getFromElement();
+		this.targetedPersister = fromElement.getQueryable();
+
+		final ProcessedWhereClause processedWhereClause = processWhereClause( statement.getWhereClause() );
+		this.idSelectParameterSpecifications = processedWhereClause.getIdSelectParameterSpecifications();
+
+		final String idColumns = String.join( ", ", (CharSequence[]) targetedPersister.getIdentifierColumnNames() );
+		this.cteName = jdbcEnvironment.getIdentifierHelper().applyGlobalQuoting(
+				"HT_" + StringHelper.unquote( targetedPersister.getTableName(), dialect )
+		).render();
+		this.idCte = cteName + " (" + idColumns + ") as ("
+				+ generateIdSelect( fromElement.getTableAlias(), processedWhereClause ).toStatementString() + ")";
+		this.idSubselect = "select " + idColumns + " from " + cteName;
+	}
+
+	@Override
+	public Queryable getTargetedQueryable() {
+		return targetedPersister;
+	}
+
+	/**
+	 * The sub-select of the identifiers of the rows to update or delete.
+	 */
+	protected String getIdSubselect() {
+		return idSubselect;
+	}
+
+	/**
+	 * The sub-select of the key of the rows of a collection table to update or delete, from the
+	 * identifiers of the rows to update or delete.
+	 */
+	protected String getIdSubselect(AbstractCollectionPersister cPersister) {
+		final String[] columnNames = getKeyColumnNames( targetedPersister, cPersister );
+		if ( Arrays.equals( targetedPersister.getIdentifierColumnNames(), columnNames ) ) {
+			return idSubselect;
+		}
+
+		// the key of the collection is not the identifier, so it is read from the (yet unchanged)
+		// table of the entity
+		final StringBuilder selectBuilder = new StringBuilder();
+		selectBuilder.append( "select " );
+		appendJoined( ", ", columnNames, selectBuilder );
+		selectBuilder.append( " from " ).append( targetedPersister.getTableName() );
+		selectBuilder.append( " tmp where (" );
+		appendJoined( ", ", targetedPersister.getIdentifierColumnNames(), selectBuilder );
+		selectBuilder.append( ") in (" ).append( idSubselect ).append( ")" );
+		return selectBuilder.toString();
+	}
+
+	/**
+	 * Combine the update or delete statements into a single statement: all but the last become
+	 * data-modifying CTEs, following the one selecting the identifiers.
+	 *
+	 * @param statements The statements, in the order they would be executed one after another
+	 * @param comment The comment of the statement, if comments are enabled
+	 */
+	protected String generateStatement(List<String> statements, String comment) {
+		final StringBuilder buffer = new StringBuilder();
+		if ( factory().getSessionFactoryOptions().isCommentsEnabled() ) {
+			buffer.append( "/* " ).append( comment ).append( " */ " );
+		}
+		buffer.append( "with " ).append( idCte );
+		final String unquotedCteName = StringHelper.unquote( cteName, factory().getJdbcServices().getDialect() );
+		for ( int i = 0; i < statements.size() - 1; i++ ) {
+			buffer.append( ", " )
+					.append( factory().getJdbcServices().getJdbcEnvironment().getIdentifierHelper()
+									.applyGlobalQuoting( unquotedCteName + "_" + i ).render() )
+					.append( " as (" )
+					.append( statements.get( i ) )
+					.append( ")" );
+		}
+		return buffer.append( ' ' ).append( statements.get( statements.size() - 1 ) ).toString();
+	}
+
+	/**
+	 * Execute the statement, binding the parameters of the identifiers selection first.
+	 *
+	 * @param parameterSpecifications The parameters of the update or delete statements, in order
+	 *
+	 * @return The number of rows affected by the last of the update or delete statements
+	 */
+	protected int execute(
+			SharedSessionContractImplementor session,
+			QueryParameters queryParameters,
+			String sql,
+			List<ParameterSpecification> parameterSpecifications,
+			String errorMessage) {
+		PreparedStatement ps = null;
+		try {
+			try {
+				ps = session.getJdbcCoordinator()
+					.getStatementPreparer()
+					.prepareStatement( sql, false );
+				int position = 1;
+				for ( ParameterSpecification parameterSpecification : idSelectParameterSpecifications ) {
+					position += parameterSpecification.bind( ps, queryParameters, session, position );
+				}
+				for ( ParameterSpecification parameterSpecification : parameterSpecifications ) {
+					position += parameterSpecification.bind( ps, queryParameters, session, position );
+				}
+				return session.getJdbcCoordinator().getResultSetReturn().executeUpdate( ps );
+			}
+			finally {
+				if ( ps != null ) {
+					session.getJdbcCoordinator().getLogicalConnection().getResourceRegistry().release( ps );
+					session.getJdbcCoordinator().afterStatementExecution();
+				}
+			}
+		}
+		catch ( SQLException e ) {
+			throw factory().getJdbcServices().getSqlExceptionHelper().convert( e, errorMessage, sql );
+		}
+	}
+}
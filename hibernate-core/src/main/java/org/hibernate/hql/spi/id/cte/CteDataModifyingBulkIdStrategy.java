@@ -0,0 +1,136 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.hql.spi.id.cte;
+
+import org.hibernate.boot.spi.MetadataImplementor;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.hql.internal.ast.HqlSqlWalker;
+import org.hibernate.hql.spi.id.MultiTableBulkIdStrategy;
+
+import org.jboss.logging.Logger;
+
+/**
+ * This bulk-id strategy never reads the identifiers into the application, nor stores them in a
+ * table: the identifiers are selected by a CTE of a single statement, the updates or deletes of
+ * all but the last table being data-modifying CTEs of that same statement:
+ *
+ * <pre>
+ * with HT_Person (id) as (
+ *     select
+ *         p.id
+ *     from
+ *         Person p
+ *     where
+ *         ...
+ * ),
+ * HT_Person_0 as (
+ *     delete
+ *     from
+ *         Doctor
+ *     where
+ *         ( id ) in (
+ *             select
+ *                 id
+ *             from
+ *                 HT_Person
+ *         )
+ * )
+ * delete
+ * from
+ *     Person
+ * where
+ *     ( id ) in (
+ *         select
+ *             id
+ *         from
+ *             HT_Person
+ *     )
+ * </pre>
+ *
+ * All the parts of the statement see the same snapshot of the data, so the identifiers selected
+ * are not affected by the changes made to the other tables.
+ * <p/>
+ * With dialects not {@linkplain Dialect#supportsDataModifyingCTE() supporting} data-modifying
+ * CTEs, the operations are delegated to the fallback strategy, which defaults to the
+ * {@linkplain Dialect#getDefaultMultiTableBulkIdStrategy() dialect's default}.
+ */
+public class CteDataModifyingBulkIdStrategy implements MultiTableBulkIdStrategy {
+	private static final Logger log = Logger.getLogger( CteDataModifyingBulkIdStrategy.class );
+
+	public static final String SHORT_NAME = "cte";
+
+	private final MultiTableBulkIdStrategy fallback;
+	private MultiTableBulkIdStrategy delegate;
+
+	public CteDataModifyingBulkIdStrategy() {
+		this( null );
+	}
+
+	/**
+	 * Constructs a CteDataModifyingBulkIdStrategy
+	 *
+	 * @param fallback The strategy to use with dialects not supporting data-modifying CTEs, or
+	 * {@code null} to use the dialect's default
+	 */
+	public CteDataModifyingBulkIdStrategy(MultiTableBulkIdStrategy fallback) {
+		this.fallback = fallback;
+	}
+
+	@Override
+	public void prepare(
+			JdbcServices jdbcServices,
+			JdbcConnectionAccess connectionAccess,
+			MetadataImplementor metadata,
+			SessionFactoryOptions sessionFactoryOptions) {
+		final Dialect dialect = jdbcServices.getDialect();
+		if ( dialect.supportsDataModifyingCTE() ) {
+			delegate = null;
+		}
+		else {
+			delegate = fallback == null ? dialect.getDefaultMultiTableBulkIdStrategy() : fallback;
+			log.debugf(
+					"Dialect %s does not support data-modifying CTEs, falling back to %s",
+					dialect.getClass().getName(),
+					delegate.getClass().getName()
+			);
+			delegate.prepare( jdbcServices, connectionAccess, metadata, sessionFactoryOptions );
+		}
+	}
+
+	@Override
+	public void release(
+			JdbcServices jdbcServices,
+			JdbcConnectionAccess connectionAccess) {
+		if ( delegate != null ) {
+			delegate.release( jdbcServices, connectionAccess );
+		}
+	}
+
+	@Override
+	public UpdateHandler buildUpdateHandler(
+			SessionFactoryImplementor factory,
+			HqlSqlWalker walker) {
+		if ( delegate != null ) {
+			return delegate.buildUpdateHandler( factory, walker );
+		}
+		return new CteDataModifyingUpdateHandlerImpl( factory, walker );
+	}
+
+	@Override
+	public DeleteHandler buildDeleteHandler(
+			SessionFactoryImplementor factory,
+			HqlSqlWalker walker) {
+		if ( delegate != null ) {
+			return delegate.buildDeleteHandler( factory, walker );
+		}
+		return new CteDataModifyingDeleteHandlerImpl( factory, walker );
+	}
+}
@@ -0,0 +1,77 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.hql.spi.id.cte;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.engine.spi.QueryParameters;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.hql.internal.ast.HqlSqlWalker;
+import org.hibernate.hql.internal.ast.tree.AssignmentSpecification;
+import org.hibernate.hql.spi.id.MultiTableBulkIdStrategy;
+import org.hibernate.param.ParameterSpecification;
+import org.hibernate.sql.Update;
+
+/**
+ * Bulk-id update handler that uses data-modifying CTEs.
+ */
+public class CteDataModifyingUpdateHandlerImpl
+		extends AbstractCteDataModifyingBulkIdHandler
+		implements MultiTableBulkIdStrategy.UpdateHandler {
+
+	private final String update;
+	private final List<ParameterSpecification> assignmentParameterSpecifications = new ArrayList<>();
+
+	public CteDataModifyingUpdateHandlerImpl(
+			SessionFactoryImplementor factory,
+			HqlSqlWalker walker) {
+		super( factory, walker );
+
+		String[] tableNames = getTargetedQueryable().getConstraintOrderedTableNameClosure();
+		String[][] columnNames = getTargetedQueryable().getContraintOrderedTableKeyColumnClosure();
+
+		final List<AssignmentSpecification> assignmentSpecifications = walker.getAssignmentSpecifications();
+		final List<String> updates = new ArrayList<>();
+		for ( int tableIndex = 0; tableIndex < tableNames.length; tableIndex++ ) {
+			boolean affected = false;
+			final Update tableUpdate = new Update( factory.getJdbcServices().getDialect() )
+					.setTableName( tableNames[tableIndex] )
+					.setWhere( "(" + String.join( ", ", (CharSequence[]) columnNames[tableIndex] ) + ") in (" + getIdSubselect() + ")" );
+			for ( AssignmentSpecification assignmentSpecification : assignmentSpecifications ) {
+				if ( assignmentSpecification.affectsTable( tableNames[tableIndex] ) ) {
+					affected = true;
+					tableUpdate.appendAssignmentFragment( assignmentSpecification.getSqlAssignmentFragment() );
+					if ( assignmentSpecification.getParameters() != null ) {
+						Collections.addAll( assignmentParameterSpecifications, assignmentSpecification.getParameters() );
+					}
+				}
+			}
+			if ( affected ) {
+				updates.add( tableUpdate.toStatementString() );
+			}
+		}
+
+		update = generateStatement( updates, "bulk update" );
+	}
+
+	@Override
+	public String[] getSqlStatements() {
+		return new String[] { update };
+	}
+
+	@Override
+	public int execute(
+			SharedSessionContractImplementor session,
+			QueryParameters queryParameters) {
+		// every entity has a row in each of the tables, so the count of the last one is that of the
+		// updated entities
+		return execute( session, queryParameters, update, assignmentParameterSpecifications, "error performing bulk update" );
+	}
+}
@@ -90,10 +90,12 @@ public class CteValuesListDeleteHandlerImpl
 
 				String delete = values.toStatement( deleteSuffix );
 
+				PreparedStatement ps = null;
 				try {
-					try ( PreparedStatement ps = session
+					try {
+						ps = session
 							.getJdbcCoordinator().getStatementPreparer()
-							.prepareStatement( delete, false ) ) {
+							.prepareStatement( delete, false );
 						int pos = 1;
 						for ( Object[] result : values.getIds() ) {
 							for ( Object column : result ) {
@@ -104,6 +106,12 @@ public class CteValuesListDeleteHandlerImpl
 								.getJdbcCoordinator().getResultSetReturn()
 								.executeUpdate( ps );
 					}
+					finally {
+						if ( ps != null ) {
+							session.getJdbcCoordinator().getLogicalConnection().getResourceRegistry().release( ps );
+							session.getJdbcCoordinator().afterStatementExecution();
+						}
+					}
 				}
 				catch ( SQLException e ) {
 					throw convert( e, "error performing bulk delete", delete );
@@ -101,10 +101,12 @@ public class CteValuesListUpdateHandlerImpl
 					continue;
 				}
 				String update = values.toStatement( updateSuffix );
+				PreparedStatement ps = null;
 				try {
-					try (PreparedStatement ps = session
+					try {
+						ps = session
 							.getJdbcCoordinator().getStatementPreparer()
-							.prepareStatement( update, false )) {
+							.prepareStatement( update, false );
 						int position = 1; // jdbc params are 1-based
 						for ( Object[] result : values.getIds() ) {
 							for ( Object column : result ) {
@@ -121,6 +123,12 @@ public class CteValuesListUpdateHandlerImpl
 								.getJdbcCoordinator().getResultSetReturn()
 								.executeUpdate( ps );
 					}
+					finally {
+						if ( ps != null ) {
+							session.getJdbcCoordinator().getLogicalConnection().getResourceRegistry().release( ps );
+							session.getJdbcCoordinator().afterStatementExecution();
+						}
+					}
 				}
 				catch ( SQLException e ) {
 					throw convert(
@@ -7,7 +7,6 @@
 package org.hibernate.hql.spi.id.inline;
 
 import java.sql.PreparedStatement;
-import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -86,17 +85,20 @@ public abstract class AbstractInlineIdsDeleteHandlerImpl
 					continue;
 				}
 
+				PreparedStatement ps = null;
 				try {
-					try ( PreparedStatement ps = session
-							.getJdbcCoordinator().getStatementPreparer()
-							.prepareStatement( delete, false ) ) {
-						session
-								.getJdbcCoordinator().getResultSetReturn()
-								.executeUpdate( ps );
-					}
+					ps = session
+						.getJdbcCoordinator().getStatementPreparer()
+						.prepareStatement( delete, false );
+					session
+							.getJdbcCoordinator().getResultSetReturn()
+							.executeUpdate( ps );
 				}
-				catch ( SQLException e ) {
-					throw convert( e, "error performing bulk delete", delete );
+				finally {
+					if ( ps != null ) {
+						session.getJdbcCoordinator().getLogicalConnection().getResourceRegistry().release( ps );
+						session.getJdbcCoordinator().afterStatementExecution();
+					}
 				}
 			}
 		}
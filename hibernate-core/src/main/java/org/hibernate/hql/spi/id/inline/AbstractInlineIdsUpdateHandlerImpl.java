@@ -98,9 +98,11 @@ public abstract class AbstractInlineIdsUpdateHandlerImpl
 				if ( update == null) {
 					continue;
 				}
+				PreparedStatement ps = null;
 				try {
-					try (PreparedStatement ps = jdbcCoordinator.getStatementPreparer()
-							.prepareStatement( update, false )) {
+					try {
+						ps = jdbcCoordinator.getStatementPreparer()
+							.prepareStatement( update, false );
 						int position = 1; // jdbc params are 1-based
 						if ( assignmentParameterSpecifications[i] != null ) {
 							for ( ParameterSpecification assignmentParameterSpecification : assignmentParameterSpecifications[i] ) {
@@ -111,6 +113,12 @@ public abstract class AbstractInlineIdsUpdateHandlerImpl
 						jdbcCoordinator.getResultSetReturn()
 								.executeUpdate( ps );
 					}
+					finally {
+						if ( ps != null ) {
+							jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( ps );
+							jdbcCoordinator.afterStatementExecution();
+						}
+					}
 				}
 				catch ( SQLException e ) {
 					throw convert(
@@ -404,6 +404,10 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 		if ( waitingForAutoClose ) {
 			return factory.isOpen() && transactionCoordinator.isTransactionActive();
 		}
+		if ( fastSessionServices.jtaJoinDeferred ) {
+			// the session joins the JTA transaction it is first used in, which may be right now
+			pulseTransactionCoordinator();
+		}
 		return !isClosed() && transactionCoordinator.isTransactionActive();
 	}
 
@@ -120,6 +120,7 @@ final class FastSessionServices {
 	final CacheMode initialSessionCacheMode;
 	final FlushMode initialSessionFlushMode;
 	final boolean discardOnClose;
+	final boolean jtaJoinDeferred;
 	final BaselineSessionEventsListenerBuilder defaultSessionEventListeners;
 	final LockOptions defaultLockOptions;
 
@@ -176,6 +177,7 @@ final class FastSessionServices {
 		this.defaultCacheRetrieveMode = determineCacheRetrieveMode( defaultSessionProperties );
 		this.initialSessionCacheMode = CacheModeHelper.interpretCacheMode( defaultCacheStoreMode, defaultCacheRetrieveMode );
 		this.discardOnClose = sessionFactoryOptions.isReleaseResourcesOnCloseEnabled();
+		this.jtaJoinDeferred = sessionFactoryOptions.isJtaJoinDeferred();
 		this.defaultJdbcObservers = new ConnectionObserverStatsBridge( sf );
 		this.defaultSessionEventListeners = sessionFactoryOptions.getBaselineSessionEventsListenerBuilder();
 		this.defaultLockOptions = initializeDefaultLockOptions( defaultSessionProperties );
@@ -553,7 +553,10 @@ public class SessionFactoryImpl implements SessionFactoryImplementor {
 	}
 
 	private Map<String,HibernateException> checkNamedQueries() throws HibernateException {
-		return namedQueryRepository.checkNamedQueries( queryPlanCache );
+		return namedQueryRepository.checkNamedQueries(
+				queryPlanCache,
+				getSessionFactoryOptions().getNamedQueryStartupCheckingParallelism()
+		);
 	}
 
 	@Override
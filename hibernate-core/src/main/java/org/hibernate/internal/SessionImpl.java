@@ -19,6 +19,7 @@ import java.sql.NClob;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -28,7 +29,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import javax.persistence.CacheRetrieveMode;
 import javax.persistence.CacheStoreMode;
 import javax.persistence.EntityManager;
@@ -53,6 +57,7 @@ import org.hibernate.LockOptions;
 import org.hibernate.MappingException;
 import org.hibernate.MultiIdentifierLoadAccess;
 import org.hibernate.NaturalIdLoadAccess;
+import org.hibernate.NaturalIdMultiLoadAccess;
 import org.hibernate.ObjectDeletedException;
 import org.hibernate.ObjectNotFoundException;
 import org.hibernate.QueryException;
@@ -135,6 +140,7 @@ import org.hibernate.graph.spi.RootGraphImplementor;
 import org.hibernate.hql.spi.QueryTranslator;
 import org.hibernate.internal.CriteriaImpl.CriterionEntry;
 import org.hibernate.internal.log.DeprecationLogger;
+import org.hibernate.internal.util.StringHelper;
 import org.hibernate.jpa.AvailableSettings;
 import org.hibernate.jpa.QueryHints;
 import org.hibernate.jpa.internal.util.CacheModeHelper;
@@ -161,6 +167,7 @@ import org.hibernate.proxy.LazyInitializer;
 import org.hibernate.query.ImmutableEntityUpdateQueryHandlingMode;
 import org.hibernate.query.Query;
 import org.hibernate.query.internal.CollectionFilterImpl;
+import org.hibernate.query.spi.QueryImplementor;
 import org.hibernate.query.spi.ScrollableResultsImplementor;
 import org.hibernate.resource.transaction.TransactionRequiredForJoinException;
 import org.hibernate.resource.transaction.backend.jta.internal.JtaTransactionCoordinatorImpl;
@@ -196,6 +203,8 @@ public class SessionImpl
 		implements EventSource, SessionImplementor, HibernateEntityManagerImplementor {
 	private static final EntityManagerMessageLogger log = HEMLogging.messageLogger( SessionImpl.class );
 
+	private static final Pattern ORDER_BY = Pattern.compile( "(?i)order\\s+by\\b" );
+
 	// Defaults to null which means the properties are the default - as defined in FastSessionServices#defaultSessionProperties
 	private Map<String, Object> properties;
 
@@ -243,7 +252,7 @@ public class SessionImpl
 
 		final StatisticsImplementor statistics = factory.getStatistics();
 		if ( statistics.isStatisticsEnabled() ) {
-			statistics.openSession();
+			statistics.openSession( getTenantIdentifier() );
 		}
 
 		if ( this.properties != null ) {
@@ -253,7 +262,10 @@ public class SessionImpl
 		getSession().setCacheMode( fastSessionServices.initialSessionCacheMode );
 
 		// NOTE : pulse() already handles auto-join-ability correctly
-		getTransactionCoordinator().pulse();
+		// Sessions closed by the completion of the transaction always join it, even when unused
+		if ( !fastSessionServices.jtaJoinDeferred || autoClose ) {
+			getTransactionCoordinator().pulse();
+		}
 
 		final FlushMode initialMode;
 		if ( this.properties == null ) {
@@ -662,6 +674,71 @@ public class SessionImpl
 		return new LockRequestImpl( lockOptions );
 	}
 
+	@Override
+	public <T> QueryImplementor<T> createClaimQuery(Class<T> entityClass, String restriction, int batchSize) {
+		checkOpen();
+		if ( batchSize <= 0 ) {
+			throw new IllegalArgumentException( "Batch size must be greater than zero: " + batchSize );
+		}
+
+		final EntityPersister persister = getFactory().getMetamodel().locateEntityPersister( entityClass );
+		String hql = "from " + persister.getEntityName();
+		if ( !StringHelper.isEmptyOrWhiteSpace( restriction ) ) {
+			final int orderBy = indexOfOrderBy( restriction );
+			final String predicate = orderBy < 0 ? restriction.trim() : restriction.substring( 0, orderBy ).trim();
+			if ( !predicate.isEmpty() ) {
+				hql += " where ( " + predicate + " )";
+			}
+			if ( orderBy >= 0 ) {
+				hql += " " + restriction.substring( orderBy ).trim();
+			}
+		}
+
+		final LockOptions lockOptions = new LockOptions( LockMode.PESSIMISTIC_WRITE );
+		if ( getJdbcServices().getDialect().supportsSkipLocked() ) {
+			lockOptions.setTimeOut( LockOptions.SKIP_LOCKED );
+		}
+		// locking the rows after reading them, as dialects may do for paged queries, would not skip the rows
+		// claimed concurrently; the statement has to lock the rows it reads, or fail
+		lockOptions.setFollowOnLocking( false );
+
+		final QueryImplementor<T> query = createQuery( hql, entityClass );
+		query.setLockOptions( lockOptions );
+		query.setMaxResults( batchSize );
+		return query;
+	}
+
+	/**
+	 * The position of the order by clause ending the given claim restriction, outside of any parentheses
+	 * or quoted text, or -1 if it has none.
+	 */
+	private static int indexOfOrderBy(String restriction) {
+		final Matcher matcher = ORDER_BY.matcher( restriction );
+		int depth = 0;
+		for ( int i = 0; i < restriction.length(); i++ ) {
+			final char c = restriction.charAt( i );
+			if ( c == '\'' || c == '"' || c == '`' ) {
+				final int end = restriction.indexOf( c, i + 1 );
+				if ( end < 0 ) {
+					break;
+				}
+				i = end;
+			}
+			else if ( c == '(' ) {
+				depth++;
+			}
+			else if ( c == ')' ) {
+				depth--;
+			}
+			else if ( depth == 0
+					&& ( i == 0 || !Character.isJavaIdentifierPart( restriction.charAt( i - 1 ) ) )
+					&& matcher.region( i, restriction.length() ).lookingAt() ) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
 	@Override
 	public void lock(Object object, LockMode lockMode) throws HibernateException {
 		fireLock( new LockEvent( object, lockMode, this ) );
@@ -1160,6 +1237,16 @@ public class SessionImpl
 		return new SimpleNaturalIdLoadAccessImpl<T>( entityClass );
 	}
 
+	@Override
+	public <T> NaturalIdMultiLoadAccess<T> byMultipleNaturalId(Class<T> entityClass) {
+		return new NaturalIdMultiLoadAccessImpl<T>( locateEntityPersister( entityClass ) );
+	}
+
+	@Override
+	public NaturalIdMultiLoadAccess byMultipleNaturalId(String entityName) {
+		return new NaturalIdMultiLoadAccessImpl( locateEntityPersister( entityName ) );
+	}
+
 	private void fireLoad(LoadEvent event, LoadType loadType) {
 		checkOpenOrWaitingForAutoClose();
 		fireLoadNoChecks( event, loadType );
@@ -2397,7 +2484,7 @@ public class SessionImpl
 
 		final StatisticsImplementor statistics = getFactory().getStatistics();
 		if ( statistics.isStatisticsEnabled() ) {
-			statistics.endTransaction( successful );
+			statistics.endTransaction( successful, getTenantIdentifier() );
 		}
 
 		try {
@@ -2605,6 +2692,18 @@ public class SessionImpl
 		public void lock(Object object) throws HibernateException {
 			fireLock( object, lockOptions );
 		}
+
+		@Override
+		public void lockAll(Collection<?> objects) throws HibernateException {
+			checkOpen();
+			pulseTransactionCoordinator();
+			fastSessionServices.eventListenerGroup_LOCK.fireEventOnEachListener(
+					objects,
+					lockOptions,
+					(listener, lockedObjects, options) -> listener.onLock( lockedObjects, options, SessionImpl.this )
+			);
+			delayedAfterCompletion();
+		}
 	}
 
 	@Override
@@ -3039,6 +3138,10 @@ public class SessionImpl
 		protected EntityPersister entityPersister() {
 			return entityPersister;
 		}
+
+		protected LockOptions lockOptions() {
+			return lockOptions;
+		}
 	}
 
 	private class NaturalIdLoadAccessImpl<T> extends BaseNaturalIdLoadAccessImpl<T> implements NaturalIdLoadAccess<T> {
@@ -3180,6 +3283,191 @@ public class SessionImpl
 		}
 	}
 
+	private class NaturalIdMultiLoadAccessImpl<T> extends BaseNaturalIdLoadAccessImpl<T>
+			implements NaturalIdMultiLoadAccess<T> {
+		private CacheMode cacheMode;
+		private Integer batchSize;
+		private boolean orderedReturnEnabled = true;
+
+		private NaturalIdMultiLoadAccessImpl(EntityPersister entityPersister) {
+			super( entityPersister );
+		}
+
+		@Override
+		public NaturalIdMultiLoadAccessImpl<T> with(LockOptions lockOptions) {
+			return (NaturalIdMultiLoadAccessImpl<T>) super.with( lockOptions );
+		}
+
+		@Override
+		public NaturalIdMultiLoadAccess<T> with(CacheMode cacheMode) {
+			this.cacheMode = cacheMode;
+			return this;
+		}
+
+		@Override
+		public NaturalIdMultiLoadAccess<T> withBatchSize(int batchSize) {
+			this.batchSize = batchSize < 1 ? null : batchSize;
+			return this;
+		}
+
+		@Override
+		public NaturalIdMultiLoadAccess<T> enableOrderedReturn(boolean enabled) {
+			this.orderedReturnEnabled = enabled;
+			return this;
+		}
+
+		@Override
+		public NaturalIdMultiLoadAccessImpl<T> setSynchronizationEnabled(boolean synchronizationEnabled) {
+			super.synchronizationEnabled( synchronizationEnabled );
+			return this;
+		}
+
+		@Override
+		public List<T> multiLoad(Object... naturalIds) {
+			return multiLoad( Arrays.asList( naturalIds ) );
+		}
+
+		@Override
+		public List<T> multiLoad(List<?> naturalIds) {
+			checkOpenOrWaitingForAutoClose();
+			final CacheMode sessionCacheMode = getCacheMode();
+			final boolean cacheModeChanged = cacheMode != null && cacheMode != sessionCacheMode;
+			if ( cacheModeChanged ) {
+				setCacheMode( cacheMode );
+			}
+			try {
+				performAnyNeededCrossReferenceSynchronizations();
+				return loadEntities( resolveNaturalIds( naturalIds ) );
+			}
+			finally {
+				if ( cacheModeChanged ) {
+					// change it back
+					setCacheMode( sessionCacheMode );
+				}
+			}
+		}
+
+		/**
+		 * Resolve the natural ids from the session and the second-level cache if possible, and the
+		 * remaining ones from the database, by batches
+		 */
+		private Serializable[] resolveNaturalIds(List<?> naturalIds) {
+			final EntityPersister entityPersister = entityPersister();
+			final PersistenceContext.NaturalIdHelper naturalIdHelper = getPersistenceContextInternal().getNaturalIdHelper();
+
+			final Serializable[] ids = new Serializable[naturalIds.size()];
+			final List<Object[]> unresolvedNaturalIds = new ArrayList<>();
+			final List<Integer> unresolvedPositions = new ArrayList<>();
+			for ( int i = 0; i < ids.length; i++ ) {
+				final Object[] naturalIdValues = getOrderedNaturalIdValues( naturalIds.get( i ) );
+				final Serializable id = naturalIdHelper.findCachedNaturalIdResolution( entityPersister, naturalIdValues );
+				if ( id == null ) {
+					unresolvedNaturalIds.add( naturalIdValues );
+					unresolvedPositions.add( i );
+				}
+				else if ( id != PersistenceContext.NaturalIdHelper.INVALID_NATURAL_ID_REFERENCE ) {
+					ids[i] = id;
+				}
+			}
+			if ( unresolvedNaturalIds.isEmpty() ) {
+				return ids;
+			}
+
+			final StatisticsImplementor statistics = getFactory().getStatistics();
+			final boolean stats = statistics.isStatisticsEnabled();
+			final long startTime = stats ? System.nanoTime() : 0;
+
+			final Serializable[] loadedIds = entityPersister.loadEntityIdsByNaturalIds(
+					unresolvedNaturalIds,
+					lockOptions(),
+					batchSize == null ? 0 : batchSize,
+					SessionImpl.this
+			);
+
+			if ( stats ) {
+				statistics.naturalIdQueryExecuted(
+						entityPersister.getRootEntityName(),
+						TimeUnit.MILLISECONDS.convert( System.nanoTime() - startTime, TimeUnit.NANOSECONDS )
+				);
+			}
+
+			for ( int i = 0; i < loadedIds.length; i++ ) {
+				if ( loadedIds[i] != null ) {
+					naturalIdHelper.cacheNaturalIdCrossReferenceFromLoad(
+							entityPersister,
+							loadedIds[i],
+							unresolvedNaturalIds.get( i )
+					);
+					ids[unresolvedPositions.get( i )] = loadedIds[i];
+				}
+			}
+			return ids;
+		}
+
+		private Object[] getOrderedNaturalIdValues(Object naturalId) {
+			final EntityPersister entityPersister = entityPersister();
+			final int[] naturalIdPropertyIndexes = entityPersister.getNaturalIdentifierProperties();
+			if ( naturalId instanceof Map ) {
+				final Map<?, ?> naturalIdParameters = (Map<?, ?>) naturalId;
+				final Object[] naturalIdValues = new Object[naturalIdPropertyIndexes.length];
+				for ( int i = 0; i < naturalIdPropertyIndexes.length; i++ ) {
+					final String attributeName = entityPersister.getPropertyNames()[naturalIdPropertyIndexes[i]];
+					if ( !naturalIdParameters.containsKey( attributeName ) ) {
+						throw new HibernateException(
+								String.format(
+										"No value specified for natural-id attribute [%s] of entity [%s]",
+										attributeName,
+										entityPersister.getEntityName()
+								)
+						);
+					}
+					naturalIdValues[i] = naturalIdParameters.get( attributeName );
+				}
+				return naturalIdValues;
+			}
+			if ( naturalIdPropertyIndexes.length != 1 ) {
+				throw new HibernateException(
+						String.format(
+								"Entity [%s] did not define a simple natural id, its natural ids must be given as Maps",
+								entityPersister.getEntityName()
+						)
+				);
+			}
+			return new Object[] { naturalId };
+		}
+
+		@SuppressWarnings("unchecked")
+		private List<T> loadEntities(Serializable[] ids) {
+			final List<Serializable> resolvedIds = new ArrayList<>( ids.length );
+			for ( Serializable id : ids ) {
+				if ( id != null ) {
+					resolvedIds.add( id );
+				}
+			}
+
+			final MultiIdentifierLoadAccessImpl<T> identifierLoadAccess = new MultiIdentifierLoadAccessImpl<>( entityPersister() );
+			if ( lockOptions() != null ) {
+				identifierLoadAccess.with( lockOptions() );
+			}
+			if ( batchSize != null ) {
+				identifierLoadAccess.withBatchSize( batchSize );
+			}
+			final List<T> entities = resolvedIds.isEmpty()
+					? Collections.emptyList()
+					: identifierLoadAccess.enableSessionCheck( true ).multiLoad( resolvedIds );
+
+			final List<T> results = new ArrayList<>( ids.length );
+			int entityPosition = 0;
+			for ( Serializable id : ids ) {
+				final T entity = id == null ? null : entities.get( entityPosition++ );
+				if ( entity != null || orderedReturnEnabled ) {
+					results.add( entity );
+				}
+			}
+			return results;
+		}
+	}
+
 	@Override
 	public void startTransactionBoundary() {
 		checkOpenOrWaitingForAutoClose();
@@ -3646,6 +3934,10 @@ public class SessionImpl
 	@Override
 	public boolean isJoinedToTransaction() {
 		checkOpen();
+		if ( fastSessionServices.jtaJoinDeferred ) {
+			// the join may have been deferred until the first use of the session
+			pulseTransactionCoordinator();
+		}
 		return getTransactionCoordinator().isJoined();
 	}
 
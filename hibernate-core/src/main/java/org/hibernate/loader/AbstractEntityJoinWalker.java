@@ -162,6 +162,22 @@ public abstract class AbstractEntityJoinWalker extends JoinWalker {
 		return false;
 	}
 
+	/**
+	 * Appends the restriction of the root entity to the rows of the session tenant, whose identifier is bound after
+	 * the keys, if the root entity is discriminated by tenant.
+	 *
+	 * @param whereCondition The condition on the keys of the root entity
+	 *
+	 * @return The condition
+	 */
+	protected StringBuilder appendTenantRestriction(StringBuilder whereCondition) {
+		final String tenantRestriction = persister.tenantDiscriminatorFragment( getAlias() );
+		if ( tenantRestriction != null ) {
+			whereCondition.append( " and " ).append( tenantRestriction );
+		}
+		return whereCondition;
+	}
+
 	public abstract String getComment();
 
 	@Override
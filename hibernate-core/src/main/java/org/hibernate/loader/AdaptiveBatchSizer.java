@@ -0,0 +1,173 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.loader;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.hibernate.internal.util.collections.ArrayHelper;
+
+/**
+ * Chooses batch sizes for the {@link BatchFetchStyle#ADAPTIVE} style, based on the number of keys which were
+ * found queued in the {@link org.hibernate.engine.spi.BatchFetchQueue} whenever a batch load was triggered for
+ * one entity or collection role.
+ * <p/>
+ * The candidate sizes are the pre-built sizes of {@link ArrayHelper#getBatchSizes} for the configured maximum.
+ * Each observation is counted against the smallest candidate able to hold it.  Once enough observations are
+ * known, only the most frequently needed candidates (those which together account for
+ * {@value #COVERAGE_PERCENTAGE}% of the observations) are used: the number of queued keys is padded up to the
+ * next such size, or the batch is capped at the largest one.  Sizes that are rarely needed therefore never get
+ * their own SQL statement.  Older observations are progressively decayed so that the choice follows changes in
+ * the workload.
+ */
+public class AdaptiveBatchSizer {
+	/**
+	 * Number of observations needed before deviating from plain padding
+	 */
+	public static final int WARM_UP_OBSERVATIONS = 16;
+
+	/**
+	 * Once this many observations are recorded, all counts are halved
+	 */
+	public static final int DECAY_THRESHOLD = 1024;
+
+	/**
+	 * Percentage of the observations the batch sizes in use should cover
+	 */
+	public static final int COVERAGE_PERCENTAGE = 90;
+
+	private final int[] batchSizes;
+	private final AtomicIntegerArray observations;
+	private final AtomicInteger totalObservations = new AtomicInteger();
+
+	// the batch sizes in use, or null during the warm-up; replaced rather than modified, so that batch loads
+	// read it without locking
+	private volatile boolean[] sizesInUse;
+
+	public AdaptiveBatchSizer(int maxBatchSize) {
+		this.batchSizes = ArrayHelper.getBatchSizes( maxBatchSize );
+		this.observations = new AtomicIntegerArray( batchSizes.length );
+	}
+
+	/**
+	 * The candidate batch sizes, in descending order.  The first element is the maximum batch size and the
+	 * last one is always {@code 1}.
+	 *
+	 * @return The candidate batch sizes
+	 */
+	public int[] getBatchSizes() {
+		return batchSizes;
+	}
+
+	public int getMaxBatchSize() {
+		return batchSizes[0];
+	}
+
+	/**
+	 * Record that a batch load was triggered while the given number of keys were available, and determine the
+	 * batch size to use for it.
+	 * <p/>
+	 * The sizes in use are only determined again when a size which is not in use becomes as frequently needed
+	 * as one which is, and when the observations are decayed.
+	 *
+	 * @param numberOfKeys The number of keys available for the batch, including the one being loaded
+	 *
+	 * @return The index (into {@link #getBatchSizes()}) of the batch size to use
+	 */
+	public int determineBatchSizeIndex(int numberOfKeys) {
+		final int paddedIndex = paddedIndex( numberOfKeys );
+		final int observed = observations.incrementAndGet( paddedIndex );
+		final int total = totalObservations.incrementAndGet();
+
+		boolean[] inUse = sizesInUse;
+		if ( total >= DECAY_THRESHOLD ) {
+			inUse = decay();
+		}
+		else if ( inUse == null ? total >= WARM_UP_OBSERVATIONS : !inUse[paddedIndex] && isAdded( inUse, observed ) ) {
+			inUse = updateSizesInUse();
+		}
+
+		if ( numberOfKeys <= 1 || inUse == null ) {
+			// a lone key is always loaded by itself rather than padded
+			return paddedIndex;
+		}
+
+		// the smallest size in use able to hold all the keys...
+		for ( int i = paddedIndex; i >= 0; i-- ) {
+			if ( inUse[i] ) {
+				return i;
+			}
+		}
+		// ...otherwise the largest size in use
+		for ( int i = paddedIndex + 1; i < batchSizes.length; i++ ) {
+			if ( inUse[i] ) {
+				return i;
+			}
+		}
+		return paddedIndex;
+	}
+
+	private int paddedIndex(int numberOfKeys) {
+		for ( int i = batchSizes.length - 1; i > 0; i-- ) {
+			if ( batchSizes[i] >= numberOfKeys ) {
+				return i;
+			}
+		}
+		return 0;
+	}
+
+	/**
+	 * Whether a size observed the given number of times is now needed as often as the least needed size in use.
+	 */
+	private boolean isAdded(boolean[] inUse, int observed) {
+		for ( int i = 0; i < inUse.length; i++ ) {
+			if ( inUse[i] && observations.get( i ) <= observed ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private synchronized boolean[] updateSizesInUse() {
+		final boolean[] inUse = determineSizesInUse();
+		sizesInUse = inUse;
+		return inUse;
+	}
+
+	private boolean[] determineSizesInUse() {
+		final boolean[] inUse = new boolean[ batchSizes.length ];
+		final long required = (long) totalObservations.get() * COVERAGE_PERCENTAGE;
+		long covered = 0;
+		while ( covered * 100 < required ) {
+			int mostObserved = -1;
+			for ( int i = 0; i < batchSizes.length; i++ ) {
+				if ( !inUse[i] && ( mostObserved == -1 || observations.get( i ) > observations.get( mostObserved ) ) ) {
+					mostObserved = i;
+				}
+			}
+			if ( mostObserved == -1 || observations.get( mostObserved ) == 0 ) {
+				break;
+			}
+			inUse[mostObserved] = true;
+			covered += observations.get( mostObserved );
+		}
+		return inUse;
+	}
+
+	private synchronized boolean[] decay() {
+		if ( totalObservations.get() >= DECAY_THRESHOLD ) {
+			// the observations recorded concurrently are kept, and at worst missing from the total
+			int total = 0;
+			for ( int i = 0; i < batchSizes.length; i++ ) {
+				total += observations.addAndGet( i, -( observations.get( i ) / 2 ) );
+			}
+			totalObservations.set( total );
+			sizesInUse = determineSizesInUse();
+		}
+		return sizesInUse;
+	}
+}
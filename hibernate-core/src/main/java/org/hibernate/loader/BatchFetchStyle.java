@@ -39,7 +39,17 @@ public enum BatchFetchStyle {
 	 * Dynamically builds its SQL based on the actual number of available ids.  Does still limit to the batch-size
 	 * defined on the entity/collection
 	 */
-	DYNAMIC;
+	DYNAMIC,
+	/**
+	 * Like {@link #PADDED}, keeps the concept of pre-built batch sizes and pads the extra identifier placeholders,
+	 * but chooses among those sizes based on how many identifiers were actually found queued for batch fetching
+	 * each time a batch load was triggered for the entity/collection.  Only the few sizes covering most of those
+	 * observations are used (and so get their SQL built and prepared); the batch-size defined on the
+	 * entity/collection is only the upper limit.
+	 *
+	 * @see AdaptiveBatchSizer
+	 */
+	ADAPTIVE;
 
 	private static final Logger log = Logger.getLogger( BatchFetchStyle.class );
 
@@ -48,6 +48,7 @@ import org.hibernate.engine.internal.TwoPhaseLoad;
 import org.hibernate.engine.jdbc.ColumnNameCache;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.jdbc.spi.SlowQueryCapture;
 import org.hibernate.engine.loading.internal.CollectionLoadContext;
 import org.hibernate.engine.spi.BatchFetchQueue;
 import org.hibernate.engine.spi.EntityEntry;
@@ -91,6 +92,7 @@ import org.hibernate.transform.CacheableResultTransformer;
 import org.hibernate.transform.ResultTransformer;
 import org.hibernate.type.AssociationType;
 import org.hibernate.type.EntityType;
+import org.hibernate.type.StandardBasicTypes;
 import org.hibernate.type.Type;
 import org.hibernate.type.VersionType;
 
@@ -432,6 +434,8 @@ public abstract class Loader {
 
 		Object result = null;
 		final EntityKey[] loadedKeys = new EntityKey[entitySpan];
+		final Object[] hydratedKeyState = new Object[entitySpan];
+		final LockMode[] lockModesArray = getLockModes( queryParameters.getLockOptions() );
 
 		try {
 			do {
@@ -439,11 +443,13 @@ public abstract class Loader {
 						resultSet,
 						session,
 						queryParameters,
-						getLockModes( queryParameters.getLockOptions() ),
+						lockModesArray,
 						null,
 						hydratedObjects,
 						loadedKeys,
-						returnProxies
+						hydratedKeyState,
+						returnProxies,
+						null
 				);
 				if ( !keyToRead.equals( loadedKeys[0] ) ) {
 					throw new AssertionFailure(
@@ -712,6 +718,7 @@ public abstract class Loader {
 				optionalObjectKey,
 				hydratedObjects,
 				keys,
+				null,
 				returnProxies,
 				null
 		);
@@ -725,6 +732,7 @@ public abstract class Loader {
 			final EntityKey optionalObjectKey,
 			final List hydratedObjects,
 			final EntityKey[] keys,
+			final Object[] hydratedKeyState,
 			boolean returnProxies,
 			ResultTransformer forcedResultTransformer) throws SQLException, HibernateException {
 		final Loadable[] persisters = getEntityPersisters();
@@ -735,6 +743,7 @@ public abstract class Loader {
 				resultSet,
 				session,
 				keys,
+				hydratedKeyState,
 				lockModesArray,
 				hydratedObjects
 		);
@@ -788,6 +797,35 @@ public abstract class Loader {
 			EntityKey[] keys,
 			LockMode[] lockModes,
 			List hydratedObjects) throws SQLException {
+		extractKeysFromResultSet(
+				persisters,
+				queryParameters,
+				resultSet,
+				session,
+				keys,
+				null,
+				lockModes,
+				hydratedObjects
+		);
+	}
+
+	/**
+	 * Read the identifiers of the entities in the current row into {@code keys}.
+	 * <p/>
+	 * The hydrated (unresolved) identifier values are only needed to build the
+	 * {@link EntityKey}s, so a caller processing many rows may pass the same
+	 * {@code hydratedKeyStateBuffer} (sized to the number of entity persisters)
+	 * for every row rather than having one allocated per row.
+	 */
+	protected void extractKeysFromResultSet(
+			Loadable[] persisters,
+			QueryParameters queryParameters,
+			ResultSet resultSet,
+			SharedSessionContractImplementor session,
+			EntityKey[] keys,
+			Object[] hydratedKeyStateBuffer,
+			LockMode[] lockModes,
+			List hydratedObjects) throws SQLException {
 		final int entitySpan = persisters.length;
 
 		final int numberOfPersistersToProcess;
@@ -801,7 +839,9 @@ public abstract class Loader {
 			numberOfPersistersToProcess = entitySpan;
 		}
 
-		final Object[] hydratedKeyState = new Object[numberOfPersistersToProcess];
+		final Object[] hydratedKeyState = hydratedKeyStateBuffer == null
+				? new Object[numberOfPersistersToProcess]
+				: hydratedKeyStateBuffer;
 
 		for ( int i = 0; i < numberOfPersistersToProcess; i++ ) {
 			final Type idType = persisters[i].getIdentifierType();
@@ -997,6 +1037,7 @@ public abstract class Loader {
 
 		handleEmptyCollections( queryParameters.getCollectionKeys(), rs, session );
 		EntityKey[] keys = new EntityKey[entitySpan]; //we can reuse it for each row
+		final Object[] hydratedKeyState = new Object[entitySpan]; //only needed while building the keys, so reuse it too
 		LOG.trace( "Processing result set" );
 		int count;
 
@@ -1013,6 +1054,7 @@ public abstract class Loader {
 					optionalObjectKey,
 					hydratedObjects,
 					keys,
+					hydratedKeyState,
 					returnProxies,
 					forcedResultTransformer
 			);
@@ -1025,6 +1067,11 @@ public abstract class Loader {
 
 		LOG.tracev( "Done processing result set ({0} rows)", count );
 
+		final SlowQueryCapture slowQueryCapture = session.getJdbcCoordinator().getSlowQueryCapture();
+		if ( slowQueryCapture != null ) {
+			slowQueryCapture.rowsFetched( count );
+		}
+
 		initializeEntitiesAndCollections(
 				hydratedObjects,
 				rs,
@@ -1701,6 +1748,12 @@ public abstract class Loader {
 				entry.setLockMode( requestedLockMode );
 			}
 		}
+
+		// only the identifier (and possibly the version) was read from this row
+		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.entityHydrationSkipped( persister.getEntityName() );
+		}
 	}
 
 
@@ -2400,6 +2453,7 @@ public abstract class Loader {
 			QueryParameters qp = new QueryParameters();
 			qp.setPositionalParameterTypes( new Type[] {identifierType} );
 			qp.setPositionalParameterValues( new Object[] {id} );
+			appendTenantIdentifier( qp, persister, session );
 			qp.setOptionalObject( optionalObject );
 			qp.setOptionalEntityName( optionalEntityName );
 			qp.setOptionalId( optionalIdentifier );
@@ -2430,6 +2484,18 @@ public abstract class Loader {
 
 	}
 
+	/**
+	 * Binds the session tenant after the keys, for the entities discriminated by tenant.
+	 */
+	private static void appendTenantIdentifier(
+			QueryParameters qp,
+			EntityPersister persister,
+			SharedSessionContractImplementor session) {
+		if ( persister instanceof Loadable && ( (Loadable) persister ).isTenantDiscriminated() ) {
+			qp.appendPositionalParameter( StandardBasicTypes.STRING, session.getTenantIdentifier() );
+		}
+	}
+
 	/**
 	 * Called by subclasses that load entities
 	 *
@@ -2446,14 +2512,12 @@ public abstract class Loader {
 
 		List result;
 		try {
-			result = doQueryAndInitializeNonLazyCollections(
-					session,
-					new QueryParameters(
-							new Type[] {keyType, indexType},
-							new Object[] {key, index}
-					),
-					false
+			final QueryParameters qp = new QueryParameters(
+					new Type[] {keyType, indexType},
+					new Object[] {key, index}
 			);
+			appendTenantIdentifier( qp, persister, session );
+			result = doQueryAndInitializeNonLazyCollections( session, qp, false );
 		}
 		catch (SQLException sqle) {
 			throw factory.getJdbcServices().getSqlExceptionHelper().convert(
@@ -2851,7 +2915,8 @@ public abstract class Loader {
 			statistics.queryExecuted(
 					getQueryIdentifier(),
 					result.size(),
-					milliseconds
+					milliseconds,
+					session.getTenantIdentifier()
 			);
 		}
 
@@ -2927,7 +2992,8 @@ public abstract class Loader {
 				statistics.queryExecuted(
 						getQueryIdentifier(),
 						0,
-						milliseconds
+						milliseconds,
+						session.getTenantIdentifier()
 				);
 			}
 
@@ -0,0 +1,115 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.loader.collection;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.hibernate.HibernateException;
+import org.hibernate.MappingException;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.ArrayHelper;
+import org.hibernate.loader.AdaptiveBatchSizer;
+import org.hibernate.loader.Loader;
+import org.hibernate.persister.collection.QueryableCollection;
+
+/**
+ * A batch-fetch capable CollectionInitializer that performs batch-fetching using the adaptive style.  See
+ * {@link org.hibernate.loader.BatchFetchStyle} for a discussion of the different styles.
+ *
+ * @see org.hibernate.loader.BatchFetchStyle#ADAPTIVE
+ * @see AdaptiveBatchSizer
+ */
+public class AdaptiveBatchingCollectionInitializerBuilder extends BatchingCollectionInitializerBuilder {
+	public static final AdaptiveBatchingCollectionInitializerBuilder INSTANCE = new AdaptiveBatchingCollectionInitializerBuilder();
+
+	@Override
+	public CollectionInitializer createRealBatchingCollectionInitializer(
+			QueryableCollection persister,
+			int maxBatchSize,
+			SessionFactoryImplementor factory,
+			LoadQueryInfluencers loadQueryInfluencers) throws MappingException {
+		return new AdaptiveBatchingCollectionInitializer( persister, maxBatchSize, false, factory, loadQueryInfluencers );
+	}
+
+	@Override
+	public CollectionInitializer createRealBatchingOneToManyInitializer(
+			QueryableCollection persister,
+			int maxBatchSize,
+			SessionFactoryImplementor factory,
+			LoadQueryInfluencers loadQueryInfluencers) throws MappingException {
+		return new AdaptiveBatchingCollectionInitializer( persister, maxBatchSize, true, factory, loadQueryInfluencers );
+	}
+
+
+	private static class AdaptiveBatchingCollectionInitializer extends BatchingCollectionInitializer {
+		private final AdaptiveBatchSizer batchSizer;
+		private final boolean oneToMany;
+		private final SessionFactoryImplementor factory;
+		private final LoadQueryInfluencers loadQueryInfluencers;
+
+		// built on first use, as typically only a few of the candidate sizes end up being used
+		private final AtomicReferenceArray<Loader> loaders;
+
+		public AdaptiveBatchingCollectionInitializer(
+				QueryableCollection persister,
+				int maxBatchSize,
+				boolean oneToMany,
+				SessionFactoryImplementor factory,
+				LoadQueryInfluencers loadQueryInfluencers) {
+			super( persister );
+			this.batchSizer = new AdaptiveBatchSizer( maxBatchSize );
+			this.oneToMany = oneToMany;
+			this.factory = factory;
+			this.loadQueryInfluencers = loadQueryInfluencers;
+			this.loaders = new AtomicReferenceArray<>( batchSizer.getBatchSizes().length );
+		}
+
+		private Loader getLoader(int index) {
+			Loader loader = loaders.get( index );
+			if ( loader == null ) {
+				synchronized ( this ) {
+					loader = loaders.get( index );
+					if ( loader == null ) {
+						final int batchSize = batchSizer.getBatchSizes()[index];
+						loader = oneToMany
+								? new OneToManyLoader( collectionPersister(), batchSize, factory, loadQueryInfluencers )
+								: new BasicCollectionLoader( collectionPersister(), batchSize, factory, loadQueryInfluencers );
+						loaders.set( index, loader );
+					}
+				}
+			}
+			return loader;
+		}
+
+		@Override
+		public void initialize(Serializable id, SharedSessionContractImplementor session) throws HibernateException {
+			final Serializable[] batch = session.getPersistenceContextInternal()
+					.getBatchFetchQueue()
+					.getCollectionBatch( collectionPersister(), id, batchSizer.getMaxBatchSize() );
+			final int numberOfIds = ArrayHelper.countNonNull( batch );
+			final int indexToUse = batchSizer.determineBatchSizeIndex( numberOfIds );
+			final int batchSize = batchSizer.getBatchSizes()[indexToUse];
+			if ( batchSize == 1 ) {
+				getLoader( indexToUse ).loadCollection( session, id, collectionPersister().getKeyType() );
+				return;
+			}
+
+			// the batch always starts with the requested key; pad (or truncate) to the chosen size
+			final Serializable[] idsToLoad = new Serializable[ batchSize ];
+			final int numberToCopy = Math.min( numberOfIds, batchSize );
+			System.arraycopy( batch, 0, idsToLoad, 0, numberToCopy );
+			for ( int i = numberToCopy; i < batchSize; i++ ) {
+				idsToLoad[i] = id;
+			}
+
+			getLoader( indexToUse ).loadCollectionBatch( session, idsToLoad, collectionPersister().getKeyType() );
+		}
+	}
+}
@@ -26,6 +26,9 @@ public abstract class BatchingCollectionInitializerBuilder {
 			case DYNAMIC: {
 				return DynamicBatchingCollectionInitializerBuilder.INSTANCE;
 			}
+			case ADAPTIVE: {
+				return AdaptiveBatchingCollectionInitializerBuilder.INSTANCE;
+			}
 			default: {
 				return org.hibernate.loader.collection.plan.LegacyBatchingCollectionInitializerBuilder.INSTANCE;
 				//return LegacyBatchingCollectionInitializerBuilder.INSTANCE;
@@ -7,6 +7,7 @@
 package org.hibernate.loader.collection;
 
 import java.io.Serializable;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
@@ -26,6 +27,7 @@ import org.hibernate.internal.util.StringHelper;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.loader.JoinWalker;
 import org.hibernate.loader.Loader;
+import org.hibernate.loader.internal.BatchFetchArrayParameterHelper;
 import org.hibernate.loader.spi.AfterLoadAction;
 import org.hibernate.persister.collection.QueryableCollection;
 import org.hibernate.pretty.MessageHelper;
@@ -115,6 +117,7 @@ public class DynamicBatchingCollectionInitializerBuilder extends BatchingCollect
 
 		private final String sqlTemplate;
 		private final String alias;
+		private final String arrayElementTypeName;
 
 		public DynamicBatchingCollectionLoader(
 				QueryableCollection collectionPersister,
@@ -122,10 +125,15 @@ public class DynamicBatchingCollectionInitializerBuilder extends BatchingCollect
 				LoadQueryInfluencers influencers) {
 			super( collectionPersister, factory, influencers );
 
-			JoinWalker walker = buildJoinWalker( collectionPersister, factory, influencers );
+			final String elementTypeName = BatchFetchArrayParameterHelper.determineElementTypeName(
+					collectionPersister.getKeyType(),
+					factory
+			);
+			JoinWalker walker = buildJoinWalker( collectionPersister, elementTypeName, factory, influencers );
 			initFromWalker( walker );
 			this.sqlTemplate = walker.getSQLString();
 			this.alias = StringHelper.generateAlias( collectionPersister.getRole(), 0 );
+			this.arrayElementTypeName = elementTypeName;
 			postInstantiate();
 
 			if ( LOG.isDebugEnabled() ) {
@@ -139,6 +147,7 @@ public class DynamicBatchingCollectionInitializerBuilder extends BatchingCollect
 
 		private JoinWalker buildJoinWalker(
 				QueryableCollection collectionPersister,
+				String elementTypeName,
 				SessionFactoryImplementor factory,
 				LoadQueryInfluencers influencers) {
 
@@ -150,6 +159,14 @@ public class DynamicBatchingCollectionInitializerBuilder extends BatchingCollect
 							return super.whereString( alias, columnNames, subselect, batchSize );
 						}
 
+						if ( elementTypeName != null ) {
+							return BatchFetchArrayParameterHelper.buildRestrictionFragment(
+									alias,
+									columnNames,
+									elementTypeName,
+									getFactory().getDialect()
+							);
+						}
 						return StringHelper.buildBatchFetchRestrictionFragment( alias, columnNames, getFactory().getDialect() );
 					}
 				};
@@ -162,6 +179,14 @@ public class DynamicBatchingCollectionInitializerBuilder extends BatchingCollect
 							return super.whereString( alias, columnNames, subselect, batchSize );
 						}
 
+						if ( elementTypeName != null ) {
+							return BatchFetchArrayParameterHelper.buildRestrictionFragment(
+									alias,
+									columnNames,
+									elementTypeName,
+									getFactory().getDialect()
+							);
+						}
 						return StringHelper.buildBatchFetchRestrictionFragment( alias, columnNames, getFactory().getDialect() );
 					}
 				};
@@ -180,17 +205,25 @@ public class DynamicBatchingCollectionInitializerBuilder extends BatchingCollect
 				);
 			}
 
-			final Type[] idTypes = new Type[ids.length];
-			Arrays.fill( idTypes, type );
-			final QueryParameters queryParameters = new QueryParameters( idTypes, ids, ids );
-
-			final String sql = StringHelper.expandBatchIdPlaceholder(
-					sqlTemplate,
-					ids,
-					alias,
-					collectionPersister().getKeyColumnNames(),
-					session.getJdbcServices().getJdbcEnvironment().getDialect()
-			);
+			final QueryParameters queryParameters;
+			final String sql;
+			if ( arrayElementTypeName != null ) {
+				// all keys are bound as one array parameter
+				queryParameters = new QueryParameters( new Type[] { type }, new Object[] { ids }, ids );
+				sql = sqlTemplate;
+			}
+			else {
+				final Type[] idTypes = new Type[ids.length];
+				Arrays.fill( idTypes, type );
+				queryParameters = new QueryParameters( idTypes, ids, ids );
+				sql = StringHelper.expandBatchIdPlaceholder(
+						sqlTemplate,
+						ids,
+						alias,
+						collectionPersister().getKeyColumnNames(),
+						session.getJdbcServices().getJdbcEnvironment().getDialect()
+				);
+			}
 
 			try {
 				final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
@@ -233,6 +266,24 @@ public class DynamicBatchingCollectionInitializerBuilder extends BatchingCollect
 
 		}
 
+		@Override
+		protected int bindPositionalParameters(
+				PreparedStatement statement,
+				QueryParameters queryParameters,
+				int startIndex,
+				SharedSessionContractImplementor session) throws SQLException {
+			if ( arrayElementTypeName == null ) {
+				return super.bindPositionalParameters( statement, queryParameters, startIndex, session );
+			}
+			return BatchFetchArrayParameterHelper.bindPositionalParameters(
+					statement,
+					queryParameters,
+					startIndex,
+					arrayElementTypeName,
+					session
+			);
+		}
+
 		private void doTheLoad(String sql, QueryParameters queryParameters, SharedSessionContractImplementor session) throws SQLException {
 			final RowSelection selection = queryParameters.getRowSelection();
 			final int maxRows = LimitHelper.hasMaxRows( selection ) ?
@@ -47,6 +47,7 @@ import org.hibernate.persister.entity.Queryable;
 import org.hibernate.sql.JoinType;
 import org.hibernate.type.AssociationType;
 import org.hibernate.type.CollectionType;
+import org.hibernate.type.StandardBasicTypes;
 import org.hibernate.type.StringRepresentableType;
 import org.hibernate.type.Type;
 
@@ -361,6 +362,12 @@ public class CriteriaQueryTranslator implements CriteriaQuery {
 			}
 		}
 
+		// the tenant identifier is bound after the values of the criteria, see getWhereCondition()
+		if ( getRootTenantRestriction() != null ) {
+			values.add( getTenantIdentifier() );
+			types.add( StandardBasicTypes.STRING );
+		}
+
 		final Object[] valueArray = values.toArray();
 		final Type[] typeArray = ArrayHelper.toTypeArray( types );
 		return new QueryParameters(
@@ -431,9 +438,37 @@ public class CriteriaQueryTranslator implements CriteriaQuery {
 				condition.append( " and " );
 			}
 		}
+		final String tenantRestriction = getRootTenantRestriction();
+		if ( tenantRestriction != null ) {
+			if ( condition.length() > 0 ) {
+				condition.append( " and " );
+			}
+			condition.append( tenantRestriction );
+		}
 		return condition.toString();
 	}
 
+	/**
+	 * The restriction of the root entity to the rows of the session tenant, like the root entities of HQL
+	 * queries.  The entities reached by an association share the tenant of their origin.
+	 */
+	private String getRootTenantRestriction() {
+		return ( (Loadable) getPropertyMapping( rootEntityName ) ).tenantDiscriminatorFragment( rootSQLAlias );
+	}
+
+	private String getTenantIdentifier() {
+		if ( outerQueryTranslator instanceof CriteriaQueryTranslator ) {
+			// a subquery is executed in the session of the outer query
+			return ( (CriteriaQueryTranslator) outerQueryTranslator ).getTenantIdentifier();
+		}
+		if ( rootCriteria.getSession() == null ) {
+			throw new QueryException(
+					"Cannot restrict the criteria query to the session tenant, as it has no session: " + rootEntityName
+			);
+		}
+		return rootCriteria.getSession().getTenantIdentifier();
+	}
+
 	public String getOrderBy() {
 		StringBuilder orderBy = new StringBuilder( 30 );
 		Iterator<CriteriaImpl.OrderEntry> criterionIterator = rootCriteria.iterateOrderings();
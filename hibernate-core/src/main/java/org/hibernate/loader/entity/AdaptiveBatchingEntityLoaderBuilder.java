@@ -0,0 +1,129 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.loader.entity;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
+import org.hibernate.engine.internal.BatchFetchQueueHelper;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.ArrayHelper;
+import org.hibernate.loader.AdaptiveBatchSizer;
+import org.hibernate.loader.Loader;
+import org.hibernate.persister.entity.OuterJoinLoadable;
+
+/**
+ * Builds entity loaders using the {@link org.hibernate.loader.BatchFetchStyle#ADAPTIVE} style.
+ *
+ * @see AdaptiveBatchSizer
+ */
+class AdaptiveBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuilder {
+	public static final AdaptiveBatchingEntityLoaderBuilder INSTANCE = new AdaptiveBatchingEntityLoaderBuilder();
+
+	@Override
+	protected UniqueEntityLoader buildBatchingLoader(
+			OuterJoinLoadable persister,
+			int batchSize,
+			LockMode lockMode,
+			SessionFactoryImplementor factory,
+			LoadQueryInfluencers influencers) {
+		return new AdaptiveBatchingEntityLoader( persister, batchSize, lockMode, null, factory, influencers );
+	}
+
+	@Override
+	protected UniqueEntityLoader buildBatchingLoader(
+			OuterJoinLoadable persister,
+			int batchSize,
+			LockOptions lockOptions,
+			SessionFactoryImplementor factory,
+			LoadQueryInfluencers influencers) {
+		return new AdaptiveBatchingEntityLoader( persister, batchSize, null, lockOptions, factory, influencers );
+	}
+
+	public static class AdaptiveBatchingEntityLoader extends BatchingEntityLoader {
+		private final AdaptiveBatchSizer batchSizer;
+		private final LockMode lockMode;
+		private final LockOptions lockOptions;
+		private final SessionFactoryImplementor factory;
+		private final LoadQueryInfluencers loadQueryInfluencers;
+
+		// built on first use, as typically only a few of the candidate sizes end up being used
+		private final AtomicReferenceArray<Loader> loaders;
+
+		public AdaptiveBatchingEntityLoader(
+				OuterJoinLoadable persister,
+				int maxBatchSize,
+				LockMode lockMode,
+				LockOptions lockOptions,
+				SessionFactoryImplementor factory,
+				LoadQueryInfluencers loadQueryInfluencers) {
+			super( persister );
+			this.batchSizer = new AdaptiveBatchSizer( maxBatchSize );
+			this.lockMode = lockMode;
+			this.lockOptions = lockOptions;
+			this.factory = factory;
+			this.loadQueryInfluencers = loadQueryInfluencers;
+			this.loaders = new AtomicReferenceArray<>( batchSizer.getBatchSizes().length );
+		}
+
+		private Loader getLoader(int index) {
+			Loader loader = loaders.get( index );
+			if ( loader == null ) {
+				synchronized ( this ) {
+					loader = loaders.get( index );
+					if ( loader == null ) {
+						final int batchSize = batchSizer.getBatchSizes()[index];
+						loader = lockOptions == null
+								? new EntityLoader( (OuterJoinLoadable) persister(), batchSize, lockMode, factory, loadQueryInfluencers )
+								: new EntityLoader( (OuterJoinLoadable) persister(), batchSize, lockOptions, factory, loadQueryInfluencers );
+						loaders.set( index, loader );
+					}
+				}
+			}
+			return loader;
+		}
+
+		@Override
+		public Object load(Serializable id, Object optionalObject, SharedSessionContractImplementor session, LockOptions lockOptions) {
+			return load( id, optionalObject, session, lockOptions, null );
+		}
+
+		@Override
+		public Object load(Serializable id, Object optionalObject, SharedSessionContractImplementor session, LockOptions lockOptions, Boolean readOnly) {
+			final Serializable[] batch = session.getPersistenceContextInternal()
+					.getBatchFetchQueue()
+					.getEntityBatch( persister(), id, batchSizer.getMaxBatchSize(), persister().getEntityMode() );
+
+			final int numberOfIds = ArrayHelper.countNonNull( batch );
+			final int indexToUse = batchSizer.determineBatchSizeIndex( numberOfIds );
+			final int batchSize = batchSizer.getBatchSizes()[indexToUse];
+			if ( batchSize == 1 ) {
+				final Object result = ( (UniqueEntityLoader) getLoader( indexToUse ) ).load( id, optionalObject, session );
+				if ( result == null ) {
+					// There was no entity with the specified ID. Make sure the EntityKey does not remain
+					// in the batch to avoid including it in future batches that get executed.
+					BatchFetchQueueHelper.removeBatchLoadableEntityKey( id, persister(), session );
+				}
+				return result;
+			}
+
+			// the batch always starts with the requested id; pad (or truncate) to the chosen size
+			final Serializable[] idsToLoad = new Serializable[ batchSize ];
+			final int numberToCopy = Math.min( numberOfIds, batchSize );
+			System.arraycopy( batch, 0, idsToLoad, 0, numberToCopy );
+			for ( int i = numberToCopy; i < batchSize; i++ ) {
+				idsToLoad[i] = id;
+			}
+
+			return doBatchLoad( id, getLoader( indexToUse ), session, idsToLoad, optionalObject, lockOptions, readOnly );
+		}
+	}
+}
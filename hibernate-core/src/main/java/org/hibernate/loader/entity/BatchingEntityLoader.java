@@ -18,7 +18,9 @@ import org.hibernate.engine.spi.QueryParameters;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.loader.Loader;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.persister.entity.Loadable;
 import org.hibernate.pretty.MessageHelper;
+import org.hibernate.type.StandardBasicTypes;
 import org.hibernate.type.Type;
 
 import org.jboss.logging.Logger;
@@ -115,6 +117,10 @@ public abstract class BatchingEntityLoader implements UniqueEntityLoader {
 		}
 
 		QueryParameters qp = buildQueryParameters( id, ids, optionalObject, lockOptions, readOnly );
+		// the tenant identifier is bound after the keys
+		if ( persister instanceof Loadable && ( (Loadable) persister ).isTenantDiscriminated() ) {
+			qp.appendPositionalParameter( StandardBasicTypes.STRING, session.getTenantIdentifier() );
+		}
 
 		try {
 			final List results = loaderToUse.doQueryAndInitializeNonLazyCollections( session, qp, false );
@@ -30,6 +30,9 @@ public abstract class BatchingEntityLoaderBuilder {
 			case DYNAMIC: {
 				return DynamicBatchingEntityLoaderBuilder.INSTANCE;
 			}
+			case ADAPTIVE: {
+				return AdaptiveBatchingEntityLoaderBuilder.INSTANCE;
+			}
 			default: {
 				return org.hibernate.loader.entity.plan.LegacyBatchingEntityLoaderBuilder.INSTANCE;
 //				return LegacyBatchingEntityLoaderBuilder.INSTANCE;
@@ -33,6 +33,7 @@ public class CascadeEntityJoinWalker extends AbstractEntityJoinWalker {
 		StringBuilder whereCondition = whereString( getAlias(), persister.getIdentifierColumnNames(), 1 )
 				//include the discriminator and class-level where, but not filters
 				.append( persister.filterFragment( getAlias(), Collections.EMPTY_MAP ) );
+		appendTenantRestriction( whereCondition );
 
 		initAll( whereCondition.toString(), "", LockOptions.READ );
 	}
@@ -8,6 +8,7 @@ package org.hibernate.loader.entity;
 
 import java.io.Serializable;
 import java.lang.reflect.Array;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
@@ -36,10 +37,12 @@ import org.hibernate.event.spi.LoadEventListener;
 import org.hibernate.internal.util.StringHelper;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.internal.util.collections.CollectionHelper;
+import org.hibernate.loader.internal.BatchFetchArrayParameterHelper;
 import org.hibernate.loader.spi.AfterLoadAction;
 import org.hibernate.persister.entity.MultiLoadOptions;
 import org.hibernate.persister.entity.OuterJoinLoadable;
 import org.hibernate.pretty.MessageHelper;
+import org.hibernate.type.StandardBasicTypes;
 import org.hibernate.type.Type;
 
 import org.jboss.logging.Logger;
@@ -82,16 +85,8 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 				? new LockOptions( LockMode.NONE )
 				: loadOptions.getLockOptions();
 
-		final int maxBatchSize;
-		if ( loadOptions.getBatchSize() != null && loadOptions.getBatchSize() > 0 ) {
-			maxBatchSize = loadOptions.getBatchSize();
-		}
-		else {
-			maxBatchSize = session.getJdbcServices().getJdbcEnvironment().getDialect().getDefaultBatchLoadSizingStrategy().determineOptimalBatchLoadSize(
-					persister.getIdentifierType().getColumnSpan( session.getFactory() ),
-					ids.length
-			);
-		}
+		final int maxBatchSize = determineMaxBatchSize( persister, ids.length, session, loadOptions );
+		final List<Object> managedEntitiesToLock = managedEntitiesToLock( lockOptions, loadOptions );
 
 		final List<Serializable> idsInBatch = new ArrayList<>();
 		final List<Integer> elementPositionsLoadedByBatch = new ArrayList<>();
@@ -113,12 +108,11 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 
 				if ( loadOptions.isSessionCheckingEnabled() ) {
 					// look for it in the Session first
-					CacheEntityLoaderHelper.PersistenceContextEntry persistenceContextEntry = CacheEntityLoaderHelper.INSTANCE
-							.loadFromSessionCache(
-									loadEvent,
-									entityKey,
-									LoadEventListener.GET
-							);
+					CacheEntityLoaderHelper.PersistenceContextEntry persistenceContextEntry = loadFromSessionCache(
+							loadEvent,
+							entityKey,
+							managedEntitiesToLock
+					);
 					managedEntity = persistenceContextEntry.getEntity();
 
 					if ( managedEntity != null && !loadOptions.isReturnOfDeletedEntitiesEnabled() && !persistenceContextEntry
@@ -178,6 +172,8 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 			result.set( position, entity );
 		}
 
+		lockManagedEntities( managedEntitiesToLock, lockOptions, session );
+
 		return result;
 	}
 
@@ -225,6 +221,7 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 			// list immediately and remove its id from the group of ids to load.
 			boolean foundAnyManagedEntities = false;
 			final List<Serializable> nonManagedIds = new ArrayList<Serializable>();
+			final List<Object> managedEntitiesToLock = managedEntitiesToLock( lockOptions, loadOptions );
 			for ( Serializable id : ids ) {
 				final EntityKey entityKey = new EntityKey( id, persister );
 
@@ -239,12 +236,11 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 				Object managedEntity = null;
 
 				// look for it in the Session first
-				CacheEntityLoaderHelper.PersistenceContextEntry persistenceContextEntry = CacheEntityLoaderHelper.INSTANCE
-						.loadFromSessionCache(
-								loadEvent,
-								entityKey,
-								LoadEventListener.GET
-						);
+				CacheEntityLoaderHelper.PersistenceContextEntry persistenceContextEntry = loadFromSessionCache(
+						loadEvent,
+						entityKey,
+						managedEntitiesToLock
+				);
 				if ( loadOptions.isSessionCheckingEnabled() ) {
 					managedEntity = persistenceContextEntry.getEntity();
 
@@ -273,6 +269,8 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 				}
 			}
 
+			lockManagedEntities( managedEntitiesToLock, lockOptions, session );
+
 			if ( foundAnyManagedEntities ) {
 				if ( nonManagedIds.isEmpty() ) {
 					// all of the given ids were already associated with the Session
@@ -292,16 +290,7 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 		}
 
 		int numberOfIdsLeft = ids.length;
-		final int maxBatchSize;
-		if ( loadOptions.getBatchSize() != null && loadOptions.getBatchSize() > 0 ) {
-			maxBatchSize = loadOptions.getBatchSize();
-		}
-		else {
-			maxBatchSize = session.getJdbcServices().getJdbcEnvironment().getDialect().getDefaultBatchLoadSizingStrategy().determineOptimalBatchLoadSize(
-					persister.getIdentifierType().getColumnSpan( session.getFactory() ),
-					numberOfIdsLeft
-			);
-		}
+		final int maxBatchSize = determineMaxBatchSize( persister, numberOfIdsLeft, session, loadOptions );
 
 		int idPosition = 0;
 		while ( numberOfIdsLeft > 0 ) {
@@ -327,6 +316,83 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 		return result;
 	}
 
+	/**
+	 * When a pessimistic lock is requested, the entities already associated with the Session
+	 * are collected rather than locked one by one, so that they can be locked together afterwards.
+	 */
+	private static List<Object> managedEntitiesToLock(LockOptions lockOptions, MultiLoadOptions loadOptions) {
+		if ( loadOptions.isSessionCheckingEnabled() && isPessimistic( lockOptions.getLockMode() ) ) {
+			return new ArrayList<>();
+		}
+		return null;
+	}
+
+	private static boolean isPessimistic(LockMode lockMode) {
+		switch ( lockMode ) {
+			case UPGRADE:
+			case UPGRADE_NOWAIT:
+			case UPGRADE_SKIPLOCKED:
+			case PESSIMISTIC_READ:
+			case PESSIMISTIC_WRITE:
+			case PESSIMISTIC_FORCE_INCREMENT:
+				return true;
+			default:
+				// optimistic locks are verified at flush time, rather than acquired by a statement
+				return false;
+		}
+	}
+
+	private static CacheEntityLoaderHelper.PersistenceContextEntry loadFromSessionCache(
+			LoadEvent loadEvent,
+			EntityKey entityKey,
+			List<Object> managedEntitiesToLock) {
+		if ( managedEntitiesToLock == null ) {
+			return CacheEntityLoaderHelper.INSTANCE.loadFromSessionCache( loadEvent, entityKey, LoadEventListener.GET );
+		}
+
+		// look the entity up without upgrading its lock
+		final LoadEvent lookupEvent = new LoadEvent(
+				loadEvent.getEntityId(),
+				loadEvent.getEntityClassName(),
+				new LockOptions( LockMode.NONE ),
+				loadEvent.getSession(),
+				null
+		);
+		final CacheEntityLoaderHelper.PersistenceContextEntry persistenceContextEntry = CacheEntityLoaderHelper.INSTANCE
+				.loadFromSessionCache( lookupEvent, entityKey, LoadEventListener.GET );
+		if ( persistenceContextEntry.getEntity() != null && persistenceContextEntry.isManaged() ) {
+			managedEntitiesToLock.add( persistenceContextEntry.getEntity() );
+		}
+		return persistenceContextEntry;
+	}
+
+	private static void lockManagedEntities(
+			List<Object> managedEntitiesToLock,
+			LockOptions lockOptions,
+			SharedSessionContractImplementor session) {
+		if ( managedEntitiesToLock != null && !managedEntitiesToLock.isEmpty() ) {
+			CacheEntityLoaderHelper.INSTANCE.upgradeLocks( managedEntitiesToLock, lockOptions, (EventSource) session );
+		}
+	}
+
+	private static int determineMaxBatchSize(
+			OuterJoinLoadable persister,
+			int numberOfIds,
+			SharedSessionContractImplementor session,
+			MultiLoadOptions loadOptions) {
+		if ( loadOptions.getBatchSize() != null && loadOptions.getBatchSize() > 0 ) {
+			return loadOptions.getBatchSize();
+		}
+		if ( BatchFetchArrayParameterHelper.determineElementTypeName( persister.getIdentifierType(), session.getFactory() ) != null ) {
+			// the SQL does not depend on the number of ids, so load them all at once
+			return numberOfIds;
+		}
+		return session.getJdbcServices().getJdbcEnvironment().getDialect().getDefaultBatchLoadSizingStrategy().determineOptimalBatchLoadSize(
+				persister.getIdentifierType().getColumnSpan( session.getFactory() ),
+				numberOfIds
+		);
+	}
+
 	public static QueryParameters buildMultiLoadQueryParameters(
 			OuterJoinLoadable persister,
 			Serializable[] ids,
@@ -449,6 +515,7 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 
 		private final String sqlTemplate;
 		private final String alias;
+		private final String arrayElementTypeName;
 
 		public DynamicEntityLoader(
 				OuterJoinLoadable persister,
@@ -467,6 +534,10 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 				LoadQueryInfluencers loadQueryInfluencers) {
 			super( persister, -1, lockMode, factory, loadQueryInfluencers );
 
+			final String elementTypeName = BatchFetchArrayParameterHelper.determineElementTypeName(
+					persister.getIdentifierType(),
+					factory
+			);
 			EntityJoinWalker walker = new EntityJoinWalker(
 					persister,
 					persister.getIdentifierColumnNames(),
@@ -476,6 +547,14 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 					loadQueryInfluencers) {
 				@Override
 				protected StringBuilder whereString(String alias, String[] columnNames, int batchSize) {
+					if ( elementTypeName != null ) {
+						return BatchFetchArrayParameterHelper.buildRestrictionFragment(
+								alias,
+								columnNames,
+								elementTypeName,
+								getFactory().getDialect()
+						);
+					}
 					return StringHelper.buildBatchFetchRestrictionFragment(
 							alias,
 							columnNames,
@@ -487,6 +566,7 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 			initFromWalker( walker );
 			this.sqlTemplate = walker.getSQLString();
 			this.alias = walker.getAlias();
+			this.arrayElementTypeName = elementTypeName;
 			postInstantiate();
 
 			if ( LOG.isDebugEnabled() ) {
@@ -514,13 +594,25 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 				QueryParameters queryParameters,
 				Serializable[] ids) {
 			final JdbcServices jdbcServices = session.getJdbcServices();
-			final String sql = StringHelper.expandBatchIdPlaceholder(
-					sqlTemplate,
-					ids,
-					alias,
-					persister.getKeyColumnNames(),
-					jdbcServices.getJdbcEnvironment().getDialect()
-			);
+			final String sql;
+			if ( arrayElementTypeName != null ) {
+				// all ids are bound as one array parameter
+				sql = sqlTemplate;
+				queryParameters.setPositionalParameterTypes( new Type[] { persister.getIdentifierType() } );
+				queryParameters.setPositionalParameterValues( new Object[] { ids } );
+			}
+			else {
+				sql = StringHelper.expandBatchIdPlaceholder(
+						sqlTemplate,
+						ids,
+						alias,
+						persister.getKeyColumnNames(),
+						jdbcServices.getJdbcEnvironment().getDialect()
+				);
+			}
+			if ( persister.isTenantDiscriminated() ) {
+				queryParameters.appendPositionalParameter( StandardBasicTypes.STRING, session.getTenantIdentifier() );
+			}
 
 			try {
 				final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
@@ -566,6 +658,24 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 			}
 		}
 
+		@Override
+		protected int bindPositionalParameters(
+				PreparedStatement statement,
+				QueryParameters queryParameters,
+				int startIndex,
+				SharedSessionContractImplementor session) throws SQLException {
+			if ( arrayElementTypeName == null ) {
+				return super.bindPositionalParameters( statement, queryParameters, startIndex, session );
+			}
+			return BatchFetchArrayParameterHelper.bindPositionalParameters(
+					statement,
+					queryParameters,
+					startIndex,
+					arrayElementTypeName,
+					session
+			);
+		}
+
 		private List doTheLoad(String sql, QueryParameters queryParameters, SharedSessionContractImplementor session) throws SQLException {
 			final RowSelection selection = queryParameters.getRowSelection();
 			final int maxRows = LimitHelper.hasMaxRows( selection ) ?
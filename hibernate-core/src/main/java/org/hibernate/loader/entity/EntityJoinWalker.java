@@ -53,6 +53,7 @@ public class EntityJoinWalker extends AbstractEntityJoinWalker {
 		StringBuilder whereCondition = whereString( getAlias(), uniqueKey, batchSize )
 				//include the discriminator and class-level where, but not filters
 				.append( persister.filterFragment( getAlias(), Collections.EMPTY_MAP ) );
+		appendTenantRestriction( whereCondition );
 
 		AssociationInitCallbackImpl callback = new AssociationInitCallbackImpl( factory );
 		initAll( whereCondition.toString(), "", lockOptions, callback );
@@ -72,6 +73,7 @@ public class EntityJoinWalker extends AbstractEntityJoinWalker {
 		StringBuilder whereCondition = whereString( getAlias(), uniqueKey, batchSize )
 				//include the discriminator and class-level where, but not filters
 				.append( persister.filterFragment( getAlias(), Collections.EMPTY_MAP ) );
+		appendTenantRestriction( whereCondition );
 
 		AssociationInitCallbackImpl callback = new AssociationInitCallbackImpl( factory );
 		initAll( whereCondition.toString(), "", lockOptions, callback );
@@ -37,6 +37,7 @@ import org.hibernate.loader.plan.spi.LoadPlan;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.persister.entity.OuterJoinLoadable;
 import org.hibernate.pretty.MessageHelper;
+import org.hibernate.type.StandardBasicTypes;
 import org.hibernate.type.Type;
 
 /**
@@ -164,6 +165,7 @@ public abstract class AbstractLoadPlanBasedEntityLoader extends AbstractLoadPlan
 			final QueryParameters qp = new QueryParameters();
 			qp.setPositionalParameterTypes( types );
 			qp.setPositionalParameterValues( ids );
+			appendTenantIdentifier( qp, session );
 			qp.setLockOptions( lockOptions );
 			if ( readOnly != null ) {
 				qp.setReadOnly( readOnly );
@@ -213,6 +215,7 @@ public abstract class AbstractLoadPlanBasedEntityLoader extends AbstractLoadPlan
 			final QueryParameters qp = new QueryParameters();
 			qp.setPositionalParameterTypes( new Type[] { entityPersister.getIdentifierType() } );
 			qp.setPositionalParameterValues( new Object[] { id } );
+			appendTenantIdentifier( qp, session );
 			qp.setOptionalObject( optionalObject );
 			qp.setOptionalEntityName( entityPersister.getEntityName() );
 			qp.setOptionalId( id );
@@ -246,6 +249,15 @@ public abstract class AbstractLoadPlanBasedEntityLoader extends AbstractLoadPlan
 		return result;
 	}
 
+	/**
+	 * Binds the session tenant after the keys, for the entities discriminated by tenant.
+	 */
+	protected void appendTenantIdentifier(QueryParameters qp, SharedSessionContractImplementor session) {
+		if ( entityPersister.isTenantDiscriminated() ) {
+			qp.appendPositionalParameter( StandardBasicTypes.STRING, session.getTenantIdentifier() );
+		}
+	}
+
 	/**
 	 * @deprecated {@link #extractEntityResult(List, Serializable)} should be used instead.
 	 */
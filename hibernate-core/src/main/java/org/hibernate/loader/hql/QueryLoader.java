@@ -552,7 +552,8 @@ public class QueryLoader extends BasicLoader {
 //						"HQL: " + queryTranslator.getQueryString(),
 						getQueryIdentifier(),
 						0,
-						milliseconds
+						milliseconds,
+						session.getTenantIdentifier()
 				);
 			}
 
@@ -0,0 +1,111 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.loader.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.QueryParameters;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.StringHelper;
+import org.hibernate.type.Type;
+
+/**
+ * Support for binding the keys of a batch or multi-id load as a single array parameter.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#BATCH_FETCH_ARRAY_PARAMETER
+ * @see Dialect#supportsArrayParameterRestriction()
+ */
+public final class BatchFetchArrayParameterHelper {
+
+	private BatchFetchArrayParameterHelper() {
+	}
+
+	/**
+	 * Determine whether keys of the given type can be loaded using a single array parameter.
+	 * <p/>
+	 * This is limited to single column keys whose values can be handed to the JDBC driver as they are.
+	 *
+	 * @param keyType The type of the keys to load
+	 * @param factory The SessionFactory
+	 *
+	 * @return The SQL type name of the array elements, or {@code null} if the keys must be bound one by one.
+	 */
+	public static String determineElementTypeName(Type keyType, SessionFactoryImplementor factory) {
+		if ( !factory.getSessionFactoryOptions().isBatchFetchArrayParameterEnabled() ) {
+			return null;
+		}
+		final Dialect dialect = factory.getJdbcServices().getDialect();
+		if ( !dialect.supportsArrayParameterRestriction() || keyType.getColumnSpan( factory ) != 1 ) {
+			return null;
+		}
+
+		final int sqlType = keyType.sqlTypes( factory )[0];
+		final Class returnedClass = keyType.getReturnedClass();
+		final boolean bindable;
+		if ( returnedClass == Long.class ) {
+			bindable = sqlType == Types.BIGINT;
+		}
+		else if ( returnedClass == Integer.class ) {
+			bindable = sqlType == Types.INTEGER;
+		}
+		else if ( returnedClass == Short.class ) {
+			bindable = sqlType == Types.SMALLINT;
+		}
+		else if ( returnedClass == String.class ) {
+			bindable = sqlType == Types.VARCHAR || sqlType == Types.CHAR;
+		}
+		else {
+			bindable = false;
+		}
+		return bindable ? dialect.getArrayParameterElementTypeName( sqlType ) : null;
+	}
+
+	public static StringBuilder buildRestrictionFragment(
+			String alias,
+			String[] columnNames,
+			String elementTypeName,
+			Dialect dialect) {
+		assert columnNames.length == 1;
+		return new StringBuilder(
+				dialect.renderArrayParameterRestriction( StringHelper.qualify( alias, columnNames[0] ), elementTypeName )
+		);
+	}
+
+	/**
+	 * Bind the positional parameters of a load where the keys have been passed as a single {@code Object[]}
+	 * positional parameter value.  The other positional parameters (filter parameters, e.g.) are bound by their
+	 * types as usual.
+	 *
+	 * @return The number of JDBC bind positions actually bound
+	 */
+	public static int bindPositionalParameters(
+			PreparedStatement statement,
+			QueryParameters queryParameters,
+			int startIndex,
+			String elementTypeName,
+			SharedSessionContractImplementor session) throws SQLException {
+		final Dialect dialect = session.getJdbcServices().getJdbcEnvironment().getDialect();
+		final Object[] values = queryParameters.getFilteredPositionalParameterValues();
+		final Type[] types = queryParameters.getFilteredPositionalParameterTypes();
+		int span = 0;
+		for ( int i = 0; i < values.length; i++ ) {
+			if ( values[i] instanceof Object[] ) {
+				dialect.bindArrayParameter( statement, startIndex + span, elementTypeName, (Object[]) values[i] );
+				span++;
+			}
+			else {
+				types[i].nullSafeSet( statement, values[i], startIndex + span, session );
+				span += types[i].getColumnSpan( session.getFactory() );
+			}
+		}
+		return span;
+	}
+}
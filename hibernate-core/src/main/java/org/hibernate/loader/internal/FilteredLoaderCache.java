@@ -0,0 +1,142 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.loader.internal;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.hibernate.Filter;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.FilterImpl;
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+
+/**
+ * Caches the loaders of a persister built for the sets of enabled filters, so that loading with filters
+ * enabled does not build a loader, and render its SQL, each time.
+ * <p/>
+ * The SQL of a loader only depends on the names of the enabled filters (and fetch profiles), the values
+ * of the filter parameters being bound from the session as the statement is executed.  The loaders are
+ * therefore built against a copy of the session {@link LoadQueryInfluencers}, rather than the session one,
+ * and shared by all the sessions enabling the same filters.  The least recently used ones are evicted
+ * beyond {@value #MAX_LOADERS} variants.
+ *
+ * @param <L> The type of loader
+ */
+public class FilteredLoaderCache<L> {
+	private static final int MAX_LOADERS = 32;
+
+	private final SessionFactoryImplementor factory;
+	private volatile BoundedConcurrentHashMap<Key, L> loaders;
+
+	public FilteredLoaderCache(SessionFactoryImplementor factory) {
+		this.factory = factory;
+	}
+
+	/**
+	 * Locate the loader built for the filters and fetch profiles enabled in the given influencers, building
+	 * it if need be.
+	 *
+	 * @param variant Any other discriminator of the loaders, such as the lock mode, or {@code null}
+	 * @param influencers The influencers of the session
+	 * @param loaderBuilder Builds the loader from a copy of the influencers
+	 *
+	 * @return The loader
+	 */
+	public L getLoader(Object variant, LoadQueryInfluencers influencers, Function<LoadQueryInfluencers, L> loaderBuilder) {
+		final Key key = new Key(
+				variant,
+				new HashSet<>( influencers.getEnabledFilterNames() ),
+				new HashSet<>( influencers.getEnabledFetchProfileNames() )
+		);
+		final BoundedConcurrentHashMap<Key, L> loaders = getLoaders();
+		L loader = loaders.get( key );
+		if ( loader == null ) {
+			loader = loaderBuilder.apply( copyOf( key, influencers ) );
+			final L previous = loaders.putIfAbsent( key, loader );
+			if ( previous != null ) {
+				loader = previous;
+			}
+		}
+		return loader;
+	}
+
+	private BoundedConcurrentHashMap<Key, L> getLoaders() {
+		BoundedConcurrentHashMap<Key, L> result = loaders;
+		if ( result == null ) {
+			synchronized ( this ) {
+				result = loaders;
+				if ( result == null ) {
+					// most persisters are never loaded with filters enabled
+					result = new BoundedConcurrentHashMap<>( MAX_LOADERS, 4, BoundedConcurrentHashMap.Eviction.LRU );
+					loaders = result;
+				}
+			}
+		}
+		return result;
+	}
+
+	private LoadQueryInfluencers copyOf(Key key, LoadQueryInfluencers influencers) {
+		final LoadQueryInfluencers copy = new LoadQueryInfluencers( factory );
+		for ( String filterName : key.filterNames ) {
+			// the filters are validated as the loader SQL is rendered, so their parameters need some value
+			final Filter filter = copy.enableFilter( filterName );
+			final Map<String, ?> parameters = ( (FilterImpl) influencers.getEnabledFilter( filterName ) ).getParameters();
+			for ( Map.Entry<String, ?> parameter : parameters.entrySet() ) {
+				if ( parameter.getValue() instanceof Collection ) {
+					filter.setParameterList( parameter.getKey(), (Collection) parameter.getValue() );
+				}
+				else {
+					filter.setParameter( parameter.getKey(), parameter.getValue() );
+				}
+			}
+		}
+		for ( String fetchProfileName : key.fetchProfileNames ) {
+			copy.enableFetchProfile( fetchProfileName );
+		}
+		return copy;
+	}
+
+	private static final class Key {
+		private final Object variant;
+		private final Set<String> filterNames;
+		private final Set<String> fetchProfileNames;
+		private final int hashCode;
+
+		private Key(Object variant, Set<String> filterNames, Set<String> fetchProfileNames) {
+			this.variant = variant;
+			this.filterNames = filterNames;
+			this.fetchProfileNames = fetchProfileNames;
+			int result = variant == null ? 0 : variant.hashCode();
+			result = 31 * result + filterNames.hashCode();
+			result = 31 * result + fetchProfileNames.hashCode();
+			this.hashCode = result;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+			final Key that = (Key) o;
+			return ( variant == null ? that.variant == null : variant.equals( that.variant ) )
+					&& filterNames.equals( that.filterNames )
+					&& fetchProfileNames.equals( that.fetchProfileNames );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+}
@@ -148,6 +148,11 @@ public class EntityLoadQueryDetails extends AbstractLoadQueryDetails {
 						Collections.emptyMap()
 				)
 		);
+		// the tenant identifier is bound after the keys
+		final String tenantRestriction = rootQueryable.tenantDiscriminatorFragment( entityReferenceAliases.getTableAlias() );
+		if ( tenantRestriction != null ) {
+			selectStatementBuilder.appendRestrictions( tenantRestriction );
+		}
 	}
 
 	protected void applyRootReturnWhereJoinRestrictions(SelectStatementBuilder selectStatementBuilder) {
@@ -19,9 +19,9 @@ import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLaziness
 import org.hibernate.bytecode.spi.BytecodeEnhancementMetadata;
 import org.hibernate.engine.internal.TwoPhaseLoad;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.EntityUniqueKey;
-import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.loader.EntityAliases;
@@ -222,9 +222,16 @@ public class EntityReferenceInitializerImpl implements EntityReferenceInitialize
 							entityKey,
 							lockModeToAcquire
 					);
+					return;
 				}
 			}
 
+			// the instance is already managed, so apart from its identifier (and possibly its
+			// version) nothing needs to be read from this row
+			final StatisticsImplementor statistics = context.getSession().getFactory().getStatistics();
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.entityHydrationSkipped( entityReference.getEntityPersister().getEntityName() );
+			}
 			return;
 		}
 
@@ -461,10 +468,9 @@ public class EntityReferenceInitializerImpl implements EntityReferenceInitialize
 		final LockMode requestedLockMode = context.resolveLockMode( entityReference );
 		if ( requestedLockMode != LockMode.NONE ) {
 			final SharedSessionContractImplementor session = context.getSession();
-			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
-			final LockMode currentLockMode = persistenceContext.getEntry( existing ).getLockMode();
+			final EntityEntry entry = session.getPersistenceContextInternal().getEntry( existing );
 			final boolean isVersionCheckNeeded = entityReference.getEntityPersister().isVersioned()
-					&& currentLockMode.lessThan( requestedLockMode );
+					&& entry.getLockMode().lessThan( requestedLockMode );
 
 			// we don't need to worry about existing version being uninitialized because this block isn't called
 			// by a re-entrant load (re-entrant loads *always* have lock mode NONE)
@@ -476,10 +482,10 @@ public class EntityReferenceInitializerImpl implements EntityReferenceInitialize
 						entityReference.getEntityPersister(),
 						entityReferenceAliases.getColumnAliases(),
 						entityKey,
-						existing
+						entry
 				);
 				//we need to upgrade the lock mode to the mode requested
-				persistenceContext.getEntry( existing ).setLockMode( requestedLockMode );
+				entry.setLockMode( requestedLockMode );
 			}
 		}
 	}
@@ -490,8 +496,8 @@ public class EntityReferenceInitializerImpl implements EntityReferenceInitialize
 			EntityPersister persister,
 			EntityAliases entityAliases,
 			EntityKey entityKey,
-			Object entityInstance) {
-		final Object version = session.getPersistenceContextInternal().getEntry( entityInstance ).getVersion();
+			EntityEntry entityEntry) {
+		final Object version = entityEntry.getVersion();
 
 		if ( version != null ) {
 			//null version means the object is in the process of being loaded somewhere else in the ResultSet
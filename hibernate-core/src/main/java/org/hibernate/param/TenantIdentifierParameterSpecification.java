@@ -0,0 +1,49 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.param;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import org.hibernate.engine.spi.QueryParameters;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.type.StandardBasicTypes;
+import org.hibernate.type.Type;
+
+/**
+ * A specialized ParameterSpecification impl binding the tenant identifier of the session, as part of the
+ * restriction of an entity discriminated by tenant to the rows of the session tenant.
+ *
+ * @see org.hibernate.annotations.TenantId
+ */
+public class TenantIdentifierParameterSpecification implements ParameterSpecification {
+
+	@Override
+	public int bind(
+			PreparedStatement statement,
+			QueryParameters qp,
+			SharedSessionContractImplementor session,
+			int position) throws SQLException {
+		StandardBasicTypes.STRING.nullSafeSet( statement, session.getTenantIdentifier(), position, session );
+		return 1;
+	}
+
+	@Override
+	public Type getExpectedType() {
+		return StandardBasicTypes.STRING;
+	}
+
+	@Override
+	public void setExpectedType(Type expectedType) {
+		// the tenant identifier is always a string
+	}
+
+	@Override
+	public String renderDisplayInfo() {
+		return "tenant-identifier";
+	}
+}
@@ -53,6 +53,7 @@ import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.jdbc.Expectation;
 import org.hibernate.jdbc.Expectations;
 import org.hibernate.loader.collection.CollectionInitializer;
+import org.hibernate.loader.internal.FilteredLoaderCache;
 import org.hibernate.mapping.Collection;
 import org.hibernate.mapping.Column;
 import org.hibernate.mapping.Formula;
@@ -145,6 +146,7 @@ public abstract class AbstractCollectionPersister
 
 	protected final boolean indexContainsFormula;
 	protected final boolean elementIsPureFormula;
+	private final boolean indexShiftingEnabled;
 
 	// types
 	private final Type keyType;
@@ -208,6 +210,7 @@ public abstract class AbstractCollectionPersister
 	private final CollectionDataAccess cacheAccessStrategy;
 	private final CollectionType collectionType;
 	private CollectionInitializer initializer;
+	private final FilteredLoaderCache<CollectionInitializer> filteredInitializers;
 
 	private final CacheEntryStructure cacheEntryStructure;
 
@@ -243,6 +246,7 @@ public abstract class AbstractCollectionPersister
 		final JdbcEnvironment jdbcEnvironment = database.getJdbcEnvironment();
 
 		this.factory = creationContext.getSessionFactory();
+		this.filteredInitializers = new FilteredLoaderCache<>( factory );
 		this.cacheAccessStrategy = cacheAccessStrategy;
 		if ( factory.getSessionFactoryOptions().isStructuredCacheEntriesEnabled() ) {
 			cacheEntryStructure = collectionBinding.isMap()
@@ -533,6 +537,22 @@ public abstract class AbstractCollectionPersister
 
 		isInverse = collectionBinding.isInverse();
 
+		// moving rows with set-based updates relies on the index column alone identifying the
+		// rows, and on actual indexes never being negative
+		indexShiftingEnabled = factory.getSessionFactoryOptions().isListIndexShiftingEnabled()
+				&& hasIndex
+				&& ( (IndexedCollection) collectionBinding ).isList()
+				&& !collectionBinding.isOneToMany()
+				&& !isInverse
+				&& !hasIdentifier
+				&& !indexContainsFormula
+				&& indexColumnNames.length == 1
+				&& indexColumnIsSettable[0]
+				&& baseIndex >= 0
+				&& collectionBinding.getCustomSQLInsert() == null
+				&& collectionBinding.getCustomSQLUpdate() == null
+				&& collectionBinding.getCustomSQLDelete() == null;
+
 		if ( collectionBinding.isArray() ) {
 			elementClass = ( (org.hibernate.mapping.Array) collectionBinding ).getElementClass();
 		}
@@ -723,9 +743,17 @@ public abstract class AbstractCollectionPersister
 		else if ( ! session.getLoadQueryInfluencers().hasEnabledFilters() ) {
 			return initializer;
 		}
-		else {
+		else if ( session.getLoadQueryInfluencers().getEffectiveEntityGraph().getGraph() != null ) {
 			return createCollectionInitializer( session.getLoadQueryInfluencers() );
 		}
+		else {
+			// the filter parameters are bound at execution, so the initializers of the enabled filters can be shared
+			return filteredInitializers.getLoader(
+					null,
+					session.getLoadQueryInfluencers(),
+					this::createCollectionInitializer
+			);
+		}
 	}
 
 	private CollectionInitializer getSubselectInitializer(Serializable key, SharedSessionContractImplementor session) {
@@ -1742,10 +1770,19 @@ public abstract class AbstractCollectionPersister
 
 	protected abstract String generateInsertRowString();
 
+	@Override
+	public boolean isIndexShiftingEnabled() {
+		return indexShiftingEnabled;
+	}
+
 	@Override
 	public void updateRows(PersistentCollection collection, Serializable id, SharedSessionContractImplementor session)
 			throws HibernateException {
 
+		if ( indexShiftingEnabled ) {
+			shiftIndexes( collection, id, session );
+		}
+
 		if ( !isInverse && collection.isRowUpdatePossible() ) {
 
 			LOG.debugf( "Updating rows of collection: %s#%s", navigableRole.getFullPath(), id );
@@ -1760,6 +1797,84 @@ public abstract class AbstractCollectionPersister
 	protected abstract int doUpdateRows(Serializable key, PersistentCollection collection, SharedSessionContractImplementor session)
 			throws HibernateException;
 
+	/**
+	 * Move the runs of rows reported by {@link PersistentCollection#getIndexShifts} to their new
+	 * indexes.  Each run is first moved to the negated (minus one) index it ends up at, so that it
+	 * never collides with rows yet to be moved, even where constraints are checked row by row; a
+	 * last statement then turns all the negated indexes back into actual ones.
+	 */
+	private void shiftIndexes(PersistentCollection collection, Serializable id, SharedSessionContractImplementor session)
+			throws HibernateException {
+		final Iterator<int[]> shifts = collection.getIndexShifts( this );
+		if ( !shifts.hasNext() ) {
+			return;
+		}
+
+		LOG.debugf( "Shifting rows of collection: %s#%s", navigableRole.getFullPath(), id );
+
+		String sql = null;
+		try {
+			int count = 0;
+			while ( shifts.hasNext() ) {
+				final int[] shift = shifts.next();
+				sql = generateShiftIndexString( -1 - shift[2], true );
+				executeShiftIndex( sql, id, shift, session );
+				count++;
+			}
+			sql = generateShiftIndexString( -1, false );
+			executeShiftIndex( sql, id, null, session );
+
+			LOG.debugf( "Done shifting rows: %s runs moved", count );
+		}
+		catch ( SQLException sqle ) {
+			throw sqlExceptionHelper.convert(
+					sqle,
+					"could not shift collection rows: " +
+							MessageHelper.collectionInfoString( this, collection, id, session ),
+					sql
+			);
+		}
+	}
+
+	private void executeShiftIndex(String sql, Serializable id, int[] shift, SharedSessionContractImplementor session)
+			throws SQLException {
+		final PreparedStatement st = session
+				.getJdbcCoordinator()
+				.getStatementPreparer()
+				.prepareStatement( sql );
+		try {
+			int loc = writeKey( st, id, 1, session );
+			if ( shift != null ) {
+				loc = writeIndexToWhere( st, shift[0], loc, session );
+				writeIndexToWhere( st, shift[1], loc, session );
+			}
+			session.getJdbcCoordinator().getResultSetReturn().executeUpdate( st );
+		}
+		finally {
+			session.getJdbcCoordinator().getResourceRegistry().release( st );
+			session.getJdbcCoordinator().afterStatementExecution();
+		}
+	}
+
+	/**
+	 * Generate the SQL UPDATE that sets the index of rows to {@code constant - index}, either for
+	 * a range of indexes, or for all the (negated) indexes below zero
+	 */
+	private String generateShiftIndexString(int constant, boolean range) {
+		final String indexColumnName = indexColumnNames[0];
+		final Update update = createUpdate()
+				.setTableName( qualifiedTableName )
+				.addColumn( indexColumnName, constant + "-" + indexColumnName )
+				.addPrimaryKeyColumns( keyColumnNames )
+				.setWhere( range ? indexColumnName + " between ? and ?" : indexColumnName + "<0" );
+
+		if ( getFactory().getSessionFactoryOptions().isCommentsEnabled() ) {
+			update.setComment( "shift collection rows " + getRole() );
+		}
+
+		return update.toStatementString();
+	}
+
 	@Override
 	public void processQueuedOps(PersistentCollection collection, Serializable key, SharedSessionContractImplementor session)
 			throws HibernateException {
@@ -185,6 +185,14 @@ public interface CollectionPersister extends CollectionDefinition {
 			Serializable key,
 			SharedSessionContractImplementor session)
 		throws HibernateException;
+	/**
+	 * Can the rows of this collection be moved to other indexes with set-based updates of the
+	 * index column, as reported by {@link PersistentCollection#getIndexShifts}?  Only lists
+	 * support this.
+	 */
+	default boolean isIndexShiftingEnabled() {
+		return false;
+	}
 	/**
 	 * Update the persistent state of any elements that were modified
 	 */
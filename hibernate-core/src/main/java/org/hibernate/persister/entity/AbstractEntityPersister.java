@@ -33,6 +33,7 @@ import org.hibernate.JDBCException;
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
 import org.hibernate.MappingException;
+import org.hibernate.MultiTenancyStrategy;
 import org.hibernate.QueryException;
 import org.hibernate.Session;
 import org.hibernate.StaleObjectStateException;
@@ -55,9 +56,11 @@ import org.hibernate.cache.spi.entry.StructuredCacheEntry;
 import org.hibernate.cache.spi.entry.UnstructuredCacheEntry;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.identity.GetGeneratedKeysDelegate;
 import org.hibernate.dialect.lock.LockingStrategy;
 import org.hibernate.engine.OptimisticLockStyle;
 import org.hibernate.engine.internal.CacheHelper;
+import org.hibernate.engine.internal.ForeignKeys;
 import org.hibernate.engine.internal.ImmutableEntityEntryFactory;
 import org.hibernate.engine.internal.MutableEntityEntryFactory;
 import org.hibernate.engine.internal.StatefulPersistenceContext;
@@ -102,6 +105,7 @@ import org.hibernate.loader.entity.CascadeEntityLoader;
 import org.hibernate.loader.entity.DynamicBatchingEntityLoaderBuilder;
 import org.hibernate.loader.entity.EntityLoader;
 import org.hibernate.loader.entity.UniqueEntityLoader;
+import org.hibernate.loader.internal.FilteredLoaderCache;
 import org.hibernate.mapping.Column;
 import org.hibernate.mapping.Component;
 import org.hibernate.mapping.Formula;
@@ -134,6 +138,7 @@ import org.hibernate.tuple.GenerationTiming;
 import org.hibernate.tuple.InDatabaseValueGenerationStrategy;
 import org.hibernate.tuple.InMemoryValueGenerationStrategy;
 import org.hibernate.tuple.NonIdentifierAttribute;
+import org.hibernate.tuple.TenantIdGeneration;
 import org.hibernate.tuple.ValueGeneration;
 import org.hibernate.tuple.entity.EntityMetamodel;
 import org.hibernate.tuple.entity.EntityTuplizer;
@@ -191,6 +196,9 @@ public abstract class AbstractEntityPersister
 	private final String sqlWhereString;
 	private final String sqlWhereStringTemplate;
 
+	// The property discriminating the rows of the tenants, see TenantId
+	private final int tenantIdPropertyIndex;
+
 	//information about properties of this class,
 	//including inherited properties
 	//(only really needed for updatable/insertable properties)
@@ -250,6 +258,7 @@ public abstract class AbstractEntityPersister
 	private UniqueEntityLoader noneLockLoader;
 	private UniqueEntityLoader readLockLoader;
 	private final Map<Object, UniqueEntityLoader> loaders = new ConcurrentHashMap<>();
+	private final FilteredLoaderCache<UniqueEntityLoader> filteredLoaders;
 
 	// SQL strings
 	private String sqlVersionSelectString;
@@ -280,6 +289,7 @@ public abstract class AbstractEntityPersister
 	protected ExecuteUpdateResultCheckStyle[] deleteResultCheckStyles;
 
 	private InsertGeneratedIdentifierDelegate identityDelegate;
+	private boolean identityInsertBatchable;
 
 	private boolean[] tableHasColumns;
 
@@ -580,6 +590,7 @@ public abstract class AbstractEntityPersister
 
 		// moved up from AbstractEntityPersister ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 		this.factory = creationContext.getSessionFactory();
+		this.filteredLoaders = new FilteredLoaderCache<>( factory );
 
 		this.navigableRole = new NavigableRole( persistentClass.getEntityName() );
 
@@ -669,6 +680,10 @@ public abstract class AbstractEntityPersister
 						factory.getSqlFunctionRegistry()
 				);
 
+		// TENANT DISCRIMINATOR
+
+		tenantIdPropertyIndex = determineTenantIdPropertyIndex( persistentClass, factory );
+
 		// PROPERTIES
 
 		final boolean lazyAvailable = isInstrumented();
@@ -1987,6 +2002,16 @@ public abstract class AbstractEntityPersister
 		getLocker( lockOptions.getLockMode() ).lock( id, version, object, lockOptions.getTimeOut(), session );
 	}
 
+	@Override
+	public void lock(
+			Serializable[] ids,
+			Object[] versions,
+			Object[] objects,
+			LockOptions lockOptions,
+			SharedSessionContractImplementor session) throws HibernateException {
+		getLocker( lockOptions.getLockMode() ).lock( ids, versions, objects, lockOptions.getTimeOut(), session );
+	}
+
 	public String getRootTableName() {
 		return getSubclassTableName( 0 );
 	}
@@ -2480,6 +2505,61 @@ public abstract class AbstractEntityPersister
 		return sqlWhereString != null;
 	}
 
+	private int determineTenantIdPropertyIndex(PersistentClass persistentClass, SessionFactoryImplementor factory) {
+		if ( factory.getSessionFactoryOptions().getMultiTenancyStrategy() != MultiTenancyStrategy.DISCRIMINATOR ) {
+			return -1;
+		}
+		final Iterator properties = persistentClass.getPropertyClosureIterator();
+		while ( properties.hasNext() ) {
+			final Property property = (Property) properties.next();
+			if ( property.getValueGenerationStrategy() instanceof TenantIdGeneration ) {
+				return entityMetamodel.getPropertyIndex( property.getName() );
+			}
+		}
+		return -1;
+	}
+
+	@Override
+	public boolean isTenantDiscriminated() {
+		return tenantIdPropertyIndex >= 0;
+	}
+
+	@Override
+	public String tenantDiscriminatorFragment(String alias) {
+		if ( !isTenantDiscriminated() ) {
+			return null;
+		}
+		return toColumns( alias, getPropertyNames()[tenantIdPropertyIndex] )[0] + "=?";
+	}
+
+	/**
+	 * Appends the restriction to the rows of the session tenant to the where clause of a lookup, if this entity is
+	 * discriminated by tenant.
+	 */
+	private void appendTenantRestriction(StringBuilder whereClause, String alias) {
+		if ( isTenantDiscriminated() ) {
+			whereClause.append( " and " ).append( tenantDiscriminatorFragment( alias ) );
+		}
+	}
+
+	/**
+	 * Binds the session tenant after the other parameters of a lookup, if this entity is discriminated by tenant.
+	 */
+	private void bindTenantIdentifier(PreparedStatement ps, int index, SharedSessionContractImplementor session)
+			throws SQLException {
+		if ( isTenantDiscriminated() ) {
+			getPropertyTypes()[tenantIdPropertyIndex].nullSafeSet( ps, session.getTenantIdentifier(), index, session );
+		}
+	}
+
+	/**
+	 * Are the updates and deletes of the given table restricted to the rows of the session tenant?  Custom
+	 * SQL statements are left untouched.
+	 */
+	private boolean isTenantRestricted(int j, String customSql) {
+		return isTenantDiscriminated() && customSql == null && isPropertyOfTable( tenantIdPropertyIndex, j );
+	}
+
 	private void initOrdinaryPropertyPaths(Mapping mapping) throws MappingException {
 		for ( int i = 0; i < getSubclassPropertyNameClosure().length; i++ ) {
 			propertyMapping.initPropertyPaths(
@@ -2541,7 +2621,7 @@ public abstract class AbstractEntityPersister
 			LockMode lockMode,
 			LoadQueryInfluencers loadQueryInfluencers) throws MappingException {
 		//TODO: disable batch loading if lockMode > READ?
-		return BatchingEntityLoaderBuilder.getBuilder( getFactory() )
+		return getEntityLoaderBuilder()
 				.buildLoader( this, batchSize, lockMode, getFactory(), loadQueryInfluencers );
 	}
 
@@ -2549,10 +2629,18 @@ public abstract class AbstractEntityPersister
 			LockOptions lockOptions,
 			LoadQueryInfluencers loadQueryInfluencers) throws MappingException {
 		//TODO: disable batch loading if lockMode > READ?
-		return BatchingEntityLoaderBuilder.getBuilder( getFactory() )
+		return getEntityLoaderBuilder()
 				.buildLoader( this, batchSize, lockOptions, getFactory(), loadQueryInfluencers );
 	}
 
+	private BatchingEntityLoaderBuilder getEntityLoaderBuilder() {
+		if ( isTenantDiscriminated() ) {
+			// only the load plan based loaders apply the tenant restriction
+			return org.hibernate.loader.entity.plan.LegacyBatchingEntityLoaderBuilder.INSTANCE;
+		}
+		return BatchingEntityLoaderBuilder.getBuilder( getFactory() );
+	}
+
 	/**
 	 * Used internally to create static loaders.  These are the default set of loaders used to handle get()/load()
 	 * processing.  lock() handling is done by the LockingStrategy instances (see {@link #getLocker})
@@ -2648,6 +2736,11 @@ public abstract class AbstractEntityPersister
 			update.addPrimaryKeyColumns( getKeyColumns( j ) );
 		}
 
+		// and of the session tenant
+		if ( isTenantRestricted( j, customSQLUpdate[j] ) ) {
+			update.addPrimaryKeyColumns( getPropertyColumnNames( tenantIdPropertyIndex ) );
+		}
+
 		if ( j == 0 && isVersioned() && entityMetamodel.getOptimisticLockStyle() == OptimisticLockStyle.VERSION ) {
 			// this is the root (versioned) table, and we are using version-based
 			// optimistic locking;  if we are not updating the version, also don't
@@ -2883,6 +2976,9 @@ public abstract class AbstractEntityPersister
 	public String generateDeleteString(int j) {
 		final Delete delete = createDelete().setTableName( getTableName( j ) )
 				.addPrimaryKeyColumns( getKeyColumns( j ) );
+		if ( isTenantRestricted( j, customSQLDelete[j] ) ) {
+			delete.addPrimaryKeyColumns( getPropertyColumnNames( tenantIdPropertyIndex ) );
+		}
 		if ( j == 0 ) {
 			delete.setVersionColumnName( getVersionColumnName() );
 		}
@@ -3391,6 +3487,11 @@ public abstract class AbstractEntityPersister
 						true
 				);
 
+				if ( isTenantRestricted( j, customSQLUpdate[j] ) ) {
+					getPropertyTypes()[tenantIdPropertyIndex].nullSafeSet( update, session.getTenantIdentifier(), index, session );
+					index++;
+				}
+
 				// Write any appropriate versioning conditional parameters
 				if ( useVersion && entityMetamodel.getOptimisticLockStyle() == OptimisticLockStyle.VERSION ) {
 					if ( checkVersion( includeProperty ) ) {
@@ -3528,6 +3629,11 @@ public abstract class AbstractEntityPersister
 				getIdentifierType().nullSafeSet( delete, id, index, session );
 				index += getIdentifierColumnSpan();
 
+				if ( isTenantRestricted( j, customSQLDelete[j] ) ) {
+					getPropertyTypes()[tenantIdPropertyIndex].nullSafeSet( delete, session.getTenantIdentifier(), index, session );
+					index++;
+				}
+
 				// We should use the _current_ object state (ie. after any updates that occurred during flush)
 
 				if ( useVersion ) {
@@ -3762,6 +3868,59 @@ public abstract class AbstractEntityPersister
 		}
 	}
 
+	/**
+	 * Can several inserts of this entity be executed as a single JDBC batch, even though its identifier is
+	 * generated by the insert?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#BATCH_IDENTITY_INSERTS
+	 */
+	public boolean isIdentityInsertBatchable() {
+		return identityInsertBatchable;
+	}
+
+	/**
+	 * Perform the (identity) inserts of several instances of this entity as a single JDBC batch.
+	 *
+	 * @return The generated identifiers, in the order of the given instances
+	 *
+	 * @see #isIdentityInsertBatchable()
+	 */
+	public Serializable[] insertBatch(Object[][] fields, Object[] objects, SharedSessionContractImplementor session)
+			throws HibernateException {
+		if ( !identityInsertBatchable ) {
+			throw new AssertionFailure( "identity inserts are not batchable for entity: " + getEntityName() );
+		}
+
+		if ( LOG.isTraceEnabled() ) {
+			LOG.tracev( "Inserting {0} instances of entity: {1} (native id, batched)", objects.length, getEntityName() );
+		}
+
+		final boolean[] notNull = getPropertyInsertability();
+		final Binder[] binders = new Binder[objects.length];
+		for ( int i = 0; i < objects.length; i++ ) {
+			// apply any pre-insert in-memory value generation
+			preInsertInMemoryValueGeneration( fields[i], objects[i], session );
+
+			final Object[] values = fields[i];
+			final Object object = objects[i];
+			binders[i] = new Binder() {
+				public void bindValues(PreparedStatement ps) throws SQLException {
+					dehydrate( null, values, notNull, propertyColumnInsertable, 0, ps, session, false );
+				}
+
+				public Object getEntity() {
+					return object;
+				}
+			};
+		}
+
+		return ( (GetGeneratedKeysDelegate) identityDelegate ).performBatchInsert(
+				getSQLIdentityInsertString(),
+				session,
+				binders
+		);
+	}
+
 	private void preInsertInMemoryValueGeneration(Object[] fields, Object object, SharedSessionContractImplementor session) {
 		if ( getEntityMetamodel().hasPreInsertGeneratedValues() ) {
 			final InMemoryValueGenerationStrategy[] strategies = getEntityMetamodel().getInMemoryValueGenerationStrategies();
@@ -3823,6 +3982,9 @@ public abstract class AbstractEntityPersister
 		for ( int j = span - 1; j >= 0; j-- ) {
 			Delete delete = createDelete().setTableName( getTableName( j ) )
 					.addPrimaryKeyColumns( getKeyColumns( j ) );
+			if ( isTenantRestricted( j, customSQLDelete[j] ) ) {
+				delete.addPrimaryKeyColumns( getPropertyColumnNames( tenantIdPropertyIndex ) );
+			}
 			if ( getFactory().getSessionFactoryOptions().isCommentsEnabled() ) {
 				delete.setComment( "delete " + getEntityName() + " [" + j + "]" );
 			}
@@ -4251,6 +4413,7 @@ public abstract class AbstractEntityPersister
 			sqlIdentityInsertString = customSQLInsert[0] == null
 					? generateIdentityInsertString( getPropertyInsertability() )
 					: substituteBrackets( customSQLInsert[0] );
+			identityInsertBatchable = determineIdentityInsertBatchable();
 		}
 		else {
 			sqlIdentityInsertString = null;
@@ -4259,6 +4422,16 @@ public abstract class AbstractEntityPersister
 		logStaticSQL();
 	}
 
+	private boolean determineIdentityInsertBatchable() {
+		return getFactory().getSessionFactoryOptions().isIdentityInsertBatchingEnabled()
+				&& getFactory().getDialect().getIdentityColumnSupport().supportsGetGeneratedKeysFromBatch()
+				&& identityDelegate instanceof GetGeneratedKeysDelegate
+				&& getTableSpan() == 1
+				&& customSQLInsert[0] == null
+				&& !entityMetamodel.isDynamicInsert()
+				&& !hasNaturalIdentifier();
+	}
+
 	private String substituteBrackets(String sql) {
 		return new SubstituteBracketSQLQueryParser( sql, getFactory() ).process();
 	}
@@ -4493,7 +4666,16 @@ public abstract class AbstractEntityPersister
 		else if ( isAffectedByEnabledFilters( session ) ) {
 			// because filters affect the rows returned (because they add
 			// restrictions) these need to be next in precedence
-			return createEntityLoader( lockOptions, session.getLoadQueryInfluencers() );
+			if ( isAffectedByEntityGraph( session ) || lockOptions.getTimeOut() != LockOptions.WAIT_FOREVER ) {
+				return createEntityLoader( lockOptions, session.getLoadQueryInfluencers() );
+			}
+			// the filter parameters are bound at execution, so the loaders of the enabled filters can be shared
+			final LockMode lockMode = lockOptions.getLockMode();
+			return filteredLoaders.getLoader(
+					lockMode,
+					session.getLoadQueryInfluencers(),
+					influencers -> createEntityLoader( lockMode, influencers )
+			);
 		}
 		else if ( session.getLoadQueryInfluencers().getInternalFetchProfile() != null && LockMode.UPGRADE.greaterThan(
 				lockOptions.getLockMode()
@@ -5374,7 +5556,7 @@ public abstract class AbstractEntityPersister
 		select.setFromClause( fromTableFragment( getRootAlias() ) + fromJoinFragment( getRootAlias(), true, false ) );
 
 		String[] aliasedIdColumns = StringHelper.qualify( getRootAlias(), getIdentifierColumnNames() );
-		String whereClause = new StringBuilder()
+		StringBuilder whereClause = new StringBuilder()
 				.append(
 						String.join(
 								"=? and ",
@@ -5382,11 +5564,11 @@ public abstract class AbstractEntityPersister
 						)
 				)
 				.append( "=?" )
-				.append( whereJoinFragment( getRootAlias(), true, false ) )
-				.toString();
+				.append( whereJoinFragment( getRootAlias(), true, false ) );
+		appendTenantRestriction( whereClause, getRootAlias() );
 
 		String sql = select.setOuterJoins( "", "" )
-				.setWhereClause( whereClause )
+				.setWhereClause( whereClause.toString() )
 				.toStatementString();
 		///////////////////////////////////////////////////////////////////////
 
@@ -5398,6 +5580,7 @@ public abstract class AbstractEntityPersister
 					.prepareStatement( sql );
 			try {
 				getIdentifierType().nullSafeSet( ps, id, 1, session );
+				bindTenantIdentifier( ps, 1 + getIdentifierType().getColumnSpan( getFactory() ), session );
 				ResultSet rs = jdbcCoordinator.getResultSetReturn().extract( ps );
 				try {
 					//if there is no resulting row, return null
@@ -5469,6 +5652,7 @@ public abstract class AbstractEntityPersister
 						positions += type.getColumnSpan( session.getFactory() );
 					}
 				}
+				bindTenantIdentifier( ps, positions, session );
 				ResultSet rs = session.getJdbcCoordinator().getResultSetReturn().extract( ps );
 				try {
 					// if there is no resulting row, return null
@@ -5501,6 +5685,282 @@ public abstract class AbstractEntityPersister
 		}
 	}
 
+	@Override
+	public Serializable[] loadEntityIdsByNaturalIds(
+			List<Object[]> naturalIdValues,
+			LockOptions lockOptions,
+			int batchSize,
+			SharedSessionContractImplementor session) {
+		final Serializable[] ids = new Serializable[naturalIdValues.size()];
+
+		// natural ids with null values are resolved one by one, as they cannot be compared in an in-list
+		final List<Integer> batchablePositions = new ArrayList<>( naturalIdValues.size() );
+		for ( int i = 0; i < ids.length; i++ ) {
+			if ( ArrayHelper.isAllFalse( determineValueNullness( naturalIdValues.get( i ) ) ) ) {
+				batchablePositions.add( i );
+			}
+			else {
+				ids[i] = loadEntityIdByNaturalId( naturalIdValues.get( i ), lockOptions, session );
+			}
+		}
+		if ( batchablePositions.isEmpty() ) {
+			return ids;
+		}
+
+		final int maxBatchSize = batchSize > 1
+				? batchSize
+				: getFactory().getJdbcServices().getDialect().getDefaultBatchLoadSizingStrategy()
+						.determineOptimalBatchLoadSize( getNaturalIdColumnSpan(), batchablePositions.size() );
+		for ( int start = 0; start < batchablePositions.size(); start += maxBatchSize ) {
+			loadEntityIdsByNaturalIdBatch(
+					naturalIdValues,
+					batchablePositions.subList( start, Math.min( start + maxBatchSize, batchablePositions.size() ) ),
+					ids,
+					session
+			);
+		}
+
+		// the rows are matched to the requested natural ids in memory, which misses those that the database
+		// considers equal while their values are not, e.g. with a case-insensitive collation or padded CHARs
+		for ( int position : batchablePositions ) {
+			if ( ids[position] == null ) {
+				ids[position] = loadEntityIdByNaturalId( naturalIdValues.get( position ), lockOptions, session );
+			}
+		}
+		return ids;
+	}
+
+	private void loadEntityIdsByNaturalIdBatch(
+			List<Object[]> naturalIdValues,
+			List<Integer> positions,
+			Serializable[] ids,
+			SharedSessionContractImplementor session) {
+		if ( LOG.isTraceEnabled() ) {
+			LOG.tracef( "Resolving %s natural-ids to ids : %s ", positions.size(), MessageHelper.infoString( this ) );
+		}
+
+		final String sql = generateEntityIdsByNaturalIdsSql( positions.size() );
+		final int[] naturalIdPropertyIndexes = getNaturalIdentifierProperties();
+		final String[][] naturalIdAliases = getNaturalIdColumnAliases();
+		final Type[] propertyTypes = getPropertyTypes();
+
+		// the positions of the requested natural ids, which may be requested more than once
+		final Map<NaturalIdKey, List<Integer>> positionsByNaturalId = new HashMap<>();
+		for ( int position : positions ) {
+			positionsByNaturalId.computeIfAbsent(
+					toNaturalIdKey( naturalIdValues.get( position ), false, session ),
+					k -> new ArrayList<>( 1 )
+			).add( position );
+		}
+
+		try {
+			PreparedStatement ps = session
+					.getJdbcCoordinator()
+					.getStatementPreparer()
+					.prepareStatement( sql );
+			try {
+				int jdbcPosition = 1;
+				for ( int position : positions ) {
+					final Object[] values = naturalIdValues.get( position );
+					for ( int i = 0; i < naturalIdPropertyIndexes.length; i++ ) {
+						final Type type = propertyTypes[naturalIdPropertyIndexes[i]];
+						type.nullSafeSet( ps, values[i], jdbcPosition, session );
+						jdbcPosition += type.getColumnSpan( getFactory() );
+					}
+				}
+				bindTenantIdentifier( ps, jdbcPosition, session );
+				ResultSet rs = session.getJdbcCoordinator().getResultSetReturn().extract( ps );
+				try {
+					final Object[] hydratedValues = new Object[naturalIdPropertyIndexes.length];
+					while ( rs.next() ) {
+						final Object hydratedId = getIdentifierType().hydrate( rs, getIdentifierAliases(), session, null );
+						final Serializable id = (Serializable) getIdentifierType().resolve( hydratedId, session, null );
+						for ( int i = 0; i < naturalIdPropertyIndexes.length; i++ ) {
+							hydratedValues[i] = propertyTypes[naturalIdPropertyIndexes[i]]
+									.hydrate( rs, naturalIdAliases[i], session, null );
+						}
+						final List<Integer> matchingPositions = positionsByNaturalId.get(
+								toNaturalIdKey( hydratedValues, true, session )
+						);
+						if ( matchingPositions != null ) {
+							for ( int position : matchingPositions ) {
+								if ( ids[position] == null ) {
+									ids[position] = id;
+								}
+							}
+						}
+					}
+				}
+				finally {
+					session.getJdbcCoordinator().getResourceRegistry().release( rs, ps );
+				}
+			}
+			finally {
+				session.getJdbcCoordinator().getResourceRegistry().release( ps );
+				session.getJdbcCoordinator().afterStatementExecution();
+			}
+		}
+		catch (SQLException e) {
+			throw getFactory().getSQLExceptionHelper().convert(
+					e,
+					String.format(
+							"could not resolve %s natural-ids to ids : %s",
+							positions.size(),
+							MessageHelper.infoString( this )
+					),
+					sql
+			);
+		}
+	}
+
+	/**
+	 * Builds the key of the natural id values requested, or hydrated from a result set.
+	 */
+	private NaturalIdKey toNaturalIdKey(Object[] values, boolean hydrated, SharedSessionContractImplementor session) {
+		final int[] naturalIdPropertyIndexes = getNaturalIdentifierProperties();
+		final Type[] types = new Type[naturalIdPropertyIndexes.length];
+		final Object[] keyValues = new Object[naturalIdPropertyIndexes.length];
+		for ( int i = 0; i < naturalIdPropertyIndexes.length; i++ ) {
+			final Type type = getPropertyTypes()[naturalIdPropertyIndexes[i]];
+			if ( type.isEntityType() && ( (EntityType) type ).isReferenceToPrimaryKey() ) {
+				// compare the identifiers, rather than loading the associated entities
+				final EntityType entityType = (EntityType) type;
+				types[i] = entityType.getIdentifierOrUniqueKeyType( getFactory() );
+				keyValues[i] = hydrated
+						? values[i]
+						: ForeignKeys.getEntityIdentifierIfNotUnsaved( entityType.getAssociatedEntityName(), values[i], session );
+			}
+			else {
+				types[i] = type;
+				keyValues[i] = hydrated ? type.resolve( values[i], session, null ) : values[i];
+			}
+		}
+		return new NaturalIdKey( types, keyValues, getFactory() );
+	}
+
+	/**
+	 * Natural id values, compared according to their types.
+	 */
+	private static final class NaturalIdKey {
+		private final Type[] types;
+		private final Object[] values;
+		private final SessionFactoryImplementor factory;
+		private final int hashCode;
+
+		private NaturalIdKey(Type[] types, Object[] values, SessionFactoryImplementor factory) {
+			this.types = types;
+			this.values = values;
+			this.factory = factory;
+			int hashCode = 1;
+			for ( int i = 0; i < types.length; i++ ) {
+				hashCode = 31 * hashCode + ( values[i] == null ? 0 : types[i].getHashCode( values[i], factory ) );
+			}
+			this.hashCode = hashCode;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( !( o instanceof NaturalIdKey ) ) {
+				return false;
+			}
+			final NaturalIdKey other = (NaturalIdKey) o;
+			if ( hashCode != other.hashCode ) {
+				return false;
+			}
+			for ( int i = 0; i < types.length; i++ ) {
+				if ( !types[i].isEqual( values[i], other.values[i], factory ) ) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+
+	private int getNaturalIdColumnSpan() {
+		int span = 0;
+		for ( int naturalIdIdx : getNaturalIdentifierProperties() ) {
+			span += getPropertyColumnNames( naturalIdIdx ).length;
+		}
+		return span;
+	}
+
+	private String[][] getNaturalIdColumnAliases() {
+		final int[] naturalIdPropertyIndexes = getNaturalIdentifierProperties();
+		final String[][] aliases = new String[naturalIdPropertyIndexes.length][];
+		int column = 0;
+		for ( int propIdx = 0; propIdx < naturalIdPropertyIndexes.length; propIdx++ ) {
+			aliases[propIdx] = new String[getPropertyColumnNames( naturalIdPropertyIndexes[propIdx] ).length];
+			for ( int i = 0; i < aliases[propIdx].length; i++ ) {
+				aliases[propIdx][i] = "nid" + column++ + '_';
+			}
+		}
+		return aliases;
+	}
+
+	private String generateEntityIdsByNaturalIdsSql(int batchSize) {
+		EntityPersister rootPersister = getFactory().getEntityPersister( getRootEntityName() );
+		if ( rootPersister != this ) {
+			if ( rootPersister instanceof AbstractEntityPersister ) {
+				return ( (AbstractEntityPersister) rootPersister ).generateEntityIdsByNaturalIdsSql( batchSize );
+			}
+		}
+
+		Select select = new Select( getFactory().getDialect() );
+		if ( getFactory().getSessionFactoryOptions().isCommentsEnabled() ) {
+			select.setComment( "get current natural-id->entity-id state " + getEntityName() );
+		}
+
+		final String rootAlias = getRootAlias();
+		final int[] propertyTableNumbers = getPropertyTableNumbers();
+		final int[] naturalIdPropertyIndexes = this.getNaturalIdentifierProperties();
+		final String[][] naturalIdAliases = getNaturalIdColumnAliases();
+
+		final StringBuilder selectClause = new StringBuilder( identifierSelectFragment( rootAlias, "" ) );
+		final List<String> columns = new ArrayList<>();
+		for ( int propIdx = 0; propIdx < naturalIdPropertyIndexes.length; propIdx++ ) {
+			final int naturalIdIdx = naturalIdPropertyIndexes[propIdx];
+			final String tableAlias = generateTableAlias( rootAlias, propertyTableNumbers[naturalIdIdx] );
+			final String[] aliasedPropertyColumns = StringHelper.qualify( tableAlias, getPropertyColumnNames( naturalIdIdx ) );
+			for ( int i = 0; i < aliasedPropertyColumns.length; i++ ) {
+				selectClause.append( ", " ).append( aliasedPropertyColumns[i] )
+						.append( " as " ).append( naturalIdAliases[propIdx][i] );
+				columns.add( aliasedPropertyColumns[i] );
+			}
+		}
+
+		final StringBuilder whereClause = new StringBuilder();
+		if ( columns.size() == 1 ) {
+			whereClause.append( columns.get( 0 ) ).append( " in (" )
+					.append( StringHelper.repeat( "?", batchSize, ", " ) ).append( ')' );
+		}
+		else if ( getFactory().getDialect().supportsRowValueConstructorSyntaxInInList() ) {
+			final String tuple = '(' + StringHelper.repeat( "?", columns.size(), ", " ) + ')';
+			whereClause.append( '(' ).append( String.join( ", ", columns ) ).append( ") in (" )
+					.append( StringHelper.repeat( tuple, batchSize, ", " ) ).append( ')' );
+		}
+		else {
+			final String tuple = '(' + String.join( "=? and ", columns ) + "=?)";
+			whereClause.append( '(' ).append( StringHelper.repeat( tuple, batchSize, " or " ) ).append( ')' );
+		}
+
+		whereClause.append( whereJoinFragment( getRootAlias(), true, false ) );
+		appendTenantRestriction( whereClause, rootAlias );
+
+		return select.setOuterJoins( "", "" )
+				.setSelectClause( selectClause.toString() )
+				.setFromClause( fromTableFragment( rootAlias ) + fromJoinFragment( rootAlias, true, false ) )
+				.setWhereClause( whereClause.toString() )
+				.toStatementString();
+	}
+
 	private boolean[] determineValueNullness(Object[] naturalIdValues) {
 		boolean[] nullness = new boolean[naturalIdValues.length];
 		for ( int i = 0; i < naturalIdValues.length; i++ ) {
@@ -5595,6 +6055,7 @@ public abstract class AbstractEntityPersister
 		}
 
 		whereClause.append( whereJoinFragment( getRootAlias(), true, false ) );
+		appendTenantRestriction( whereClause, rootAlias );
 
 		return select.setOuterJoins( "", "" ).setWhereClause( whereClause.toString() ).toStatementString();
 	}
@@ -370,6 +370,26 @@ public interface EntityPersister extends EntityDefinition {
 			Object[] naturalIdValues, LockOptions lockOptions,
 			SharedSessionContractImplementor session);
 
+	/**
+	 * Load the ids for the entities based on their natural ids, by batches when supported.
+	 *
+	 * @param naturalIdValues The natural id values of each entity
+	 * @param lockOptions The lock options
+	 * @param batchSize The maximum number of natural ids resolved at once, or 0 for the default
+	 * @param session The session
+	 *
+	 * @return The ids, in the order of the natural ids, with a {@code null} for each natural id not found
+	 */
+	default Serializable[] loadEntityIdsByNaturalIds(
+			List<Object[]> naturalIdValues, LockOptions lockOptions, int batchSize,
+			SharedSessionContractImplementor session) {
+		final Serializable[] ids = new Serializable[naturalIdValues.size()];
+		for ( int i = 0; i < ids.length; i++ ) {
+			ids[i] = loadEntityIdByNaturalId( naturalIdValues.get( i ), lockOptions, session );
+		}
+		return ids;
+	}
+
 	/**
 	 * Load an instance of the persistent class.
 	 */
@@ -415,6 +435,20 @@ public interface EntityPersister extends EntityDefinition {
 	void lock(Serializable id, Object version, Object object, LockOptions lockOptions, SharedSessionContractImplementor session)
 	throws HibernateException;
 
+	/**
+	 * Do a version check of several instances (optional operation), ideally using a single statement
+	 */
+	default void lock(
+			Serializable[] ids,
+			Object[] versions,
+			Object[] objects,
+			LockOptions lockOptions,
+			SharedSessionContractImplementor session) throws HibernateException {
+		for ( int i = 0; i < ids.length; i++ ) {
+			lock( ids[i], versions[i], objects[i], lockOptions, session );
+		}
+	}
+
 	/**
 	 * Persist an instance
 	 */
@@ -116,4 +116,25 @@ public interface Loadable extends EntityPersister {
 	 * @return The proper table alias for qualifying the given column.
 	 */
 	String getTableAliasForColumn(String columnName, String rootAlias);
+
+	/**
+	 * Are the rows of this entity discriminated by tenant, that is does it map a
+	 * {@link org.hibernate.annotations.TenantId} property with the
+	 * {@link org.hibernate.MultiTenancyStrategy#DISCRIMINATOR} strategy?
+	 */
+	default boolean isTenantDiscriminated() {
+		return false;
+	}
+
+	/**
+	 * The restriction of the rows of this entity to those of the session tenant, whose identifier is bound as
+	 * the only parameter of the restriction.
+	 *
+	 * @param alias The root alias of the entity
+	 *
+	 * @return The restriction, or {@code null} if this entity is not discriminated by tenant
+	 */
+	default String tenantDiscriminatorFragment(String alias) {
+		return null;
+	}
 }
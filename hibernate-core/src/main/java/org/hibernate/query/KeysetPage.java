@@ -0,0 +1,76 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import org.hibernate.Incubating;
+
+/**
+ * Identifies a page of query results for {@linkplain Query#getKeysetResultList(KeysetPage) keyset pagination}:
+ * the page size plus the values of the query's ORDER BY expressions for the last row of the previous page.
+ * <p/>
+ * Instances are immutable and serializable, so that they may be handed out as a cursor token for the next page.
+ *
+ * @see KeysetResultList#getNextPage()
+ */
+@Incubating
+public final class KeysetPage implements Serializable {
+	private final int pageSize;
+	private final Object[] key;
+
+	private KeysetPage(int pageSize, Object[] key) {
+		if ( pageSize <= 0 ) {
+			throw new IllegalArgumentException( "Page size must be greater than zero: " + pageSize );
+		}
+		this.pageSize = pageSize;
+		this.key = key;
+	}
+
+	/**
+	 * The first page of results.
+	 *
+	 * @param pageSize The maximum number of results of the page
+	 */
+	public static KeysetPage first(int pageSize) {
+		return new KeysetPage( pageSize, null );
+	}
+
+	/**
+	 * The page of results following the row with the given values of the query's ORDER BY expressions.
+	 *
+	 * @param pageSize The maximum number of results of the page
+	 * @param key The last seen value of each ORDER BY expression, in order
+	 */
+	public static KeysetPage after(int pageSize, Object... key) {
+		if ( key == null || key.length == 0 ) {
+			throw new IllegalArgumentException( "Key values must be specified" );
+		}
+		return new KeysetPage( pageSize, key.clone() );
+	}
+
+	public int getPageSize() {
+		return pageSize;
+	}
+
+	/**
+	 * The last seen value of each ORDER BY expression, or {@code null} for the first page.
+	 */
+	public Object[] getKey() {
+		return key == null ? null : key.clone();
+	}
+
+	public boolean isFirst() {
+		return key == null;
+	}
+
+	@Override
+	public String toString() {
+		return "KeysetPage(" + pageSize + ( key == null ? "" : ", after " + Arrays.toString( key ) ) + ")";
+	}
+}
@@ -0,0 +1,54 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query;
+
+import java.util.List;
+
+import org.hibernate.Incubating;
+
+/**
+ * A page of query results obtained through {@linkplain Query#getKeysetResultList(KeysetPage) keyset pagination}.
+ *
+ * @param <R> The query result type
+ */
+@Incubating
+public final class KeysetResultList<R> {
+	private final List<R> resultList;
+	private final KeysetPage page;
+	private final KeysetPage nextPage;
+
+	public KeysetResultList(List<R> resultList, KeysetPage page, KeysetPage nextPage) {
+		this.resultList = resultList;
+		this.page = page;
+		this.nextPage = nextPage;
+	}
+
+	/**
+	 * The results of this page.
+	 */
+	public List<R> getResultList() {
+		return resultList;
+	}
+
+	/**
+	 * The page these results were requested for.
+	 */
+	public KeysetPage getPage() {
+		return page;
+	}
+
+	/**
+	 * The page following this one, or {@code null} if this is the last page.
+	 */
+	public KeysetPage getNextPage() {
+		return nextPage;
+	}
+
+	public boolean isLastPage() {
+		return nextPage == null;
+	}
+}
@@ -172,6 +172,23 @@ public interface Query<R> extends TypedQuery<R>, org.hibernate.Query<R>, CommonQ
 		return uniqueResult();
 	}
 
+	/**
+	 * Execute the query and return the given page of results, using keyset (seek) pagination: rather
+	 * than skipping the rows of the preceding pages, the query is restricted to the rows following the
+	 * last row of the previous page, as identified by the values of the query's ORDER BY expressions.
+	 * Every page is therefore as cheap to obtain as the first one.
+	 * <p/>
+	 * The query must define an ORDER BY clause of single-valued expressions which are never null and,
+	 * taken together, unique (e.g. ending with the identifier).  Queries using group by, select new,
+	 * collection fetches or a result transformer are not supported, and the first and max results of this
+	 * query are ignored.
+	 *
+	 * @param page The page of results to return
+	 *
+	 * @return The results, along with the page following them
+	 */
+	KeysetResultList<R> getKeysetResultList(KeysetPage page);
+
 	@Override
 	FlushMode getHibernateFlushMode();
 
@@ -39,6 +39,8 @@ import org.hibernate.engine.spi.RowSelection;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.graph.GraphSemantic;
 import org.hibernate.graph.RootGraph;
+import org.hibernate.query.KeysetPage;
+import org.hibernate.query.KeysetResultList;
 import org.hibernate.query.ParameterMetadata;
 import org.hibernate.query.QueryParameter;
 import org.hibernate.query.spi.QueryImplementor;
@@ -96,6 +98,11 @@ public class CriteriaQueryTypeQueryAdapter<X> implements QueryImplementor<X> {
 		return jpqlQuery.list();
 	}
 
+	@Override
+	public KeysetResultList<X> getKeysetResultList(KeysetPage page) {
+		return jpqlQuery.getKeysetResultList( page );
+	}
+
 	@Override
 	public QueryImplementor<X> setCacheMode(CacheMode cacheMode) {
 		jpqlQuery.setCacheMode( cacheMode );
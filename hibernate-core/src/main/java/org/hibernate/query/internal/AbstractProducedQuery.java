@@ -44,9 +44,11 @@ import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
 import org.hibernate.NonUniqueResultException;
 import org.hibernate.PropertyNotFoundException;
+import org.hibernate.QueryException;
 import org.hibernate.QueryParameterException;
 import org.hibernate.ScrollMode;
 import org.hibernate.TypeMismatchException;
+import org.hibernate.engine.jdbc.spi.SlowQueryCapture;
 import org.hibernate.engine.query.spi.EntityGraphQueryHint;
 import org.hibernate.engine.query.spi.HQLQueryPlan;
 import org.hibernate.engine.spi.ExceptionConverter;
@@ -59,6 +61,7 @@ import org.hibernate.graph.RootGraph;
 import org.hibernate.graph.internal.RootGraphImpl;
 import org.hibernate.graph.spi.RootGraphImplementor;
 import org.hibernate.hql.internal.QueryExecutionRequestException;
+import org.hibernate.hql.spi.QueryTranslator;
 import org.hibernate.internal.EmptyScrollableResults;
 import org.hibernate.internal.EntityManagerMessageLogger;
 import org.hibernate.internal.HEMLogging;
@@ -72,6 +75,8 @@ import org.hibernate.jpa.internal.util.LockModeTypeHelper;
 import org.hibernate.property.access.spi.BuiltInPropertyAccessStrategies;
 import org.hibernate.property.access.spi.Getter;
 import org.hibernate.property.access.spi.PropertyAccess;
+import org.hibernate.query.KeysetPage;
+import org.hibernate.query.KeysetResultList;
 import org.hibernate.query.ParameterMetadata;
 import org.hibernate.query.Query;
 import org.hibernate.query.QueryParameter;
@@ -1440,6 +1445,11 @@ public abstract class AbstractProducedQuery<R> implements QueryImplementor<R> {
 		if ( entityGraphQueryHint != null && entityGraphQueryHint.getSemantic() == GraphSemantic.FETCH ) {
 			getProducer().setFetchGraphLoadContext( entityGraphQueryHint.getGraph() );
 		}
+		final SlowQueryCapture slowQueryCapture = getProducer().getJdbcCoordinator().getSlowQueryCapture();
+		if ( slowQueryCapture != null ) {
+			// named queries use their name as comment
+			slowQueryCapture.setQueryName( getComment() != null ? getComment() : getQueryString() );
+		}
 	}
 
 	protected void afterQuery() {
@@ -1452,6 +1462,10 @@ public abstract class AbstractProducedQuery<R> implements QueryImplementor<R> {
 			sessionCacheMode = null;
 		}
 		getProducer().setFetchGraphLoadContext( null );
+		final SlowQueryCapture slowQueryCapture = getProducer().getJdbcCoordinator().getSlowQueryCapture();
+		if ( slowQueryCapture != null ) {
+			slowQueryCapture.setQueryName( null );
+		}
 	}
 
 	@Override
@@ -1568,6 +1582,104 @@ public abstract class AbstractProducedQuery<R> implements QueryImplementor<R> {
 		);
 	}
 
+	@Override
+	public KeysetResultList<R> getKeysetResultList(KeysetPage page) {
+		beforeQuery();
+		try {
+			return doKeysetList( page );
+		}
+		catch (QueryExecutionRequestException he) {
+			throw new IllegalStateException( he );
+		}
+		catch (TypeMismatchException e) {
+			throw new IllegalArgumentException( e );
+		}
+		catch (HibernateException he) {
+			throw getExceptionConverter().convert( he, getLockOptions() );
+		}
+		finally {
+			afterQuery();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	protected KeysetResultList<R> doKeysetList(KeysetPage page) {
+		if ( isNativeQuery() ) {
+			throw new UnsupportedOperationException( "Keyset pagination is not supported for native queries" );
+		}
+		if ( resultTransformer != null ) {
+			throw new IllegalStateException( "Keyset pagination is not supported for queries using a result transformer" );
+		}
+		if ( lockOptions.getLockMode() != null && lockOptions.getLockMode() != LockMode.NONE ) {
+			if ( !getProducer().isTransactionInProgress() ) {
+				throw new TransactionRequiredException( "no transaction is in progress" );
+			}
+		}
+
+		final String expandedQuery = getQueryParameterBindings().expandListValuedParameters( getQueryString(), getProducer() );
+		final KeysetQuery keysetQuery = KeysetQuery.rewrite(
+				expandedQuery,
+				!page.isFirst(),
+				getProducer().getJdbcServices().getJdbcEnvironment().getDialect()
+		);
+		final HQLQueryPlan queryPlan = getProducer().getFactory().getQueryPlanCache().getHQLQueryPlan(
+				keysetQuery.getQueryString(),
+				false,
+				getProducer().getLoadQueryInfluencers().getEnabledFilters()
+		);
+		for ( QueryTranslator translator : queryPlan.getTranslators() ) {
+			// the page size would count the rows of the fetched collections, rather than the entities
+			if ( translator.containsCollectionFetches() ) {
+				throw new QueryException( "Keyset pagination is not supported for queries fetching collections", expandedQuery );
+			}
+		}
+		final QueryParameters queryParameters = makeQueryParametersForExecution( keysetQuery.getQueryString() );
+
+		if ( !page.isFirst() ) {
+			final Object[] key = page.getKey();
+			if ( key.length != keysetQuery.getKeyCount() ) {
+				throw new IllegalArgumentException(
+						"Expecting " + keysetQuery.getKeyCount() + " key values for keyset pagination, but got " + key.length
+				);
+			}
+			final ParameterMetadata parameterMetadata = queryPlan.getParameterMetadata();
+			for ( int i = 0; i < key.length; i++ ) {
+				final String name = keysetQuery.getKeyParameterName( i );
+				Type type = parameterMetadata.getQueryParameter( name ).getHibernateType();
+				if ( type == null ) {
+					type = getProducer().getFactory().resolveParameterBindType( key[i] );
+				}
+				queryParameters.getNamedParameters().put( name, new TypedValue( type, key[i] ) );
+			}
+		}
+
+		// one more row than requested tells whether there is a next page
+		final RowSelection selection = new RowSelection();
+		selection.setMaxRows( page.getPageSize() + 1 );
+		selection.setTimeout( queryOptions.getTimeout() );
+		selection.setFetchSize( queryOptions.getFetchSize() );
+		queryParameters.setRowSelection( selection );
+
+		final List<Object[]> rows = getProducer().list( keysetQuery.getQueryString(), queryParameters );
+		final int size = Math.min( rows.size(), page.getPageSize() );
+		final List<R> results = new ArrayList<>( size );
+		for ( int i = 0; i < size; i++ ) {
+			final Object[] row = rows.get( i );
+			final int width = row.length - keysetQuery.getKeyCount();
+			results.add( (R) ( width == 1 ? row[0] : Arrays.copyOf( row, width ) ) );
+		}
+
+		KeysetPage nextPage = null;
+		if ( rows.size() > page.getPageSize() ) {
+			final Object[] lastRow = rows.get( size - 1 );
+			nextPage = KeysetPage.after(
+					page.getPageSize(),
+					Arrays.copyOfRange( lastRow, lastRow.length - keysetQuery.getKeyCount(), lastRow.length )
+			);
+		}
+		return new KeysetResultList<>( results, page, nextPage );
+	}
+
 	protected abstract QueryParameterBindings getQueryParameterBindings();
 
 	@Override
@@ -0,0 +1,400 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query.internal;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.hibernate.QueryException;
+import org.hibernate.dialect.Dialect;
+
+/**
+ * The rewriting of an HQL query for {@linkplain org.hibernate.query.Query#getKeysetResultList keyset pagination}.
+ * <p/>
+ * The expressions of the query's ORDER BY clause are the key: they are appended to the select clause, so
+ * that the key of the last row of a page can be read, and the rows of the next page are restricted to
+ * those following that key, e.g. {@code (p.name, p.id) > (:keyset_0, :keyset_1)}.  Dialects which do
+ * not support row value constructors, and keys mixing ascending and descending expressions, get the
+ * equivalent expansion {@code p.name > :keyset_0 or (p.name = :keyset_0 and p.id > :keyset_1)}.
+ * <p/>
+ * The key expressions must be single-valued, non-null and, taken together, unique for the paging to be
+ * stable; typically the last one is the identifier.  As they are copied into the where clause, they can
+ * neither refer to select aliases nor to select items by position, and they cannot specify a null precedence.
+ */
+public final class KeysetQuery {
+	private static final String KEY_PARAMETER_PREFIX = "keyset_";
+	private static final String IMPLICIT_ROOT_ALIAS = "keyset_root";
+	private static final Pattern SELECT_ALIAS = Pattern.compile( "(?is).*\\sas\\s+([\\w$]+)" );
+	private static final Pattern NULL_PRECEDENCE = Pattern.compile( "(?is).*\\snulls\\s+(first|last)" );
+	private static final Pattern POSITION = Pattern.compile( "\\d+" );
+
+	private final String queryString;
+	private final int keyCount;
+
+	private KeysetQuery(String queryString, int keyCount) {
+		this.queryString = queryString;
+		this.keyCount = keyCount;
+	}
+
+	/**
+	 * The rewritten HQL, selecting the key expressions after the original select items.
+	 */
+	public String getQueryString() {
+		return queryString;
+	}
+
+	/**
+	 * The number of key expressions, selected as the last items of each result row.
+	 */
+	public int getKeyCount() {
+		return keyCount;
+	}
+
+	/**
+	 * The name of the parameter to bind the last seen value of the given key expression to.
+	 */
+	public String getKeyParameterName(int index) {
+		return KEY_PARAMETER_PREFIX + index;
+	}
+
+	/**
+	 * Rewrite the given HQL query for keyset pagination.
+	 *
+	 * @param hql The HQL, which must define an ORDER BY clause
+	 * @param restricted Whether to restrict the results to the rows following a given key, i.e. whether
+	 * the first page is not requested
+	 * @param dialect The Dialect
+	 *
+	 * @throws QueryException If the query cannot be paged using a key
+	 */
+	public static KeysetQuery rewrite(String hql, boolean restricted, Dialect dialect) {
+		Clauses clauses = new Clauses( hql );
+		if ( clauses.orderBy < 0 ) {
+			throw new QueryException( "Keyset pagination requires an order by clause", hql );
+		}
+		if ( clauses.groupBy >= 0 || clauses.having >= 0 ) {
+			throw new QueryException( "Keyset pagination is not supported for queries using group by", hql );
+		}
+		if ( clauses.from < 0 ) {
+			throw new QueryException( "Keyset pagination requires a from clause", hql );
+		}
+
+		String rootAlias = null;
+		final Set<String> selectAliases = new HashSet<>();
+		if ( clauses.select >= 0 ) {
+			final String selectClause = hql.substring( clauses.select + "select".length(), clauses.from ).trim();
+			if ( selectClause.toLowerCase( Locale.ROOT ).matches( "(distinct\\s+)?new\\b.*" ) ) {
+				throw new QueryException( "Keyset pagination is not supported for queries using select new", hql );
+			}
+			for ( String item : splitTopLevel( selectClause ) ) {
+				final Matcher matcher = SELECT_ALIAS.matcher( item.trim() );
+				if ( matcher.matches() ) {
+					selectAliases.add( matcher.group( 1 ).toLowerCase( Locale.ROOT ) );
+				}
+			}
+		}
+		else {
+			// the implicit select clause is made explicit, so that the key can be added to it
+			final String fromClause = hql.substring( clauses.from + "from".length(), clauses.firstClauseAfter( clauses.from ) );
+			final String[] words = fromClause.trim().split( "\\s+" );
+			if ( fromClause.indexOf( ',' ) >= 0 || hasNonFetchJoin( words ) ) {
+				throw new QueryException(
+						"Keyset pagination of a query with an implicit select clause requires a single root entity; "
+								+ "specify the select clause",
+						hql
+				);
+			}
+			if ( words.length > 2 && words[1].equalsIgnoreCase( "as" ) ) {
+				rootAlias = words[2];
+			}
+			else if ( words.length > 1 && !isJoinKeyword( words[1] ) ) {
+				rootAlias = words[1];
+			}
+			else {
+				rootAlias = IMPLICIT_ROOT_ALIAS;
+				final int entityNameEnd = hql.indexOf( words[0], clauses.from + "from".length() ) + words[0].length();
+				hql = hql.substring( 0, entityNameEnd ) + ' ' + rootAlias + hql.substring( entityNameEnd );
+				clauses = new Clauses( hql );
+			}
+		}
+
+		final List<String> keys = new ArrayList<>();
+		final List<Boolean> descending = new ArrayList<>();
+		for ( String item : splitTopLevel( hql.substring( clauses.orderByEnd ) ) ) {
+			final String trimmed = item.trim();
+			if ( NULL_PRECEDENCE.matcher( trimmed ).matches() ) {
+				throw new QueryException( "Keyset pagination does not support null precedence: " + trimmed, hql );
+			}
+			final String[] words = trimmed.split( "\\s+" );
+			final String direction = words[words.length - 1].toLowerCase( Locale.ROOT );
+			final boolean desc = direction.equals( "desc" ) || direction.equals( "descending" );
+			final boolean asc = direction.equals( "asc" ) || direction.equals( "ascending" );
+			final String key = desc || asc ? trimmed.substring( 0, trimmed.length() - direction.length() ).trim() : trimmed;
+			if ( POSITION.matcher( key ).matches() ) {
+				throw new QueryException( "Keyset pagination does not support ordering by select item position: " + key, hql );
+			}
+			if ( selectAliases.contains( key.toLowerCase( Locale.ROOT ) ) ) {
+				throw new QueryException(
+						"Keyset pagination does not support ordering by select alias: " + key + "; order by the expression",
+						hql
+				);
+			}
+			keys.add( key );
+			descending.add( desc );
+		}
+
+		final StringBuilder result = new StringBuilder();
+		if ( rootAlias == null ) {
+			result.append( hql.substring( 0, clauses.from ).trim() );
+		}
+		else {
+			result.append( hql, 0, clauses.from ).append( "select " ).append( rootAlias );
+		}
+		for ( String key : keys ) {
+			result.append( ", " ).append( key );
+		}
+		result.append( ' ' );
+
+		if ( !restricted ) {
+			result.append( hql, clauses.from, hql.length() );
+		}
+		else {
+			final String restriction = renderRestriction( keys, descending, dialect );
+			if ( clauses.where >= 0 ) {
+				final int whereEnd = clauses.firstClauseAfter( clauses.where );
+				result.append( hql, clauses.from, clauses.where )
+						.append( "where (" )
+						.append( hql.substring( clauses.where + "where".length(), whereEnd ).trim() )
+						.append( ") and " )
+						.append( restriction )
+						.append( ' ' )
+						.append( hql, whereEnd, hql.length() );
+			}
+			else {
+				result.append( hql, clauses.from, clauses.orderBy )
+						.append( "where " )
+						.append( restriction )
+						.append( ' ' )
+						.append( hql, clauses.orderBy, hql.length() );
+			}
+		}
+		return new KeysetQuery( result.toString(), keys.size() );
+	}
+
+	private static String renderRestriction(List<String> keys, List<Boolean> descending, Dialect dialect) {
+		final StringBuilder restriction = new StringBuilder( "(" );
+		if ( keys.size() > 1 && !descending.contains( !descending.get( 0 ) ) && dialect.supportsRowValueConstructorSyntax() ) {
+			final StringBuilder parameters = new StringBuilder();
+			restriction.append( '(' );
+			for ( int i = 0; i < keys.size(); i++ ) {
+				if ( i > 0 ) {
+					restriction.append( ", " );
+					parameters.append( ", " );
+				}
+				restriction.append( keys.get( i ) );
+				parameters.append( ':' ).append( KEY_PARAMETER_PREFIX ).append( i );
+			}
+			restriction.append( ") " )
+					.append( descending.get( 0 ) ? '<' : '>' )
+					.append( " (" )
+					.append( parameters )
+					.append( ')' );
+		}
+		else {
+			for ( int i = 0; i < keys.size(); i++ ) {
+				if ( i > 0 ) {
+					restriction.append( " or " );
+				}
+				restriction.append( '(' );
+				for ( int j = 0; j < i; j++ ) {
+					restriction.append( keys.get( j ) ).append( " = :" ).append( KEY_PARAMETER_PREFIX ).append( j ).append( " and " );
+				}
+				restriction.append( keys.get( i ) )
+						.append( descending.get( i ) ? " < :" : " > :" )
+						.append( KEY_PARAMETER_PREFIX )
+						.append( i )
+						.append( ')' );
+			}
+		}
+		return restriction.append( ')' ).toString();
+	}
+
+	private static boolean hasNonFetchJoin(String[] words) {
+		for ( int i = 0; i < words.length; i++ ) {
+			if ( words[i].equalsIgnoreCase( "join" )
+					&& ( i + 1 == words.length || !words[i + 1].equalsIgnoreCase( "fetch" ) ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean isJoinKeyword(String word) {
+		switch ( word.toLowerCase( Locale.ROOT ) ) {
+			case "join":
+			case "left":
+			case "right":
+			case "inner":
+			case "outer":
+			case "full":
+			case "cross":
+			case "fetch":
+				return true;
+			default:
+				return false;
+		}
+	}
+
+	private static List<String> splitTopLevel(String fragment) {
+		final List<String> items = new ArrayList<>();
+		int depth = 0;
+		int start = 0;
+		for ( int i = 0; i < fragment.length(); i++ ) {
+			final char c = fragment.charAt( i );
+			if ( c == '\'' || c == '`' || c == '"' ) {
+				i = skipQuoted( fragment, i );
+			}
+			else if ( c == '(' ) {
+				depth++;
+			}
+			else if ( c == ')' ) {
+				depth--;
+			}
+			else if ( c == ',' && depth == 0 ) {
+				items.add( fragment.substring( start, i ) );
+				start = i + 1;
+			}
+		}
+		items.add( fragment.substring( start ) );
+		return items;
+	}
+
+	private static int skipQuoted(String text, int start) {
+		final char quote = text.charAt( start );
+		int i = start + 1;
+		while ( i < text.length() ) {
+			if ( text.charAt( i ) == quote ) {
+				if ( i + 1 < text.length() && text.charAt( i + 1 ) == quote ) {
+					i += 2;
+					continue;
+				}
+				return i;
+			}
+			i++;
+		}
+		return i;
+	}
+
+	/**
+	 * The positions of the top level clauses of an HQL query.
+	 */
+	private static class Clauses {
+		private int select = -1;
+		private int from = -1;
+		private int where = -1;
+		private int groupBy = -1;
+		private int having = -1;
+		private int orderBy = -1;
+		private int orderByEnd = -1;
+
+		private Clauses(String hql) {
+			int depth = 0;
+			int i = 0;
+			while ( i < hql.length() ) {
+				final char c = hql.charAt( i );
+				if ( c == '\'' || c == '`' || c == '"' ) {
+					i = skipQuoted( hql, i ) + 1;
+				}
+				else if ( c == '(' ) {
+					depth++;
+					i++;
+				}
+				else if ( c == ')' ) {
+					depth--;
+					i++;
+				}
+				else if ( Character.isJavaIdentifierStart( c ) ) {
+					final int wordStart = i;
+					while ( i < hql.length() && ( Character.isJavaIdentifierPart( hql.charAt( i ) ) || hql.charAt( i ) == '.' ) ) {
+						i++;
+					}
+					if ( depth == 0 && ( wordStart == 0 || hql.charAt( wordStart - 1 ) != ':' ) ) {
+						keyword( hql, hql.substring( wordStart, i ).toLowerCase( Locale.ROOT ), wordStart, i );
+					}
+				}
+				else {
+					i++;
+				}
+			}
+		}
+
+		private void keyword(String hql, String word, int start, int end) {
+			switch ( word ) {
+				case "select":
+					if ( select < 0 ) {
+						select = start;
+					}
+					break;
+				case "from":
+					if ( from < 0 ) {
+						from = start;
+					}
+					break;
+				case "where":
+					if ( where < 0 ) {
+						where = start;
+					}
+					break;
+				case "having":
+					having = start;
+					break;
+				case "group":
+				case "order":
+					final int byEnd = followingBy( hql, end );
+					if ( byEnd > 0 ) {
+						if ( word.equals( "group" ) ) {
+							groupBy = start;
+						}
+						else {
+							orderBy = start;
+							orderByEnd = byEnd;
+						}
+					}
+					break;
+				default:
+			}
+		}
+
+		private static int followingBy(String hql, int position) {
+			int i = position;
+			while ( i < hql.length() && Character.isWhitespace( hql.charAt( i ) ) ) {
+				i++;
+			}
+			if ( i > position
+					&& hql.regionMatches( true, i, "by", 0, 2 )
+					&& ( i + 2 == hql.length() || !Character.isJavaIdentifierPart( hql.charAt( i + 2 ) ) ) ) {
+				return i + 2;
+			}
+			return -1;
+		}
+
+		private int firstClauseAfter(int position) {
+			int result = Integer.MAX_VALUE;
+			for ( int clause : new int[] { where, groupBy, having, orderBy } ) {
+				if ( clause > position && clause < result ) {
+					result = clause;
+				}
+			}
+			return result;
+		}
+	}
+}
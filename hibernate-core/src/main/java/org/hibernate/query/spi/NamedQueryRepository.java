@@ -6,9 +6,15 @@
  */
 package org.hibernate.query.spi;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
 
 import org.hibernate.HibernateException;
 import org.hibernate.Incubating;
@@ -145,58 +151,113 @@ public class NamedQueryRepository {
 	}
 
 	public Map<String,HibernateException> checkNamedQueries(QueryPlanCache queryPlanCache) {
-		Map<String,HibernateException> errors = new HashMap<String,HibernateException>();
+		return checkNamedQueries( queryPlanCache, 1 );
+	}
+
+	/**
+	 * Check the named queries by translating them, the plans being pinned in the query plan cache.
+	 *
+	 * @param queryPlanCache The query plan cache
+	 * @param parallelism The number of threads of the fork-join pool translating the queries, the
+	 * queries being translated by the calling thread if {@code 1}
+	 *
+	 * @return The errors of the queries which could not be translated, by query name
+	 */
+	public Map<String,HibernateException> checkNamedQueries(QueryPlanCache queryPlanCache, int parallelism) {
+		final Map<String,HibernateException> errors = new ConcurrentHashMap<>();
+		final List<Runnable> checks = new ArrayList<>( namedQueryDefinitionMap.size() + namedSqlQueryDefinitionMap.size() );
 
 		// Check named HQL queries
 		log.debugf( "Checking %s named HQL queries", namedQueryDefinitionMap.size() );
 		for ( NamedQueryDefinition namedQueryDefinition : namedQueryDefinitionMap.values() ) {
-			// this will throw an error if there's something wrong.
-			try {
-				log.debugf( "Checking named query: %s", namedQueryDefinition.getName() );
-				//TODO: BUG! this currently fails for named queries for non-POJO entities
-				queryPlanCache.getHQLQueryPlan( namedQueryDefinition.getQueryString(), false, Collections.EMPTY_MAP );
-			}
-			catch ( HibernateException e ) {
-				errors.put( namedQueryDefinition.getName(), e );
-			}
-
-
+			checks.add( () -> checkNamedQuery( namedQueryDefinition, queryPlanCache, errors ) );
 		}
 
 		// Check native-sql queries
 		log.debugf( "Checking %s named SQL queries", namedSqlQueryDefinitionMap.size() );
 		for ( NamedSQLQueryDefinition namedSQLQueryDefinition : namedSqlQueryDefinitionMap.values() ) {
-			// this will throw an error if there's something wrong.
+			checks.add( () -> checkNamedSQLQuery( namedSQLQueryDefinition, queryPlanCache, errors ) );
+		}
+
+		if ( parallelism <= 1 || checks.size() <= 1 ) {
+			checks.forEach( Runnable::run );
+		}
+		else {
+			final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+			final ForkJoinPool pool = new ForkJoinPool(
+					Math.min( parallelism, checks.size() ),
+					forkJoinPool -> {
+						final ForkJoinWorkerThread thread =
+								ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread( forkJoinPool );
+						thread.setContextClassLoader( classLoader );
+						return thread;
+					},
+					null,
+					false
+			);
 			try {
-				log.debugf( "Checking named SQL query: %s", namedSQLQueryDefinition.getName() );
-				// TODO : would be really nice to cache the spec on the query-def so as to not have to re-calc the hash;
-				// currently not doable though because of the resultset-ref stuff...
-				NativeSQLQuerySpecification spec;
-				if ( namedSQLQueryDefinition.getResultSetRef() != null ) {
-					ResultSetMappingDefinition definition = getResultSetMappingDefinition( namedSQLQueryDefinition.getResultSetRef() );
-					if ( definition == null ) {
-						throw new MappingException( "Unable to find resultset-ref definition: " + namedSQLQueryDefinition.getResultSetRef() );
-					}
-					spec = new NativeSQLQuerySpecification(
-							namedSQLQueryDefinition.getQueryString(),
-							definition.getQueryReturns(),
-							namedSQLQueryDefinition.getQuerySpaces()
-					);
-				}
-				else {
-					spec =  new NativeSQLQuerySpecification(
-							namedSQLQueryDefinition.getQueryString(),
-							namedSQLQueryDefinition.getQueryReturns(),
-							namedSQLQueryDefinition.getQuerySpaces()
-					);
+				final List<ForkJoinTask<?>> tasks = new ArrayList<>( checks.size() );
+				for ( Runnable check : checks ) {
+					tasks.add( pool.submit( check ) );
 				}
-				queryPlanCache.getNativeSQLQueryPlan( spec );
+				// rethrows any unexpected failure
+				tasks.forEach( ForkJoinTask::join );
 			}
-			catch ( HibernateException e ) {
-				errors.put( namedSQLQueryDefinition.getName(), e );
+			finally {
+				pool.shutdown();
 			}
 		}
 
-		return errors;
+		return new HashMap<>( errors );
+	}
+
+	private void checkNamedQuery(
+			NamedQueryDefinition namedQueryDefinition,
+			QueryPlanCache queryPlanCache,
+			Map<String,HibernateException> errors) {
+		// this will throw an error if there's something wrong.
+		try {
+			log.debugf( "Checking named query: %s", namedQueryDefinition.getName() );
+			//TODO: BUG! this currently fails for named queries for non-POJO entities
+			queryPlanCache.pinHQLQueryPlan( namedQueryDefinition.getQueryString(), false );
+		}
+		catch ( HibernateException e ) {
+			errors.put( namedQueryDefinition.getName(), e );
+		}
+	}
+
+	private void checkNamedSQLQuery(
+			NamedSQLQueryDefinition namedSQLQueryDefinition,
+			QueryPlanCache queryPlanCache,
+			Map<String,HibernateException> errors) {
+		// this will throw an error if there's something wrong.
+		try {
+			log.debugf( "Checking named SQL query: %s", namedSQLQueryDefinition.getName() );
+			// TODO : would be really nice to cache the spec on the query-def so as to not have to re-calc the hash;
+			// currently not doable though because of the resultset-ref stuff...
+			NativeSQLQuerySpecification spec;
+			if ( namedSQLQueryDefinition.getResultSetRef() != null ) {
+				ResultSetMappingDefinition definition = getResultSetMappingDefinition( namedSQLQueryDefinition.getResultSetRef() );
+				if ( definition == null ) {
+					throw new MappingException( "Unable to find resultset-ref definition: " + namedSQLQueryDefinition.getResultSetRef() );
+				}
+				spec = new NativeSQLQuerySpecification(
+						namedSQLQueryDefinition.getQueryString(),
+						definition.getQueryReturns(),
+						namedSQLQueryDefinition.getQuerySpaces()
+				);
+			}
+			else {
+				spec =  new NativeSQLQuerySpecification(
+						namedSQLQueryDefinition.getQueryString(),
+						namedSQLQueryDefinition.getQueryReturns(),
+						namedSQLQueryDefinition.getQuerySpaces()
+				);
+			}
+			queryPlanCache.pinNativeSQLQueryPlan( spec );
+		}
+		catch ( HibernateException e ) {
+			errors.put( namedSQLQueryDefinition.getName(), e );
+		}
 	}
 }
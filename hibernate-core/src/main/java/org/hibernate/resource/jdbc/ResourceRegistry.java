@@ -9,6 +9,7 @@ package org.hibernate.resource.jdbc;
 import java.sql.Blob;
 import java.sql.Clob;
 import java.sql.NClob;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.Statement;
 
@@ -43,6 +44,52 @@ public interface ResourceRegistry {
 	 */
 	void release(Statement statement);
 
+	/**
+	 * Register a JDBC prepared statement which, once {@linkplain #release(Statement) released}, may be kept
+	 * open to be handed out again by {@link #getCachedStatement} for the same SQL and result set type.
+	 *
+	 * @param statement The statement to register.
+	 * @param cancelable Is the statement being registered capable of being cancelled?
+	 * @param sql The SQL of the statement
+	 * @param resultSetType The type of the result sets of the statement
+	 */
+	default void register(PreparedStatement statement, boolean cancelable, String sql, int resultSetType) {
+		register( statement, cancelable );
+	}
+
+	/**
+	 * Obtain a statement kept open after being released, if this registry caches statements.  The statement
+	 * must be registered again, through {@link #register(PreparedStatement, boolean, String, int)}.
+	 *
+	 * @param sql The SQL of the statement
+	 * @param resultSetType The type of the result sets of the statement
+	 *
+	 * @return The statement, or {@code null} if none is available
+	 */
+	default PreparedStatement getCachedStatement(String sql, int resultSetType) {
+		return null;
+	}
+
+	/**
+	 * Close the statements kept open for reuse, before the connection they were prepared on is released.
+	 */
+	default void releaseCachedStatements() {
+	}
+
+	/**
+	 * The number of times a statement kept open for reuse was handed out.
+	 */
+	default long getStatementCacheHitCount() {
+		return 0;
+	}
+
+	/**
+	 * The number of times no statement kept open for reuse was available.
+	 */
+	default long getStatementCacheMissCount() {
+		return 0;
+	}
+
 	/**
 	 * Register a JDBC result set.
 	 * <p/>
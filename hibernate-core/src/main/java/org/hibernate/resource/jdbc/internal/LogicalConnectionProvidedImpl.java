@@ -59,6 +59,7 @@ public class LogicalConnectionProvidedImpl extends AbstractLogicalConnectionImpl
 		log.trace( "Closing logical connection" );
 
 		getResourceRegistry().releaseResources();
+		getResourceRegistry().releaseCachedStatements();
 
 		try {
 			return providedConnection;
@@ -106,6 +107,7 @@ public class LogicalConnectionProvidedImpl extends AbstractLogicalConnectionImpl
 		errorIfClosed();
 		try {
 			resourceRegistry.releaseResources();
+			resourceRegistry.releaseCachedStatements();
 			return providedConnection;
 		}
 		finally {
@@ -9,6 +9,7 @@ package org.hibernate.resource.jdbc.internal;
 import java.sql.Blob;
 import java.sql.Clob;
 import java.sql.NClob;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
@@ -60,12 +61,26 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 
 	private Statement lastQuery;
 
+	private final StatementCache statementCache;
+
 	public ResourceRegistryStandardImpl() {
 		this( null );
 	}
 
 	public ResourceRegistryStandardImpl(JdbcObserver jdbcObserver) {
+		this( jdbcObserver, 0 );
+	}
+
+	/**
+	 * Constructs a ResourceRegistryStandardImpl
+	 *
+	 * @param jdbcObserver The observer notified of the release of the resources
+	 * @param statementCacheSize The maximum number of released prepared statements kept open for
+	 * reuse; 0 to close them as soon as they are released
+	 */
+	public ResourceRegistryStandardImpl(JdbcObserver jdbcObserver, int statementCacheSize) {
 		this.jdbcObserver = jdbcObserver;
+		this.statementCache = statementCacheSize > 0 ? new StatementCache( statementCacheSize ) : null;
 	}
 
 	@Override
@@ -100,19 +115,58 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 		if ( resultSets != null ) {
 			closeAll( resultSets );
 		}
+		else if ( statementCache != null && statementCache.isAvailable( statement ) ) {
+			// released already, and kept for reuse
+			return;
+		}
 		else {
 			// Keep this at DEBUG level, rather than warn.  Numerous connection pool implementations can return a
 			// proxy/wrapper around the JDBC Statement, causing excessive logging here.  See HHH-8210.
 			log.unregisteredStatement();
 		}
 
-		close( statement );
+		if ( statementCache == null || !statementCache.release( statement ) ) {
+			close( statement );
+		}
 
 		if ( lastQuery == statement ) {
 			lastQuery = null;
 		}
 	}
 
+	@Override
+	public void register(PreparedStatement statement, boolean cancelable, String sql, int resultSetType) {
+		register( statement, cancelable );
+		if ( statementCache != null ) {
+			statementCache.inUse( statement, sql, resultSetType );
+		}
+	}
+
+	@Override
+	public PreparedStatement getCachedStatement(String sql, int resultSetType) {
+		if ( statementCache == null ) {
+			return null;
+		}
+		return statementCache.get( sql, resultSetType );
+	}
+
+	@Override
+	public void releaseCachedStatements() {
+		if ( statementCache != null ) {
+			statementCache.clear();
+		}
+	}
+
+	@Override
+	public long getStatementCacheHitCount() {
+		return statementCache == null ? 0 : statementCache.getHitCount();
+	}
+
+	@Override
+	public long getStatementCacheMissCount() {
+		return statementCache == null ? 0 : statementCache.getMissCount();
+	}
+
 	@Override
 	public void release(ResultSet resultSet, Statement statement) {
 		log.tracef( "Releasing result set [%s]", resultSet );
@@ -322,6 +376,10 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 
 		xref.forEach( ResourceRegistryStandardImpl::releaseXref );
 		xref.clear();
+		if ( statementCache != null ) {
+			// only the statements released beforehand are kept
+			statementCache.discardInUse();
+		}
 
 		closeAll( unassociatedResultSets );
 
@@ -0,0 +1,210 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.resource.jdbc.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+
+/**
+ * Keeps released prepared statements open for reuse, keyed by their SQL and result set type, and
+ * closes the least recently released ones beyond the maximum size.  Statements are tracked from
+ * the moment they are registered, until they are released back, discarded or found closed.
+ * This class is not threadsafe.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE
+ */
+final class StatementCache {
+	private static final CoreMessageLogger log = CoreLogging.messageLogger( StatementCache.class );
+
+	private final int maxSize;
+
+	// the statements available for reuse, least recently released first
+	private final LinkedHashMap<Key, PreparedStatement> available;
+	// the statements handed out, which may be kept once released
+	private final HashMap<Statement, Usage> inUse = new HashMap<>();
+	// the number of statements in use from which those already closed are forgotten
+	private int inUsePruneSize;
+
+	private long hitCount;
+	private long missCount;
+
+	StatementCache(int maxSize) {
+		this.maxSize = maxSize;
+		this.inUsePruneSize = maxSize;
+		this.available = new LinkedHashMap<Key, PreparedStatement>( 16, 0.75f, false ) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, PreparedStatement> eldest) {
+				if ( size() > StatementCache.this.maxSize ) {
+					ResourceRegistryStandardImpl.close( eldest.getValue() );
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * Obtain an available statement for the given SQL and result set type.
+	 *
+	 * @return The statement, no longer available, or {@code null} if none is available
+	 */
+	PreparedStatement get(String sql, int resultSetType) {
+		final PreparedStatement statement = available.remove( new Key( sql, resultSetType ) );
+		if ( statement != null && !isClosed( statement ) ) {
+			hitCount++;
+			return statement;
+		}
+		missCount++;
+		return null;
+	}
+
+	/**
+	 * Track a statement in use, to keep it once released.  Its fetch size, as yet unchanged by the caller,
+	 * is restored on release.
+	 */
+	void inUse(PreparedStatement statement, String sql, int resultSetType) {
+		final int fetchSize;
+		try {
+			fetchSize = statement.getFetchSize();
+		}
+		catch (SQLException e) {
+			log.debugf( "Unable to read the fetch size of JDBC statement [%s]", e.getMessage() );
+			return;
+		}
+		if ( inUse.size() >= inUsePruneSize ) {
+			// the statements closed by their callers, rather than released, are never released back
+			inUse.keySet().removeIf( StatementCache::isClosed );
+			inUsePruneSize = Math.max( maxSize, inUse.size() * 2 );
+		}
+		inUse.put( statement, new Usage( new Key( sql, resultSetType ), fetchSize ) );
+	}
+
+	/**
+	 * Keep a statement in use for reuse, if it can be cleaned.
+	 *
+	 * @return {@code true} if the statement was kept; otherwise the caller must close it
+	 */
+	boolean release(Statement statement) {
+		final Usage usage = inUse.remove( statement );
+		if ( usage == null || !clean( (PreparedStatement) statement, usage.fetchSize ) ) {
+			return false;
+		}
+		final PreparedStatement previous = available.put( usage.key, (PreparedStatement) statement );
+		if ( previous != null && previous != statement ) {
+			// the same SQL was in use twice at the same time
+			ResourceRegistryStandardImpl.close( previous );
+		}
+		return true;
+	}
+
+	boolean isAvailable(Statement statement) {
+		return available.containsValue( statement );
+	}
+
+	/**
+	 * Forget about the statements in use, being closed.
+	 */
+	void discardInUse() {
+		inUse.clear();
+	}
+
+	/**
+	 * Close the available statements.
+	 */
+	void clear() {
+		if ( !available.isEmpty() ) {
+			log.tracef( "Closing %s cached statements", available.size() );
+			new ArrayList<>( available.values() ).forEach( ResourceRegistryStandardImpl::close );
+			available.clear();
+		}
+		inUse.clear();
+	}
+
+	long getHitCount() {
+		return hitCount;
+	}
+
+	long getMissCount() {
+		return missCount;
+	}
+
+	private static boolean clean(PreparedStatement statement, int fetchSize) {
+		try {
+			statement.clearParameters();
+			statement.clearBatch();
+			statement.clearWarnings();
+			if ( statement.getMaxRows() != 0 ) {
+				statement.setMaxRows( 0 );
+			}
+			if ( statement.getQueryTimeout() != 0 ) {
+				statement.setQueryTimeout( 0 );
+			}
+			if ( statement.getFetchSize() != fetchSize ) {
+				statement.setFetchSize( fetchSize );
+			}
+			return true;
+		}
+		catch (SQLException e) {
+			log.debugf( "Unable to clean JDBC statement for reuse [%s]", e.getMessage() );
+			return false;
+		}
+	}
+
+	private static boolean isClosed(Statement statement) {
+		try {
+			return statement.isClosed();
+		}
+		catch (SQLException e) {
+			return true;
+		}
+	}
+
+	private static final class Usage {
+		private final Key key;
+		private final int fetchSize;
+
+		private Usage(Key key, int fetchSize) {
+			this.key = key;
+			this.fetchSize = fetchSize;
+		}
+	}
+
+	private static final class Key {
+		private final String sql;
+		private final int resultSetType;
+
+		private Key(String sql, int resultSetType) {
+			this.sql = sql;
+			this.resultSetType = resultSetType;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( !( o instanceof Key ) ) {
+				return false;
+			}
+			final Key key = (Key) o;
+			return resultSetType == key.resultSetType && sql.equals( key.sql );
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * sql.hashCode() + resultSetType;
+		}
+	}
+}
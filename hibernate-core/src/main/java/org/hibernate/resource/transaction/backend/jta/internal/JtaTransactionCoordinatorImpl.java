@@ -67,6 +67,9 @@ public class JtaTransactionCoordinatorImpl implements TransactionCoordinator, Sy
 	/**
 	 * Construct a JtaTransactionCoordinatorImpl instance.  package-protected to ensure access goes through
 	 * builder.
+	 * <p/>
+	 * The current JTA transaction is joined right away, unless joining is deferred until the first
+	 * {@link #pulse()} of the session using it, see {@link SessionFactoryOptions#isJtaJoinDeferred()}.
 	 *
 	 * @param owner The transactionCoordinatorOwner
 	 * @param autoJoinTransactions Should JTA transactions be auto-joined?  Or should we wait for explicit join calls?
@@ -89,7 +92,9 @@ public class JtaTransactionCoordinatorImpl implements TransactionCoordinator, Sy
 
 		synchronizationRegistered = false;
 
-		pulse();
+		if ( !sessionFactoryOptions.isJtaJoinDeferred() ) {
+			pulse();
+		}
 	}
 
 	public JtaTransactionCoordinatorImpl(
@@ -50,4 +50,14 @@ public interface EntityStatistics extends CacheableDataStatistics, Serializable
 	 * has experienced an optimistic lock failure.
 	 */
 	long getOptimisticFailureCount();
+
+	/**
+	 * Number of times (since last Statistics clearing) a result set row
+	 * referred to an already managed instance of this entity, so that
+	 * its state did not have to be hydrated from the row
+	 */
+	default long getHydrationSkipCount() {
+		//For backward compatibility
+		return 0;
+	}
 }
@@ -33,5 +33,28 @@ public interface SessionStatistics {
 	 * @see org.hibernate.engine.spi.CollectionKey
 	 */
 	Set getCollectionKeys();
-	
+
+	/**
+	 * Get the number of prepared statements reused from the session's statement cache
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE
+	 */
+	default long getStatementCacheHitCount() {
+		return 0;
+	}
+	/**
+	 * Get the number of prepared statements not found in the session's statement cache
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE
+	 */
+	default long getStatementCacheMissCount() {
+		return 0;
+	}
+	/**
+	 * Get the ratio of prepared statements reused from the session's statement cache,
+	 * or 0 if no statement was looked up in the cache
+	 */
+	default double getStatementCacheHitRatio() {
+		final long lookups = getStatementCacheHitCount() + getStatementCacheMissCount();
+		return lookups == 0 ? 0 : (double) getStatementCacheHitCount() / lookups;
+	}
+
 }
@@ -8,6 +8,7 @@ package org.hibernate.stat;
 
 import javax.management.MXBean;
 
+
 /**
  * Exposes statistics for a particular {@link org.hibernate.SessionFactory}.  Beware of milliseconds metrics, they
  * are dependent of the JVM precision: you may then encounter a 10 ms approximation depending on you OS platform.
@@ -301,6 +302,37 @@ public interface Statistics {
 	 */
 	String[] getQueries();
 
+	/**
+	 * Get the most recently captured slow queries, oldest first, each described along with its bound parameter
+	 * values, timings and possibly execution plan.  Slow queries are captured regardless of whether statistics
+	 * are enabled, but only if {@link org.hibernate.cfg.AvailableSettings#SLOW_QUERY_LOG_SIZE} is set.
+	 * <p>
+	 * The captured queries themselves are available from
+	 * {@link org.hibernate.engine.jdbc.spi.JdbcServices#getSlowQueryLog()}.
+	 */
+	default String[] getSlowQueries() {
+		return new String[0];
+	}
+
+	/**
+	 * Get the identifiers of the tenants statistics are kept for, the maximum number of which is given by the
+	 * {@code hibernate.statistics.tenant_max_size} property.
+	 */
+	default String[] getTenantIdentifiers() {
+		return new String[0];
+	}
+
+	/**
+	 * Get the statistics of the sessions of a tenant
+	 *
+	 * @param tenantIdentifier tenant identifier
+	 * @return TenantStatistics, or {@code null} if tenant statistics are not collected, see
+	 * {@link org.hibernate.cfg.AvailableSettings#TENANT_STATISTICS_MAX_SIZE}
+	 */
+	default TenantStatistics getTenantStatistics(String tenantIdentifier) {
+		return null;
+	}
+
 	/**
 	 * Get the names of all entities
 	 */
@@ -371,6 +403,16 @@ public interface Statistics {
 	@Deprecated
 	NaturalIdCacheStatistics getNaturalIdCacheStatistics(String regionName);
 
+	/**
+	 * Get the global number of result set rows for which the hydration of an entity was
+	 * skipped because the entity was already managed by the persistence context; only the
+	 * identifier (and, when upgrading a lock, the version) is read for such rows.
+	 */
+	default long getEntityHydrationSkipCount() {
+		//For backward compatibility
+		return 0;
+	}
+
 	/**
 	 * Get the global number of query plans successfully retrieved from cache
 	 */
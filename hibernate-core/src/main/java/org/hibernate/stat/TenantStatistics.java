@@ -0,0 +1,76 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat;
+
+import java.io.Serializable;
+
+/**
+ * Statistics of the sessions of a tenant, which are also part of the global statistics.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#TENANT_STATISTICS_MAX_SIZE
+ */
+public interface TenantStatistics extends Serializable {
+	/**
+	 * Number of sessions (since last Statistics clearing) opened for this tenant
+	 */
+	long getSessionOpenCount();
+
+	/**
+	 * Number of transactions (since last Statistics clearing) completed by the sessions of this tenant
+	 */
+	long getTransactionCount();
+
+	/**
+	 * Number of entities (since last Statistics clearing) loaded by the sessions of this tenant
+	 */
+	long getEntityLoadCount();
+
+	/**
+	 * Number of entities (since last Statistics clearing) fetched by the sessions of this tenant
+	 */
+	long getEntityFetchCount();
+
+	/**
+	 * Number of entities (since last Statistics clearing) inserted by the sessions of this tenant
+	 */
+	long getEntityInsertCount();
+
+	/**
+	 * Number of entities (since last Statistics clearing) updated by the sessions of this tenant
+	 */
+	long getEntityUpdateCount();
+
+	/**
+	 * Number of entities (since last Statistics clearing) deleted by the sessions of this tenant
+	 */
+	long getEntityDeleteCount();
+
+	/**
+	 * Number of collections (since last Statistics clearing) loaded by the sessions of this tenant
+	 */
+	long getCollectionLoadCount();
+
+	/**
+	 * Number of collections (since last Statistics clearing) fetched by the sessions of this tenant
+	 */
+	long getCollectionFetchCount();
+
+	/**
+	 * Number of queries (since last Statistics clearing) executed by the sessions of this tenant
+	 */
+	long getQueryExecutionCount();
+
+	/**
+	 * The total time in ms (since last Statistics clearing) of the queries executed by the sessions of this tenant
+	 */
+	long getQueryExecutionTotalTime();
+
+	/**
+	 * The time in ms of the slowest query executed by the sessions of this tenant
+	 */
+	long getQueryExecutionMaxTime();
+}
@@ -39,6 +39,16 @@ public class SessionStatisticsImpl implements SessionStatistics {
 		return Collections.unmodifiableSet( session.getPersistenceContextInternal().getCollectionsByKey().keySet() );
 	}
 	
+	@Override
+	public long getStatementCacheHitCount() {
+		return session.getJdbcCoordinator().getLogicalConnection().getResourceRegistry().getStatementCacheHitCount();
+	}
+
+	@Override
+	public long getStatementCacheMissCount() {
+		return session.getJdbcCoordinator().getLogicalConnection().getResourceRegistry().getStatementCacheMissCount();
+	}
+
 	public String toString() {
 		return new StringBuilder()
 			.append("SessionStatistics[")
@@ -6,6 +6,7 @@
  */
 package org.hibernate.stat.internal;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.LongAdder;
@@ -15,6 +16,8 @@ import org.hibernate.cache.spi.CacheImplementor;
 import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.cache.spi.QueryResultsRegion;
 import org.hibernate.cache.spi.Region;
+import org.hibernate.engine.jdbc.spi.SlowQuery;
+import org.hibernate.engine.jdbc.spi.SlowQueryLog;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.metamodel.model.domain.NavigableRole;
@@ -23,6 +26,7 @@ import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.service.Service;
 import org.hibernate.service.spi.Manageable;
 import org.hibernate.stat.Statistics;
+import org.hibernate.stat.TenantStatistics;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
 import static org.hibernate.internal.CoreLogging.messageLogger;
@@ -60,6 +64,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 	private final LongAdder entityInsertCount = new LongAdder();
 	private final LongAdder entityDeleteCount = new LongAdder();
 	private final LongAdder entityFetchCount = new LongAdder();
+	private final LongAdder entityHydrationSkipCount = new LongAdder();
 	private final LongAdder collectionLoadCount = new LongAdder();
 	private final LongAdder collectionUpdateCount = new LongAdder();
 	private final LongAdder collectionRemoveCount = new LongAdder();
@@ -113,6 +118,13 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 
 	private final StatsNamedContainer<DeprecatedNaturalIdCacheStatisticsImpl> deprecatedNaturalIdStatsMap = new StatsNamedContainer();
 
+	/**
+	 * Keyed by tenant identifier, null if tenant statistics are not collected
+	 */
+	private final StatsNamedContainer<TenantStatisticsImpl> tenantStatsMap;
+
+	private final SlowQueryLog slowQueryLog;
+
 	public StatisticsImpl(SessionFactoryImplementor sessionFactory) {
 		Objects.requireNonNull( sessionFactory );
 		SessionFactoryOptions sessionFactoryOptions = sessionFactory.getSessionFactoryOptions();
@@ -122,12 +134,16 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 					Statistics.DEFAULT_QUERY_STATISTICS_MAX_SIZE,
 				20
 		);
+		this.tenantStatsMap = sessionFactoryOptions.getTenantStatisticsMaxSize() > 0
+				? new StatsNamedContainer<>( sessionFactoryOptions.getTenantStatisticsMaxSize(), 20 )
+				: null;
 		clear();
 		metamodel = sessionFactory.getMetamodel();
 		cache = sessionFactory.getCache();
 		cacheRegionPrefix = sessionFactoryOptions.getCacheRegionPrefix();
 		secondLevelCacheEnabled = sessionFactoryOptions.isSecondLevelCacheEnabled();
 		queryCacheEnabled = sessionFactoryOptions.isQueryCacheEnabled();
+		slowQueryLog = sessionFactory.getJdbcServices().getSlowQueryLog();
 	}
 
 	/**
@@ -159,6 +175,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		entityUpdateCount.reset();
 		entityLoadCount.reset();
 		entityFetchCount.reset();
+		entityHydrationSkipCount.reset();
 
 		collectionRemoveCount.reset();
 		collectionUpdateCount.reset();
@@ -188,11 +205,18 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		l2CacheStatsMap.clear();
 		queryStatsMap.clear();
 		deprecatedNaturalIdStatsMap.clear();
+		if ( tenantStatsMap != null ) {
+			tenantStatsMap.clear();
+		}
 
 		queryPlanCacheHitCount.reset();
 		queryPlanCacheMissCount.reset();
 
 		startTime = System.currentTimeMillis();
+
+		if ( slowQueryLog != null ) {
+			slowQueryLog.clear();
+		}
 	}
 
 	@Override
@@ -238,6 +262,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		return entityFetchCount.sum();
 	}
 
+	@Override
+	public long getEntityHydrationSkipCount() {
+		return entityHydrationSkipCount.sum();
+	}
+
 	@Override
 	public long getEntityDeleteCount() {
 		return entityDeleteCount.sum();
@@ -258,36 +287,107 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		return optimisticFailureCount.sum();
 	}
 
+	@Override
+	public String[] getTenantIdentifiers() {
+		return tenantStatsMap == null ? new String[0] : tenantStatsMap.keysAsArray();
+	}
+
+	@Override
+	public TenantStatistics getTenantStatistics(String tenantIdentifier) {
+		return tenantStatistics( tenantIdentifier );
+	}
+
+	/**
+	 * The statistics of the given tenant, or {@code null} if there is none, or tenant statistics are not collected
+	 */
+	private TenantStatisticsImpl tenantStatistics(String tenantIdentifier) {
+		if ( tenantStatsMap == null || tenantIdentifier == null ) {
+			return null;
+		}
+		return tenantStatsMap.getOrCompute( tenantIdentifier, TenantStatisticsImpl::new );
+	}
+
 	@Override
 	public void loadEntity(String entityName) {
 		entityLoadCount.increment();
 		getEntityStatistics( entityName ).incrementLoadCount();
 	}
 
+	@Override
+	public void loadEntity(String entityName, String tenantIdentifier) {
+		loadEntity( entityName );
+		final TenantStatisticsImpl tenantStatistics = tenantStatistics( tenantIdentifier );
+		if ( tenantStatistics != null ) {
+			tenantStatistics.incrementEntityLoadCount();
+		}
+	}
+
 	@Override
 	public void fetchEntity(String entityName) {
 		entityFetchCount.increment();
 		getEntityStatistics( entityName ).incrementFetchCount();
 	}
 
+	@Override
+	public void fetchEntity(String entityName, String tenantIdentifier) {
+		fetchEntity( entityName );
+		final TenantStatisticsImpl tenantStatistics = tenantStatistics( tenantIdentifier );
+		if ( tenantStatistics != null ) {
+			tenantStatistics.incrementEntityFetchCount();
+		}
+	}
+
+	@Override
+	public void entityHydrationSkipped(String entityName) {
+		entityHydrationSkipCount.increment();
+		getEntityStatistics( entityName ).incrementHydrationSkipCount();
+	}
+
 	@Override
 	public void updateEntity(String entityName) {
 		entityUpdateCount.increment();
 		getEntityStatistics( entityName ).incrementUpdateCount();
 	}
 
+	@Override
+	public void updateEntity(String entityName, String tenantIdentifier) {
+		updateEntity( entityName );
+		final TenantStatisticsImpl tenantStatistics = tenantStatistics( tenantIdentifier );
+		if ( tenantStatistics != null ) {
+			tenantStatistics.incrementEntityUpdateCount();
+		}
+	}
+
 	@Override
 	public void insertEntity(String entityName) {
 		entityInsertCount.increment();
 		getEntityStatistics( entityName ).incrementInsertCount();
 	}
 
+	@Override
+	public void insertEntity(String entityName, String tenantIdentifier) {
+		insertEntity( entityName );
+		final TenantStatisticsImpl tenantStatistics = tenantStatistics( tenantIdentifier );
+		if ( tenantStatistics != null ) {
+			tenantStatistics.incrementEntityInsertCount();
+		}
+	}
+
 	@Override
 	public void deleteEntity(String entityName) {
 		entityDeleteCount.increment();
 		getEntityStatistics( entityName ).incrementDeleteCount();
 	}
 
+	@Override
+	public void deleteEntity(String entityName, String tenantIdentifier) {
+		deleteEntity( entityName );
+		final TenantStatisticsImpl tenantStatistics = tenantStatistics( tenantIdentifier );
+		if ( tenantStatistics != null ) {
+			tenantStatistics.incrementEntityDeleteCount();
+		}
+	}
+
 	@Override
 	public void optimisticFailure(String entityName) {
 		optimisticFailureCount.increment();
@@ -363,12 +463,30 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		getCollectionStatistics( role ).incrementLoadCount();
 	}
 
+	@Override
+	public void loadCollection(String role, String tenantIdentifier) {
+		loadCollection( role );
+		final TenantStatisticsImpl tenantStatistics = tenantStatistics( tenantIdentifier );
+		if ( tenantStatistics != null ) {
+			tenantStatistics.incrementCollectionLoadCount();
+		}
+	}
+
 	@Override
 	public void fetchCollection(String role) {
 		collectionFetchCount.increment();
 		getCollectionStatistics( role ).incrementFetchCount();
 	}
 
+	@Override
+	public void fetchCollection(String role, String tenantIdentifier) {
+		fetchCollection( role );
+		final TenantStatisticsImpl tenantStatistics = tenantStatistics( tenantIdentifier );
+		if ( tenantStatistics != null ) {
+			tenantStatistics.incrementCollectionFetchCount();
+		}
+	}
+
 	@Override
 	public void updateCollection(String role) {
 		collectionUpdateCount.increment();
@@ -686,6 +804,19 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		return queryStatsMap.keysAsArray();
 	}
 
+	@Override
+	public String[] getSlowQueries() {
+		if ( slowQueryLog == null ) {
+			return new String[0];
+		}
+		final List<SlowQuery> slowQueries = slowQueryLog.getSlowQueries();
+		final String[] descriptions = new String[slowQueries.size()];
+		for ( int i = 0; i < descriptions.length; i++ ) {
+			descriptions[i] = slowQueries.get( i ).getDescription();
+		}
+		return descriptions;
+	}
+
 	@Override
 	public QueryStatisticsImpl getQueryStatistics(String queryString) {
 		return queryStatsMap.getOrCompute(
@@ -746,6 +877,15 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		}
 	}
 
+	@Override
+	public void queryExecuted(String hql, int rows, long time, String tenantIdentifier) {
+		queryExecuted( hql, rows, time );
+		final TenantStatisticsImpl tenantStatistics = tenantStatistics( tenantIdentifier );
+		if ( tenantStatistics != null ) {
+			tenantStatistics.queryExecuted( time );
+		}
+	}
+
 	@Override
 	public void queryCacheHit(String hql, String regionName) {
 		LOG.tracef( "Statistics#queryCacheHit( `%s`, `%s` )", hql, regionName );
@@ -868,6 +1008,15 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		sessionOpenCount.increment();
 	}
 
+	@Override
+	public void openSession(String tenantIdentifier) {
+		openSession();
+		final TenantStatisticsImpl tenantStatistics = tenantStatistics( tenantIdentifier );
+		if ( tenantStatistics != null ) {
+			tenantStatistics.incrementSessionOpenCount();
+		}
+	}
+
 	@Override
 	public void closeSession() {
 		sessionCloseCount.increment();
@@ -901,6 +1050,15 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		}
 	}
 
+	@Override
+	public void endTransaction(boolean success, String tenantIdentifier) {
+		endTransaction( success );
+		final TenantStatisticsImpl tenantStatistics = tenantStatistics( tenantIdentifier );
+		if ( tenantStatistics != null ) {
+			tenantStatistics.incrementTransactionCount();
+		}
+	}
+
 	@Override
 	public void logSummary() {
 		LOG.loggingStatistics();
@@ -966,6 +1124,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 				.append( ",entities inserted=" ).append( entityInsertCount )
 				.append( ",entities deleted=" ).append( entityDeleteCount )
 				.append( ",entities fetched=" ).append( entityFetchCount )
+				.append( ",entity hydrations skipped=" ).append( entityHydrationSkipCount )
 				.append( ",collections loaded=" ).append( collectionLoadCount )
 				.append( ",collections updated=" ).append( collectionUpdateCount )
 				.append( ",collections removed=" ).append( collectionRemoveCount )
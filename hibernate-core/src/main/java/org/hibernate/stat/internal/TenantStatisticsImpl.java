@@ -0,0 +1,147 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.stat.TenantStatistics;
+
+/**
+ * Tenant related statistics
+ */
+public class TenantStatisticsImpl implements TenantStatistics {
+
+	private final String tenantIdentifier;
+	private final LongAdder sessionOpenCount = new LongAdder();
+	private final LongAdder transactionCount = new LongAdder();
+	private final LongAdder entityLoadCount = new LongAdder();
+	private final LongAdder entityFetchCount = new LongAdder();
+	private final LongAdder entityInsertCount = new LongAdder();
+	private final LongAdder entityUpdateCount = new LongAdder();
+	private final LongAdder entityDeleteCount = new LongAdder();
+	private final LongAdder collectionLoadCount = new LongAdder();
+	private final LongAdder collectionFetchCount = new LongAdder();
+	private final LongAdder queryExecutionCount = new LongAdder();
+	private final LongAdder queryExecutionTotalTime = new LongAdder();
+	private final AtomicLong queryExecutionMaxTime = new AtomicLong();
+
+	TenantStatisticsImpl(String tenantIdentifier) {
+		this.tenantIdentifier = tenantIdentifier;
+	}
+
+	public long getSessionOpenCount() {
+		return sessionOpenCount.sum();
+	}
+
+	public long getTransactionCount() {
+		return transactionCount.sum();
+	}
+
+	public long getEntityLoadCount() {
+		return entityLoadCount.sum();
+	}
+
+	public long getEntityFetchCount() {
+		return entityFetchCount.sum();
+	}
+
+	public long getEntityInsertCount() {
+		return entityInsertCount.sum();
+	}
+
+	public long getEntityUpdateCount() {
+		return entityUpdateCount.sum();
+	}
+
+	public long getEntityDeleteCount() {
+		return entityDeleteCount.sum();
+	}
+
+	public long getCollectionLoadCount() {
+		return collectionLoadCount.sum();
+	}
+
+	public long getCollectionFetchCount() {
+		return collectionFetchCount.sum();
+	}
+
+	public long getQueryExecutionCount() {
+		return queryExecutionCount.sum();
+	}
+
+	public long getQueryExecutionTotalTime() {
+		return queryExecutionTotalTime.sum();
+	}
+
+	public long getQueryExecutionMaxTime() {
+		return queryExecutionMaxTime.get();
+	}
+
+	void incrementSessionOpenCount() {
+		sessionOpenCount.increment();
+	}
+
+	void incrementTransactionCount() {
+		transactionCount.increment();
+	}
+
+	void incrementEntityLoadCount() {
+		entityLoadCount.increment();
+	}
+
+	void incrementEntityFetchCount() {
+		entityFetchCount.increment();
+	}
+
+	void incrementEntityInsertCount() {
+		entityInsertCount.increment();
+	}
+
+	void incrementEntityUpdateCount() {
+		entityUpdateCount.increment();
+	}
+
+	void incrementEntityDeleteCount() {
+		entityDeleteCount.increment();
+	}
+
+	void incrementCollectionLoadCount() {
+		collectionLoadCount.increment();
+	}
+
+	void incrementCollectionFetchCount() {
+		collectionFetchCount.increment();
+	}
+
+	void queryExecuted(long time) {
+		queryExecutionCount.increment();
+		queryExecutionTotalTime.add( time );
+		for ( long old = queryExecutionMaxTime.get(); time > old && !queryExecutionMaxTime.compareAndSet( old, time ); old = queryExecutionMaxTime.get() ) {
+		}
+	}
+
+	public String toString() {
+		return new StringBuilder()
+				.append( "TenantStatistics" )
+				.append( "[tenantIdentifier=" ).append( tenantIdentifier )
+				.append( ",sessionOpenCount=" ).append( this.sessionOpenCount )
+				.append( ",transactionCount=" ).append( this.transactionCount )
+				.append( ",entityLoadCount=" ).append( this.entityLoadCount )
+				.append( ",entityFetchCount=" ).append( this.entityFetchCount )
+				.append( ",entityInsertCount=" ).append( this.entityInsertCount )
+				.append( ",entityUpdateCount=" ).append( this.entityUpdateCount )
+				.append( ",entityDeleteCount=" ).append( this.entityDeleteCount )
+				.append( ",collectionLoadCount=" ).append( this.collectionLoadCount )
+				.append( ",collectionFetchCount=" ).append( this.collectionFetchCount )
+				.append( ",queryExecutionCount=" ).append( this.queryExecutionCount )
+				.append( ",queryExecutionTotalTime=" ).append( this.queryExecutionTotalTime )
+				.append( ",queryExecutionMaxTime=" ).append( this.queryExecutionMaxTime )
+				.append( ']' )
+				.toString();
+	}
+}
@@ -22,6 +22,16 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void openSession();
 
+	/**
+	 * Callback about a session being opened.  Also counted in the statistics of the tenant, if any, see
+	 * {@link #getTenantStatistics}.
+	 *
+	 * @param tenantIdentifier The identifier of the tenant of the session, or {@code null}
+	 */
+	default void openSession(String tenantIdentifier) {
+		openSession();
+	}
+
 	/**
 	 * Callback about a session being closed.
 	 */
@@ -54,6 +64,16 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void endTransaction(boolean success);
 
+	/**
+	 * Callback about a transaction completing.  Also counted in the statistics of the tenant, if any, see
+	 * {@link #getTenantStatistics}.
+	 *
+	 * @param tenantIdentifier The identifier of the tenant of the session, or {@code null}
+	 */
+	default void endTransaction(boolean success, String tenantIdentifier) {
+		endTransaction( success );
+	}
+
 	/**
 	 * Callback about an entity being loaded.  This might indicate a proxy or a fully initialized entity, but in either
 	 * case it means without a separate SQL query being needed.
@@ -62,6 +82,16 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void loadEntity(String entityName);
 
+	/**
+	 * Callback about an entity being loaded.  Also counted in the statistics of the tenant, if any, see
+	 * {@link #getTenantStatistics}.
+	 *
+	 * @param tenantIdentifier The identifier of the tenant of the session, or {@code null}
+	 */
+	default void loadEntity(String entityName, String tenantIdentifier) {
+		loadEntity( entityName );
+	}
+
 	/**
 	 * Callback about an entity being fetched.  Unlike {@link #loadEntity} this indicates a separate query being
 	 * performed.
@@ -70,6 +100,16 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void fetchEntity(String entityName);
 
+	/**
+	 * Callback about an entity being fetched.  Also counted in the statistics of the tenant, if any, see
+	 * {@link #getTenantStatistics}.
+	 *
+	 * @param tenantIdentifier The identifier of the tenant of the session, or {@code null}
+	 */
+	default void fetchEntity(String entityName, String tenantIdentifier) {
+		fetchEntity( entityName );
+	}
+
 	/**
 	 * Callback about an entity being updated.
 	 *
@@ -77,6 +117,16 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void updateEntity(String entityName);
 
+	/**
+	 * Callback about an entity being updated.  Also counted in the statistics of the tenant, if any, see
+	 * {@link #getTenantStatistics}.
+	 *
+	 * @param tenantIdentifier The identifier of the tenant of the session, or {@code null}
+	 */
+	default void updateEntity(String entityName, String tenantIdentifier) {
+		updateEntity( entityName );
+	}
+
 	/**
 	 * Callback about an entity being inserted
 	 *
@@ -84,6 +134,16 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void insertEntity(String entityName);
 
+	/**
+	 * Callback about an entity being inserted.  Also counted in the statistics of the tenant, if any, see
+	 * {@link #getTenantStatistics}.
+	 *
+	 * @param tenantIdentifier The identifier of the tenant of the session, or {@code null}
+	 */
+	default void insertEntity(String entityName, String tenantIdentifier) {
+		insertEntity( entityName );
+	}
+
 	/**
 	 * Callback about an entity being deleted.
 	 *
@@ -91,6 +151,16 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void deleteEntity(String entityName);
 
+	/**
+	 * Callback about an entity being deleted.  Also counted in the statistics of the tenant, if any, see
+	 * {@link #getTenantStatistics}.
+	 *
+	 * @param tenantIdentifier The identifier of the tenant of the session, or {@code null}
+	 */
+	default void deleteEntity(String entityName, String tenantIdentifier) {
+		deleteEntity( entityName );
+	}
+
 	/**
 	 * Callback about an optimistic lock failure on an entity
 	 *
@@ -98,6 +168,16 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void optimisticFailure(String entityName);
 
+	/**
+	 * Callback indicating that a result set row referred to an entity instance which
+	 * was already managed, so that hydrating its state from the row was skipped.
+	 *
+	 * @param entityName The name of the entity
+	 */
+	default void entityHydrationSkipped(String entityName) {
+		//For backward compatibility
+	}
+
 	/**
 	 * Callback about a collection loading.  This might indicate a lazy collection or an initialized collection being
 	 * created, but in either case it means without a separate SQL query being needed.
@@ -106,6 +186,16 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void loadCollection(String role);
 
+	/**
+	 * Callback about a collection loading.  Also counted in the statistics of the tenant, if any, see
+	 * {@link #getTenantStatistics}.
+	 *
+	 * @param tenantIdentifier The identifier of the tenant of the session, or {@code null}
+	 */
+	default void loadCollection(String role, String tenantIdentifier) {
+		loadCollection( role );
+	}
+
 	/**
 	 * Callback to indicate a collection being fetched.  Unlike {@link #loadCollection}, this indicates a separate
 	 * query was needed.
@@ -114,6 +204,16 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void fetchCollection(String role);
 
+	/**
+	 * Callback about a collection being fetched.  Also counted in the statistics of the tenant, if any, see
+	 * {@link #getTenantStatistics}.
+	 *
+	 * @param tenantIdentifier The identifier of the tenant of the session, or {@code null}
+	 */
+	default void fetchCollection(String role, String tenantIdentifier) {
+		fetchCollection( role );
+	}
+
 	/**
 	 * Callback indicating a collection was updated.
 	 *
@@ -233,6 +333,16 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void queryExecuted(String hql, int rows, long time);
 
+	/**
+	 * Callback indicating execution of a sql/hql query.  Also counted in the statistics of the tenant, if any, see
+	 * {@link #getTenantStatistics}.
+	 *
+	 * @param tenantIdentifier The identifier of the tenant of the session, or {@code null}
+	 */
+	default void queryExecuted(String hql, int rows, long time, String tenantIdentifier) {
+		queryExecuted( hql, rows, time );
+	}
+
 	/**
 	 * Callback indicating a hit to the timestamp cache
 	 */
@@ -0,0 +1,50 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.tuple;
+
+import org.hibernate.HibernateException;
+import org.hibernate.Session;
+import org.hibernate.annotations.TenantId;
+
+/**
+ * Value generation implementation for {@link TenantId}, assigning the tenant identifier of the session.
+ */
+public class TenantIdGeneration implements AnnotationValueGeneration<TenantId>, ValueGenerator<String> {
+
+	@Override
+	public void initialize(TenantId annotation, Class<?> propertyType) {
+		if ( !String.class.equals( propertyType ) ) {
+			throw new HibernateException(
+					"Unsupported property type [" + propertyType.getName() + "] for @TenantId annotation" );
+		}
+	}
+
+	@Override
+	public GenerationTiming getGenerationTiming() {
+		return GenerationTiming.INSERT;
+	}
+
+	@Override
+	public ValueGenerator<?> getValueGenerator() {
+		return this;
+	}
+
+	@Override
+	public boolean referenceColumnInSql() {
+		return false;
+	}
+
+	@Override
+	public String getDatabaseGeneratedReferencedColumnValue() {
+		return null;
+	}
+
+	@Override
+	public String generateValue(Session session, Object owner) {
+		return session.getTenantIdentifier();
+	}
+}
@@ -22,6 +22,7 @@ import org.hibernate.engine.spi.Mapping;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.util.collections.ArrayHelper;
+import org.hibernate.type.descriptor.ValueExtractor;
 import org.hibernate.type.descriptor.WrapperOptions;
 import org.hibernate.type.descriptor.java.JavaTypeDescriptor;
 import org.hibernate.type.descriptor.java.MutabilityPlan;
@@ -45,6 +46,9 @@ public abstract class AbstractStandardBasicType<T>
 	private JavaTypeDescriptor<T> javaTypeDescriptor;
 	// sqlTypes need always to be in sync with sqlTypeDescriptor
 	private int[] sqlTypes;
+	// extractor for the (non-remapped) sqlTypeDescriptor/javaTypeDescriptor pair; built lazily
+	// and reset whenever either descriptor changes
+	private transient ValueExtractor<T> extractor;
 
 	public AbstractStandardBasicType(SqlTypeDescriptor sqlTypeDescriptor, JavaTypeDescriptor<T> javaTypeDescriptor) {
 		this.sqlTypeDescriptor = sqlTypeDescriptor;
@@ -111,6 +115,7 @@ public abstract class AbstractStandardBasicType<T>
 
 	public final void setJavaTypeDescriptor( JavaTypeDescriptor<T> javaTypeDescriptor ) {
 		this.javaTypeDescriptor = javaTypeDescriptor;
+		this.extractor = null;
 	}
 
 	public final SqlTypeDescriptor getSqlTypeDescriptor() {
@@ -120,6 +125,7 @@ public abstract class AbstractStandardBasicType<T>
 	public final void setSqlTypeDescriptor( SqlTypeDescriptor sqlTypeDescriptor ) {
 		this.sqlTypeDescriptor = sqlTypeDescriptor;
 		this.sqlTypes = new int[] { sqlTypeDescriptor.getSqlType() };
+		this.extractor = null;
 	}
 
 	@Override
@@ -254,7 +260,25 @@ public abstract class AbstractStandardBasicType<T>
 	}
 
 	protected final T nullSafeGet(ResultSet rs, String name, WrapperOptions options) throws SQLException {
-		return remapSqlTypeDescriptor( options ).getExtractor( javaTypeDescriptor ).extract( rs, name, options );
+		return getExtractor( options ).extract( rs, name, options );
+	}
+
+	/**
+	 * Resolve the extractor to use for the given options.  This is called for every value read from
+	 * a ResultSet, so unless the Dialect remaps our SqlTypeDescriptor we reuse a single extractor
+	 * instance rather than building a new one per value.
+	 */
+	protected final ValueExtractor<T> getExtractor(WrapperOptions options) {
+		final SqlTypeDescriptor remapped = remapSqlTypeDescriptor( options );
+		if ( remapped != sqlTypeDescriptor ) {
+			return remapped.getExtractor( javaTypeDescriptor );
+		}
+		ValueExtractor<T> cached = extractor;
+		if ( cached == null ) {
+			cached = remapped.getExtractor( javaTypeDescriptor );
+			extractor = cached;
+		}
+		return cached;
 	}
 
 	public Object get(ResultSet rs, String name, SharedSessionContractImplementor session) throws HibernateException, SQLException {
@@ -375,7 +399,7 @@ public abstract class AbstractStandardBasicType<T>
 
 	@Override
 	public T extract(CallableStatement statement, int startIndex, final SharedSessionContractImplementor session) throws SQLException {
-		return remapSqlTypeDescriptor( session ).getExtractor( javaTypeDescriptor ).extract(
+		return getExtractor( session ).extract(
 				statement,
 				startIndex,
 				session
@@ -384,7 +408,7 @@ public abstract class AbstractStandardBasicType<T>
 
 	@Override
 	public T extract(CallableStatement statement, String[] paramNames, final SharedSessionContractImplementor session) throws SQLException {
-		return remapSqlTypeDescriptor( session ).getExtractor( javaTypeDescriptor ).extract(
+		return getExtractor( session ).extract(
 				statement,
 				paramNames,
 				session
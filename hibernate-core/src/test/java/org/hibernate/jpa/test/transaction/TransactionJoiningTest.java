@@ -70,6 +70,21 @@ public class TransactionJoiningTest extends BaseEntityManagerFunctionalTestCase
 		}
 	}
 
+	@Test
+	public void testIsJoinedToTransactionDoesNotJoin() throws Exception {
+		// the EM is opened before the transaction is started, and only asked whether it joined it
+		EntityManager entityManager = entityManagerFactory().createEntityManager();
+		TestingJtaPlatformImpl.INSTANCE.getTransactionManager().begin();
+		try {
+			assertFalse( entityManager.isJoinedToTransaction() );
+			assertFalse( entityManager.isJoinedToTransaction() );
+		}
+		finally {
+			TestingJtaPlatformImpl.INSTANCE.getTransactionManager().rollback();
+			entityManager.close();
+		}
+	}
+
 	@Test
 	public void testImplicitJoining() throws Exception {
 		// here the transaction is started before the EM is opened...
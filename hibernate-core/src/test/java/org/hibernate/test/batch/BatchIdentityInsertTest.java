@@ -0,0 +1,146 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.batch;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.dialect.PostgreSQL81Dialect;
+
+import org.hibernate.testing.RequiresDialect;
+import org.hibernate.testing.jdbc.SQLStatementInterceptor;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Inserts of entities with IDENTITY generated identifiers executed as JDBC batches.
+ */
+@RequiresDialect({ H2Dialect.class, PostgreSQL81Dialect.class, MySQLDialect.class })
+public class BatchIdentityInsertTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	private SQLStatementInterceptor sqlStatementInterceptor;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Node.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.STATEMENT_BATCH_SIZE, "10" );
+		settings.put( AvailableSettings.BATCH_IDENTITY_INSERTS, "true" );
+		sqlStatementInterceptor = new SQLStatementInterceptor( settings );
+	}
+
+	@Test
+	public void testBatchedInserts() {
+		final List<Node> nodes = new ArrayList<>();
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 0; i < 5; i++ ) {
+				final Node node = new Node( "node #" + i, null );
+				session.persist( node );
+				nodes.add( node );
+			}
+			// the inserts are delayed until flush
+			assertNull( nodes.get( 0 ).getId() );
+
+			sqlStatementInterceptor.clear();
+			session.flush();
+			sqlStatementInterceptor.assertExecutedCount( 1 );
+
+			final Set<Long> ids = new HashSet<>();
+			for ( Node node : nodes ) {
+				assertNotNull( node.getId() );
+				ids.add( node.getId() );
+				assertSame( node, session.get( Node.class, node.getId() ) );
+			}
+			assertEquals( 5, ids.size() );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			for ( Node node : nodes ) {
+				assertEquals( node.getName(), session.get( Node.class, node.getId() ).getName() );
+			}
+		} );
+	}
+
+	@Test
+	public void testReferencesWithinBatch() {
+		final List<Node> nodes = new ArrayList<>();
+		doInHibernate( this::sessionFactory, session -> {
+			final Node root = new Node( "root", null );
+			session.persist( root );
+			nodes.add( root );
+			for ( int i = 0; i < 3; i++ ) {
+				final Node child = new Node( "child #" + i, root );
+				session.persist( child );
+				nodes.add( child );
+			}
+
+			sqlStatementInterceptor.clear();
+			session.flush();
+			// the children reference the root, which has to be inserted first
+			sqlStatementInterceptor.assertExecutedCount( 2 );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final Long rootId = nodes.get( 0 ).getId();
+			for ( Node node : nodes.subList( 1, nodes.size() ) ) {
+				assertEquals( rootId, session.get( Node.class, node.getId() ).getParent().getId() );
+			}
+		} );
+	}
+
+	@Entity(name = "Node")
+	public static class Node {
+		@Id
+		@GeneratedValue(strategy = GenerationType.IDENTITY)
+		private Long id;
+
+		private String name;
+
+		@ManyToOne
+		private Node parent;
+
+		public Node() {
+		}
+
+		public Node(String name, Node parent) {
+			this.name = name;
+			this.parent = parent;
+		}
+
+		public Long getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public Node getParent() {
+			return parent;
+		}
+	}
+}
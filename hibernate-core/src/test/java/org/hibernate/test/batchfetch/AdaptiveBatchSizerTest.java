@@ -0,0 +1,84 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.batchfetch;
+
+import org.hibernate.loader.AdaptiveBatchSizer;
+
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class AdaptiveBatchSizerTest extends BaseUnitTestCase {
+
+	@Test
+	public void testPaddingDuringWarmUp() {
+		// batch sizes are [32, 16, 10, 9, 8, 7, 6, 5, 4, 3, 2, 1]
+		final AdaptiveBatchSizer sizer = new AdaptiveBatchSizer( 32 );
+		assertEquals( 32, sizeFor( sizer, 31 ) );
+		assertEquals( 16, sizeFor( sizer, 11 ) );
+		assertEquals( 7, sizeFor( sizer, 7 ) );
+		assertEquals( 1, sizeFor( sizer, 1 ) );
+		assertEquals( 32, sizeFor( sizer, 100 ) );
+	}
+
+	@Test
+	public void testRarelyNeededSizesAreNotUsed() {
+		final AdaptiveBatchSizer sizer = new AdaptiveBatchSizer( 32 );
+		for ( int i = 0; i < 50; i++ ) {
+			sizeFor( sizer, 9 );
+			sizeFor( sizer, 14 );
+		}
+
+		// padded up to the next size in use
+		assertEquals( 9, sizeFor( sizer, 3 ) );
+		assertEquals( 16, sizeFor( sizer, 12 ) );
+		// capped at the largest size in use
+		assertEquals( 16, sizeFor( sizer, 30 ) );
+		// a lone id is never padded
+		assertEquals( 1, sizeFor( sizer, 1 ) );
+	}
+
+	@Test
+	public void testFollowsWorkloadChanges() {
+		final AdaptiveBatchSizer sizer = new AdaptiveBatchSizer( 32 );
+		for ( int i = 0; i < 100; i++ ) {
+			sizeFor( sizer, 5 );
+		}
+		assertEquals( 5, sizeFor( sizer, 20 ) );
+
+		for ( int i = 0; i < AdaptiveBatchSizer.DECAY_THRESHOLD * 2; i++ ) {
+			sizeFor( sizer, 20 );
+		}
+		assertEquals( 32, sizeFor( sizer, 20 ) );
+		assertEquals( 32, sizeFor( sizer, 5 ) );
+	}
+
+	@Test
+	public void testConcurrentObservations() throws Exception {
+		final AdaptiveBatchSizer sizer = new AdaptiveBatchSizer( 32 );
+		final Thread[] threads = new Thread[4];
+		for ( int t = 0; t < threads.length; t++ ) {
+			threads[t] = new Thread( () -> {
+				for ( int i = 0; i < AdaptiveBatchSizer.DECAY_THRESHOLD * 4; i++ ) {
+					sizeFor( sizer, 9 );
+				}
+			} );
+			threads[t].start();
+		}
+		for ( Thread thread : threads ) {
+			thread.join();
+		}
+
+		assertEquals( 9, sizeFor( sizer, 3 ) );
+		assertEquals( 9, sizeFor( sizer, 30 ) );
+	}
+
+	private static int sizeFor(AdaptiveBatchSizer sizer, int numberOfKeys) {
+		return sizer.getBatchSizes()[ sizer.determineBatchSizeIndex( numberOfKeys ) ];
+	}
+}
@@ -0,0 +1,198 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.batchfetch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.PostgreSQL81Dialect;
+import org.hibernate.loader.BatchFetchStyle;
+
+import org.hibernate.testing.RequiresDialect;
+import org.hibernate.testing.jdbc.SQLStatementInterceptor;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Batch and multi-id loading binding all keys as a single array parameter.
+ */
+@RequiresDialect({ H2Dialect.class, PostgreSQL81Dialect.class })
+public class BatchFetchArrayParameterTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	private SQLStatementInterceptor sqlStatementInterceptor;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Owner.class, Pet.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.BATCH_FETCH_STYLE, BatchFetchStyle.DYNAMIC );
+		settings.put( AvailableSettings.DEFAULT_BATCH_FETCH_SIZE, "10" );
+		settings.put( AvailableSettings.BATCH_FETCH_ARRAY_PARAMETER, "true" );
+		sqlStatementInterceptor = new SQLStatementInterceptor( settings );
+	}
+
+	@Before
+	public void prepareData() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "delete from Pet" ).executeUpdate();
+			session.createQuery( "delete from Owner" ).executeUpdate();
+			for ( long i = 1; i <= 5; i++ ) {
+				final Owner owner = new Owner( i, "owner #" + i );
+				session.persist( owner );
+				session.persist( new Pet( i * 10, "pet #" + i, owner ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testEntityBatchFetch() {
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Pet> pets = session.createQuery( "from Pet order by id", Pet.class ).getResultList();
+			sqlStatementInterceptor.clear();
+
+			assertEquals( "owner #1", pets.get( 0 ).getOwner().getName() );
+			// the other owners were loaded by the same statement
+			for ( Pet pet : pets ) {
+				assertTrue( pet.getOwner().getName().startsWith( "owner #" ) );
+			}
+			sqlStatementInterceptor.assertExecutedCount( 1 );
+			assertEquals( 1, countParameters( sqlStatementInterceptor.getSqlQueries().getFirst() ) );
+		} );
+	}
+
+	@Test
+	public void testCollectionBatchFetch() {
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Owner> owners = session.createQuery( "from Owner order by id", Owner.class ).getResultList();
+			sqlStatementInterceptor.clear();
+
+			assertEquals( 1, owners.get( 0 ).getPets().size() );
+			for ( Owner owner : owners ) {
+				assertTrue( Hibernate.isInitialized( owner.getPets() ) );
+			}
+			sqlStatementInterceptor.assertExecutedCount( 1 );
+			assertEquals( 1, countParameters( sqlStatementInterceptor.getSqlQueries().getFirst() ) );
+		} );
+	}
+
+	@Test
+	public void testMultiLoad() {
+		doInHibernate( this::sessionFactory, session -> {
+			sqlStatementInterceptor.clear();
+			final List<Owner> owners = session.byMultipleIds( Owner.class ).multiLoad( 5L, 3L, 42L, 1L );
+			assertEquals( 4, owners.size() );
+			assertEquals( Long.valueOf( 5 ), owners.get( 0 ).getId() );
+			assertEquals( Long.valueOf( 3 ), owners.get( 1 ).getId() );
+			assertEquals( null, owners.get( 2 ) );
+			assertEquals( Long.valueOf( 1 ), owners.get( 3 ).getId() );
+			sqlStatementInterceptor.assertExecutedCount( 1 );
+			assertEquals( 1, countParameters( sqlStatementInterceptor.getSqlQueries().getFirst() ) );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			sqlStatementInterceptor.clear();
+			final List<Owner> owners = session.byMultipleIds( Owner.class )
+					.enableOrderedReturn( false )
+					.multiLoad( 2L, 4L );
+			assertEquals( 2, owners.size() );
+			assertFalse( owners.contains( null ) );
+			sqlStatementInterceptor.assertExecutedCount( 1 );
+			assertEquals( 1, countParameters( sqlStatementInterceptor.getSqlQueries().getFirst() ) );
+		} );
+	}
+
+	private static int countParameters(String sql) {
+		int count = 0;
+		for ( int i = 0; i < sql.length(); i++ ) {
+			if ( sql.charAt( i ) == '?' ) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	@Entity(name = "Owner")
+	public static class Owner {
+		@Id
+		private Long id;
+
+		private String name;
+
+		@OneToMany(mappedBy = "owner")
+		private List<Pet> pets = new ArrayList<>();
+
+		public Owner() {
+		}
+
+		public Owner(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Long getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public List<Pet> getPets() {
+			return pets;
+		}
+	}
+
+	@Entity(name = "Pet")
+	public static class Pet {
+		@Id
+		private Long id;
+
+		private String name;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Owner owner;
+
+		public Pet() {
+		}
+
+		public Pet(Long id, String name, Owner owner) {
+			this.id = id;
+			this.name = name;
+			this.owner = owner;
+		}
+
+		public Long getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public Owner getOwner() {
+			return owner;
+		}
+	}
+}
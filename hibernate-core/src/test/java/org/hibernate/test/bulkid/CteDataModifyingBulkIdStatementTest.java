@@ -0,0 +1,84 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.bulkid;
+
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.query.spi.HQLQueryPlan;
+import org.hibernate.hql.spi.id.cte.CteDataModifyingBulkIdStrategy;
+
+import org.hibernate.testing.RequiresDialect;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The statements of the {@link CteDataModifyingBulkIdStrategy} with a dialect supporting data-modifying CTEs,
+ * which are only generated as H2 does not actually support them.
+ */
+@RequiresDialect(H2Dialect.class)
+public class CteDataModifyingBulkIdStatementTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] {
+				AbstractBulkIdTest.Person.class,
+				AbstractBulkIdTest.Doctor.class,
+				AbstractBulkIdTest.Engineer.class
+		};
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.DIALECT, DataModifyingCteDialect.class.getName() );
+		settings.put( AvailableSettings.HQL_BULK_ID_STRATEGY, CteDataModifyingBulkIdStrategy.class.getName() );
+	}
+
+	@Test
+	public void testDeleteFromPerson() {
+		final String[] statements = sqlStatements( "delete from Person where employed = :employed" );
+		assertEquals( 1, statements.length );
+
+		final String statement = statements[0].toLowerCase( Locale.ROOT );
+		assertTrue( statement.startsWith( "with ht_person (id) as (select " ) );
+		assertTrue( statement.contains( " as (delete from engineer where (id) in (select id from ht_person))" ) );
+		assertTrue( statement.contains( " as (delete from doctor where (id) in (select id from ht_person))" ) );
+		assertTrue( statement.endsWith( ") delete from person where (id) in (select id from ht_person)" ) );
+	}
+
+	@Test
+	public void testUpdate() {
+		final String[] statements = sqlStatements(
+				"update Engineer set name = :name, fellow = :fellow where employed = :employed"
+		);
+		assertEquals( 1, statements.length );
+
+		final String statement = statements[0].toLowerCase( Locale.ROOT );
+		assertTrue( statement.startsWith( "with ht_engineer (id) as (select " ) );
+		assertTrue( statement.contains( " as (update engineer set fellow=? where (id) in (select id from ht_engineer))" ) );
+		assertTrue( statement.endsWith( ") update person set name=? where (id) in (select id from ht_engineer)" ) );
+	}
+
+	private String[] sqlStatements(String hql) {
+		final HQLQueryPlan plan = sessionFactory().getQueryPlanCache()
+				.getHQLQueryPlan( hql, false, Collections.emptyMap() );
+		return plan.getSqlStrings();
+	}
+
+	public static class DataModifyingCteDialect extends H2Dialect {
+		@Override
+		public boolean supportsDataModifyingCTE() {
+			return true;
+		}
+	}
+}
@@ -0,0 +1,43 @@
+package org.hibernate.test.bulkid;
+
+import java.util.Collections;
+import java.util.Locale;
+
+import org.hibernate.hql.spi.id.MultiTableBulkIdStrategy;
+import org.hibernate.hql.spi.id.cte.CteDataModifyingBulkIdStrategy;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Runs with any dialect, those not supporting data-modifying CTEs using the fallback strategy.
+ *
+ * @see CteDataModifyingBulkIdStatementTest
+ */
+public class CteDataModifyingBulkIdTest extends AbstractBulkIdTest {
+
+	@Override
+	protected Class<? extends MultiTableBulkIdStrategy> getMultiTableBulkIdStrategyClass() {
+		return CteDataModifyingBulkIdStrategy.class;
+	}
+
+	@Test
+	public void testStrategyOfTheDialect() {
+		final String[] statements = sessionFactory().getQueryPlanCache()
+				.getHQLQueryPlan( "delete from Person where employed = :employed", false, Collections.emptyMap() )
+				.getSqlStrings();
+		if ( getDialect().supportsDataModifyingCTE() ) {
+			// a single statement, deleting from all the tables
+			assertEquals( 1, statements.length );
+			assertTrue( statements[0].toLowerCase( Locale.ROOT ).startsWith( "with " ) );
+		}
+		else {
+			for ( String statement : statements ) {
+				assertFalse( statement.toLowerCase( Locale.ROOT ).contains( " as (delete " ) );
+			}
+		}
+	}
+}
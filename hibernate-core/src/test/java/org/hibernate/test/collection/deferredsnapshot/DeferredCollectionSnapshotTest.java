@@ -0,0 +1,237 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.collection.deferredsnapshot;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.persistence.ElementCollection;
+import javax.persistence.Embeddable;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.collection.internal.AbstractPersistentCollection;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Collections whose snapshot is deferred until they are first modified.
+ */
+public class DeferredCollectionSnapshotTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Owner.class, Pet.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.DEFERRED_COLLECTION_SNAPSHOT, "true" );
+	}
+
+	@Before
+	public void prepareData() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "delete from Pet" ).executeUpdate();
+			session.createQuery( "select o from Owner o", Owner.class ).getResultList().forEach( session::remove );
+		} );
+		doInHibernate( this::sessionFactory, session -> {
+			final Owner owner = new Owner( 1, "Alice" );
+			owner.getNicknames().add( "Al" );
+			owner.getNicknames().add( "Ali" );
+			owner.getAddresses().add( new Address( "Main street", "Springfield" ) );
+			session.persist( owner );
+			for ( int i = 1; i <= 3; i++ ) {
+				final Pet pet = new Pet( i, "pet #" + i, owner );
+				owner.getPets().add( pet );
+				session.persist( pet );
+			}
+		} );
+	}
+
+	@Test
+	public void testReadOnlyAccessDoesNotSnapshot() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Owner owner = session.get( Owner.class, 1 );
+			assertEquals( 3, owner.getPets().size() );
+			assertEquals( 2, owner.getNicknames().size() );
+			assertEquals( 1, owner.getAddresses().size() );
+
+			assertTrue( isSnapshotDeferred( owner.getPets() ) );
+			assertTrue( isSnapshotDeferred( owner.getNicknames() ) );
+			// embeddables may be changed in place, so are snapshotted when loaded
+			assertFalse( isSnapshotDeferred( owner.getAddresses() ) );
+
+			session.flush();
+			assertTrue( isSnapshotDeferred( owner.getPets() ) );
+			assertTrue( isSnapshotDeferred( owner.getNicknames() ) );
+		} );
+	}
+
+	@Test
+	public void testModification() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Owner owner = session.get( Owner.class, 1 );
+			owner.getNicknames().remove( "Al" );
+			owner.getNicknames().add( "Lissy" );
+			assertFalse( isSnapshotDeferred( owner.getNicknames() ) );
+
+			// orphan removal needs the loaded state as well
+			owner.getPets().removeIf( pet -> pet.getId() == 2 );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final Owner owner = session.get( Owner.class, 1 );
+			assertEquals( 2, owner.getNicknames().size() );
+			assertTrue( owner.getNicknames().contains( "Ali" ) );
+			assertTrue( owner.getNicknames().contains( "Lissy" ) );
+			assertEquals( 2, owner.getPets().size() );
+			assertNull( session.get( Pet.class, 2 ) );
+		} );
+	}
+
+	@Test
+	public void testModificationWhileDetached() {
+		final Owner detached = doInHibernate( this::sessionFactory, session -> {
+			final Owner owner = session.get( Owner.class, 1 );
+			Hibernate.initialize( owner.getNicknames() );
+			return owner;
+		} );
+		assertTrue( isSnapshotDeferred( detached.getNicknames() ) );
+
+		detached.getNicknames().clear();
+		detached.getNicknames().add( "Lissy" );
+
+		doInHibernate( this::sessionFactory, session -> {
+			session.update( detached );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final Owner owner = session.get( Owner.class, 1 );
+			assertEquals( 1, owner.getNicknames().size() );
+			assertTrue( owner.getNicknames().contains( "Lissy" ) );
+		} );
+	}
+
+	private static boolean isSnapshotDeferred(Object collection) {
+		return ( (AbstractPersistentCollection) collection ).isSnapshotDeferred();
+	}
+
+	@Entity(name = "Owner")
+	public static class Owner {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		@OneToMany(mappedBy = "owner", orphanRemoval = true)
+		private List<Pet> pets = new ArrayList<>();
+
+		@ElementCollection
+		private Set<String> nicknames = new HashSet<>();
+
+		@ElementCollection
+		private List<Address> addresses = new ArrayList<>();
+
+		public Owner() {
+		}
+
+		public Owner(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public List<Pet> getPets() {
+			return pets;
+		}
+
+		public Set<String> getNicknames() {
+			return nicknames;
+		}
+
+		public List<Address> getAddresses() {
+			return addresses;
+		}
+	}
+
+	@Entity(name = "Pet")
+	public static class Pet {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		@ManyToOne
+		private Owner owner;
+
+		public Pet() {
+		}
+
+		public Pet(Integer id, String name, Owner owner) {
+			this.id = id;
+			this.name = name;
+			this.owner = owner;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public Owner getOwner() {
+			return owner;
+		}
+	}
+
+	@Embeddable
+	public static class Address {
+		private String street;
+
+		private String city;
+
+		public Address() {
+		}
+
+		public Address(String street, String city) {
+			this.street = street;
+			this.city = city;
+		}
+
+		public String getStreet() {
+			return street;
+		}
+
+		public String getCity() {
+			return city;
+		}
+	}
+}
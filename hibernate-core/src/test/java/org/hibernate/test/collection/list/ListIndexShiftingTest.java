@@ -0,0 +1,165 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.collection.list;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Consumer;
+import javax.persistence.ElementCollection;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.OrderColumn;
+
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInterceptor;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Writing changes to lists with an order column by moving rows with set-based updates,
+ * see {@link AvailableSettings#LIST_INDEX_SHIFTING}.
+ */
+public class ListIndexShiftingTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	private static final int SIZE = 50;
+
+	private SQLStatementInterceptor sqlStatementInterceptor;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Playlist.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.LIST_INDEX_SHIFTING, "true" );
+		sqlStatementInterceptor = new SQLStatementInterceptor( settings );
+	}
+
+	@Before
+	public void prepareData() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Playlist playlist = session.get( Playlist.class, 1 );
+			if ( playlist != null ) {
+				session.delete( playlist );
+			}
+		} );
+		doInHibernate( this::sessionFactory, session -> {
+			final Playlist playlist = new Playlist( 1 );
+			for ( int i = 0; i < SIZE; i++ ) {
+				playlist.songs.add( "song " + i );
+			}
+			session.persist( playlist );
+		} );
+	}
+
+	@Test
+	public void testInsertAtHead() {
+		final List<String> expected = update( songs -> songs.add( 0, "intro" ) );
+		// one statement moving all the rows, one giving them their actual index back, and the insert
+		sqlStatementInterceptor.assertExecutedCount( 3 );
+		assertSongs( expected );
+	}
+
+	@Test
+	public void testRemoveFromHead() {
+		final List<String> expected = update( songs -> songs.remove( 0 ) );
+		sqlStatementInterceptor.assertExecutedCount( 3 );
+		assertSongs( expected );
+	}
+
+	@Test
+	public void testMoveToHead() {
+		final List<String> expected = update( songs -> songs.add( 0, songs.remove( SIZE - 10 ) ) );
+		// the moved element is deleted and inserted again, the rows in front of it moved together
+		sqlStatementInterceptor.assertExecutedCount( 4 );
+		assertSongs( expected );
+	}
+
+	@Test
+	public void testChangeInPlace() {
+		final List<String> expected = update( songs -> songs.set( 5, "remix" ) );
+		// positional update, nothing to move
+		sqlStatementInterceptor.assertExecutedCount( 1 );
+		assertSongs( expected );
+	}
+
+	@Test
+	public void testRandomChanges() {
+		final Random random = new Random( 42 );
+		for ( int round = 0; round < 20; round++ ) {
+			final List<String> expected = update( songs -> {
+				final int changes = 1 + random.nextInt( 5 );
+				for ( int i = 0; i < changes; i++ ) {
+					switch ( random.nextInt( 4 ) ) {
+						case 0:
+							songs.add( random.nextInt( songs.size() + 1 ), "new song " + random.nextInt( 1000 ) );
+							break;
+						case 1:
+							if ( !songs.isEmpty() ) {
+								songs.remove( random.nextInt( songs.size() ) );
+							}
+							break;
+						case 2:
+							if ( !songs.isEmpty() ) {
+								songs.set( random.nextInt( songs.size() ), "changed song " + random.nextInt( 1000 ) );
+							}
+							break;
+						default:
+							if ( !songs.isEmpty() ) {
+								songs.add(
+										random.nextInt( songs.size() ),
+										songs.remove( random.nextInt( songs.size() ) )
+								);
+							}
+					}
+				}
+			} );
+			assertSongs( expected );
+		}
+	}
+
+	private List<String> update(Consumer<List<String>> change) {
+		return doInHibernate( this::sessionFactory, session -> {
+			final Playlist playlist = session.get( Playlist.class, 1 );
+			change.accept( playlist.songs );
+			sqlStatementInterceptor.clear();
+			session.flush();
+			return new ArrayList<>( playlist.songs );
+		} );
+	}
+
+	private void assertSongs(List<String> expected) {
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( expected, session.get( Playlist.class, 1 ).songs );
+		} );
+	}
+
+	@Entity(name = "Playlist")
+	public static class Playlist {
+		@Id
+		private Integer id;
+
+		@ElementCollection
+		@OrderColumn(name = "song_order")
+		private List<String> songs = new ArrayList<>();
+
+		public Playlist() {
+		}
+
+		public Playlist(Integer id) {
+			this.id = id;
+		}
+	}
+}
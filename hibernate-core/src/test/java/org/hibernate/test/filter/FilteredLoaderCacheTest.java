@@ -0,0 +1,172 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.filter;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.FilterDef;
+import org.hibernate.annotations.FilterDefs;
+import org.hibernate.annotations.ParamDef;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.loader.internal.FilteredLoaderCache;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The loaders built for the enabled filters being shared by the sessions enabling the same filters, whatever
+ * the values of their parameters.
+ */
+public class FilteredLoaderCacheTest extends BaseCoreFunctionalTestCase {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Post.class, Comment.class };
+	}
+
+	@Before
+	public void createPost() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "delete from Comment" ).executeUpdate();
+			session.createQuery( "delete from Post" ).executeUpdate();
+			final Post post = new Post( 1L );
+			session.persist( post );
+			session.persist( new Comment( 1L, post, 1, false ) );
+			session.persist( new Comment( 2L, post, 5, false ) );
+			session.persist( new Comment( 3L, post, 9, true ) );
+		} );
+	}
+
+	@Test
+	public void testFilterParametersBoundPerSession() {
+		assertEquals( 3, loadComments( null, false ) );
+		assertEquals( 2, loadComments( 5, false ) );
+		assertEquals( 3, loadComments( 1, false ) );
+		assertEquals( 1, loadComments( 5, true ) );
+		assertEquals( 2, loadComments( 1, true ) );
+		assertEquals( 1, loadComments( 9, false ) );
+	}
+
+	private int loadComments(Integer minScore, boolean visibleOnly) {
+		final AtomicInteger count = new AtomicInteger();
+		doInHibernate( this::sessionFactory, session -> {
+			if ( minScore != null ) {
+				session.enableFilter( "minScore" ).setParameter( "minScore", minScore );
+			}
+			if ( visibleOnly ) {
+				session.enableFilter( "visible" );
+			}
+
+			// the comments loaded by identifier are not restricted, unlike those of the collection
+			assertEquals( 9, session.get( Comment.class, 3L ).getScore() );
+			count.set( session.get( Post.class, 1L ).getComments().size() );
+		} );
+		return count.get();
+	}
+
+	@Test
+	public void testLoadersSharedByEnabledFilterNames() {
+		final FilteredLoaderCache<LoadQueryInfluencers> cache = new FilteredLoaderCache<>( sessionFactory() );
+		final List<LoadQueryInfluencers> built = new ArrayList<>();
+
+		final LoadQueryInfluencers minScore5 = new LoadQueryInfluencers( sessionFactory() );
+		minScore5.enableFilter( "minScore" ).setParameter( "minScore", 5 );
+		final LoadQueryInfluencers minScore1 = new LoadQueryInfluencers( sessionFactory() );
+		minScore1.enableFilter( "minScore" ).setParameter( "minScore", 1 );
+		final LoadQueryInfluencers both = new LoadQueryInfluencers( sessionFactory() );
+		both.enableFilter( "visible" );
+		both.enableFilter( "minScore" ).setParameter( "minScore", 1 );
+
+		final LoadQueryInfluencers loader = cache.getLoader( "NONE", minScore5, influencers -> add( built, influencers ) );
+		assertSame( loader, cache.getLoader( "NONE", minScore1, influencers -> add( built, influencers ) ) );
+		assertNotSame( loader, cache.getLoader( "READ", minScore1, influencers -> add( built, influencers ) ) );
+		assertNotSame( loader, cache.getLoader( "NONE", both, influencers -> add( built, influencers ) ) );
+		assertEquals( 3, built.size() );
+
+		// the loaders are built against a copy of the influencers of the first session enabling the filters
+		assertNotSame( minScore5, loader );
+		final Set<String> filterNames = new HashSet<>();
+		filterNames.add( "minScore" );
+		assertEquals( filterNames, loader.getEnabledFilterNames() );
+		assertTrue( built.get( 2 ).getEnabledFilterNames().contains( "visible" ) );
+	}
+
+	private static LoadQueryInfluencers add(List<LoadQueryInfluencers> built, LoadQueryInfluencers influencers) {
+		built.add( influencers );
+		return influencers;
+	}
+
+	@Entity(name = "Post")
+	@FilterDefs({
+			@FilterDef(name = "minScore", parameters = @ParamDef(name = "minScore", type = "integer")),
+			@FilterDef(name = "visible")
+	})
+	public static class Post {
+		@Id
+		private Long id;
+
+		@OneToMany(mappedBy = "post")
+		@Filter(name = "minScore", condition = "score >= :minScore")
+		@Filter(name = "visible", condition = "hidden = false")
+		private Set<Comment> comments = new HashSet<>();
+
+		public Post() {
+		}
+
+		public Post(Long id) {
+			this.id = id;
+		}
+
+		public Set<Comment> getComments() {
+			return comments;
+		}
+	}
+
+	@Entity(name = "Comment")
+	@Filter(name = "visible", condition = "hidden = false")
+	public static class Comment {
+		@Id
+		private Long id;
+
+		@ManyToOne
+		private Post post;
+
+		private int score;
+
+		private boolean hidden;
+
+		public Comment() {
+		}
+
+		public Comment(Long id, Post post, int score, boolean hidden) {
+			this.id = id;
+			this.post = post;
+			this.score = score;
+			this.hidden = hidden;
+		}
+
+		public int getScore() {
+			return score;
+		}
+	}
+}
@@ -0,0 +1,243 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.jdbc.internal;
+
+import java.sql.PreparedStatement;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Inheritance;
+import javax.persistence.InheritanceType;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.hql.spi.id.inline.InlineIdsOrClauseBulkIdStrategy;
+
+import org.hibernate.testing.DialectChecks;
+import org.hibernate.testing.RequiresDialectFeature;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.hibernate.test.util.jdbc.PreparedStatementSpyConnectionProvider;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Reusing the prepared statements of a session, see {@link AvailableSettings#STATEMENT_CACHE_SIZE}.
+ */
+@RequiresDialectFeature(DialectChecks.SupportsJdbcDriverProxying.class)
+public class StatementCacheTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	private PreparedStatementSpyConnectionProvider connectionProvider = new PreparedStatementSpyConnectionProvider( true, false );
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { Event.class, Vehicle.class, Car.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.STATEMENT_CACHE_SIZE, 2 );
+		settings.put( AvailableSettings.CONNECTION_PROVIDER, connectionProvider );
+		settings.put( AvailableSettings.HQL_BULK_ID_STRATEGY, InlineIdsOrClauseBulkIdStrategy.class.getName() );
+	}
+
+	@Override
+	protected void releaseResources() {
+		super.releaseResources();
+		connectionProvider.stop();
+	}
+
+	@Override
+	protected boolean rebuildSessionFactoryOnError() {
+		return false;
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testStatementsReusedWithinSession() throws Exception {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( long i = 0; i < 3; i++ ) {
+				session.persist( new Event( i, "Event " + i ) );
+			}
+		} );
+
+		connectionProvider.clear();
+		final Session session = sessionFactory().openSession();
+		session.beginTransaction();
+		try {
+			for ( int i = 0; i < 10; i++ ) {
+				final List<Event> events = session.createQuery( "select e from Event e where e.id < :id", Event.class )
+						.setParameter( "id", (long) i )
+						.list();
+				assertEquals( Math.min( i, 3 ), events.size() );
+			}
+
+			assertEquals( 1, connectionProvider.getPreparedStatements().size() );
+			assertEquals( 9, session.getStatistics().getStatementCacheHitCount() );
+			assertEquals( 1, session.getStatistics().getStatementCacheMissCount() );
+			assertEquals( 0.9, session.getStatistics().getStatementCacheHitRatio(), 0.001 );
+			verify( connectionProvider.getPreparedStatements().get( 0 ), never() ).close();
+		}
+		finally {
+			session.getTransaction().commit();
+			session.close();
+		}
+		// the statement kept for reuse is closed once the connection is released
+		verify( connectionProvider.getPreparedStatements().get( 0 ), times( 1 ) ).close();
+	}
+
+	@Test
+	public void testLeastRecentlyReleasedStatementClosed() throws Exception {
+		connectionProvider.clear();
+		final Session session = sessionFactory().openSession();
+		session.beginTransaction();
+		try {
+			final String[] queries = {
+					"select e from Event e where e.id = :id",
+					"select e from Event e where e.name = :id",
+					"select e from Event e where e.id > :id",
+			};
+			session.createQuery( queries[0] ).setParameter( "id", 1L ).list();
+			session.createQuery( queries[1] ).setParameter( "id", "Event 1" ).list();
+			session.createQuery( queries[0] ).setParameter( "id", 1L ).list();
+			assertEquals( 2, connectionProvider.getPreparedStatements().size() );
+
+			// the statement of the second query is the least recently released one
+			session.createQuery( queries[2] ).setParameter( "id", 1L ).list();
+			assertEquals( 3, connectionProvider.getPreparedStatements().size() );
+			final String evictedSql = connectionProvider.getPreparedSQLStatements()
+					.stream()
+					.filter( sql -> sql.contains( "name=?" ) )
+					.findFirst()
+					.get();
+			final PreparedStatement evicted = connectionProvider.getPreparedStatement( evictedSql );
+			for ( PreparedStatement statement : connectionProvider.getPreparedStatements() ) {
+				verify( statement, times( statement == evicted ? 1 : 0 ) ).close();
+			}
+
+			session.createQuery( queries[1] ).setParameter( "id", "Event 1" ).list();
+			assertEquals( 4, connectionProvider.getPreparedStatements().size() );
+		}
+		finally {
+			session.getTransaction().commit();
+			session.close();
+		}
+	}
+
+	@Test
+	public void testQueryFetchSizeReset() throws Exception {
+		connectionProvider.clear();
+		final Session session = sessionFactory().openSession();
+		session.beginTransaction();
+		try {
+			final String query = "select e from Event e where e.id > :id";
+			session.createQuery( query ).setParameter( "id", 1L ).list();
+			final PreparedStatement statement = connectionProvider.getPreparedStatements().get( 0 );
+			final int fetchSize = statement.getFetchSize();
+
+			session.createQuery( query ).setParameter( "id", 1L ).setFetchSize( fetchSize + 50 ).list();
+			verify( statement, times( 1 ) ).setFetchSize( fetchSize + 50 );
+			// the fetch size of the query is not kept for the next uses of the statement
+			assertEquals( fetchSize, statement.getFetchSize() );
+
+			session.createQuery( query ).setParameter( "id", 1L ).list();
+			assertEquals( 1, connectionProvider.getPreparedStatements().size() );
+			assertEquals( fetchSize, statement.getFetchSize() );
+		}
+		finally {
+			session.getTransaction().commit();
+			session.close();
+		}
+	}
+
+	@Test
+	public void testBulkIdStatementsReused() throws Exception {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Car( 1L, "Car 1" ) );
+		} );
+
+		connectionProvider.clear();
+		final Session session = sessionFactory().openSession();
+		session.beginTransaction();
+		try {
+			for ( int i = 0; i < 2; i++ ) {
+				assertEquals(
+						1,
+						session.createQuery( "update Car set name = :name where id = :id" )
+								.setParameter( "name", "Renamed " + i )
+								.setParameter( "id", 1L )
+								.executeUpdate()
+				);
+			}
+
+			// the selection of the ids and the update of the table of the name, released rather than closed
+			assertEquals( 2, connectionProvider.getPreparedStatements().size() );
+			assertEquals( 2, session.getStatistics().getStatementCacheHitCount() );
+		}
+		finally {
+			session.getTransaction().commit();
+			session.close();
+		}
+	}
+
+	@Entity(name = "Event")
+	public static class Event {
+
+		@Id
+		private Long id;
+
+		private String name;
+
+		public Event() {
+		}
+
+		public Event(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Vehicle")
+	@Inheritance(strategy = InheritanceType.JOINED)
+	public static class Vehicle {
+
+		@Id
+		private Long id;
+
+		private String name;
+
+		public Vehicle() {
+		}
+
+		public Vehicle(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Car")
+	public static class Car extends Vehicle {
+
+		private Integer doors;
+
+		public Car() {
+		}
+
+		public Car(Long id, String name) {
+			super( id, name );
+		}
+	}
+}
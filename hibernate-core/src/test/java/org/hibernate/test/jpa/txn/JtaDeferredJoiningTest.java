@@ -0,0 +1,152 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.jpa.txn;
+
+import javax.persistence.LockModeType;
+import javax.transaction.TransactionManager;
+
+import org.hibernate.Session;
+import org.hibernate.StatelessSession;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.resource.transaction.backend.jta.internal.JtaTransactionCoordinatorBuilderImpl;
+import org.hibernate.resource.transaction.backend.jta.internal.JtaTransactionCoordinatorImpl;
+
+import org.hibernate.testing.jta.TestingJtaBootstrap;
+import org.hibernate.testing.jta.TestingJtaPlatformImpl;
+import org.hibernate.test.jpa.AbstractJPATest;
+import org.hibernate.test.jpa.Item;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Sessions deferring joining the JTA transaction until they are first used, see
+ * {@link AvailableSettings#JTA_DEFER_JOIN}.
+ */
+public class JtaDeferredJoiningTest extends AbstractJPATest {
+	@Override
+	public void configure(Configuration cfg) {
+		super.configure( cfg );
+		TestingJtaBootstrap.prepare( cfg.getProperties() );
+		cfg.setProperty(
+				AvailableSettings.TRANSACTION_COORDINATOR_STRATEGY,
+				JtaTransactionCoordinatorBuilderImpl.class.getName()
+		);
+		cfg.setProperty( AvailableSettings.JTA_DEFER_JOIN, "true" );
+	}
+
+	@Test
+	public void testUnusedSessionNotJoined() throws Exception {
+		final TransactionManager transactionManager = TestingJtaPlatformImpl.INSTANCE.getTransactionManager();
+		transactionManager.begin();
+
+		final Session session = sessionFactory().openSession();
+		final JtaTransactionCoordinatorImpl transactionCoordinator = transactionCoordinator( session );
+		assertTrue( transactionCoordinator.isJtaTransactionCurrentlyActive() );
+		assertFalse( transactionCoordinator.isSynchronizationRegistered() );
+		assertFalse( transactionCoordinator.isJoined() );
+
+		session.close();
+		assertFalse( transactionCoordinator.isSynchronizationRegistered() );
+
+		transactionManager.commit();
+	}
+
+	@Test
+	public void testSessionJoinedWhenFirstUsed() throws Exception {
+		final TransactionManager transactionManager = TestingJtaPlatformImpl.INSTANCE.getTransactionManager();
+		transactionManager.begin();
+
+		final Session session = sessionFactory().openSession();
+		final JtaTransactionCoordinatorImpl transactionCoordinator = transactionCoordinator( session );
+		assertFalse( transactionCoordinator.isJoined() );
+
+		final Item item = new Item( "deferred" );
+		session.persist( item );
+		assertTrue( transactionCoordinator.isSynchronizationRegistered() );
+		assertTrue( transactionCoordinator.isJoined() );
+
+		// the session being flushed as the JTA transaction completes
+		transactionManager.commit();
+		session.close();
+
+		transactionManager.begin();
+		final Session other = sessionFactory().openSession();
+		assertTrue( other.isJoinedToTransaction() );
+		assertEquals( "deferred", other.get( Item.class, item.getId() ).getName() );
+		other.delete( other.get( Item.class, item.getId() ) );
+		transactionManager.commit();
+		other.close();
+	}
+
+	@Test
+	public void testSessionJoinedByFirstFlushOrLock() throws Exception {
+		final TransactionManager transactionManager = TestingJtaPlatformImpl.INSTANCE.getTransactionManager();
+		final Item item = new Item( "locked" );
+		transactionManager.begin();
+		final Session creating = sessionFactory().openSession();
+		creating.persist( item );
+		transactionManager.commit();
+		creating.close();
+
+		// the transaction checks of the first operation join the session
+		transactionManager.begin();
+		Session session = sessionFactory().openSession();
+		session.flush();
+		assertTrue( transactionCoordinator( session ).isJoined() );
+		transactionManager.commit();
+		session.close();
+
+		transactionManager.begin();
+		session = sessionFactory().openSession();
+		try {
+			session.lock( new Item( "detached" ), LockModeType.PESSIMISTIC_WRITE, null );
+			fail( "Detached entity locked" );
+		}
+		catch (IllegalArgumentException expected) {
+		}
+		assertTrue( transactionCoordinator( session ).isJoined() );
+		transactionManager.commit();
+		session.close();
+
+		transactionManager.begin();
+		session = sessionFactory().openSession();
+		final Item locked = session.find( Item.class, item.getId(), LockModeType.PESSIMISTIC_WRITE );
+		assertEquals( LockModeType.PESSIMISTIC_WRITE, session.getLockMode( locked ) );
+		assertTrue( transactionCoordinator( session ).isJoined() );
+		session.remove( locked );
+		transactionManager.commit();
+		session.close();
+	}
+
+	@Test
+	public void testStatelessSessionJoinedByFirstStatement() throws Exception {
+		final TransactionManager transactionManager = TestingJtaPlatformImpl.INSTANCE.getTransactionManager();
+		transactionManager.begin();
+
+		final StatelessSession session = sessionFactory().openStatelessSession();
+		final JtaTransactionCoordinatorImpl transactionCoordinator = transactionCoordinator( session );
+		assertFalse( transactionCoordinator.isJoined() );
+
+		final Item item = new Item( "stateless" );
+		session.insert( item );
+		assertTrue( transactionCoordinator.isSynchronizationRegistered() );
+		session.delete( item );
+
+		transactionManager.commit();
+		session.close();
+	}
+
+	private static JtaTransactionCoordinatorImpl transactionCoordinator(Object session) {
+		return (JtaTransactionCoordinatorImpl) ( (SharedSessionContractImplementor) session ).getTransactionCoordinator();
+	}
+}
@@ -0,0 +1,142 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.locking;
+
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.LockMode;
+import org.hibernate.query.Query;
+
+import org.hibernate.testing.jdbc.SQLStatementInterceptor;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Claiming batches of rows through {@link org.hibernate.Session#createClaimQuery}.
+ */
+public class ClaimQueryTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	private SQLStatementInterceptor sqlStatementInterceptor;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Job.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		sqlStatementInterceptor = new SQLStatementInterceptor( settings );
+	}
+
+	@Before
+	public void prepareData() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "delete from Job" ).executeUpdate();
+			for ( int i = 1; i <= 6; i++ ) {
+				session.persist( new Job( i, i % 3 == 0 ? "DONE" : "NEW" ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testClaimBatch() {
+		doInHibernate( this::sessionFactory, session -> {
+			sqlStatementInterceptor.clear();
+			final List<Job> jobs = session.createClaimQuery( Job.class, "status = :status order by id", 3 )
+					.setParameter( "status", "NEW" )
+					.list();
+			sqlStatementInterceptor.assertExecutedCount( 1 );
+			assertTrue( sqlStatementInterceptor.getSqlQueries().get( 0 ).toLowerCase().contains( " for update" ) );
+
+			assertEquals( 3, jobs.size() );
+			assertEquals( Integer.valueOf( 1 ), jobs.get( 0 ).getId() );
+			assertEquals( Integer.valueOf( 2 ), jobs.get( 1 ).getId() );
+			assertEquals( Integer.valueOf( 4 ), jobs.get( 2 ).getId() );
+			for ( Job job : jobs ) {
+				assertTrue( session.contains( job ) );
+				assertEquals( LockMode.PESSIMISTIC_WRITE, session.getCurrentLockMode( job ) );
+				job.setStatus( "RUNNING" );
+			}
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Job> jobs = session.createClaimQuery( Job.class, null, 10 ).list();
+			assertEquals( 6, jobs.size() );
+			assertEquals(
+					3L,
+					jobs.stream().filter( job -> "RUNNING".equals( job.getStatus() ) ).count()
+			);
+		} );
+	}
+
+	@Test
+	public void testClaimBatchWithOrderByOnly() {
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Job> jobs = session.createClaimQuery( Job.class, " order by id desc", 2 ).list();
+			assertEquals( 2, jobs.size() );
+			assertEquals( Integer.valueOf( 6 ), jobs.get( 0 ).getId() );
+			assertEquals( Integer.valueOf( 5 ), jobs.get( 1 ).getId() );
+		} );
+	}
+
+	@Test
+	public void testClaimBatchWithDisjunction() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Query<Job> query = session.createClaimQuery( Job.class, "id = 1 or id = 5 order by id", 10 );
+			assertEquals( Boolean.FALSE, query.getLockOptions().getFollowOnLocking() );
+			assertTrue( query.getQueryString().endsWith( "Job where ( id = 1 or id = 5 ) order by id" ) );
+
+			final List<Job> jobs = query.list();
+			assertEquals( 2, jobs.size() );
+			assertEquals( Integer.valueOf( 1 ), jobs.get( 0 ).getId() );
+			assertEquals( Integer.valueOf( 5 ), jobs.get( 1 ).getId() );
+		} );
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidBatchSize() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.createClaimQuery( Job.class, null, 0 );
+		} );
+	}
+
+	@Entity(name = "Job")
+	public static class Job {
+		@Id
+		private Integer id;
+
+		private String status;
+
+		public Job() {
+		}
+
+		public Job(Integer id, String status) {
+			this.id = id;
+			this.status = status;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getStatus() {
+			return status;
+		}
+
+		public void setStatus(String status) {
+			this.status = status;
+		}
+	}
+}
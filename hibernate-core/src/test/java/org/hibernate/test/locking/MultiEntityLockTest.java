@@ -0,0 +1,177 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.locking;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Version;
+
+import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
+import org.hibernate.StaleObjectStateException;
+import org.hibernate.dialect.H2Dialect;
+
+import org.hibernate.testing.RequiresDialect;
+import org.hibernate.testing.jdbc.SQLStatementInterceptor;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Pessimistic locking of several managed instances using a single statement.
+ */
+@RequiresDialect(H2Dialect.class)
+public class MultiEntityLockTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	private SQLStatementInterceptor sqlStatementInterceptor;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Account.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		sqlStatementInterceptor = new SQLStatementInterceptor( settings );
+	}
+
+	@Before
+	public void prepareData() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "delete from Account" ).executeUpdate();
+			for ( int i = 1; i <= 5; i++ ) {
+				session.persist( new Account( i, 100 ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testLockAll() {
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Account> accounts = session.byMultipleIds( Account.class ).multiLoad( 1, 2, 3, 4, 5 );
+
+			sqlStatementInterceptor.clear();
+			session.buildLockRequest( new LockOptions( LockMode.PESSIMISTIC_WRITE ) ).lockAll( accounts );
+			sqlStatementInterceptor.assertExecutedCount( 1 );
+			assertTrue( sqlStatementInterceptor.getSqlQueries().get( 0 ).toLowerCase().contains( " for update" ) );
+
+			for ( Account account : accounts ) {
+				assertEquals( LockMode.PESSIMISTIC_WRITE, session.getCurrentLockMode( account ) );
+			}
+
+			// already locked
+			session.buildLockRequest( new LockOptions( LockMode.PESSIMISTIC_WRITE ) ).lockAll( accounts );
+			sqlStatementInterceptor.assertExecutedCount( 1 );
+		} );
+	}
+
+	@Test
+	public void testLockAllStaleVersion() {
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Account> accounts = session.byMultipleIds( Account.class ).multiLoad( 1, 2, 3 );
+
+			doInHibernate( this::sessionFactory, other -> {
+				other.get( Account.class, 2 ).setBalance( 50 );
+			} );
+
+			try {
+				session.buildLockRequest( new LockOptions( LockMode.PESSIMISTIC_WRITE ) ).lockAll( accounts );
+				fail( "Expecting StaleObjectStateException" );
+			}
+			catch (StaleObjectStateException expected) {
+				assertEquals( 2, expected.getIdentifier() );
+			}
+		} );
+	}
+
+	@Test
+	public void testMultiLoadWithLockOptions() {
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Account> managed = new ArrayList<>();
+			for ( int i = 1; i <= 3; i++ ) {
+				managed.add( session.get( Account.class, i ) );
+			}
+
+			sqlStatementInterceptor.clear();
+			final List<Account> accounts = session.byMultipleIds( Account.class )
+					.with( new LockOptions( LockMode.PESSIMISTIC_WRITE ) )
+					.enableSessionCheck( true )
+					.multiLoad( Arrays.asList( 1, 2, 3, 4, 5 ) );
+			// one statement loading (and locking) 4 and 5, one locking 1, 2 and 3
+			sqlStatementInterceptor.assertExecutedCount( 2 );
+
+			assertEquals( 5, accounts.size() );
+			for ( Account account : accounts ) {
+				assertEquals( LockMode.PESSIMISTIC_WRITE, session.getCurrentLockMode( account ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testMultiLoadWithOptimisticLockOptions() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 1; i <= 3; i++ ) {
+				session.get( Account.class, i );
+			}
+
+			sqlStatementInterceptor.clear();
+			final List<Account> accounts = session.byMultipleIds( Account.class )
+					.with( new LockOptions( LockMode.OPTIMISTIC ) )
+					.enableSessionCheck( true )
+					.multiLoad( Arrays.asList( 1, 2, 3, 4, 5 ) );
+			// only 4 and 5 are loaded, the managed instances are not locked by a statement
+			sqlStatementInterceptor.assertExecutedCount( 1 );
+			assertFalse( sqlStatementInterceptor.getSqlQueries().get( 0 ).toLowerCase().contains( " for update" ) );
+
+			assertEquals( 5, accounts.size() );
+			for ( Account account : accounts ) {
+				assertEquals( LockMode.OPTIMISTIC, session.getCurrentLockMode( account ) );
+			}
+		} );
+	}
+
+	@Entity(name = "Account")
+	public static class Account {
+		@Id
+		private Integer id;
+
+		private int balance;
+
+		@Version
+		private int version;
+
+		public Account() {
+		}
+
+		public Account(Integer id, int balance) {
+			this.id = id;
+			this.balance = balance;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public int getBalance() {
+			return balance;
+		}
+
+		public void setBalance(int balance) {
+			this.balance = balance;
+		}
+	}
+}
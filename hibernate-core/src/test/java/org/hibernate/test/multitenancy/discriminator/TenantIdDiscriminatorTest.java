@@ -0,0 +1,222 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.multitenancy.discriminator;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.OptimisticLockException;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
+
+import org.hibernate.Hibernate;
+import org.hibernate.MultiTenancyStrategy;
+import org.hibernate.ObjectNotFoundException;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.TenantId;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+/**
+ * The rows of an entity mapping a {@link TenantId} property being restricted to those of the session tenant.
+ */
+public class TenantIdDiscriminatorTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Account.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.MULTI_TENANT, MultiTenancyStrategy.DISCRIMINATOR );
+	}
+
+	@Before
+	public void createAccounts() {
+		doInHibernate( this::sessionFactory, "jboss", session -> {
+			session.createQuery( "delete from Account" ).executeUpdate();
+			session.persist( new Account( 1L, "steve", "acme" ) );
+		} );
+		doInHibernate( this::sessionFactory, "acme", session -> {
+			session.createQuery( "delete from Account" ).executeUpdate();
+			session.persist( new Account( 2L, "john" ) );
+			session.persist( new Account( 3L, "jane" ) );
+		} );
+	}
+
+	@Test
+	public void testTenantAssignedOnInsert() {
+		doInHibernate( this::sessionFactory, "acme", session -> {
+			final List tenants = session.createNativeQuery( "select tenant from Account order by id" ).list();
+			assertEquals( Arrays.asList( "jboss", "acme", "acme" ), tenants );
+		} );
+	}
+
+	@Test
+	public void testLoadRestrictedToTenant() {
+		doInHibernate( this::sessionFactory, "acme", session -> {
+			assertNull( session.get( Account.class, 1L ) );
+			assertEquals( "john", session.get( Account.class, 2L ).getName() );
+		} );
+		doInHibernate( this::sessionFactory, "jboss", session -> {
+			assertEquals( "steve", session.get( Account.class, 1L ).getName() );
+			assertNull( session.get( Account.class, 2L ) );
+		} );
+	}
+
+	@Test
+	public void testBatchLoadRestrictedToTenant() {
+		doInHibernate( this::sessionFactory, "acme", session -> {
+			final Account steve = session.load( Account.class, 1L );
+			final Account john = session.load( Account.class, 2L );
+			session.load( Account.class, 3L );
+
+			Hibernate.initialize( john );
+			// the batch comprised the three accounts, only those of the session tenant were loaded
+			final SessionImplementor sessionImplementor = session.unwrap( SessionImplementor.class );
+			final EntityPersister persister = sessionFactory().getMetamodel().entityPersister( Account.class );
+			final PersistenceContext persistenceContext = sessionImplementor.getPersistenceContext();
+			assertNotNull( persistenceContext.getEntity( sessionImplementor.generateEntityKey( 3L, persister ) ) );
+			assertNull( persistenceContext.getEntity( sessionImplementor.generateEntityKey( 1L, persister ) ) );
+			assertFalse( Hibernate.isInitialized( steve ) );
+			try {
+				Hibernate.initialize( steve );
+				fail( "Account of another tenant loaded" );
+			}
+			catch (ObjectNotFoundException expected) {
+			}
+
+			session.clear();
+			assertEquals(
+					Arrays.asList( null, "john", "jane" ),
+					names( session.byMultipleIds( Account.class ).multiLoad( 1L, 2L, 3L ) )
+			);
+		} );
+	}
+
+	@Test
+	public void testQueriesRestrictedToTenant() {
+		doInHibernate( this::sessionFactory, "acme", session -> {
+			assertEquals(
+					Arrays.asList( "jane", "john" ),
+					session.createQuery( "select a.name from Account a order by a.name" ).list()
+			);
+			assertEquals(
+					2L,
+					session.createQuery( "select count(a) from Account a where a.id in (select b.id from Account b where b.id < :max)" )
+							.setParameter( "max", 4L )
+							.uniqueResult()
+			);
+
+			final CriteriaBuilder criteriaBuilder = session.getCriteriaBuilder();
+			final CriteriaQuery<Account> criteria = criteriaBuilder.createQuery( Account.class );
+			final Root<Account> root = criteria.from( Account.class );
+			criteria.where( criteriaBuilder.lessThan( root.get( "id" ), 3L ) );
+			assertEquals( Arrays.asList( "john" ), names( session.createQuery( criteria ).list() ) );
+		} );
+	}
+
+	@Test
+	public void testUpdateAndDeleteRestrictedToTenant() {
+		doInHibernate( this::sessionFactory, "jboss", session -> {
+			session.update( new Account( 2L, "hacked" ) );
+			try {
+				session.flush();
+				fail( "Account of another tenant updated" );
+			}
+			catch (OptimisticLockException expected) {
+			}
+		} );
+		doInHibernate( this::sessionFactory, "jboss", session -> {
+			session.delete( new Account( 3L, "jane" ) );
+			try {
+				session.flush();
+				fail( "Account of another tenant deleted" );
+			}
+			catch (OptimisticLockException expected) {
+			}
+		} );
+		doInHibernate( this::sessionFactory, "jboss", session -> {
+			assertEquals( 0, session.createQuery( "update Account set name = 'hacked' where id = 2" ).executeUpdate() );
+			assertEquals( 1, session.createQuery( "delete from Account where id in (1, 3)" ).executeUpdate() );
+		} );
+
+		doInHibernate( this::sessionFactory, "acme", session -> {
+			assertEquals( "john", session.get( Account.class, 2L ).getName() );
+			assertNotNull( session.get( Account.class, 3L ) );
+
+			session.get( Account.class, 3L ).setName( "janet" );
+			session.flush();
+			session.delete( session.get( Account.class, 2L ) );
+		} );
+		doInHibernate( this::sessionFactory, "acme", session -> {
+			assertEquals( Arrays.asList( "janet" ), session.createQuery( "select a.name from Account a" ).list() );
+		} );
+	}
+
+	private static List<String> names(List<Account> accounts) {
+		final String[] names = new String[accounts.size()];
+		for ( int i = 0; i < names.length; i++ ) {
+			names[i] = accounts.get( i ) == null ? null : accounts.get( i ).getName();
+		}
+		return Arrays.asList( names );
+	}
+
+	@Entity(name = "Account")
+	@BatchSize(size = 5)
+	public static class Account {
+		@Id
+		private Long id;
+
+		private String name;
+
+		@TenantId
+		private String tenant;
+
+		public Account() {
+		}
+
+		public Account(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Account(Long id, String name, String tenant) {
+			this( id, name );
+			this.tenant = tenant;
+		}
+
+		public Long getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,339 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.multitenancy.discriminator;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.CascadeType;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToOne;
+
+import org.hibernate.LockOptions;
+import org.hibernate.MultiTenancyStrategy;
+import org.hibernate.UnresolvableObjectException;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.TenantId;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.criterion.DetachedCriteria;
+import org.hibernate.criterion.Order;
+import org.hibernate.criterion.Projections;
+import org.hibernate.criterion.Subqueries;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.persister.entity.UniqueKeyLoadable;
+
+import org.hibernate.testing.jdbc.SQLStatementInterceptor;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * The lookups other than by identifier of an entity mapping a {@link TenantId} property being restricted to the
+ * rows of the session tenant, even when the rows of another tenant reference those of the session tenant.
+ */
+public class TenantIdLookupDiscriminatorTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	private SQLStatementInterceptor sqlStatementInterceptor;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Customer.class, Passport.class, Membership.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.MULTI_TENANT, MultiTenancyStrategy.DISCRIMINATOR );
+		sqlStatementInterceptor = new SQLStatementInterceptor( settings );
+	}
+
+	@Before
+	public void createCustomers() {
+		doInHibernate( this::sessionFactory, "acme", session -> {
+			session.persist( new Passport( 20L ) );
+			session.persist( new Membership( 100L, null ) );
+		} );
+		doInHibernate( this::sessionFactory, "jboss", session -> {
+			final Passport passport = new Passport( 10L );
+			session.persist( passport );
+			final Customer steve = new Customer( 1L, "steve@jboss.org", "C1", null );
+			session.persist( steve );
+			session.persist( new Customer( 2L, "john@jboss.org", "C2", passport ) );
+			session.persist( new Membership( 101L, steve ) );
+		} );
+		// the rows of acme referencing those of jboss, and conversely
+		doInHibernate( this::sessionFactory, "jboss", session -> {
+			session.createNativeQuery( "update Membership set customer_code = 'C1' where id = 100" ).executeUpdate();
+			session.createNativeQuery( "update Customer set passport_id = 20 where id = 1" ).executeUpdate();
+		} );
+	}
+
+	@After
+	public void deleteCustomers() {
+		doInHibernate( this::sessionFactory, "jboss", session -> {
+			session.createNativeQuery( "delete from Membership" ).executeUpdate();
+			session.createNativeQuery( "delete from Customer" ).executeUpdate();
+			session.createNativeQuery( "delete from Passport" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testUniqueKeyLoadsRestrictedToTenant() {
+		doInHibernate( this::sessionFactory, "acme", session -> {
+			// referencedColumnName
+			assertNull( session.get( Membership.class, 100L ).getCustomer() );
+			// @OneToOne(mappedBy)
+			assertNull( session.get( Passport.class, 20L ).getHolder() );
+
+			final UniqueKeyLoadable persister = (UniqueKeyLoadable) customerPersister();
+			assertNull( persister.loadByUniqueKey( "passport", 20L, session.unwrap( SessionImplementor.class ) ) );
+		} );
+		doInHibernate( this::sessionFactory, "jboss", session -> {
+			assertEquals( "C1", session.get( Membership.class, 101L ).getCustomer().getCode() );
+			assertEquals( "C2", session.get( Passport.class, 10L ).getHolder().getCode() );
+		} );
+	}
+
+	@Test
+	public void testNaturalIdLoadsRestrictedToTenant() {
+		doInHibernate( this::sessionFactory, "acme", session -> {
+			assertNull( session.bySimpleNaturalId( Customer.class ).load( "steve@jboss.org" ) );
+			assertEquals(
+					Collections.singletonList( null ),
+					session.byMultipleNaturalId( Customer.class ).multiLoad( "steve@jboss.org" )
+			);
+
+			final SessionImplementor sessionImplementor = session.unwrap( SessionImplementor.class );
+			final EntityPersister persister = customerPersister();
+			assertNull( persister.loadEntityIdByNaturalId(
+					new Object[] { "steve@jboss.org" },
+					LockOptions.NONE,
+					sessionImplementor
+			) );
+			assertArrayEquals(
+					new Serializable[] { null, null },
+					persister.loadEntityIdsByNaturalIds(
+							Arrays.asList( new Object[] { "steve@jboss.org" }, new Object[] { "john@jboss.org" } ),
+							LockOptions.NONE,
+							0,
+							sessionImplementor
+					)
+			);
+			assertNull( persister.getNaturalIdentifierSnapshot( 1L, sessionImplementor ) );
+		} );
+		doInHibernate( this::sessionFactory, "jboss", session -> {
+			assertEquals( "C1", session.bySimpleNaturalId( Customer.class ).load( "steve@jboss.org" ).getCode() );
+			assertArrayEquals(
+					new Serializable[] { 1L, 2L },
+					customerPersister().loadEntityIdsByNaturalIds(
+							Arrays.asList( new Object[] { "steve@jboss.org" }, new Object[] { "john@jboss.org" } ),
+							LockOptions.NONE,
+							0,
+							session.unwrap( SessionImplementor.class )
+					)
+			);
+		} );
+	}
+
+	@Test
+	public void testEntityJoinsRestrictedToTenant() {
+		doInHibernate( this::sessionFactory, "acme", session -> {
+			assertEquals(
+					Collections.emptyList(),
+					session.createQuery( "select c.code from Passport p join Customer c on c.passport.id = p.id" ).list()
+			);
+			final Object[] row = (Object[]) session.createQuery(
+					"select p.id, c.code from Passport p left join Customer c on c.passport.id = p.id" )
+					.uniqueResult();
+			assertEquals( 20L, row[0] );
+			assertNull( row[1] );
+		} );
+		doInHibernate( this::sessionFactory, "jboss", session -> {
+			assertEquals(
+					Collections.singletonList( "C2" ),
+					session.createQuery( "select c.code from Passport p join Customer c on c.passport.id = p.id" ).list()
+			);
+		} );
+	}
+
+	@Test
+	public void testLegacyCriteriaRestrictedToTenant() {
+		doInHibernate( this::sessionFactory, "acme", session -> {
+			assertEquals( Collections.emptyList(), session.createCriteria( Customer.class ).list() );
+			assertEquals(
+					Collections.emptyList(),
+					session.createCriteria( Passport.class )
+							.add( Subqueries.propertyIn(
+									"id",
+									DetachedCriteria.forClass( Customer.class ).setProjection( Projections.property( "passport.id" ) )
+							) )
+							.list()
+			);
+		} );
+		doInHibernate( this::sessionFactory, "jboss", session -> {
+			assertEquals(
+					Arrays.asList( "C1", "C2" ),
+					session.createCriteria( Customer.class )
+							.setProjection( Projections.property( "code" ) )
+							.addOrder( Order.asc( "id" ) )
+							.list()
+			);
+			assertEquals(
+					Collections.singletonList( 10L ),
+					session.createCriteria( Passport.class )
+							.add( Subqueries.propertyIn(
+									"id",
+									DetachedCriteria.forClass( Customer.class ).setProjection( Projections.property( "passport.id" ) )
+							) )
+							.setProjection( Projections.id() )
+							.list()
+			);
+		} );
+	}
+
+	@Test
+	public void testCascadeLoadersRestrictedToTenant() {
+		doInHibernate( this::sessionFactory, "acme", session -> {
+			try {
+				session.refresh( new Customer( 2L, "hacked", "C9", null ) );
+				fail( "Customer of another tenant refreshed" );
+			}
+			catch (UnresolvableObjectException expected) {
+			}
+		} );
+		doInHibernate( this::sessionFactory, "jboss", session -> {
+			final Customer john = new Customer( 2L, "hacked", "C9", null );
+			sqlStatementInterceptor.clear();
+			session.refresh( john );
+			assertEquals( "john@jboss.org", john.getEmail() );
+			// the refresh loader fetches the passport, which the refresh is cascaded to
+			final String sql = sqlStatementInterceptor.getSqlQueries().getFirst();
+			assertTrue( sql, sql.contains( " join Passport " ) && sql.contains( ".tenant=?" ) );
+			assertEquals( 10L, (long) john.getPassport().getId() );
+		} );
+	}
+
+	private EntityPersister customerPersister() {
+		return sessionFactory().getMetamodel().entityPersister( Customer.class );
+	}
+
+	@Entity(name = "Customer")
+	public static class Customer implements Serializable {
+		@Id
+		private Long id;
+
+		@NaturalId
+		private String email;
+
+		@Column(unique = true)
+		private String code;
+
+		@OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.REFRESH)
+		@JoinColumn(name = "passport_id")
+		private Passport passport;
+
+		@TenantId
+		private String tenant;
+
+		public Customer() {
+		}
+
+		public Customer(Long id, String email, String code, Passport passport) {
+			this.id = id;
+			this.email = email;
+			this.code = code;
+			this.passport = passport;
+		}
+
+		public Long getId() {
+			return id;
+		}
+
+		public String getEmail() {
+			return email;
+		}
+
+		public String getCode() {
+			return code;
+		}
+
+		public Passport getPassport() {
+			return passport;
+		}
+	}
+
+	@Entity(name = "Passport")
+	public static class Passport {
+		@Id
+		private Long id;
+
+		@OneToOne(mappedBy = "passport", fetch = FetchType.LAZY)
+		private Customer holder;
+
+		@TenantId
+		private String tenant;
+
+		public Passport() {
+		}
+
+		public Passport(Long id) {
+			this.id = id;
+		}
+
+		public Long getId() {
+			return id;
+		}
+
+		public Customer getHolder() {
+			return holder;
+		}
+	}
+
+	@Entity(name = "Membership")
+	public static class Membership {
+		@Id
+		private Long id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		@JoinColumn(name = "customer_code", referencedColumnName = "code")
+		private Customer customer;
+
+		@TenantId
+		private String tenant;
+
+		public Membership() {
+		}
+
+		public Membership(Long id, Customer customer) {
+			this.id = id;
+			this.customer = customer;
+		}
+
+		public Long getId() {
+			return id;
+		}
+
+		public Customer getCustomer() {
+			return customer;
+		}
+	}
+}
@@ -64,6 +64,7 @@ public abstract class AbstractSchemaBasedMultiTenancyTest<T extends MultiTenantC
 		settings.put( Environment.MULTI_TENANT, MultiTenancyStrategy.SCHEMA );
 		settings.put( Environment.CACHE_REGION_FACTORY, CachingRegionFactory.class.getName() );
 		settings.put( Environment.GENERATE_STATISTICS, "true" );
+		addSettings( settings );
 
 		serviceRegistry = (ServiceRegistryImplementor) new StandardServiceRegistryBuilder()
 				.applySettings( settings )
@@ -118,6 +119,9 @@ public abstract class AbstractSchemaBasedMultiTenancyTest<T extends MultiTenantC
 		sessionFactory = (SessionFactoryImplementor) sfb.build();
 	}
 
+	protected void addSettings(Map settings) {
+	}
+
 	protected void configure(SessionFactoryBuilder sfb) {
 	}
 
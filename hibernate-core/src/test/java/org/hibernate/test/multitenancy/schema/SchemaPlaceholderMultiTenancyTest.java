@@ -0,0 +1,270 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.multitenancy.schema;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.hibernate.HibernateException;
+import org.hibernate.MultiTenancyStrategy;
+import org.hibernate.SessionBuilder;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.jdbc.connections.internal.DriverManagerConnectionProviderImpl;
+import org.hibernate.engine.jdbc.connections.spi.AbstractMultiTenantConnectionProvider;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.jdbc.connections.spi.MultiTenantConnectionProvider;
+import org.hibernate.engine.jdbc.spi.TenantSchemaSqlRewriter;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+import org.hibernate.testing.RequiresDialect;
+import org.hibernate.testing.env.ConnectionProviderBuilder;
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernateSessionBuilder;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+/**
+ * All the tenants sharing the same connections, the schema of their tables being substituted for a placeholder
+ * as statements are prepared, see {@link AvailableSettings#MULTI_TENANT_SCHEMA_PLACEHOLDER}.
+ */
+@RequiresDialect(H2Dialect.class)
+public class SchemaPlaceholderMultiTenancyTest extends BaseUnitTestCase {
+	private DriverManagerConnectionProviderImpl connectionProvider;
+	private ServiceRegistryImplementor serviceRegistry;
+	private SessionFactoryImplementor sessionFactory;
+
+	@Before
+	public void setUp() throws SQLException {
+		connectionProvider = ConnectionProviderBuilder.buildConnectionProvider( "tenants" );
+		executeUpdates(
+				"create schema acme",
+				"create schema jboss",
+				"create table acme.Customer (id bigint not null, name varchar(255), primary key (id))",
+				"create table jboss.Customer (id bigint not null, name varchar(255), primary key (id))"
+		);
+
+		serviceRegistry = buildServiceRegistry( false );
+		sessionFactory = buildSessionFactory( serviceRegistry );
+	}
+
+	private ServiceRegistryImplementor buildServiceRegistry(boolean globallyQuotedIdentifiers) {
+		return (ServiceRegistryImplementor) new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.MULTI_TENANT, MultiTenancyStrategy.SCHEMA )
+				.applySetting( AvailableSettings.DEFAULT_SCHEMA, "tenant_schema" )
+				.applySetting( AvailableSettings.MULTI_TENANT_SCHEMA_PLACEHOLDER, "tenant_schema" )
+				.applySetting( AvailableSettings.GLOBALLY_QUOTED_IDENTIFIERS, globallyQuotedIdentifiers )
+				.addService( MultiTenantConnectionProvider.class, new AbstractMultiTenantConnectionProvider() {
+					@Override
+					protected ConnectionProvider getAnyConnectionProvider() {
+						return connectionProvider;
+					}
+
+					@Override
+					protected ConnectionProvider selectConnectionProvider(String tenantIdentifier) {
+						return connectionProvider;
+					}
+				} )
+				.build();
+	}
+
+	private static SessionFactoryImplementor buildSessionFactory(ServiceRegistryImplementor serviceRegistry) {
+		return (SessionFactoryImplementor) new MetadataSources( serviceRegistry )
+				.addAnnotatedClass( Customer.class )
+				.buildMetadata()
+				.buildSessionFactory();
+	}
+
+	@After
+	public void tearDown() throws SQLException {
+		if ( sessionFactory != null ) {
+			sessionFactory.close();
+		}
+		if ( serviceRegistry != null ) {
+			serviceRegistry.destroy();
+		}
+		executeUpdates( "drop table acme.Customer", "drop table jboss.Customer", "drop schema acme", "drop schema jboss" );
+		connectionProvider.stop();
+	}
+
+	@Test
+	public void testTenantsIsolatedOnSharedConnections() throws SQLException {
+		doInHibernateSessionBuilder( () -> newSession( "jboss" ), session -> {
+			session.save( new Customer( 1L, "steve" ) );
+		} );
+		doInHibernateSessionBuilder( () -> newSession( "acme" ), session -> {
+			session.save( new Customer( 2L, "john" ) );
+		} );
+
+		doInHibernateSessionBuilder( () -> newSession( "acme" ), session -> {
+			assertNull( session.get( Customer.class, 1L ) );
+			assertEquals( "john", session.get( Customer.class, 2L ).getName() );
+			assertEquals( 1, session.createQuery( "from Customer" ).list().size() );
+		} );
+
+		assertEquals( "steve", selectName( "jboss", 1L ) );
+		assertEquals( "john", selectName( "acme", 2L ) );
+	}
+
+	@Test
+	public void testRewrittenSqlCachedPerTenant() {
+		final TenantSchemaSqlRewriter rewriter = new TenantSchemaSqlRewriter(
+				"tenant_schema",
+				sessionFactory.getJdbcServices().getJdbcEnvironment()
+		);
+		final String sql = "select c.id from tenant_schema.Customer c join tenant_schema.Invoice i on i.id = c.id "
+				+ "where c.name <> 'my_tenant_schema.x'";
+
+		final String acmeSql = rewriter.rewrite( sql, "acme" );
+		assertEquals(
+				"select c.id from acme.Customer c join acme.Invoice i on i.id = c.id where c.name <> 'my_tenant_schema.x'",
+				acmeSql
+		);
+		assertSame( acmeSql, rewriter.rewrite( sql, "acme" ) );
+		assertEquals( "select c.id from jboss.Customer c", rewriter.rewrite( "select c.id from tenant_schema.Customer c", "jboss" ) );
+		assertSame( sql, rewriter.rewrite( sql, null ) );
+	}
+
+	@Test
+	public void testLiteralsAndCommentsNotRewritten() {
+		final TenantSchemaSqlRewriter rewriter = new TenantSchemaSqlRewriter(
+				"tenant_schema",
+				sessionFactory.getJdbcServices().getJdbcEnvironment()
+		);
+		assertEquals(
+				"/* tenant_schema.Customer */ select c.id from acme.Customer c "
+						+ "where c.name <> 'tenant_schema.x' and c.name <> 'it''s tenant_schema.x' -- tenant_schema.x\n"
+						+ "and c.id in (select id from acme.Invoice)",
+				rewriter.rewrite(
+						"/* tenant_schema.Customer */ select c.id from tenant_schema.Customer c "
+								+ "where c.name <> 'tenant_schema.x' and c.name <> 'it''s tenant_schema.x' -- tenant_schema.x\n"
+								+ "and c.id in (select id from tenant_schema.Invoice)",
+						"acme"
+				)
+		);
+	}
+
+	@Test
+	public void testQuotedPlaceholderRewritten() {
+		final TenantSchemaSqlRewriter rewriter = new TenantSchemaSqlRewriter(
+				"tenant_schema",
+				sessionFactory.getJdbcServices().getJdbcEnvironment()
+		);
+		assertEquals(
+				"select c.\"tenant_schema.x\", \"tenant_schema\" from \"acme\".Customer c "
+						+ "join acme.Invoice i on i.id = c.id",
+				rewriter.rewrite(
+						"select c.\"tenant_schema.x\", \"tenant_schema\" from \"tenant_schema\".Customer c "
+								+ "join tenant_schema.Invoice i on i.id = c.id",
+						"acme"
+				)
+		);
+	}
+
+	@Test
+	public void testGloballyQuotedIdentifiers() throws SQLException {
+		executeUpdates(
+				"create schema \"acme\"",
+				"create table \"acme\".\"Customer\" (\"id\" bigint not null, \"name\" varchar(255), primary key (\"id\"))"
+		);
+		final ServiceRegistryImplementor quotingServiceRegistry = buildServiceRegistry( true );
+		try {
+			final SessionFactoryImplementor quotingSessionFactory = buildSessionFactory( quotingServiceRegistry );
+			try {
+				doInHibernateSessionBuilder( () -> quotingSessionFactory.withOptions().tenantIdentifier( "acme" ), session -> {
+					session.save( new Customer( 1L, "steve" ) );
+				} );
+				doInHibernateSessionBuilder( () -> quotingSessionFactory.withOptions().tenantIdentifier( "acme" ), session -> {
+					assertEquals( "steve", session.get( Customer.class, 1L ).getName() );
+				} );
+			}
+			finally {
+				quotingSessionFactory.close();
+			}
+			// the tenant schema is quoted, as the placeholder is
+			assertEquals( "steve", selectName( "\"acme\"", "\"Customer\"", "\"name\"", "\"id\"", 1L ) );
+			assertNull( selectName( "acme", 1L ) );
+		}
+		finally {
+			quotingServiceRegistry.destroy();
+			executeUpdates( "drop table \"acme\".\"Customer\"", "drop schema \"acme\"" );
+		}
+	}
+
+	@Test
+	public void testTenantIdentifierNotPlainIdentifierRejected() {
+		final TenantSchemaSqlRewriter rewriter = new TenantSchemaSqlRewriter(
+				"tenant_schema",
+				sessionFactory.getJdbcServices().getJdbcEnvironment()
+		);
+		for ( String tenant : new String[] { "x.t; delete from Customer --", "acme\"", "1acme", "" } ) {
+			try {
+				rewriter.rewrite( "select c.id from tenant_schema.Customer c", tenant );
+				fail( "Tenant identifier accepted: " + tenant );
+			}
+			catch (HibernateException expected) {
+			}
+		}
+
+		try {
+			doInHibernateSessionBuilder( () -> newSession( "acme.Customer; delete from jboss.Customer; --" ), session -> {
+				session.get( Customer.class, 1L );
+			} );
+			fail( "Tenant identifier accepted" );
+		}
+		catch (HibernateException expected) {
+		}
+	}
+
+	private SessionBuilder newSession(String tenant) {
+		return sessionFactory.withOptions().tenantIdentifier( tenant );
+	}
+
+	private String selectName(String schema, Long id) throws SQLException {
+		return selectName( schema, "Customer", "name", "id", id );
+	}
+
+	private String selectName(String schema, String table, String nameColumn, String idColumn, Long id)
+			throws SQLException {
+		final Connection connection = connectionProvider.getConnection();
+		try ( Statement statement = connection.createStatement();
+				ResultSet resultSet = statement.executeQuery(
+						"select " + nameColumn + " from " + schema + "." + table + " where " + idColumn + " = " + id
+				) ) {
+			return resultSet.next() ? resultSet.getString( 1 ) : null;
+		}
+		finally {
+			connectionProvider.closeConnection( connection );
+		}
+	}
+
+	private void executeUpdates(String... sqls) throws SQLException {
+		final Connection connection = connectionProvider.getConnection();
+		try ( Statement statement = connection.createStatement() ) {
+			for ( String sql : sqls ) {
+				statement.executeUpdate( sql );
+			}
+			if ( !connection.getAutoCommit() ) {
+				connection.commit();
+			}
+		}
+		finally {
+			connectionProvider.closeConnection( connection );
+		}
+	}
+}
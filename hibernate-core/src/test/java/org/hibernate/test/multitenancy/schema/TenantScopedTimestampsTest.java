@@ -0,0 +1,116 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.multitenancy.schema;
+
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionDelegatorBaseImpl;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.RequiresDialectFeature;
+import org.hibernate.testing.env.ConnectionProviderBuilder;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernateSessionBuilder;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * The cached query results of a tenant only invalidated by the changes of that same tenant,
+ * see {@link AvailableSettings#TENANT_SCOPED_TIMESTAMPS}.
+ */
+@RequiresDialectFeature( value = ConnectionProviderBuilder.class )
+public class TenantScopedTimestampsTest extends SchemaBasedMultiTenancyTest {
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.USE_QUERY_CACHE, "true" );
+		settings.put( AvailableSettings.TENANT_SCOPED_TIMESTAMPS, "true" );
+	}
+
+	@Test
+	public void testWritesOnlyInvalidateTheirTenant() {
+		doInHibernateSessionBuilder( () -> newSession( "jboss" ), session -> {
+			session.save( new Customer( 1L, "steve" ) );
+		} );
+		doInHibernateSessionBuilder( () -> newSession( "acme" ), session -> {
+			session.save( new Customer( 1L, "john" ) );
+		} );
+		assertEquals( 1, listCustomers( "jboss" ).size() );
+		assertEquals( 1, listCustomers( "acme" ).size() );
+
+		final Statistics statistics = sessionFactory.getStatistics();
+		statistics.clear();
+		doInHibernateSessionBuilder( () -> newSession( "jboss" ), session -> {
+			session.save( new Customer( 2L, "gavin" ) );
+		} );
+
+		// the results of acme are still up to date
+		assertEquals( 1, listCustomers( "acme" ).size() );
+		assertEquals( 1, statistics.getQueryCacheHitCount() );
+
+		// whereas the ones of jboss are not
+		assertEquals( 2, listCustomers( "jboss" ).size() );
+		assertEquals( 1, statistics.getQueryCacheHitCount() );
+		assertEquals( 1, statistics.getQueryCacheMissCount() );
+
+		doInHibernateSessionBuilder( () -> newSession( "jboss" ), session -> {
+			session.createQuery( "delete from Customer" ).executeUpdate();
+		} );
+		doInHibernateSessionBuilder( () -> newSession( "acme" ), session -> {
+			session.createQuery( "delete from Customer" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testWritesWithoutTenantInvalidateAllTenants() {
+		doInHibernateSessionBuilder( () -> newSession( "jboss" ), session -> {
+			session.save( new Customer( 1L, "steve" ) );
+		} );
+		doInHibernateSessionBuilder( () -> newSession( "acme" ), session -> {
+			session.save( new Customer( 1L, "john" ) );
+		} );
+		assertEquals( 1, listCustomers( "jboss" ).size() );
+		assertEquals( 1, listCustomers( "acme" ).size() );
+
+		final Statistics statistics = sessionFactory.getStatistics();
+		statistics.clear();
+		doInHibernateSessionBuilder( () -> newSession( "jboss" ), session -> {
+			final String[] spaces = (String[]) sessionFactory.getMetamodel()
+					.entityPersister( Customer.class )
+					.getQuerySpaces();
+			final SessionImplementor withoutTenant = new SessionDelegatorBaseImpl( (SessionImplementor) session ) {
+				@Override
+				public String getTenantIdentifier() {
+					return null;
+				}
+			};
+			sessionFactory.getCache().getTimestampsCache().invalidate( spaces, withoutTenant );
+		} );
+
+		assertEquals( 1, listCustomers( "acme" ).size() );
+		assertEquals( 1, listCustomers( "jboss" ).size() );
+		assertEquals( 0, statistics.getQueryCacheHitCount() );
+		assertEquals( 2, statistics.getQueryCacheMissCount() );
+
+		doInHibernateSessionBuilder( () -> newSession( "jboss" ), session -> {
+			session.createQuery( "delete from Customer" ).executeUpdate();
+		} );
+		doInHibernateSessionBuilder( () -> newSession( "acme" ), session -> {
+			session.createQuery( "delete from Customer" ).executeUpdate();
+		} );
+	}
+
+	private List<Customer> listCustomers(String tenant) {
+		return doInHibernateSessionBuilder( () -> newSession( tenant ), session -> {
+			return session.createQuery( "from Customer", Customer.class ).setCacheable( true ).list();
+		} );
+	}
+}
@@ -0,0 +1,87 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.multitenancy.schema;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+import org.hibernate.stat.TenantStatistics;
+
+import org.hibernate.testing.RequiresDialectFeature;
+import org.hibernate.testing.env.ConnectionProviderBuilder;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernateSessionBuilder;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * The sessions of each tenant counted in the statistics of that tenant,
+ * see {@link AvailableSettings#TENANT_STATISTICS_MAX_SIZE}.
+ */
+@RequiresDialectFeature( value = ConnectionProviderBuilder.class )
+public class TenantStatisticsTest extends SchemaBasedMultiTenancyTest {
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.TENANT_STATISTICS_MAX_SIZE, "10" );
+	}
+
+	@Test
+	public void testStatisticsPerTenant() {
+		final Statistics statistics = sessionFactory.getStatistics();
+		statistics.clear();
+
+		doInHibernateSessionBuilder( () -> newSession( "jboss" ), session -> {
+			session.save( new Customer( 1L, "steve" ) );
+			session.save( new Customer( 2L, "gavin" ) );
+		} );
+		doInHibernateSessionBuilder( () -> newSession( "acme" ), session -> {
+			session.save( new Customer( 1L, "john" ) );
+		} );
+		doInHibernateSessionBuilder( () -> newSession( "jboss" ), session -> {
+			assertEquals( 2, session.createQuery( "from Customer", Customer.class ).list().size() );
+		} );
+		doInHibernateSessionBuilder( () -> newSession( "acme" ), session -> {
+			session.delete( session.get( Customer.class, 1L ) );
+		} );
+
+		assertEquals(
+				new HashSet<>( Arrays.asList( "jboss", "acme" ) ),
+				new HashSet<>( Arrays.asList( statistics.getTenantIdentifiers() ) )
+		);
+
+		final TenantStatistics jboss = statistics.getTenantStatistics( "jboss" );
+		assertEquals( 2, jboss.getSessionOpenCount() );
+		assertEquals( 2, jboss.getTransactionCount() );
+		assertEquals( 2, jboss.getEntityInsertCount() );
+		assertEquals( 1, jboss.getQueryExecutionCount() );
+		assertEquals( 2, jboss.getEntityLoadCount() );
+		assertEquals( 0, jboss.getEntityDeleteCount() );
+
+		final TenantStatistics acme = statistics.getTenantStatistics( "acme" );
+		assertEquals( 2, acme.getSessionOpenCount() );
+		assertEquals( 1, acme.getEntityInsertCount() );
+		assertEquals( 1, acme.getEntityDeleteCount() );
+		assertEquals( 0, acme.getQueryExecutionCount() );
+
+		assertEquals( 3, statistics.getEntityInsertCount() );
+		assertEquals( 4, statistics.getSessionOpenCount() );
+
+		statistics.clear();
+		assertEquals( 0, statistics.getTenantIdentifiers().length );
+		assertNull( statistics.getTenantStatistics( null ) );
+
+		doInHibernateSessionBuilder( () -> newSession( "jboss" ), session -> {
+			session.createQuery( "delete from Customer" ).executeUpdate();
+		} );
+	}
+}
@@ -0,0 +1,78 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.naturalid.multiload;
+
+import java.util.List;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.dialect.H2Dialect;
+
+import org.hibernate.testing.RequiresDialect;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Natural ids which the database considers equal to the stored ones while their values differ, here
+ * because of a case-insensitive column, are resolved by batches as they are one by one.
+ */
+@RequiresDialect(H2Dialect.class)
+public class MultiNaturalIdLoadCollationTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Tag.class };
+	}
+
+	@Before
+	public void prepareData() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "delete from Tag" ).executeUpdate();
+			session.persist( new Tag( 1, "Red" ) );
+			session.persist( new Tag( 2, "Blue" ) );
+		} );
+	}
+
+	@Test
+	public void testCaseDifferingNaturalIds() {
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Tag> tags = session.byMultipleNaturalId( Tag.class )
+					.multiLoad( "BLUE", "Red", "red", "green" );
+			assertEquals( 4, tags.size() );
+			assertEquals( (Integer) 2, tags.get( 0 ).id );
+			assertEquals( (Integer) 1, tags.get( 1 ).id );
+			assertSame( tags.get( 1 ), tags.get( 2 ) );
+			assertNull( tags.get( 3 ) );
+		} );
+	}
+
+	@Entity(name = "Tag")
+	public static class Tag {
+		@Id
+		private Integer id;
+
+		@NaturalId
+		@Column(columnDefinition = "varchar_ignorecase(255)")
+		private String name;
+
+		public Tag() {
+		}
+
+		public Tag(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,206 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.naturalid.multiload;
+
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+
+import org.hibernate.annotations.NaturalId;
+
+import org.hibernate.testing.jdbc.SQLStatementInterceptor;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.NaturalIdMultiLoadAccess.compoundValue;
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Loading entities by batches of natural ids, see {@link org.hibernate.Session#byMultipleNaturalId}.
+ */
+public class MultiNaturalIdLoadTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	private SQLStatementInterceptor sqlStatementInterceptor;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Product.class, Ledger.class, Account.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		sqlStatementInterceptor = new SQLStatementInterceptor( settings );
+	}
+
+	@After
+	public void cleanupData() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "delete from Account" ).executeUpdate();
+			session.createQuery( "delete from Ledger" ).executeUpdate();
+			session.createQuery( "delete from Product" ).executeUpdate();
+		} );
+	}
+
+	@Before
+	public void prepareData() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 0; i < 10; i++ ) {
+				session.persist( new Product( i, "sku-" + i ) );
+			}
+			final Ledger billing = new Ledger( 1, "billing" );
+			final Ledger payroll = new Ledger( 2, "payroll" );
+			session.persist( billing );
+			session.persist( payroll );
+			session.persist( new Account( 1, billing, "A" ) );
+			session.persist( new Account( 2, billing, "B" ) );
+			session.persist( new Account( 3, payroll, "A" ) );
+		} );
+	}
+
+	@Test
+	public void testSimpleNaturalIdsResolvedInOneQuery() {
+		doInHibernate( this::sessionFactory, session -> {
+			sqlStatementInterceptor.clear();
+			final List<Product> products = session.byMultipleNaturalId( Product.class )
+					.multiLoad( "sku-3", "sku-7", "unknown", "sku-1" );
+
+			// one query resolving the natural ids, one checking the unknown one alone, one loading the entities
+			sqlStatementInterceptor.assertExecutedCount( 3 );
+			assertEquals( 4, products.size() );
+			assertEquals( (Integer) 3, products.get( 0 ).id );
+			assertEquals( (Integer) 7, products.get( 1 ).id );
+			assertNull( products.get( 2 ) );
+			assertEquals( (Integer) 1, products.get( 3 ).id );
+
+			// resolved natural ids are not looked up again
+			sqlStatementInterceptor.clear();
+			assertSame( products.get( 1 ), session.bySimpleNaturalId( Product.class ).load( "sku-7" ) );
+			sqlStatementInterceptor.assertExecutedCount( 0 );
+		} );
+	}
+
+	@Test
+	public void testOnlyUnresolvedNaturalIdsQueried() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Product known = session.bySimpleNaturalId( Product.class ).load( "sku-2" );
+
+			sqlStatementInterceptor.clear();
+			final List<Product> products = session.byMultipleNaturalId( Product.class )
+					.enableOrderedReturn( false )
+					.withBatchSize( 2 )
+					.multiLoad( "sku-2", "sku-4", "sku-5", "sku-6", "unknown" );
+
+			// two batches of natural ids and the unknown one alone, the entities loaded in two batches as well
+			sqlStatementInterceptor.assertExecutedCount( 5 );
+			assertEquals( 4, products.size() );
+			assertSame( known, products.get( 0 ) );
+			assertEquals( (Integer) 4, products.get( 1 ).id );
+			assertEquals( (Integer) 5, products.get( 2 ).id );
+			assertEquals( (Integer) 6, products.get( 3 ).id );
+		} );
+	}
+
+	@Test
+	public void testRepeatedNaturalIds() {
+		doInHibernate( this::sessionFactory, session -> {
+			sqlStatementInterceptor.clear();
+			final List<Product> products = session.byMultipleNaturalId( Product.class )
+					.multiLoad( "sku-8", "sku-0", "sku-8" );
+
+			sqlStatementInterceptor.assertExecutedCount( 2 );
+			assertEquals( 3, products.size() );
+			assertEquals( (Integer) 8, products.get( 0 ).id );
+			assertEquals( (Integer) 0, products.get( 1 ).id );
+			assertSame( products.get( 0 ), products.get( 2 ) );
+		} );
+	}
+
+	@Test
+	public void testCompoundNaturalIds() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Ledger billing = session.get( Ledger.class, 1 );
+			final Ledger payroll = session.get( Ledger.class, 2 );
+
+			sqlStatementInterceptor.clear();
+			final List<Account> accounts = session.byMultipleNaturalId( Account.class ).multiLoad(
+					compoundValue( "ledger", payroll, "code", "A" ),
+					compoundValue( "ledger", payroll, "code", "B" ),
+					compoundValue( "ledger", billing, "code", "B" ),
+					compoundValue( "ledger", billing, "code", "A" )
+			);
+
+			// the unknown natural id is checked alone
+			sqlStatementInterceptor.assertExecutedCount( 3 );
+			assertEquals( (Integer) 3, accounts.get( 0 ).id );
+			assertNull( accounts.get( 1 ) );
+			assertEquals( (Integer) 2, accounts.get( 2 ).id );
+			assertEquals( (Integer) 1, accounts.get( 3 ).id );
+		} );
+	}
+
+	@Entity(name = "Product")
+	public static class Product {
+		@Id
+		private Integer id;
+
+		@NaturalId
+		private String sku;
+
+		public Product() {
+		}
+
+		public Product(Integer id, String sku) {
+			this.id = id;
+			this.sku = sku;
+		}
+	}
+
+	@Entity(name = "Ledger")
+	public static class Ledger {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Ledger() {
+		}
+
+		public Ledger(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Account")
+	public static class Account {
+		@Id
+		private Integer id;
+
+		@NaturalId
+		@ManyToOne
+		private Ledger ledger;
+
+		@NaturalId
+		private String code;
+
+		public Account() {
+		}
+
+		public Account(Integer id, Ledger ledger, String code) {
+			this.id = id;
+			this.ledger = ledger;
+			this.code = code;
+		}
+	}
+}
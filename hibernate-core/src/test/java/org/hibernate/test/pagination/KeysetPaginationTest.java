@@ -0,0 +1,206 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.pagination;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import javax.persistence.ElementCollection;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.QueryException;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.PostgreSQL81Dialect;
+import org.hibernate.query.KeysetPage;
+import org.hibernate.query.KeysetResultList;
+import org.hibernate.query.internal.KeysetQuery;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Keyset (seek) pagination through {@link org.hibernate.query.Query#getKeysetResultList}.
+ */
+public class KeysetPaginationTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Item.class };
+	}
+
+	@Before
+	public void prepareData() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "delete from Item" ).executeUpdate();
+			for ( int i = 1; i <= 10; i++ ) {
+				// two items per category
+				session.persist( new Item( i, "category " + ( ( i + 1 ) / 2 ), "item #" + i ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testImplicitSelect() {
+		final List<Integer> ids = new ArrayList<>();
+		doInHibernate( this::sessionFactory, session -> {
+			KeysetPage page = KeysetPage.first( 3 );
+			int pages = 0;
+			while ( page != null ) {
+				final KeysetResultList<Item> result = session.createQuery( "from Item order by id", Item.class )
+						.getKeysetResultList( page );
+				result.getResultList().forEach( item -> ids.add( item.getId() ) );
+				page = result.getNextPage();
+				pages++;
+			}
+			assertEquals( 4, pages );
+		} );
+		assertEquals( 10, ids.size() );
+		for ( int i = 0; i < 10; i++ ) {
+			assertEquals( Integer.valueOf( i + 1 ), ids.get( i ) );
+		}
+	}
+
+	@Test
+	public void testCompositeKey() {
+		doInHibernate( this::sessionFactory, session -> {
+			final KeysetResultList<Item> first = session.createQuery(
+					"select i from Item i where i.name <> 'item #5' order by i.category desc, i.id",
+					Item.class
+			).getKeysetResultList( KeysetPage.first( 4 ) );
+			assertEquals( 4, first.getResultList().size() );
+			assertEquals( Integer.valueOf( 9 ), first.getResultList().get( 0 ).getId() );
+			assertEquals( Integer.valueOf( 8 ), first.getResultList().get( 3 ).getId() );
+			assertArrayEquals( new Object[] { "category 4", 8 }, first.getNextPage().getKey() );
+
+			final KeysetResultList<Item> second = session.createQuery(
+					"select i from Item i where i.name <> 'item #5' order by i.category desc, i.id",
+					Item.class
+			).getKeysetResultList( first.getNextPage() );
+			assertEquals( 4, second.getResultList().size() );
+			assertEquals( Integer.valueOf( 6 ), second.getResultList().get( 0 ).getId() );
+			assertEquals( Integer.valueOf( 3 ), second.getResultList().get( 1 ).getId() );
+			assertEquals( Integer.valueOf( 4 ), second.getResultList().get( 2 ).getId() );
+			assertEquals( Integer.valueOf( 1 ), second.getResultList().get( 3 ).getId() );
+			assertFalse( second.isLastPage() );
+		} );
+	}
+
+	@Test
+	public void testProjection() {
+		doInHibernate( this::sessionFactory, session -> {
+			final KeysetResultList<Object[]> result = session.createQuery(
+					"select i.id, i.name from Item i where i.id > :id order by i.id",
+					Object[].class
+			).setParameter( "id", 5 ).getKeysetResultList( KeysetPage.after( 10, 7 ) );
+			assertEquals( 3, result.getResultList().size() );
+			assertArrayEquals( new Object[] { 8, "item #8" }, result.getResultList().get( 0 ) );
+			assertTrue( result.isLastPage() );
+		} );
+	}
+
+	@Test
+	public void testRewrite() {
+		final String hql = "select i from Item i where i.a = 1 or i.b = 2 order by i.c desc, i.id";
+		assertEquals(
+				"select i, i.c, i.id from Item i where (i.a = 1 or i.b = 2) and "
+						+ "((i.c < :keyset_0) or (i.c = :keyset_0 and i.id > :keyset_1)) order by i.c desc, i.id",
+				KeysetQuery.rewrite( hql, true, new H2Dialect() ).getQueryString()
+		);
+		assertEquals(
+				"select i, i.c, i.id from Item i where (i.a = 1 or i.b = 2) and "
+						+ "((i.c, i.id) > (:keyset_0, :keyset_1)) order by i.c, i.id",
+				KeysetQuery.rewrite( hql.replace( " desc", "" ), true, new PostgreSQL81Dialect() ).getQueryString()
+		);
+		assertEquals(
+				"select keyset_root, id from Item keyset_root where ((id > :keyset_0)) order by id",
+				KeysetQuery.rewrite( "from Item order by id", true, new H2Dialect() ).getQueryString()
+		);
+	}
+
+	@Test
+	public void testSelectAliasRejected() {
+		assertRewriteRejected( "select i.name as n, i from Item i order by n, i.id" );
+	}
+
+	@Test
+	public void testPositionRejected() {
+		assertRewriteRejected( "select i.name, i from Item i order by 1, i.id" );
+	}
+
+	@Test
+	public void testNullPrecedenceRejected() {
+		assertRewriteRejected( "select i from Item i order by i.name nulls first, i.id" );
+		assertRewriteRejected( "select i from Item i order by i.name desc nulls last, i.id" );
+	}
+
+	@Test
+	public void testCollectionFetchRejected() {
+		doInHibernate( this::sessionFactory, session -> {
+			try {
+				session.createQuery( "from Item i join fetch i.parts order by i.id", Item.class )
+						.getKeysetResultList( KeysetPage.first( 3 ) );
+				fail( "Keyset pagination of a query fetching a collection" );
+			}
+			catch (IllegalArgumentException expected) {
+				assertTrue( expected.getCause() instanceof QueryException );
+			}
+		} );
+	}
+
+	private static void assertRewriteRejected(String hql) {
+		try {
+			KeysetQuery.rewrite( hql, true, new H2Dialect() );
+			fail( "Keyset pagination of " + hql );
+		}
+		catch (QueryException expected) {
+		}
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Integer id;
+
+		private String category;
+
+		private String name;
+
+		@ElementCollection
+		private Set<String> parts = new HashSet<>();
+
+		public Item() {
+		}
+
+		public Item(Integer id, String category, String name) {
+			this.id = id;
+			this.category = category;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getCategory() {
+			return category;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+}
@@ -0,0 +1,129 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.queryplan;
+
+import java.util.Collections;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.NamedNativeQuery;
+import javax.persistence.NamedQueries;
+import javax.persistence.NamedQuery;
+
+import org.hibernate.HibernateException;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.query.spi.HQLQueryPlan;
+import org.hibernate.engine.query.spi.QueryPlanCache;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * The named queries checked at startup, in parallel, keep their plans whatever the number of other queries,
+ * see {@link AvailableSettings#QUERY_STARTUP_CHECKING_PARALLELISM}.
+ */
+public class NamedQueryPlanPinningTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Book.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.QUERY_STARTUP_CHECKING, "true" );
+		settings.put( AvailableSettings.QUERY_STARTUP_CHECKING_PARALLELISM, "4" );
+		settings.put( AvailableSettings.QUERY_PLAN_CACHE_MAX_SIZE, "16" );
+	}
+
+	@Test
+	public void testNamedQueryPlansNeverEvicted() {
+		final QueryPlanCache cache = sessionFactory().getQueryPlanCache();
+		final HQLQueryPlan plan = cache.getHQLQueryPlan( "from Book b where b.title = :title", false, Collections.emptyMap() );
+
+		for ( int i = 0; i < 200; i++ ) {
+			cache.getHQLQueryPlan( "from Book b where b.id = " + i, false, Collections.emptyMap() );
+		}
+
+		assertSame( plan, cache.getHQLQueryPlan( "from Book b where b.title = :title", false, Collections.emptyMap() ) );
+
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Book( 1, "Dune" ) );
+			session.flush();
+			assertEquals( 1, session.getNamedQuery( "Book.byTitle" ).setParameter( "title", "Dune" ).list().size() );
+			assertEquals( 1, session.getNamedQuery( "Book.countNative" ).list().size() );
+		} );
+	}
+
+	@Test
+	public void testErrorsReportedWhenCheckedInParallel() {
+		final StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.QUERY_STARTUP_CHECKING, "true" )
+				.applySetting( AvailableSettings.QUERY_STARTUP_CHECKING_PARALLELISM, "4" )
+				.build();
+		try {
+			new MetadataSources( registry )
+					.addAnnotatedClass( Book.class )
+					.addAnnotatedClass( BrokenBook.class )
+					.buildMetadata()
+					.buildSessionFactory()
+					.close();
+			fail( "Expecting the named query to be reported" );
+		}
+		catch (HibernateException e) {
+			assertTrue( e.getMessage().contains( "BrokenBook.byAuthor" ) );
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( registry );
+		}
+	}
+
+	@Entity(name = "Book")
+	@NamedQueries({
+			@NamedQuery(name = "Book.byTitle", query = "from Book b where b.title = :title"),
+			@NamedQuery(name = "Book.byId", query = "from Book b where b.id = :id"),
+			@NamedQuery(name = "Book.titles", query = "select b.title from Book b order by b.title"),
+			@NamedQuery(name = "Book.count", query = "select count(b) from Book b"),
+			@NamedQuery(name = "Book.longTitles", query = "from Book b where length(b.title) > :length")
+	})
+	@NamedNativeQuery(name = "Book.countNative", query = "select count(*) from Book")
+	public static class Book {
+		@Id
+		private Integer id;
+
+		private String title;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+
+	@Entity(name = "BrokenBook")
+	@NamedQueries({
+			@NamedQuery(name = "BrokenBook.byTitle", query = "from BrokenBook b where b.title = :title"),
+			@NamedQuery(name = "BrokenBook.byAuthor", query = "from BrokenBook b where b.author = :author")
+	})
+	public static class BrokenBook {
+		@Id
+		private Integer id;
+
+		private String title;
+	}
+}
@@ -0,0 +1,148 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.stats;
+
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Rows referring to an entity which is already managed should not hydrate that entity again,
+ * and should be reported through {@link Statistics#getEntityHydrationSkipCount()}.
+ */
+public class EntityHydrationSkipStatisticsTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Owner.class, Pet.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Before
+	public void prepareData() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "delete from Pet" ).executeUpdate();
+			session.createQuery( "delete from Owner" ).executeUpdate();
+			final Owner owner = new Owner( 1, "Alice" );
+			session.persist( owner );
+			for ( int i = 1; i <= 4; i++ ) {
+				session.persist( new Pet( i, "pet #" + i, owner ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testQueryJoiningManagedOwner() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Pet> pets = session.createQuery(
+					"select p from Pet p join fetch p.owner order by p.id",
+					Pet.class
+			).getResultList();
+			assertEquals( 4, pets.size() );
+			for ( Pet pet : pets ) {
+				assertSame( pets.get( 0 ).getOwner(), pet.getOwner() );
+			}
+		} );
+
+		// the owner is hydrated from the first row only
+		assertEquals( 3, statistics.getEntityHydrationSkipCount() );
+		assertEquals( 3, statistics.getEntityStatistics( Owner.class.getName() ).getHydrationSkipCount() );
+		assertEquals( 0, statistics.getEntityStatistics( Pet.class.getName() ).getHydrationSkipCount() );
+	}
+
+	@Test
+	public void testLoadJoiningManagedOwner() {
+		final Statistics statistics = sessionFactory().getStatistics();
+
+		doInHibernate( this::sessionFactory, session -> {
+			final Owner owner = session.get( Owner.class, 1 );
+			statistics.clear();
+
+			final Pet pet = session.get( Pet.class, 2 );
+			assertSame( owner, pet.getOwner() );
+		} );
+
+		assertEquals( 1, statistics.getEntityHydrationSkipCount() );
+		assertEquals( 1, statistics.getEntityStatistics( Owner.class.getName() ).getHydrationSkipCount() );
+	}
+
+	@Entity(name = "Owner")
+	public static class Owner {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Owner() {
+		}
+
+		public Owner(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+
+	@Entity(name = "Pet")
+	public static class Pet {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		@ManyToOne
+		private Owner owner;
+
+		public Pet() {
+		}
+
+		public Pet(Integer id, String name, Owner owner) {
+			this.id = id;
+			this.name = name;
+			this.owner = owner;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public Owner getOwner() {
+			return owner;
+		}
+	}
+}
@@ -0,0 +1,161 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.stats;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.jdbc.spi.SlowQuery;
+import org.hibernate.engine.jdbc.spi.SlowQueryLog;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.RequiresDialect;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Capture of slow queries exposed through {@link Statistics#getSlowQueries()}.
+ */
+@RequiresDialect(H2Dialect.class)
+public class SlowQueryLogTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	private static final String SLOW_QUERY = "from Item where name = :name and slow_down( 50 ) is null";
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Item.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.LOG_SLOW_QUERY, "25" );
+		settings.put( AvailableSettings.SLOW_QUERY_LOG_SIZE, "2" );
+		settings.put( AvailableSettings.SLOW_QUERY_EXPLAIN_THRESHOLD, "25" );
+	}
+
+	@Before
+	public void prepareData() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.createNativeQuery( "create alias if not exists slow_down for \"java.lang.Thread.sleep\"" )
+					.executeUpdate();
+			session.createQuery( "delete from Item" ).executeUpdate();
+			session.persist( new Item( 1, "first" ) );
+			session.persist( new Item( 2, "second" ) );
+			session.persist( new Item( 3, "third" ) );
+		} );
+		sessionFactory().getStatistics().clear();
+	}
+
+	@Test
+	public void testSlowQueryCaptured() throws InterruptedException {
+		doInHibernate( this::sessionFactory, session -> {
+			// fast enough not to be captured
+			session.createQuery( "from Item" ).list();
+
+			assertEquals(
+					1,
+					session.createQuery( SLOW_QUERY ).setParameter( "name", "second" ).list().size()
+			);
+		} );
+
+		final List<SlowQuery> slowQueries = slowQueryLog().getSlowQueries();
+		assertEquals( 1, slowQueries.size() );
+
+		final SlowQuery slowQuery = slowQueries.get( 0 );
+		assertTrue( slowQuery.getSql().contains( "slow_down" ) );
+		assertEquals( SLOW_QUERY, slowQuery.getQueryName() );
+		assertEquals( Arrays.asList( "second" ), slowQuery.getParameters() );
+		assertEquals( 1, slowQuery.getRowCount() );
+		assertTrue( slowQuery.getExecutionTime() + slowQuery.getFetchTime() >= 50 );
+
+		// the plan is obtained in the background
+		for ( int i = 0; i < 50 && slowQuery.getExecutionPlan() == null; i++ ) {
+			Thread.sleep( 100 );
+		}
+		assertNotNull( slowQuery.getExecutionPlan() );
+		assertTrue( slowQuery.getExecutionPlan().toLowerCase().contains( "select" ) );
+
+		final String[] descriptions = sessionFactory().getStatistics().getSlowQueries();
+		assertEquals( 1, descriptions.length );
+		assertTrue( descriptions[0].contains( slowQuery.getSql() ) );
+		assertTrue( descriptions[0].contains( slowQuery.getExecutionPlan() ) );
+	}
+
+	@Test
+	public void testSlowQueriesExposedThroughMXBean() throws Exception {
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( SLOW_QUERY ).setParameter( "name", "first" ).list();
+		} );
+
+		final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+		final ObjectName name = new ObjectName( "org.hibernate.test:type=Statistics,name=SlowQueryLogTest" );
+		mBeanServer.registerMBean(
+				new StandardMBean( sessionFactory().getStatistics(), Statistics.class, true ),
+				name
+		);
+		try {
+			final String[] slowQueries = (String[]) mBeanServer.getAttribute( name, "SlowQueries" );
+			assertEquals( 1, slowQueries.length );
+			assertTrue( slowQueries[0].contains( "slow_down" ) );
+		}
+		finally {
+			mBeanServer.unregisterMBean( name );
+		}
+	}
+
+	@Test
+	public void testOldestSlowQueriesEvicted() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( String name : new String[] { "first", "second", "third" } ) {
+				session.createQuery( SLOW_QUERY ).setParameter( "name", name ).list();
+			}
+		} );
+
+		final List<SlowQuery> slowQueries = slowQueryLog().getSlowQueries();
+		assertEquals( 2, slowQueries.size() );
+		assertEquals( Arrays.asList( "second" ), slowQueries.get( 0 ).getParameters() );
+		assertEquals( Arrays.asList( "third" ), slowQueries.get( 1 ).getParameters() );
+
+		sessionFactory().getStatistics().clear();
+		assertEquals( 0, sessionFactory().getStatistics().getSlowQueries().length );
+	}
+
+	private SlowQueryLog slowQueryLog() {
+		return sessionFactory().getJdbcServices().getSlowQueryLog();
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,123 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.type;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.TimeZone;
+
+import org.hibernate.engine.jdbc.LobCreator;
+import org.hibernate.engine.jdbc.NonContextualLobCreator;
+import org.hibernate.type.descriptor.ValueExtractor;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.JavaTypeDescriptor;
+import org.hibernate.type.descriptor.java.LongTypeDescriptor;
+import org.hibernate.type.descriptor.sql.BigIntTypeDescriptor;
+import org.hibernate.type.descriptor.sql.SqlTypeDescriptor;
+
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Makes sure {@link AbstractStandardBasicType} reuses its extractor while reading values,
+ * unless the Dialect remaps the SqlTypeDescriptor.
+ */
+public class BasicTypeExtractorReuseTest extends BaseUnitTestCase {
+
+	@Test
+	public void testExtractorIsReused() throws SQLException {
+		final CountingBigIntTypeDescriptor sqlTypeDescriptor = new CountingBigIntTypeDescriptor();
+		final StandardBasicTypeTemplate<Long> type = new StandardBasicTypeTemplate<>(
+				sqlTypeDescriptor,
+				LongTypeDescriptor.INSTANCE,
+				"counting-long"
+		);
+		final ResultSet resultSet = mockResultSet();
+		final WrapperOptions options = new MockWrapperOptions( null );
+
+		assertEquals( Long.valueOf( 42L ), type.nullSafeGet( resultSet, "id", options ) );
+		assertEquals( Long.valueOf( 42L ), type.nullSafeGet( resultSet, "id", options ) );
+		assertNull( type.nullSafeGet( resultSet, "missing", options ) );
+		assertEquals( 1, sqlTypeDescriptor.extractorCount );
+
+		// changing the descriptor must not keep using the old extractor
+		final CountingBigIntTypeDescriptor replacement = new CountingBigIntTypeDescriptor();
+		type.setSqlTypeDescriptor( replacement );
+		assertEquals( Long.valueOf( 42L ), type.nullSafeGet( resultSet, "id", options ) );
+		assertEquals( 1, sqlTypeDescriptor.extractorCount );
+		assertEquals( 1, replacement.extractorCount );
+	}
+
+	@Test
+	public void testRemappedDescriptorIsHonored() throws SQLException {
+		final CountingBigIntTypeDescriptor sqlTypeDescriptor = new CountingBigIntTypeDescriptor();
+		final CountingBigIntTypeDescriptor remapped = new CountingBigIntTypeDescriptor();
+		final StandardBasicTypeTemplate<Long> type = new StandardBasicTypeTemplate<>(
+				sqlTypeDescriptor,
+				LongTypeDescriptor.INSTANCE,
+				"counting-long"
+		);
+		final ResultSet resultSet = mockResultSet();
+		final WrapperOptions options = new MockWrapperOptions( remapped );
+
+		assertEquals( Long.valueOf( 42L ), type.nullSafeGet( resultSet, "id", options ) );
+		assertEquals( Long.valueOf( 42L ), type.nullSafeGet( resultSet, "id", options ) );
+		assertEquals( 0, sqlTypeDescriptor.extractorCount );
+		assertEquals( 2, remapped.extractorCount );
+	}
+
+	private static ResultSet mockResultSet() throws SQLException {
+		final ResultSet resultSet = mock( ResultSet.class );
+		when( resultSet.getLong( "id" ) ).thenReturn( 42L );
+		when( resultSet.getLong( "missing" ) ).thenReturn( 0L );
+		when( resultSet.wasNull() ).thenReturn( false, false, true, false, false );
+		return resultSet;
+	}
+
+	private static class CountingBigIntTypeDescriptor extends BigIntTypeDescriptor {
+		private int extractorCount;
+
+		@Override
+		public <X> ValueExtractor<X> getExtractor(JavaTypeDescriptor<X> javaTypeDescriptor) {
+			extractorCount++;
+			return super.getExtractor( javaTypeDescriptor );
+		}
+	}
+
+	private static class MockWrapperOptions implements WrapperOptions {
+		private final SqlTypeDescriptor remapTo;
+
+		private MockWrapperOptions(SqlTypeDescriptor remapTo) {
+			this.remapTo = remapTo;
+		}
+
+		@Override
+		public boolean useStreamForLobBinding() {
+			return false;
+		}
+
+		@Override
+		public LobCreator getLobCreator() {
+			return NonContextualLobCreator.INSTANCE;
+		}
+
+		@Override
+		public SqlTypeDescriptor remapSqlTypeDescriptor(SqlTypeDescriptor sqlTypeDescriptor) {
+			return remapTo == null ? sqlTypeDescriptor : remapTo;
+		}
+
+		@Override
+		public TimeZone getJdbcTimeZone() {
+			return null;
+		}
+	}
+}
@@ -109,6 +109,15 @@ public interface EnversSettings {
 	 */
 	String AUDIT_STRATEGY_VALIDITY_REVEND_TIMESTAMP_FIELD_NAME = "org.hibernate.envers.audit_strategy_validity_revend_timestamp_field_name";
 
+	/**
+	 * Export, along with the audit tables, an index on their original id, revision and end revision columns, so that
+	 * reading the data valid at a given revision is an index range scan.  Only applies to the validity audit strategy.
+	 * Defaults to {@code false}.
+	 *
+	 * @since 5.5
+	 */
+	String AUDIT_STRATEGY_VALIDITY_REVEND_INDEX = "org.hibernate.envers.audit_strategy_validity_revend_index";
+
 	/**
 	 * Name of column used for storing ordinal of the change in sets of embeddable elements. Defaults to {@literal SETORDINAL}.
 	 */
@@ -142,4 +151,23 @@ public interface EnversSettings {
 	 * @since 5.4.7
 	 */
 	String MODIFIED_COLUMN_NAMING_STRATEGY = "org.hibernate.envers.modified_column_naming_strategy";
+
+	/**
+	 * The maximum number of historic entities kept by the first level cache of an {@code AuditReader}, beyond which
+	 * the least recently used ones are evicted.  Defaults to {@literal 0}, meaning the cache is unbounded.
+	 *
+	 * @since 5.5
+	 */
+	String FIRST_LEVEL_CACHE_MAX_SIZE = "org.hibernate.envers.first_level_cache_max_size";
+
+	/**
+	 * The maximum number of historic entities referenced through *-to-one relations that an {@code AuditReader} loads
+	 * at once, when one of them is accessed, among those referenced at the same revision; and likewise the maximum
+	 * number of collections of the same role loaded at once, among those of the entities read at the same revision.
+	 * Collections owned by entities with a composite id are still loaded one at a time.  Defaults to {@literal 1},
+	 * meaning each of them is loaded by its own query.
+	 *
+	 * @since 5.5
+	 */
+	String BATCH_FETCH_SIZE = "org.hibernate.envers.batch_fetch_size";
 }
@@ -45,6 +45,8 @@ public class  AuditEntitiesConfiguration {
 	private final boolean revisionEndTimestampEnabled;
 	private final String revisionEndTimestampFieldName;
 
+	private final boolean revisionEndIndexEnabled;
+
 	private final String embeddableSetOrdinalPropertyName;
 	private final EnversService enversService;
 
@@ -90,6 +92,10 @@ public class  AuditEntitiesConfiguration {
 			revisionEndTimestampFieldName = null;
 		}
 
+		revisionEndIndexEnabled = ConfigurationHelper.getBoolean(
+				EnversSettings.AUDIT_STRATEGY_VALIDITY_REVEND_INDEX, properties, false
+		);
+
 		customAuditTablesNames = new HashMap<>();
 
 		revisionNumberPath = originalIdPropName + "." + revisionFieldName + ".id";
@@ -116,6 +122,10 @@ public class  AuditEntitiesConfiguration {
 		return revisionEndTimestampFieldName;
 	}
 
+	public boolean isRevisionEndIndexEnabled() {
+		return revisionEndIndexEnabled;
+	}
+
 	public String getRevisionNumberPath() {
 		return revisionNumberPath;
 	}
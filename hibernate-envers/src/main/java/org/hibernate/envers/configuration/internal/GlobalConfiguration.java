@@ -83,6 +83,12 @@ public class GlobalConfiguration {
 
 	private final ModifiedColumnNamingStrategy modifiedColumnNamingStrategy;
 
+	// Maximum number of entries of the audit reader first level cache, 0 if unbounded
+	private final int firstLevelCacheMaxSize;
+
+	// Maximum number of entities referenced by *-to-one relations loaded at once by the audit reader
+	private final int batchFetchSize;
+
 	public GlobalConfiguration(
 			EnversService enversService,
 			Map properties) {
@@ -186,6 +192,16 @@ public class GlobalConfiguration {
 		findByRevisionExactMatch = ConfigurationHelper.getBoolean(
 				EnversSettings.FIND_BY_REVISION_EXACT_MATCH, properties, false
 		);
+
+		firstLevelCacheMaxSize = Math.max(
+				ConfigurationHelper.getInt( EnversSettings.FIRST_LEVEL_CACHE_MAX_SIZE, properties, 0 ),
+				0
+		);
+
+		batchFetchSize = Math.max(
+				ConfigurationHelper.getInt( EnversSettings.BATCH_FETCH_SIZE, properties, 1 ),
+				1
+		);
 	}
 
 	public EnversService getEnversService() {
@@ -259,4 +275,12 @@ public class GlobalConfiguration {
 	public ModifiedColumnNamingStrategy getModifiedColumnNamingStrategy() {
 		return modifiedColumnNamingStrategy;
 	}
+
+	public int getFirstLevelCacheMaxSize() {
+		return firstLevelCacheMaxSize;
+	}
+
+	public int getBatchFetchSize() {
+		return batchFetchSize;
+	}
 }
@@ -16,6 +16,7 @@ import org.hibernate.envers.boot.internal.EnversService;
 import org.hibernate.envers.internal.entities.mapper.id.IdMapper;
 import org.hibernate.envers.internal.entities.mapper.relation.lazy.ToOneDelegateSessionImplementor;
 import org.hibernate.envers.internal.reader.AuditReaderImplementor;
+import org.hibernate.envers.internal.reader.FirstLevelCache;
 import org.hibernate.envers.internal.tools.ReflectionTools;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.LazyInitializer;
@@ -71,8 +72,10 @@ public class EntityInstantiator {
 		final Object primaryKey = idMapper.mapToIdFromMap( originalId );
 
 		// Checking if the entity is in cache
-		if ( versionsReader.getFirstLevelCache().contains( entityName, revision, primaryKey ) ) {
-			return versionsReader.getFirstLevelCache().get( entityName, revision, primaryKey );
+		final FirstLevelCache firstLevelCache = versionsReader.getFirstLevelCache();
+		final Object cached = firstLevelCache.get( entityName, revision, primaryKey );
+		if ( cached != null ) {
+			return cached;
 		}
 
 		// If it is not in the cache, creating a new entity instance
@@ -82,22 +85,28 @@ public class EntityInstantiator {
 					.getEntityTuplizer()
 					.instantiate();
 
-		// Putting the newly created entity instance into the first level cache, in case a one-to-one bidirectional
-		// relation is present (which is eagerly loaded).
-		versionsReader.getFirstLevelCache().put( entityName, revision, primaryKey, ret );
-
-		enversService.getEntitiesConfigurations().get( entityName ).getPropertyMapper().mapToEntityFromMap(
-				enversService,
-				ret,
-				versionsEntity,
-				primaryKey,
-				versionsReader,
-				revision
-		);
-		idMapper.mapToEntityFromMap( ret, originalId );
-
-		// Put entity on entityName cache after mapping it from the map representation
-		versionsReader.getFirstLevelCache().putOnEntityNameCache( primaryKey, revision, ret, entityName );
+		firstLevelCache.startLoading();
+		try {
+			// Putting the newly created entity instance into the first level cache, in case a one-to-one bidirectional
+			// relation is present (which is eagerly loaded).
+			firstLevelCache.put( entityName, revision, primaryKey, ret );
+
+			enversService.getEntitiesConfigurations().get( entityName ).getPropertyMapper().mapToEntityFromMap(
+					enversService,
+					ret,
+					versionsEntity,
+					primaryKey,
+					versionsReader,
+					revision
+			);
+			idMapper.mapToEntityFromMap( ret, originalId );
+
+			// Put entity on entityName cache after mapping it from the map representation
+			firstLevelCache.putOnEntityNameCache( primaryKey, revision, ret, entityName );
+		}
+		finally {
+			firstLevelCache.endLoading();
+		}
 
 		return ret;
 	}
@@ -149,8 +158,16 @@ public class EntityInstantiator {
 			Collection addTo,
 			List<Map> versionsEntities,
 			Number revision) {
-		for ( Map versionsEntity : versionsEntities ) {
-			addTo.add( createInstanceFromVersionsEntity( entityName, versionsEntity, revision ) );
+		// the instances are all kept in the first level cache until the last one is created
+		final FirstLevelCache firstLevelCache = versionsReader.getFirstLevelCache();
+		firstLevelCache.startLoading();
+		try {
+			for ( Map versionsEntity : versionsEntities ) {
+				addTo.add( createInstanceFromVersionsEntity( entityName, versionsEntity, revision ) );
+			}
+		}
+		finally {
+			firstLevelCache.endLoading();
 		}
 	}
 
@@ -7,10 +7,13 @@
 package org.hibernate.envers.internal.entities.mapper.relation;
 
 import java.io.Serializable;
+import java.util.List;
 
 import org.hibernate.envers.boot.internal.EnversService;
 import org.hibernate.envers.internal.entities.mapper.relation.lazy.ToOneDelegateSessionImplementor;
 import org.hibernate.envers.internal.reader.AuditReaderImplementor;
+import org.hibernate.envers.internal.reader.BatchFetchQueue;
+import org.hibernate.envers.query.AuditEntity;
 import org.hibernate.persister.entity.EntityPersister;
 
 /**
@@ -36,6 +39,20 @@ public final class ToOneEntityLoader {
 			// Audited relation, look up entity with Envers.
 			// When user traverses removed entities graph, do not restrict revision type of referencing objects
 			// to ADD or MOD (DEL possible). See HHH-5845.
+			final BatchFetchQueue batchFetchQueue = versionsReader.getBatchFetchQueue();
+			if ( batchFetchQueue.isBatchingEnabled()
+					&& !versionsReader.getFirstLevelCache().contains( entityName, revision, entityId ) ) {
+				final List<Object> ids = batchFetchQueue.takeBatch(
+						entityName,
+						revision,
+						removed,
+						entityId,
+						versionsReader.getFirstLevelCache()
+				);
+				if ( ids.size() > 1 ) {
+					return loadBatch( versionsReader, entityClass, entityName, entityId, ids, revision, removed );
+				}
+			}
 			return versionsReader.find( entityClass, entityName, entityId, revision, removed );
 		}
 		else {
@@ -44,6 +61,34 @@ public final class ToOneEntityLoader {
 		}
 	}
 
+	/**
+	 * Loads the entities with the given ids at once, which are put into the first level cache, and returns the one
+	 * with the given id, or {@code null} if it has not been found.
+	 */
+	private static Object loadBatch(
+			AuditReaderImplementor versionsReader,
+			Class<?> entityClass,
+			String entityName,
+			Object entityId,
+			List<Object> ids,
+			Number revision,
+			boolean removed) {
+		final List<?> entities = versionsReader.createQuery()
+				.forEntitiesAtRevision( entityClass, entityName, revision, removed )
+				.add( AuditEntity.id().in( ids ) )
+				.getResultList();
+		final EntityPersister persister = getEntityPersister( versionsReader, entityName );
+		for ( Object entity : entities ) {
+			if ( persister.getIdentifierType().isEqual(
+					entityId,
+					persister.getIdentifier( entity, versionsReader.getSessionImplementor() )
+			) ) {
+				return entity;
+			}
+		}
+		return null;
+	}
+
 	/**
 	 * Creates proxy of referenced *-to-one entity.
 	 */
@@ -55,10 +100,13 @@ public final class ToOneEntityLoader {
 			Number revision,
 			boolean removed,
 			EnversService enversService) {
-		final EntityPersister persister = versionsReader.getSessionImplementor()
-				.getFactory()
-				.getMetamodel()
-				.entityPersister( entityName );
+		final EntityPersister persister = getEntityPersister( versionsReader, entityName );
+		if ( persister.getIdentifierPropertyName() != null
+				&& !persister.getIdentifierType().isComponentType()
+				&& enversService.getEntitiesConfigurations().getNotVersionEntityConfiguration( entityName ) == null ) {
+			// the entity may then be loaded along with the others referenced at the same revision
+			versionsReader.getBatchFetchQueue().addPendingId( entityName, revision, removed, entityId );
+		}
 		return persister.createProxy(
 				(Serializable) entityId,
 				new ToOneDelegateSessionImplementor( versionsReader, entityClass, entityId, revision, removed, enversService )
@@ -77,13 +125,17 @@ public final class ToOneEntityLoader {
 			Number revision,
 			boolean removed,
 			EnversService enversService) {
-		final EntityPersister persister = versionsReader.getSessionImplementor()
-				.getFactory()
-				.getMetamodel()
-				.entityPersister( entityName );
+		final EntityPersister persister = getEntityPersister( versionsReader, entityName );
 		if ( persister.hasProxy() ) {
 			return createProxy( versionsReader, entityClass, entityName, entityId, revision, removed, enversService );
 		}
 		return loadImmediate( versionsReader, entityClass, entityName, entityId, revision, removed, enversService );
 	}
+
+	private static EntityPersister getEntityPersister(AuditReaderImplementor versionsReader, String entityName) {
+		return versionsReader.getSessionImplementor()
+				.getFactory()
+				.getMetamodel()
+				.entityPersister( entityName );
+	}
 }
@@ -137,10 +137,8 @@ public class ToOneIdMapper extends AbstractToOneMapper {
 		final Object entityId = delegate.mapToIdFromMap( data );
 		Object value = null;
 		if ( entityId != null ) {
-			if ( versionsReader.getFirstLevelCache().contains( referencedEntityName, revision, entityId ) ) {
-				value = versionsReader.getFirstLevelCache().get( referencedEntityName, revision, entityId );
-			}
-			else {
+			value = versionsReader.getFirstLevelCache().get( referencedEntityName, revision, entityId );
+			if ( value == null ) {
 				final EntityInfo referencedEntity = getEntityInfo( enversService, referencedEntityName );
 				boolean ignoreNotFound = false;
 				if ( !referencedEntity.isAudited() ) {
@@ -6,16 +6,21 @@
  */
 package org.hibernate.envers.internal.entities.mapper.relation.lazy.initializor;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.envers.boot.internal.EnversService;
 import org.hibernate.envers.internal.entities.EntityInstantiator;
 import org.hibernate.envers.internal.entities.mapper.relation.query.RelationQueryGenerator;
 import org.hibernate.envers.internal.reader.AuditReaderImplementor;
+import org.hibernate.envers.internal.reader.BatchFetchQueue;
 
 /**
- * Initializes a persistent collection.
+ * Initializes a persistent collection.  When batch fetching is enabled, the collection is loaded along with the
+ * same collection of other owners, at the same revision, which are initialized later on.
  *
  * @author Adam Warski (adam at warski dot org)
  */
@@ -39,6 +44,10 @@ public abstract class AbstractCollectionInitializor<T> implements Initializor<T>
 		this.removed = removed;
 
 		entityInstantiator = new EntityInstantiator( enversService, versionsReader );
+
+		if ( queryGenerator.isBatchable() ) {
+			versionsReader.getBatchFetchQueue().addPendingId( queryGenerator, revision, removed, primaryKey );
+		}
 	}
 
 	protected abstract T initializeCollection(int size);
@@ -48,7 +57,20 @@ public abstract class AbstractCollectionInitializor<T> implements Initializor<T>
 	@Override
 	public T initialize() {
 		final SharedSessionContractImplementor session = versionsReader.getSessionImplementor();
-		final List<?> collectionContent = queryGenerator.getQuery( session, primaryKey, revision, removed ).list();
+		List<?> collectionContent = null;
+		final BatchFetchQueue batchFetchQueue = versionsReader.getBatchFetchQueue();
+		if ( batchFetchQueue.isBatchingEnabled() && queryGenerator.isBatchable() ) {
+			collectionContent = batchFetchQueue.takeCollectionRows( queryGenerator, revision, removed, primaryKey );
+			if ( collectionContent == null ) {
+				final List<Object> primaryKeys = batchFetchQueue.takeBatch( queryGenerator, revision, removed, primaryKey );
+				if ( primaryKeys.size() > 1 ) {
+					collectionContent = loadBatch( session, batchFetchQueue, primaryKeys );
+				}
+			}
+		}
+		if ( collectionContent == null ) {
+			collectionContent = queryGenerator.getQuery( session, primaryKey, revision, removed ).list();
+		}
 
 		final T collection = initializeCollection( collectionContent.size() );
 
@@ -58,4 +80,33 @@ public abstract class AbstractCollectionInitializor<T> implements Initializor<T>
 
 		return collection;
 	}
+
+	/**
+	 * Loads the collections of the owners with the given primary keys at once, keeping the rows of the other
+	 * collections in the batch fetch queue, and returns the rows of this one; or {@code null} if a row cannot be
+	 * told apart by the primary key of its owner, in which case each collection is loaded by itself.
+	 */
+	private List<?> loadBatch(
+			SharedSessionContractImplementor session,
+			BatchFetchQueue batchFetchQueue,
+			List<Object> primaryKeys) {
+		final Map<Object, List<Object>> rowsByPrimaryKey = new HashMap<>();
+		for ( Object key : primaryKeys ) {
+			rowsByPrimaryKey.put( key, new ArrayList<>() );
+		}
+		for ( Object row : queryGenerator.getBatchQuery( session, primaryKeys, revision, removed ).list() ) {
+			final List<Object> rows = rowsByPrimaryKey.get( queryGenerator.getPrimaryKey( row ) );
+			if ( rows == null ) {
+				// the key read from the row does not equal the requested one, e.g. a differing numeric type
+				return null;
+			}
+			rows.add( row );
+		}
+
+		final List<?> collectionContent = rowsByPrimaryKey.remove( primaryKey );
+		for ( Map.Entry<Object, List<Object>> entry : rowsByPrimaryKey.entrySet() ) {
+			batchFetchQueue.putCollectionRows( queryGenerator, revision, removed, entry.getKey(), entry.getValue() );
+		}
+		return collectionContent;
+	}
 }
@@ -7,6 +7,7 @@
 package org.hibernate.envers.internal.entities.mapper.relation.query;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 import org.hibernate.engine.spi.SessionFactoryImplementor;
@@ -16,6 +17,7 @@ import org.hibernate.envers.configuration.internal.AuditEntitiesConfiguration;
 import org.hibernate.envers.configuration.internal.GlobalConfiguration;
 import org.hibernate.envers.internal.entities.mapper.id.IdMapper;
 import org.hibernate.envers.internal.entities.mapper.id.QueryParameterData;
+import org.hibernate.envers.internal.entities.mapper.id.SingleIdMapper;
 import org.hibernate.envers.internal.entities.mapper.relation.MiddleIdData;
 import org.hibernate.envers.internal.tools.query.Parameters;
 import org.hibernate.envers.internal.tools.query.QueryBuilder;
@@ -42,6 +44,8 @@ public abstract class AbstractRelationQueryGenerator implements RelationQueryGen
 
 	private String queryString;
 	private String queryRemovedString;
+	private String batchQueryString;
+	private String batchQueryRemovedString;
 
 	protected AbstractRelationQueryGenerator(
 			GlobalConfiguration globalCfg,
@@ -62,7 +66,7 @@ public abstract class AbstractRelationQueryGenerator implements RelationQueryGen
 
 	@Override
 	public Query getQuery(SharedSessionContractImplementor session, Object primaryKey, Number revision, boolean removed) {
-		final String queryString = getQueryString( session.getFactory(), removed );
+		final String queryString = getQueryString( session.getFactory(), removed, false );
 
 		final Query query = session.createQuery( queryString );
 		query.setParameter( DEL_REVISION_TYPE_PARAMETER, RevisionType.DEL );
@@ -76,13 +80,78 @@ public abstract class AbstractRelationQueryGenerator implements RelationQueryGen
 		return query;
 	}
 
+	@Override
+	public boolean isBatchable() {
+		return referencingIdData.getPrefixedMapper() instanceof SingleIdMapper;
+	}
+
+	@Override
+	public Query getBatchQuery(
+			SharedSessionContractImplementor session,
+			List<Object> primaryKeys,
+			Number revision,
+			boolean removed) {
+		final String queryString = getQueryString( session.getFactory(), removed, true );
+
+		final Query query = session.createQuery( queryString );
+		query.setParameter( DEL_REVISION_TYPE_PARAMETER, RevisionType.DEL );
+		query.setParameter( REVISION_PARAMETER, revision );
+		query.setParameterList( getReferencingIdParameterData().getQueryParameterName(), primaryKeys );
+
+		return query;
+	}
+
+	@Override
+	public Object getPrimaryKey(Object row) {
+		// the rows start with the entity restricted by the primary key, which is either the referencing entity
+		// itself or a middle entity, holding the primary key in its original id
+		Object data = row instanceof List ? ( (List) row ).get( 0 ) : row;
+		final String prefix = getReferencingIdPrefix();
+		if ( prefix != null ) {
+			data = ( (Map) data ).get( prefix );
+		}
+		return referencingIdData.getPrefixedMapper().mapToIdFromMap( (Map) data );
+	}
+
 	/**
 	 * Build the common aspects of a {@link QueryBuilder} used by both query and query-remove strings.
 	 *
 	 * @param sessionFactory The session factory.
+	 * @param batch Whether to build the query of several referencing entities, see {@link #getBatchQuery}.
 	 * @return The constructed query builder instance.
 	 */
-	protected abstract QueryBuilder buildQueryBuilderCommon(SessionFactoryImplementor sessionFactory);
+	protected abstract QueryBuilder buildQueryBuilderCommon(SessionFactoryImplementor sessionFactory, boolean batch);
+
+	/**
+	 * The prefix of the properties of the referencing entity id within the root entity of the query, if any.
+	 */
+	protected abstract String getReferencingIdPrefix();
+
+	/**
+	 * Restricts the root entity of the query to the one referencing entity, or to several of them when batching.
+	 *
+	 * @param parameters The root query parameters.
+	 * @param batch Whether to restrict the query to several referencing entities.
+	 */
+	protected void addReferencingIdRestriction(Parameters parameters, boolean batch) {
+		if ( batch ) {
+			// ee.originalId.id_ref_ing in (:id_ref_ing)
+			final QueryParameterData paramData = getReferencingIdParameterData();
+			parameters.addWhereWithNamedParam(
+					paramData.getProperty( getReferencingIdPrefix() ),
+					"in",
+					paramData.getQueryParameterName()
+			);
+		}
+		else {
+			// ee.originalId.id_ref_ing = :id_ref_ing
+			referencingIdData.getPrefixedMapper().addNamedIdEqualsToQuery( parameters, getReferencingIdPrefix(), true );
+		}
+	}
+
+	private QueryParameterData getReferencingIdParameterData() {
+		return referencingIdData.getPrefixedMapper().mapToQueryParametersFromId( null ).get( 0 );
+	}
 
 	/**
 	 * Apply predicates used to fetch actual data.
@@ -118,30 +187,45 @@ public abstract class AbstractRelationQueryGenerator implements RelationQueryGen
 	 *
 	 * @param sessionFactory The session factory.
 	 * @param removed Whether to return the removal query or non-removal query.
+	 * @param batch Whether to return the query of several referencing entities.
 	 * @return The query string to be used.
 	 */
-	private String getQueryString(SessionFactoryImplementor sessionFactory, boolean removed) {
+	private String getQueryString(SessionFactoryImplementor sessionFactory, boolean removed, boolean batch) {
+		if ( batch ) {
+			if ( removed ) {
+				if ( batchQueryRemovedString == null ) {
+					batchQueryRemovedString = buildQueryRemoveString( sessionFactory, true );
+				}
+				return batchQueryRemovedString;
+			}
+
+			if ( batchQueryString == null ) {
+				batchQueryString = buildQueryString( sessionFactory, true );
+			}
+			return batchQueryString;
+		}
+
 		if ( removed ) {
 			if ( queryRemovedString == null ) {
-				queryRemovedString = buildQueryRemoveString( sessionFactory );
+				queryRemovedString = buildQueryRemoveString( sessionFactory, false );
 			}
 			return queryRemovedString;
 		}
 
 		if ( queryString == null ) {
-			queryString = buildQueryString( sessionFactory );
+			queryString = buildQueryString( sessionFactory, false );
 		}
 		return queryString;
 	}
 
-	private String buildQueryString(SessionFactoryImplementor sessionFactory) {
-		final QueryBuilder builder = buildQueryBuilderCommon( sessionFactory );
+	private String buildQueryString(SessionFactoryImplementor sessionFactory, boolean batch) {
+		final QueryBuilder builder = buildQueryBuilderCommon( sessionFactory, batch );
 		applyValidPredicates( builder, builder.getRootParameters(), true );
 		return queryToString( builder );
 	}
 
-	private String buildQueryRemoveString(SessionFactoryImplementor sessionFactory) {
-		final QueryBuilder builder = buildQueryBuilderCommon( sessionFactory );
+	private String buildQueryRemoveString(SessionFactoryImplementor sessionFactory, boolean batch) {
+		final QueryBuilder builder = buildQueryBuilderCommon( sessionFactory, batch );
 		applyValidAndRemovePredicates( builder );
 		return queryToString( builder );
 	}
@@ -88,7 +88,17 @@ public final class OneAuditEntityQueryGenerator extends AbstractRelationQueryGen
 	}
 
 	@Override
-	protected QueryBuilder buildQueryBuilderCommon(SessionFactoryImplementor sessionFactory) {
+	public boolean isBatchable() {
+		return !multipleIdMapperKey && super.isBatchable();
+	}
+
+	@Override
+	protected String getReferencingIdPrefix() {
+		return null;
+	}
+
+	@Override
+	protected QueryBuilder buildQueryBuilderCommon(SessionFactoryImplementor sessionFactory, boolean batch) {
 		// SELECT e FROM versionsEntity e
 		final QueryBuilder qb = new QueryBuilder( entityName, REFERENCED_ENTITY_ALIAS, sessionFactory );
 		qb.addProjection( null, REFERENCED_ENTITY_ALIAS, null, false );
@@ -102,7 +112,7 @@ public final class OneAuditEntityQueryGenerator extends AbstractRelationQueryGen
 		}
 		else {
 			// e.id_ref_ed = :id_ref_ed
-			referencingIdData.getPrefixedMapper().addNamedIdEqualsToQuery( qb.getRootParameters(), null, true );
+			addReferencingIdRestriction( qb.getRootParameters(), batch );
 		}
 
 		// ORDER BY
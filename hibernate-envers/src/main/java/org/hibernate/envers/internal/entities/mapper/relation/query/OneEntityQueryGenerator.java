@@ -71,17 +71,18 @@ public final class OneEntityQueryGenerator extends AbstractRelationQueryGenerato
 	}
 
 	@Override
-	protected QueryBuilder buildQueryBuilderCommon(SessionFactoryImplementor sessionFactory) {
+	protected String getReferencingIdPrefix() {
+		return verEntCfg.getOriginalIdPropName();
+	}
+
+	@Override
+	protected QueryBuilder buildQueryBuilderCommon(SessionFactoryImplementor sessionFactory, boolean batch) {
 		// SELECT ee FROM middleEntity ee
 		final QueryBuilder qb = new QueryBuilder( entityName, MIDDLE_ENTITY_ALIAS, sessionFactory );
 		qb.addProjection( null, MIDDLE_ENTITY_ALIAS, null, false );
 		// WHERE
 		// ee.originalId.id_ref_ing = :id_ref_ing
-		referencingIdData.getPrefixedMapper().addNamedIdEqualsToQuery(
-				qb.getRootParameters(),
-				verEntCfg.getOriginalIdPropName(),
-				true
-		);
+		addReferencingIdRestriction( qb.getRootParameters(), batch );
 
 		// NOTE:
 		// No `orderBy` fragment is specified because this generator is used for
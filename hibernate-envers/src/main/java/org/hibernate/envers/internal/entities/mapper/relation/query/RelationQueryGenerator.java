@@ -6,6 +6,8 @@
  */
 package org.hibernate.envers.internal.entities.mapper.relation.query;
 
+import java.util.List;
+
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.query.Query;
 
@@ -28,4 +30,25 @@ public interface RelationQueryGenerator {
 	 * @param removed Whether to return a query that includes the removed audit rows.
 	 */
 	Query getQuery(SharedSessionContractImplementor session, Object primaryKey, Number revision, boolean removed);
+
+	/**
+	 * Whether the relation of several owning objects may be fetched at once, see {@link #getBatchQuery}.
+	 */
+	boolean isBatchable();
+
+	/**
+	 * Return the query to fetch the relation of several owning objects at once, the rows of which are those
+	 * of {@link #getQuery} for each of the owning objects.
+	 *
+	 * @param session The session.
+	 * @param primaryKeys The primary keys of the owning objects.
+	 * @param revision The revision to be fetched.
+	 * @param removed Whether to return a query that includes the removed audit rows.
+	 */
+	Query getBatchQuery(SharedSessionContractImplementor session, List<Object> primaryKeys, Number revision, boolean removed);
+
+	/**
+	 * Return the primary key of the owning object of a row of the query returned by {@link #getBatchQuery}.
+	 */
+	Object getPrimaryKey(Object row);
 }
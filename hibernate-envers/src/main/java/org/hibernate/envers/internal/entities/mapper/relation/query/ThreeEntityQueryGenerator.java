@@ -110,7 +110,12 @@ public final class ThreeEntityQueryGenerator extends AbstractRelationQueryGenera
 	}
 
 	@Override
-	protected QueryBuilder buildQueryBuilderCommon(SessionFactoryImplementor sessionFactory) {
+	protected String getReferencingIdPrefix() {
+		return verEntCfg.getOriginalIdPropName();
+	}
+
+	@Override
+	protected QueryBuilder buildQueryBuilderCommon(SessionFactoryImplementor sessionFactory, boolean batch) {
 		final String originalIdPropertyName = verEntCfg.getOriginalIdPropName();
 		final String eeOriginalIdPropertyPath = MIDDLE_ENTITY_ALIAS + "." + originalIdPropertyName;
 		// SELECT new list(ee) FROM middleEntity ee
@@ -134,7 +139,7 @@ public final class ThreeEntityQueryGenerator extends AbstractRelationQueryGenera
 				INDEX_ENTITY_ALIAS + "." + originalIdPropertyName
 		);
 		// ee.originalId.id_ref_ing = :id_ref_ing
-		referencingIdData.getPrefixedMapper().addNamedIdEqualsToQuery( rootParameters, originalIdPropertyName, true );
+		addReferencingIdRestriction( rootParameters, batch );
 
 		// ORDER BY
 		// Hibernate applies @OrderBy on map elements, not the key.
@@ -80,7 +80,12 @@ public final class TwoEntityOneAuditedQueryGenerator extends AbstractRelationQue
 	}
 
 	@Override
-	protected QueryBuilder buildQueryBuilderCommon(SessionFactoryImplementor sessionFactory) {
+	protected String getReferencingIdPrefix() {
+		return verEntCfg.getOriginalIdPropName();
+	}
+
+	@Override
+	protected QueryBuilder buildQueryBuilderCommon(SessionFactoryImplementor sessionFactory, boolean batch) {
 		final String originalIdPropertyName = verEntCfg.getOriginalIdPropName();
 		final String eeOriginalIdPropertyPath = MIDDLE_ENTITY_ALIAS + "." + originalIdPropertyName;
 		// SELECT new list(ee) FROM middleEntity ee
@@ -94,7 +99,7 @@ public final class TwoEntityOneAuditedQueryGenerator extends AbstractRelationQue
 				rootParameters, eeOriginalIdPropertyPath, referencedIdData.getOriginalMapper(), REFERENCED_ENTITY_ALIAS
 		);
 		// ee.originalId.id_ref_ing = :id_ref_ing
-		referencingIdData.getPrefixedMapper().addNamedIdEqualsToQuery( rootParameters, originalIdPropertyName, true );
+		addReferencingIdRestriction( rootParameters, batch );
 		// ORDER BY
 		if ( !StringHelper.isEmpty( orderBy ) ) {
 			qb.addOrderFragment( REFERENCED_ENTITY_ALIAS, orderBy );
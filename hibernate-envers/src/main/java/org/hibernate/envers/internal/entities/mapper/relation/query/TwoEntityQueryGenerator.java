@@ -91,7 +91,12 @@ public final class TwoEntityQueryGenerator extends AbstractRelationQueryGenerato
 	}
 
 	@Override
-	protected QueryBuilder buildQueryBuilderCommon(SessionFactoryImplementor sessionFactory) {
+	protected String getReferencingIdPrefix() {
+		return verEntCfg.getOriginalIdPropName();
+	}
+
+	@Override
+	protected QueryBuilder buildQueryBuilderCommon(SessionFactoryImplementor sessionFactory, boolean batch) {
 		final String originalIdPropertyName = verEntCfg.getOriginalIdPropName();
 		final String eeOriginalIdPropertyPath = MIDDLE_ENTITY_ALIAS + "." + originalIdPropertyName;
 		// SELECT new list(ee) FROM middleEntity ee
@@ -106,7 +111,7 @@ public final class TwoEntityQueryGenerator extends AbstractRelationQueryGenerato
 				REFERENCED_ENTITY_ALIAS + "." + originalIdPropertyName
 		);
 		// ee.originalId.id_ref_ing = :id_ref_ing
-		referencingIdData.getPrefixedMapper().addNamedIdEqualsToQuery( rootParameters, originalIdPropertyName, true );
+		addReferencingIdRestriction( rootParameters, batch );
 
 		// ORDER BY
 		if ( !StringHelper.isEmpty( orderBy ) ) {
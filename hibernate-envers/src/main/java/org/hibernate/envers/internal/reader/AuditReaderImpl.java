@@ -46,6 +46,7 @@ public class AuditReaderImpl implements AuditReaderImplementor {
 	private final SessionImplementor sessionImplementor;
 	private final Session session;
 	private final FirstLevelCache firstLevelCache;
+	private final BatchFetchQueue batchFetchQueue;
 	private final CrossTypeRevisionChangesReader crossTypeRevisionChangesReader;
 
 	public AuditReaderImpl(
@@ -56,7 +57,8 @@ public class AuditReaderImpl implements AuditReaderImplementor {
 		this.sessionImplementor = sessionImplementor;
 		this.session = session;
 
-		firstLevelCache = new FirstLevelCache();
+		firstLevelCache = new FirstLevelCache( enversService.getGlobalConfiguration().getFirstLevelCacheMaxSize() );
+		batchFetchQueue = new BatchFetchQueue( enversService.getGlobalConfiguration().getBatchFetchSize() );
 		crossTypeRevisionChangesReader = new CrossTypeRevisionChangesReaderImpl( this, enversService );
 	}
 
@@ -81,6 +83,11 @@ public class AuditReaderImpl implements AuditReaderImplementor {
 		return firstLevelCache;
 	}
 
+	@Override
+	public BatchFetchQueue getBatchFetchQueue() {
+		return batchFetchQueue;
+	}
+
 	@Override
 	public <T> T find(Class<T> cls, Object primaryKey, Number revision) throws
 			IllegalArgumentException, NotAuditedException, IllegalStateException {
@@ -110,8 +117,9 @@ public class AuditReaderImpl implements AuditReaderImplementor {
 		checkPositive( revision, "Entity revision" );
 		checkSession();
 
-		if ( firstLevelCache.contains( entityName, revision, primaryKey ) ) {
-			return (T) firstLevelCache.get( entityName, revision, primaryKey );
+		final Object cached = firstLevelCache.get( entityName, revision, primaryKey );
+		if ( cached != null ) {
+			return (T) cached;
 		}
 
 		Object result;
@@ -323,6 +331,16 @@ public class AuditReaderImpl implements AuditReaderImplementor {
 			// it's on envers FLC!
 			return firstLevelCache.getFromEntityNameCache( primaryKey, revision, entity );
 		}
+		else if ( firstLevelCache.isBounded() ) {
+			// it may have been evicted, the entity name is then that of the class if audited
+			final String entityName = sessionImplementor.guessEntityName( entity );
+			if ( enversService.getEntitiesConfigurations().isVersioned( entityName ) ) {
+				return entityName;
+			}
+			throw new HibernateException(
+					"Envers can't resolve entityName for historic entity. The id, revision and entity is not on envers first level cache."
+			);
+		}
 		else {
 			throw new HibernateException(
 					"Envers can't resolve entityName for historic entity. The id, revision and entity is not on envers first level cache."
@@ -0,0 +1,249 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.internal.reader;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Tracks the ids of the historic entities referenced through the *-to-one proxies, and of the owners of the
+ * collections, created by an audit reader, so that these are loaded by batches of ids at the same revision
+ * rather than one at a time.  Versions reader-scoped, and not threadsafe.
+ * <p/>
+ * The ids are pending until their entity or collection is loaded; as proxies and collections may never be
+ * loaded, the least recently registered ids are dropped beyond a bound, and are then loaded one at a time.
+ * The same holds for the collections loaded along with another one, until they are initialized.
+ *
+ * @see org.hibernate.envers.configuration.EnversSettings#BATCH_FETCH_SIZE
+ */
+public class BatchFetchQueue {
+	/**
+	 * The maximum number of batches pending for an entity or collection at a revision.
+	 */
+	private static final int MAX_PENDING_BATCHES = 8;
+
+	/**
+	 * The maximum number of ids pending overall, and of collections loaded but not yet initialized.
+	 */
+	private static final int MAX_PENDING_IDS = 4096;
+
+	private final int batchSize;
+
+	// the pending ids of each entity or collection, least recently used first
+	private final LinkedHashMap<BatchKey, LinkedHashSet<Object>> pendingIds = new LinkedHashMap<>( 16, 0.75f, true );
+	private int pendingIdCount;
+
+	private final LinkedHashMap<OwnerKey, List<?>> loadedCollectionRows = new LinkedHashMap<OwnerKey, List<?>>() {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<OwnerKey, List<?>> eldest) {
+			return size() > MAX_PENDING_IDS;
+		}
+	};
+
+	public BatchFetchQueue(int batchSize) {
+		this.batchSize = batchSize;
+	}
+
+	public boolean isBatchingEnabled() {
+		return batchSize > 1;
+	}
+
+	/**
+	 * Registers the id of an entity, or of the owner of a collection, to load at the given revision.
+	 *
+	 * @param role The name of the referenced entity, or the query generator of the collection
+	 * @param revision The revision at which the entity is to be loaded
+	 * @param removed Whether deleted entities are to be loaded
+	 * @param id The id of the entity
+	 */
+	public void addPendingId(Object role, Number revision, boolean removed, Object id) {
+		if ( !isBatchingEnabled() ) {
+			return;
+		}
+		final LinkedHashSet<Object> ids = pendingIds.computeIfAbsent(
+				new BatchKey( role, revision, removed ),
+				k -> new LinkedHashSet<>()
+		);
+		if ( !ids.add( id ) ) {
+			return;
+		}
+		pendingIdCount++;
+		if ( ids.size() > batchSize * MAX_PENDING_BATCHES ) {
+			removeEldest( ids );
+		}
+		// the ids of the least recently used entity or collection go first
+		final Iterator<LinkedHashSet<Object>> iterator = pendingIds.values().iterator();
+		while ( pendingIdCount > MAX_PENDING_IDS ) {
+			final LinkedHashSet<Object> eldest = iterator.next();
+			removeEldest( eldest );
+			if ( eldest.isEmpty() ) {
+				iterator.remove();
+			}
+		}
+	}
+
+	/**
+	 * Takes the batch of entity ids to load along with the given one, which are no longer pending.
+	 *
+	 * @param entityName The name of the referenced entity
+	 * @param revision The revision at which the entity is to be loaded
+	 * @param removed Whether deleted entities are to be loaded
+	 * @param id The id of the entity being loaded
+	 * @param firstLevelCache The cache of the entities already loaded, which are skipped
+	 *
+	 * @return The ids to load, starting with the given one
+	 */
+	public List<Object> takeBatch(
+			String entityName,
+			Number revision,
+			boolean removed,
+			Object id,
+			FirstLevelCache firstLevelCache) {
+		return doTakeBatch( entityName, revision, removed, id, firstLevelCache );
+	}
+
+	/**
+	 * Takes the batch of collection owner ids to load along with the given one, which are no longer pending.
+	 *
+	 * @param role The query generator of the collection
+	 * @param revision The revision at which the collection is to be loaded
+	 * @param removed Whether deleted entities are to be loaded
+	 * @param id The id of the owner of the collection being loaded
+	 *
+	 * @return The ids to load, starting with the given one
+	 */
+	public List<Object> takeBatch(Object role, Number revision, boolean removed, Object id) {
+		return doTakeBatch( role, revision, removed, id, null );
+	}
+
+	private List<Object> doTakeBatch(
+			Object role,
+			Number revision,
+			boolean removed,
+			Object id,
+			FirstLevelCache firstLevelCache) {
+		final List<Object> batch = new ArrayList<>();
+		batch.add( id );
+		final BatchKey key = new BatchKey( role, revision, removed );
+		final LinkedHashSet<Object> ids = pendingIds.get( key );
+		if ( ids != null ) {
+			if ( ids.remove( id ) ) {
+				pendingIdCount--;
+			}
+			final Iterator<Object> iterator = ids.iterator();
+			while ( iterator.hasNext() && batch.size() < batchSize ) {
+				final Object pendingId = iterator.next();
+				iterator.remove();
+				pendingIdCount--;
+				if ( firstLevelCache == null || !firstLevelCache.contains( (String) role, revision, pendingId ) ) {
+					batch.add( pendingId );
+				}
+			}
+			if ( ids.isEmpty() ) {
+				pendingIds.remove( key );
+			}
+		}
+		return batch;
+	}
+
+	/**
+	 * Keeps the rows of a collection loaded along with another one, until it is initialized.
+	 *
+	 * @param role The query generator of the collection
+	 * @param revision The revision at which the collection was loaded
+	 * @param removed Whether deleted entities were loaded
+	 * @param id The id of the owner of the collection
+	 * @param rows The rows of the collection
+	 */
+	public void putCollectionRows(Object role, Number revision, boolean removed, Object id, List<?> rows) {
+		loadedCollectionRows.put( new OwnerKey( new BatchKey( role, revision, removed ), id ), rows );
+	}
+
+	/**
+	 * Takes the rows of a collection loaded along with another one.
+	 *
+	 * @param role The query generator of the collection
+	 * @param revision The revision at which the collection is to be loaded
+	 * @param removed Whether deleted entities are to be loaded
+	 * @param id The id of the owner of the collection
+	 *
+	 * @return The rows of the collection, or {@code null} if it has to be loaded
+	 */
+	public List<?> takeCollectionRows(Object role, Number revision, boolean removed, Object id) {
+		return loadedCollectionRows.remove( new OwnerKey( new BatchKey( role, revision, removed ), id ) );
+	}
+
+	private void removeEldest(LinkedHashSet<Object> ids) {
+		final Iterator<Object> iterator = ids.iterator();
+		iterator.next();
+		iterator.remove();
+		pendingIdCount--;
+	}
+
+	private static final class BatchKey {
+		private final Object role;
+		private final Number revision;
+		private final boolean removed;
+
+		private BatchKey(Object role, Number revision, boolean removed) {
+			this.role = role;
+			this.revision = revision;
+			this.removed = removed;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( !( o instanceof BatchKey ) ) {
+				return false;
+			}
+			final BatchKey other = (BatchKey) o;
+			return removed == other.removed
+					&& role.equals( other.role )
+					&& revision.equals( other.revision );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( role, revision, removed );
+		}
+	}
+
+	private static final class OwnerKey {
+		private final BatchKey batchKey;
+		private final Object id;
+
+		private OwnerKey(BatchKey batchKey, Object id) {
+			this.batchKey = batchKey;
+			this.id = id;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( !( o instanceof OwnerKey ) ) {
+				return false;
+			}
+			final OwnerKey other = (OwnerKey) o;
+			return batchKey.equals( other.batchKey ) && id.equals( other.id );
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * batchKey.hashCode() + id.hashCode();
+		}
+	}
+}
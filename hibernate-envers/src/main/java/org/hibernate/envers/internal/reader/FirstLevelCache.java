@@ -6,22 +6,26 @@
  */
 package org.hibernate.envers.internal.reader;
 
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Objects;
 
 import org.hibernate.envers.internal.EnversMessageLogger;
-import org.hibernate.envers.internal.tools.Triple;
 
 import org.jboss.logging.Logger;
 
-import static org.hibernate.envers.internal.tools.Tools.newHashMap;
-import static org.hibernate.envers.internal.tools.Triple.make;
-
 /**
  * First level cache for versioned entities, versions reader-scoped. Each entity is uniquely identified by a
  * revision number and entity id.
+ * <p/>
+ * When bounded, the least recently used entries are evicted beyond the maximum size, though never while
+ * entities are being loaded, as these may reference each other through the cache.
  *
  * @author Adam Warski (adam at warski dot org)
  * @author Hern&aacute;n Chanfreau
+ *
+ * @see org.hibernate.envers.configuration.EnversSettings#FIRST_LEVEL_CACHE_MAX_SIZE
  */
 public class FirstLevelCache {
 	private static final EnversMessageLogger LOG = Logger.getMessageLogger(
@@ -32,16 +36,28 @@ public class FirstLevelCache {
 	/**
 	 * cache for resolve an object for a given id, revision and entityName.
 	 */
-	private final Map<Triple<String, Number, Object>, Object> cache;
+	private final Map<Key, Object> cache;
 
 	/**
 	 * used to resolve the entityName for a given id, revision and entity.
 	 */
-	private final Map<Triple<Object, Number, Object>, String> entityNameCache;
+	private final Map<Key, String> entityNameCache;
+
+	/**
+	 * The maximum number of entries of each cache, or 0 if unbounded.
+	 */
+	private final int maxSize;
+
+	private int loadingDepth;
 
 	public FirstLevelCache() {
-		cache = newHashMap();
-		entityNameCache = newHashMap();
+		this( 0 );
+	}
+
+	public FirstLevelCache(int maxSize) {
+		this.maxSize = maxSize;
+		cache = new LinkedHashMap<>( 16, 0.75f, maxSize > 0 );
+		entityNameCache = new LinkedHashMap<>( 16, 0.75f, maxSize > 0 );
 	}
 
 	public Object get(String entityName, Number revision, Object id) {
@@ -51,7 +67,7 @@ public class FirstLevelCache {
 				id,
 				revision
 		);
-		return cache.get( make( entityName, revision, id ) );
+		return cache.get( new Key( entityName, revision, id ) );
 	}
 
 	public void put(String entityName, Number revision, Object id, Object entity) {
@@ -61,15 +77,16 @@ public class FirstLevelCache {
 				revision,
 				entityName
 		);
-		cache.put( make( entityName, revision, id ), entity );
+		cache.put( new Key( entityName, revision, id ), entity );
+		evictExcess( cache );
 	}
 
 	public boolean contains(String entityName, Number revision, Object id) {
-		return cache.containsKey( make( entityName, revision, id ) );
+		return cache.containsKey( new Key( entityName, revision, id ) );
 	}
 
 	/**
-	 * Adds the entityName into the cache. The key is a triple make with primaryKey, revision and entity
+	 * Adds the entityName into the cache. The key is made with primaryKey, revision and entity
 	 *
 	 * @param id primaryKey
 	 * @param revision revision number
@@ -84,11 +101,12 @@ public class FirstLevelCache {
 				entity.getClass().getName(),
 				entityName
 		);
-		entityNameCache.put( make( id, revision, entity ), entityName );
+		entityNameCache.put( new Key( id, revision, entity ), entityName );
+		evictExcess( entityNameCache );
 	}
 
 	/**
-	 * Gets the entityName from the cache. The key is a triple make with primaryKey, revision and entity
+	 * Gets the entityName from the cache. The key is made with primaryKey, revision and entity
 	 *
 	 * @param id primaryKey
 	 * @param revision revision number
@@ -103,7 +121,7 @@ public class FirstLevelCache {
 				revision,
 				entity
 		);
-		return entityNameCache.get( make( id, revision, entity ) );
+		return entityNameCache.get( new Key( id, revision, entity ) );
 	}
 
 	/**
@@ -111,9 +129,87 @@ public class FirstLevelCache {
 	 * @param revision revision number
 	 * @param entity object retrieved by envers
 	 *
-	 * @return true if entityNameCache contains the triple
+	 * @return true if entityNameCache contains the key
 	 */
 	public boolean containsEntityName(Object id, Number revision, Object entity) {
-		return entityNameCache.containsKey( make( id, revision, entity ) );
+		return entityNameCache.containsKey( new Key( id, revision, entity ) );
+	}
+
+	/**
+	 * @return true if entries may be evicted from this cache
+	 */
+	public boolean isBounded() {
+		return maxSize > 0;
+	}
+
+	/**
+	 * Marks the start of the loading of one or more entities, during which no entry is evicted.
+	 * Each call must be followed by a call to {@link #endLoading()}.
+	 */
+	public void startLoading() {
+		loadingDepth++;
+	}
+
+	/**
+	 * Marks the end of the loading started by the matching call to {@link #startLoading()}.
+	 */
+	public void endLoading() {
+		if ( --loadingDepth == 0 ) {
+			evictExcess( cache );
+			evictExcess( entityNameCache );
+		}
+	}
+
+	private void evictExcess(Map<Key, ?> map) {
+		if ( maxSize <= 0 || loadingDepth > 0 || map.size() <= maxSize ) {
+			return;
+		}
+		LOG.debugf( "Evicting %s entries from First Level Cache", map.size() - maxSize );
+		final Iterator<Key> keys = map.keySet().iterator();
+		while ( map.size() > maxSize ) {
+			keys.next();
+			keys.remove();
+		}
+	}
+
+	/**
+	 * Key of three elements, the second of them being a revision number.
+	 * <p/>
+	 * A new key is used for each lookup: comparing keys calls the {@code equals} methods of the ids and
+	 * entities, which may load lazy relations and thereby look this cache up again.
+	 */
+	private static final class Key {
+		private final Object first;
+		private final Number revision;
+		private final Object last;
+		private final int hashCode;
+
+		private Key(Object first, Number revision, Object last) {
+			this.first = first;
+			this.revision = revision;
+			this.last = last;
+			this.hashCode = 31 * ( 31 * Objects.hashCode( first ) + Objects.hashCode( revision ) )
+					+ Objects.hashCode( last );
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( !( o instanceof Key ) ) {
+				return false;
+			}
+			final Key other = (Key) o;
+			return hashCode == other.hashCode
+					&& Objects.equals( first, other.first )
+					&& Objects.equals( revision, other.revision )
+					&& Objects.equals( last, other.last );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
 	}
 }
@@ -15,6 +15,7 @@ import org.hibernate.envers.query.criteria.AuditProperty;
 import org.hibernate.envers.query.criteria.AuditRelatedId;
 import org.hibernate.envers.query.criteria.internal.LogicalAuditExpression;
 import org.hibernate.envers.query.criteria.internal.NotAuditExpression;
+import org.hibernate.envers.query.criteria.internal.ValidBetweenAuditExpression;
 import org.hibernate.envers.query.internal.property.EntityPropertyName;
 import org.hibernate.envers.query.internal.property.RevisionNumberPropertyName;
 import org.hibernate.envers.query.internal.property.RevisionPropertyPropertyName;
@@ -133,6 +134,31 @@ public class AuditEntity {
 		return new AuditRelatedId( alias, new EntityPropertyName( propertyName ) );
 	}
 
+	/**
+	 * Create a restriction on the audited states which were valid at any revision between two revisions,
+	 * inclusive: those changed within that range, as well as the one current at its lower bound.  With the
+	 * validity audit strategy, this only relies on the revision and end-revision columns.
+	 *
+	 * @param fromRevision The lower bound of the revision range.
+	 * @param toRevision The upper bound of the revision range.
+	 */
+	public static AuditCriterion validBetween(Number fromRevision, Number toRevision) {
+		return validBetween( null, fromRevision, toRevision );
+	}
+
+	/**
+	 * Create a restriction on the audited states which were valid at any revision between two revisions,
+	 * inclusive: those changed within that range, as well as the one current at its lower bound.  With the
+	 * validity audit strategy, this only relies on the revision and end-revision columns.
+	 *
+	 * @param alias the alias of the entity whose states are restricted.
+	 * @param fromRevision The lower bound of the revision range.
+	 * @param toRevision The upper bound of the revision range.
+	 */
+	public static AuditCriterion validBetween(String alias, Number fromRevision, Number toRevision) {
+		return new ValidBetweenAuditExpression( alias, fromRevision, toRevision );
+	}
+
 	/**
 	 * Return the conjuction of two criterions.
 	 */
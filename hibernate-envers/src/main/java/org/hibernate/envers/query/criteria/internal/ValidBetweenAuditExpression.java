@@ -0,0 +1,75 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.query.criteria.internal;
+
+import org.hibernate.envers.boot.internal.EnversService;
+import org.hibernate.envers.configuration.internal.AuditEntitiesConfiguration;
+import org.hibernate.envers.internal.reader.AuditReaderImplementor;
+import org.hibernate.envers.internal.tools.query.Parameters;
+import org.hibernate.envers.internal.tools.query.QueryBuilder;
+import org.hibernate.envers.strategy.internal.ValidityAuditStrategy;
+
+/**
+ * Restricts the audited states to those valid at some revision between two revisions, inclusive.
+ * <p>
+ * With the {@link ValidityAuditStrategy}, this only relies on the revision and end-revision columns:
+ * {@code e.revision <= :to and (e.endRevision > :from or e.endRevision is null)}.  Otherwise, the state
+ * valid at the lower bound is found by a correlated subquery:
+ * {@code e.revision <= :to and (e.revision > :from or e.revision = (select max(e2.revision) ...))}.
+ */
+public class ValidBetweenAuditExpression extends AbstractAtomicExpression {
+	private final Number fromRevision;
+	private final Number toRevision;
+
+	public ValidBetweenAuditExpression(String alias, Number fromRevision, Number toRevision) {
+		super( alias );
+		this.fromRevision = fromRevision;
+		this.toRevision = toRevision;
+	}
+
+	@Override
+	protected void addToQuery(
+			EnversService enversService,
+			AuditReaderImplementor versionsReader,
+			String entityName,
+			String alias,
+			QueryBuilder qb,
+			Parameters parameters) {
+		final AuditEntitiesConfiguration verEntCfg = enversService.getAuditEntitiesConfiguration();
+		final String revisionPropertyPath = verEntCfg.getRevisionNumberPath();
+
+		// Make sure our conditions are ANDed together even if the parent Parameters have a different connective
+		final Parameters subParams = parameters.addSubParameters( Parameters.AND );
+		// e.revision <= :to
+		subParams.addWhereWithParam( alias, revisionPropertyPath, "<=", toRevision );
+
+		final Parameters orParams = subParams.addSubParameters( Parameters.OR );
+		if ( enversService.getAuditStrategy() instanceof ValidityAuditStrategy ) {
+			// e.endRevision > :from or e.endRevision is null
+			final String revisionEndFieldName = verEntCfg.getRevisionEndFieldName();
+			orParams.addWhereWithParam( alias, revisionEndFieldName + ".id", ">", fromRevision );
+			orParams.addNullRestriction( alias, revisionEndFieldName );
+		}
+		else {
+			// e.revision > :from
+			orParams.addWhereWithParam( alias, revisionPropertyPath, ">", fromRevision );
+
+			// e.revision = (select max(e2.revision) from versionsEntity e2 where e2.revision <= :from and e2.id = e.id)
+			final String originalIdPropertyName = verEntCfg.getOriginalIdPropName();
+			final String subQueryAlias = qb.generateAlias();
+			final QueryBuilder maxRevQb = qb.newSubQueryBuilder( verEntCfg.getAuditEntityName( entityName ), subQueryAlias );
+			maxRevQb.addProjection( "max", subQueryAlias, revisionPropertyPath, false );
+			maxRevQb.getRootParameters().addWhereWithParam( subQueryAlias, revisionPropertyPath, "<=", fromRevision );
+			enversService.getEntitiesConfigurations().get( entityName ).getIdMapper().addIdsEqualToQuery(
+					maxRevQb.getRootParameters(),
+					subQueryAlias + "." + originalIdPropertyName,
+					alias + "." + originalIdPropertyName
+			);
+			orParams.addWhere( alias, revisionPropertyPath, "=", maxRevQb );
+		}
+	}
+}
@@ -14,6 +14,7 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.Date;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
@@ -33,11 +34,13 @@ import org.hibernate.envers.internal.entities.mapper.relation.MiddleComponentDat
 import org.hibernate.envers.internal.entities.mapper.relation.MiddleIdData;
 import org.hibernate.envers.internal.synchronization.SessionCacheCleaner;
 import org.hibernate.envers.internal.tools.ReflectionTools;
+import org.hibernate.envers.internal.tools.StringTools;
 import org.hibernate.envers.internal.tools.query.Parameters;
 import org.hibernate.envers.internal.tools.query.QueryBuilder;
 import org.hibernate.envers.strategy.AuditStrategy;
 import org.hibernate.envers.strategy.spi.MappingContext;
 import org.hibernate.event.spi.EventSource;
+import org.hibernate.internal.util.StringHelper;
 import org.hibernate.jdbc.ReturningWork;
 import org.hibernate.persister.entity.Queryable;
 import org.hibernate.persister.entity.UnionSubclassEntityPersister;
@@ -112,6 +115,10 @@ public class ValidityAuditStrategy implements AuditStrategy {
 
 		mappingContext.getAuditEntityMapping().add( endRevMapping );
 
+		if ( mappingContext.getAuditEntityConfiguration().isRevisionEndIndexEnabled() ) {
+			addRevisionEndIndex( mappingContext, endRevMapping );
+		}
+
 		if ( mappingContext.getAuditEntityConfiguration().isRevisionEndTimestampEnabled() ) {
 			// add a column for the timestamp of the end revision
 			final String revisionInfoTimestampSqlType = TimestampType.INSTANCE.getName();
@@ -410,6 +417,26 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		subParm.addWhere( revisionEndProperty, addAlias, "is", "null", false );
 	}
 
+	@SuppressWarnings({"unchecked"})
+	private void addRevisionEndIndex(MappingContext mappingContext, Element endRevMapping) {
+		// index on (originalId.*, REV, REVEND), the columns of which are bound in this order
+		final Element auditEntityMapping = mappingContext.getAuditEntityMapping();
+		final String tableName = auditEntityMapping.attributeValue( "table" );
+		final Element idMapping = auditEntityMapping.element( "composite-id" );
+		if ( StringTools.isEmpty( tableName ) || idMapping == null ) {
+			return;
+		}
+
+		final String indexName = StringHelper.unquote( tableName ) + "_"
+				+ mappingContext.getAuditEntityConfiguration().getRevisionEndFieldName() + "_IDX";
+		for ( Iterator<Element> properties = idMapping.elementIterator(); properties.hasNext(); ) {
+			for ( Iterator<Element> columns = properties.next().elementIterator( "column" ); columns.hasNext(); ) {
+				columns.next().addAttribute( "index", indexName );
+			}
+		}
+		endRevMapping.element( "column" ).addAttribute( "index", indexName );
+	}
+
 	@SuppressWarnings({"unchecked"})
 	private RevisionType getRevisionType(AuditEntitiesConfiguration auditEntitiesConfiguration, Object data) {
 		return (RevisionType) ( (Map<String, Object>) data ).get( auditEntitiesConfiguration.getRevisionTypePropName() );
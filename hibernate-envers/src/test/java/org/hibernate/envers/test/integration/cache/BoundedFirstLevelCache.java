@@ -0,0 +1,128 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.test.integration.cache;
+
+import java.util.List;
+import java.util.Map;
+import javax.persistence.EntityManager;
+
+import org.hibernate.envers.AuditReader;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.internal.reader.FirstLevelCache;
+import org.hibernate.envers.query.AuditEntity;
+import org.hibernate.envers.test.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.envers.test.Priority;
+import org.hibernate.envers.test.entities.IntTestEntity;
+import org.hibernate.envers.test.integration.onetoone.bidirectional.BiRefEdEntity;
+import org.hibernate.envers.test.integration.onetoone.bidirectional.BiRefIngEntity;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+/**
+ * The first level cache of the audit reader evicting its least recently used entities beyond
+ * {@link EnversSettings#FIRST_LEVEL_CACHE_MAX_SIZE}.
+ */
+public class BoundedFirstLevelCache extends BaseEnversJPAFunctionalTestCase {
+	private final Integer[] ids = new Integer[4];
+	private Integer ing1_id;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] {IntTestEntity.class, BiRefEdEntity.class, BiRefIngEntity.class};
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		options.put( EnversSettings.FIRST_LEVEL_CACHE_MAX_SIZE, "2" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		// Revision 1
+		EntityManager em = getEntityManager();
+		em.getTransaction().begin();
+		for ( int i = 0; i < ids.length; i++ ) {
+			IntTestEntity ite = new IntTestEntity( i * 10 );
+			em.persist( ite );
+			ids[i] = ite.getId();
+		}
+		BiRefEdEntity ed1 = new BiRefEdEntity( 1, "data_ed_1" );
+		BiRefIngEntity ing1 = new BiRefIngEntity( 2, "data_ing_1" );
+		ing1.setReference( ed1 );
+		em.persist( ed1 );
+		em.persist( ing1 );
+		em.getTransaction().commit();
+
+		ing1_id = ing1.getId();
+	}
+
+	@Test
+	public void testEntitiesAtRevisionKeptUntilLoaded() {
+		final AuditReader auditReader = getAuditReader();
+		final List<IntTestEntity> entities = auditReader.createQuery()
+				.forEntitiesAtRevision( IntTestEntity.class, 1 )
+				.addOrder( AuditEntity.id().asc() )
+				.getResultList();
+		assertEquals( 4, entities.size() );
+
+		// only the two most recently loaded entities are still cached
+		assertSame( entities.get( 3 ), auditReader.find( IntTestEntity.class, ids[3], 1 ) );
+		assertSame( entities.get( 2 ), auditReader.find( IntTestEntity.class, ids[2], 1 ) );
+
+		final IntTestEntity reloaded = auditReader.find( IntTestEntity.class, ids[0], 1 );
+		assertNotSame( entities.get( 0 ), reloaded );
+		assertEquals( entities.get( 0 ), reloaded );
+
+		// the name of an evicted entity is still resolved
+		assertEquals( IntTestEntity.class.getName(), auditReader.getEntityName( ids[1], 1, entities.get( 1 ) ) );
+	}
+
+	@Test
+	public void testReferencesResolvedWhileLoading() {
+		final AuditReader auditReader = getAuditReader();
+		for ( Integer id : ids ) {
+			auditReader.find( IntTestEntity.class, id, 1 );
+		}
+
+		final BiRefIngEntity ing1 = auditReader.find( BiRefIngEntity.class, ing1_id, 1 );
+		assertSame( ing1, ing1.getReference().getReferencing() );
+	}
+
+	@Test
+	public void testReentrantLookup() {
+		final FirstLevelCache cache = new FirstLevelCache( 2 );
+		final Object entity = new Object();
+		cache.putOnEntityNameCache( new ReentrantId( cache ), 1, entity, "entity" );
+
+		// comparing the ids looks the cache up again, as initializing a lazy relation would
+		assertEquals( "entity", cache.getFromEntityNameCache( new ReentrantId( cache ), 1, entity ) );
+	}
+
+	private static class ReentrantId {
+		private final FirstLevelCache cache;
+
+		private ReentrantId(FirstLevelCache cache) {
+			this.cache = cache;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			cache.get( IntTestEntity.class.getName(), 1, 1 );
+			return o instanceof ReentrantId;
+		}
+
+		@Override
+		public int hashCode() {
+			return 1;
+		}
+	}
+}
@@ -0,0 +1,147 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.test.integration.collection;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.EntityManager;
+
+import org.hibernate.envers.AuditReader;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.query.AuditEntity;
+import org.hibernate.envers.test.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.envers.test.Priority;
+import org.hibernate.envers.test.entities.collection.StringSetEntity;
+import org.hibernate.envers.test.entities.manytomany.SetOwnedEntity;
+import org.hibernate.envers.test.entities.manytomany.SetOwningEntity;
+import org.hibernate.envers.test.entities.onetomany.SetRefEdEntity;
+import org.hibernate.envers.test.entities.onetomany.SetRefIngEntity;
+
+import org.hibernate.testing.jdbc.SQLStatementInterceptor;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Loading the collections of the entities read at the same revision by batches, see
+ * {@link EnversSettings#BATCH_FETCH_SIZE}.
+ */
+public class BatchFetchCollectionTest extends BaseEnversJPAFunctionalTestCase {
+	private SQLStatementInterceptor sqlStatementInterceptor;
+	private final Integer[] stringSetIds = new Integer[4];
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] {
+				SetRefEdEntity.class,
+				SetRefIngEntity.class,
+				SetOwningEntity.class,
+				SetOwnedEntity.class,
+				StringSetEntity.class
+		};
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		options.put( EnversSettings.BATCH_FETCH_SIZE, "3" );
+		sqlStatementInterceptor = new SQLStatementInterceptor( options );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		// Revision 1
+		EntityManager em = getEntityManager();
+		em.getTransaction().begin();
+		for ( int i = 1; i <= 4; i++ ) {
+			final SetRefEdEntity ed = new SetRefEdEntity( i, "ed_" + i );
+			em.persist( ed );
+			for ( int j = 1; j < i; j++ ) {
+				em.persist( new SetRefIngEntity( 10 * i + j, "ing_" + i + "_" + j, ed ) );
+			}
+
+			final SetOwnedEntity owned = new SetOwnedEntity( i, "owned_" + i );
+			em.persist( owned );
+			final SetOwningEntity owning = new SetOwningEntity( i, "owning_" + i );
+			owning.setReferences( new HashSet<>( Collections.singleton( owned ) ) );
+			em.persist( owning );
+
+			final StringSetEntity strings = new StringSetEntity();
+			strings.getStrings().add( "string_" + i );
+			em.persist( strings );
+			stringSetIds[i - 1] = strings.getId();
+		}
+		em.getTransaction().commit();
+
+		// Revision 2
+		em.getTransaction().begin();
+		em.persist( new SetRefIngEntity( 100, "ing_1_new", em.find( SetRefEdEntity.class, 1 ) ) );
+		em.getTransaction().commit();
+	}
+
+	@Test
+	public void testOneToManyLoadedByBatches() {
+		final List<SetRefEdEntity> eds = findAll( SetRefEdEntity.class, 2 );
+
+		sqlStatementInterceptor.clear();
+		assertEquals( 1, eds.get( 0 ).getReffering().size() );
+		assertEquals( 1, eds.get( 1 ).getReffering().size() );
+		assertEquals( 2, eds.get( 2 ).getReffering().size() );
+		sqlStatementInterceptor.assertExecutedCount( 1 );
+
+		assertEquals( 3, eds.get( 3 ).getReffering().size() );
+		sqlStatementInterceptor.assertExecutedCount( 2 );
+
+		final List<SetRefEdEntity> earlierEds = findAll( SetRefEdEntity.class, 1 );
+		assertEquals( 0, earlierEds.get( 0 ).getReffering().size() );
+		assertEquals( 2, earlierEds.get( 2 ).getReffering().size() );
+	}
+
+	@Test
+	public void testManyToManyLoadedByBatches() {
+		final List<SetOwningEntity> owners = findAll( SetOwningEntity.class, 1 );
+
+		sqlStatementInterceptor.clear();
+		for ( int i = 0; i < 3; i++ ) {
+			assertEquals( "owned_" + ( i + 1 ), owners.get( i ).getReferences().iterator().next().getData() );
+		}
+		// the rows of the middle table and the owned entities are then loaded by id, as without batching
+		assertEquals(
+				1,
+				sqlStatementInterceptor.getSqlQueries().stream().filter( sql -> sql.contains( " cross join " ) ).count()
+		);
+	}
+
+	@Test
+	public void testElementCollectionLoadedByBatches() {
+		final AuditReader auditReader = getAuditReader();
+		final List<StringSetEntity> entities = auditReader.createQuery()
+				.forEntitiesAtRevision( StringSetEntity.class, 1 )
+				.add( AuditEntity.id().in( Arrays.asList( stringSetIds ) ) )
+				.addOrder( AuditEntity.id().asc() )
+				.getResultList();
+
+		sqlStatementInterceptor.clear();
+		for ( int i = 0; i < 4; i++ ) {
+			assertEquals(
+					Collections.singleton( "string_" + ( i + 1 ) ),
+					new HashSet<>( entities.get( i ).getStrings() )
+			);
+		}
+		sqlStatementInterceptor.assertExecutedCount( 2 );
+	}
+
+	private <T> List<T> findAll(Class<T> entityClass, int revision) {
+		return getAuditReader().createQuery()
+				.forEntitiesAtRevision( entityClass, revision )
+				.addOrder( AuditEntity.id().asc() )
+				.getResultList();
+	}
+}
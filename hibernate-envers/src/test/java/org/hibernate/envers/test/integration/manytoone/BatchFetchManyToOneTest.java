@@ -0,0 +1,93 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.test.integration.manytoone;
+
+import java.util.List;
+import java.util.Map;
+import javax.persistence.EntityManager;
+
+import org.hibernate.envers.AuditReader;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.query.AuditEntity;
+import org.hibernate.envers.test.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.envers.test.Priority;
+import org.hibernate.envers.test.entities.onetomany.SetRefEdEntity;
+import org.hibernate.envers.test.entities.onetomany.SetRefIngEntity;
+
+import org.hibernate.testing.jdbc.SQLStatementInterceptor;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Loading the entities referenced at the same revision by batches, see {@link EnversSettings#BATCH_FETCH_SIZE}.
+ */
+public class BatchFetchManyToOneTest extends BaseEnversJPAFunctionalTestCase {
+	private SQLStatementInterceptor sqlStatementInterceptor;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] {SetRefEdEntity.class, SetRefIngEntity.class};
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		options.put( EnversSettings.BATCH_FETCH_SIZE, "3" );
+		sqlStatementInterceptor = new SQLStatementInterceptor( options );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		// Revision 1
+		EntityManager em = getEntityManager();
+		em.getTransaction().begin();
+		for ( int i = 1; i <= 5; i++ ) {
+			SetRefEdEntity ed = new SetRefEdEntity( i, "ed_" + i );
+			em.persist( ed );
+			em.persist( new SetRefIngEntity( 10 + i, "ing_" + i, ed ) );
+		}
+		em.getTransaction().commit();
+
+		// Revision 2
+		em.getTransaction().begin();
+		em.find( SetRefEdEntity.class, 2 ).setData( "ed_2_modified" );
+		em.getTransaction().commit();
+	}
+
+	@Test
+	public void testReferencesLoadedByBatches() {
+		final AuditReader auditReader = getAuditReader();
+		final List<SetRefIngEntity> ings = auditReader.createQuery()
+				.forEntitiesAtRevision( SetRefIngEntity.class, 2 )
+				.addOrder( AuditEntity.id().asc() )
+				.getResultList();
+		assertEquals( 5, ings.size() );
+
+		sqlStatementInterceptor.clear();
+		assertEquals( "ed_1", ings.get( 0 ).getReference().getData() );
+		assertEquals( "ed_2_modified", ings.get( 1 ).getReference().getData() );
+		assertEquals( "ed_3", ings.get( 2 ).getReference().getData() );
+		sqlStatementInterceptor.assertExecutedCount( 1 );
+
+		assertEquals( "ed_4", ings.get( 3 ).getReference().getData() );
+		assertEquals( "ed_5", ings.get( 4 ).getReference().getData() );
+		sqlStatementInterceptor.assertExecutedCount( 2 );
+	}
+
+	@Test
+	public void testReferencesAtEarlierRevision() {
+		final AuditReader auditReader = getAuditReader();
+		final SetRefIngEntity ing1 = auditReader.find( SetRefIngEntity.class, 11, 1 );
+		final SetRefIngEntity ing2 = auditReader.find( SetRefIngEntity.class, 12, 1 );
+
+		sqlStatementInterceptor.clear();
+		assertEquals( "ed_2", ing2.getReference().getData() );
+		assertEquals( "ed_1", ing1.getReference().getData() );
+		sqlStatementInterceptor.assertExecutedCount( 1 );
+	}
+}
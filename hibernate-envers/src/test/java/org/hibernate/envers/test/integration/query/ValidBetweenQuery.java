@@ -0,0 +1,133 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.test.integration.query;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.EntityManager;
+
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.query.AuditEntity;
+import org.hibernate.envers.test.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.envers.test.Priority;
+import org.hibernate.envers.test.entities.StrIntTestEntity;
+import org.hibernate.mapping.Column;
+import org.hibernate.mapping.Index;
+import org.hibernate.mapping.Table;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Restricting the audited states to those valid within a range of revisions, see
+ * {@link AuditEntity#validBetween(Number, Number)}.
+ */
+public class ValidBetweenQuery extends BaseEnversJPAFunctionalTestCase {
+	private Integer id1;
+	private Integer id2;
+	private Integer id3;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] {StrIntTestEntity.class};
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		options.put( EnversSettings.AUDIT_STRATEGY_VALIDITY_REVEND_INDEX, "true" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		// Revision 1
+		EntityManager em = getEntityManager();
+		em.getTransaction().begin();
+		StrIntTestEntity site1 = new StrIntTestEntity( "a", 1 );
+		StrIntTestEntity site2 = new StrIntTestEntity( "b", 1 );
+		em.persist( site1 );
+		em.persist( site2 );
+		em.getTransaction().commit();
+		id1 = site1.getId();
+		id2 = site2.getId();
+
+		// Revision 2
+		em.getTransaction().begin();
+		em.find( StrIntTestEntity.class, id1 ).setNumber( 2 );
+		em.getTransaction().commit();
+
+		// Revision 3
+		em.getTransaction().begin();
+		em.remove( em.find( StrIntTestEntity.class, id2 ) );
+		StrIntTestEntity site3 = new StrIntTestEntity( "c", 3 );
+		em.persist( site3 );
+		em.getTransaction().commit();
+		id3 = site3.getId();
+
+		// Revision 4
+		em.getTransaction().begin();
+		em.find( StrIntTestEntity.class, id1 ).setNumber( 4 );
+		em.getTransaction().commit();
+	}
+
+	@Test
+	public void testStatesValidBetweenRevisions() {
+		List result = getAuditReader().createQuery()
+				.forRevisionsOfEntity( StrIntTestEntity.class, true, false )
+				.add( AuditEntity.validBetween( 2, 3 ) )
+				.addOrder( AuditEntity.revisionNumber().asc() )
+				.addOrder( AuditEntity.id().asc() )
+				.getResultList();
+
+		assertEquals(
+				Arrays.asList(
+						new StrIntTestEntity( "b", 1, id2 ),
+						new StrIntTestEntity( "a", 2, id1 ),
+						new StrIntTestEntity( "c", 3, id3 )
+				),
+				result
+		);
+	}
+
+	@Test
+	public void testStatesValidAtSingleRevision() {
+		List result = getAuditReader().createQuery()
+				.forRevisionsOfEntity( StrIntTestEntity.class, true, false )
+				.add( AuditEntity.validBetween( 4, 4 ) )
+				.addOrder( AuditEntity.id().asc() )
+				.getResultList();
+
+		assertEquals(
+				Arrays.asList( new StrIntTestEntity( "a", 4, id1 ), new StrIntTestEntity( "c", 3, id3 ) ),
+				result
+		);
+	}
+
+	@Test
+	public void testRevisionEndIndex() {
+		final Table table = metadata().getEntityBinding( StrIntTestEntity.class.getName() + "_AUD" ).getTable();
+		final Iterator<Index> indexes = table.getIndexIterator();
+		if ( getAuditStrategy() == null ) {
+			assertFalse( indexes.hasNext() );
+			return;
+		}
+
+		assertTrue( indexes.hasNext() );
+		final Index index = indexes.next();
+		assertEquals( "StrIntTestEntity_AUD_REVEND_IDX", index.getName() );
+		final StringBuilder columns = new StringBuilder();
+		for ( Iterator<Column> iterator = index.getColumnIterator(); iterator.hasNext(); ) {
+			columns.append( iterator.next().getName() ).append( ' ' );
+		}
+		assertEquals( "id REV REVEND ", columns.toString() );
+	}
+}
@@ -27,6 +27,23 @@ public class HibernateSpatialConfigurationSettings implements Serializable {
 	 */
 	public static final String DB2_DEFAULT_SRID = "hibernate.spatial.db2.srid";
 
+	/**
+	 * Whether the Postgis dialects should bind and extract geometries as raw EWKB bytes, rather than
+	 * as hex-encoded EWKB or WKT strings.  The values travel in binary form when binary transfer is
+	 * enabled for the geometry type in the PostgreSQL JDBC driver (its {@code binaryTransferEnable}
+	 * connection property lists the OID of the geometry type), and are decoded without intermediate
+	 * strings in any case.  The default value is {@code false}.
+	 */
+	public static final String POSTGIS_BINARY_GEOMETRY = "hibernate.spatial.postgis.binary_geometry";
+
+	/**
+	 * Whether the spatial relations of {@code SpatialRestrictions} are preceded by the bounding box test of the
+	 * spatial dialect, when it has one, so that the spatial index is used.  The default value is {@code false}.
+	 *
+	 * @see org.hibernate.spatial.SpatialDialect#getBoundingBoxPrefilterSQL(String)
+	 */
+	public static final String BOUNDING_BOX_PREFILTER = "hibernate.spatial.bounding_box_prefilter";
+
 	private HibernateSpatialConfigurationSettings() {
 		//prevent this object from being instantiated
 	}
@@ -90,6 +90,21 @@ public interface SpatialDialect extends Serializable {
 	 */
 	boolean supportsFiltering();
 
+	/**
+	 * Returns the SQL fragment of an index-friendly bounding box overlap test, to render ahead of the
+	 * spatial relations that imply it (all but disjoint) when parsing
+	 * <code>org.hibernate.spatial.criterion.SpatialRelateExpression</code>s with a bounding box prefilter.
+	 * <p> The test only needs to match a superset of the rows matched by the spatial relation.</p>
+	 *
+	 * @param columnName The name of the geometry-typed column to which the prefilter is applied
+	 *
+	 * @return The SQL fragment for the bounding box test, or null if this <code>SpatialDialect</code>
+	 * has none
+	 */
+	default String getBoundingBoxPrefilterSQL(String columnName) {
+		return supportsFiltering() ? getSpatialFilterExpression( columnName ) : null;
+	}
+
 	/**
 	 * Does this dialect supports the specified <code>SpatialFunction</code>.
 	 *
@@ -13,7 +13,10 @@ import org.hibernate.criterion.Criterion;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.TypedValue;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.spatial.HibernateSpatialConfigurationSettings;
 import org.hibernate.spatial.SpatialDialect;
+import org.hibernate.spatial.SpatialRelation;
 
 import org.locationtech.jts.geom.Geometry;
 
@@ -38,6 +41,10 @@ public class SpatialRelateExpression implements Criterion {
 	 * The spatial relation that is queried for.
 	 */
 	private int spatialRelation = -1;
+	/**
+	 * Whether to prefilter on the bounding box, or null to follow the configuration.
+	 */
+	private Boolean boundingBoxPrefilter;
 
 	/**
 	 * Constructs an instance
@@ -52,19 +59,64 @@ public class SpatialRelateExpression implements Criterion {
 		this.value = value;
 	}
 
+	/**
+	 * Specifies whether the spatial relation is preceded by the bounding box test of the spatial dialect, when
+	 * it has one, so that the spatial index is used.  By default, this is determined by the
+	 * {@link HibernateSpatialConfigurationSettings#BOUNDING_BOX_PREFILTER} setting.
+	 *
+	 * @param enabled Whether to prefilter on the bounding box
+	 *
+	 * @return {@code this}, for method chaining
+	 */
+	public SpatialRelateExpression withBoundingBoxPrefilter(boolean enabled) {
+		this.boundingBoxPrefilter = enabled;
+		return this;
+	}
+
 	@Override
 	public TypedValue[] getTypedValues(Criteria criteria, CriteriaQuery criteriaQuery) throws HibernateException {
-		return new TypedValue[] { criteriaQuery.getTypedValue( criteria, propertyName, value ) };
+		final TypedValue typedValue = criteriaQuery.getTypedValue( criteria, propertyName, value );
+		if ( getBoundingBoxPrefilterSQL( criteria, criteriaQuery ) != null ) {
+			return new TypedValue[] { typedValue, typedValue };
+		}
+		return new TypedValue[] { typedValue };
 	}
 
 	@Override
 	public String toSqlString(Criteria criteria, CriteriaQuery criteriaQuery) throws HibernateException {
+		final String relateSql = getSpatialDialect( criteriaQuery ).getSpatialRelateSQL(
+				getColumn( criteria, criteriaQuery ),
+				spatialRelation
+		);
+		final String prefilterSql = getBoundingBoxPrefilterSQL( criteria, criteriaQuery );
+		return prefilterSql == null ? relateSql : "(" + prefilterSql + " and " + relateSql + ")";
+	}
+
+	private String getBoundingBoxPrefilterSQL(Criteria criteria, CriteriaQuery criteriaQuery) {
+		if ( spatialRelation == SpatialRelation.DISJOINT ) {
+			return null;
+		}
 		final SessionFactoryImplementor factory = criteriaQuery.getFactory();
-		final String[] columns = criteriaQuery.getColumnsUsingProjection( criteria, this.propertyName );
-		final Dialect dialect = factory.getDialect();
+		final boolean enabled = boundingBoxPrefilter != null
+				? boundingBoxPrefilter
+				: ConfigurationHelper.getBoolean(
+						HibernateSpatialConfigurationSettings.BOUNDING_BOX_PREFILTER,
+						factory.getProperties(),
+						false
+				);
+		return enabled
+				? getSpatialDialect( criteriaQuery ).getBoundingBoxPrefilterSQL( getColumn( criteria, criteriaQuery ) )
+				: null;
+	}
+
+	private String getColumn(Criteria criteria, CriteriaQuery criteriaQuery) {
+		return criteriaQuery.getColumnsUsingProjection( criteria, this.propertyName )[0];
+	}
+
+	private static SpatialDialect getSpatialDialect(CriteriaQuery criteriaQuery) {
+		final Dialect dialect = criteriaQuery.getFactory().getDialect();
 		if ( dialect instanceof SpatialDialect ) {
-			final SpatialDialect seDialect = (SpatialDialect) dialect;
-			return seDialect.getSpatialRelateSQL( columns[0], spatialRelation );
+			return (SpatialDialect) dialect;
 		}
 		else {
 			throw new IllegalStateException( "Dialect must be spatially enabled dialect" );
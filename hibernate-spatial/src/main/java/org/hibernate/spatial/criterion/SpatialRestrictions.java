@@ -6,11 +6,14 @@
  */
 package org.hibernate.spatial.criterion;
 
+import java.util.Collection;
+
 import org.hibernate.criterion.Criterion;
 import org.hibernate.spatial.SpatialRelation;
 
 import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.operation.union.UnaryUnionOp;
 
 /**
  * A factory for spatial criteria.
@@ -164,6 +167,42 @@ public class SpatialRestrictions {
 		);
 	}
 
+	/**
+	 * Apply a "spatially intersects any of" constraint to the named property.  Rather than as a disjunction of
+	 * "spatially intersects" constraints, this is applied as a single constraint against the union of the
+	 * geometry values, which is equivalent.
+	 *
+	 * @param propertyName The name of the property
+	 * @param values The geometry values to use in comparison, with the same SRID
+	 *
+	 * @return SpatialRelateExpression
+	 *
+	 * @see SpatialRelateExpression
+	 */
+	public static SpatialRelateExpression intersectsAny(String propertyName, Collection<? extends Geometry> values) {
+		return new SpatialRelateExpression(
+				propertyName, union( values ),
+				SpatialRelation.INTERSECTS
+		);
+	}
+
+	/**
+	 * Apply a "spatially within any of" constraint to the named property.  This is the disjunction of the
+	 * "spatially within" constraints, as a geometry straddling several of the values is within their union
+	 * while not within any of them.  Like the other spatial relations, these may be preceded by a bounding box
+	 * test, against the bounding box of all the values.
+	 *
+	 * @param propertyName The name of the property
+	 * @param values The geometry values to use in comparison, with the same SRID
+	 *
+	 * @return WithinAnyExpression
+	 *
+	 * @see WithinAnyExpression
+	 */
+	public static WithinAnyExpression withinAny(String propertyName, Collection<? extends Geometry> values) {
+		return new WithinAnyExpression( propertyName, values );
+	}
+
 	/**
 	 * Apply a bounding box overlap constraint to the named property
 	 *
@@ -248,6 +287,21 @@ public class SpatialRestrictions {
 		return new IsEmptyExpression( propertyName, false );
 	}
 
+	private static Geometry union(Collection<? extends Geometry> values) {
+		if ( values.isEmpty() ) {
+			throw new IllegalArgumentException( "At least one geometry value is required." );
+		}
+		final int srid = values.iterator().next().getSRID();
+		for ( Geometry value : values ) {
+			if ( value.getSRID() != srid ) {
+				throw new IllegalArgumentException( "Geometry values must have the same SRID." );
+			}
+		}
+		final Geometry union = UnaryUnionOp.union( values );
+		union.setSRID( srid );
+		return union;
+	}
+
 	/**
 	 * Apply the specified spatial relation constraint to the named property.
 	 *
@@ -0,0 +1,119 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.spatial.criterion;
+
+import java.util.Collection;
+
+import org.hibernate.Criteria;
+import org.hibernate.HibernateException;
+import org.hibernate.criterion.CriteriaQuery;
+import org.hibernate.criterion.Criterion;
+import org.hibernate.criterion.Disjunction;
+import org.hibernate.criterion.Restrictions;
+import org.hibernate.engine.spi.TypedValue;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.spatial.HibernateSpatialConfigurationSettings;
+import org.hibernate.spatial.SpatialDialect;
+import org.hibernate.spatial.SpatialFunction;
+import org.hibernate.spatial.jts.EnvelopeAdapter;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ * A {@code Criterion} constraining a geometry property to be spatially within any of the specified geometries.
+ * <p>
+ * This is the disjunction of the "spatially within" constraints, which may be preceded by the bounding box
+ * test of the spatial dialect against the bounding box of all the geometries, so that the spatial index is used.
+ */
+public class WithinAnyExpression implements Criterion {
+
+	private final String propertyName;
+	private final Disjunction within = Restrictions.disjunction();
+	private final Geometry boundingBox;
+	/**
+	 * Whether to prefilter on the bounding box, or null to follow the configuration.
+	 */
+	private Boolean boundingBoxPrefilter;
+
+	/**
+	 * Constructs an instance for the specified property and geometries
+	 *
+	 * @param propertyName The name of the property being constrained
+	 * @param values The geometries, with the same SRID
+	 */
+	public WithinAnyExpression(String propertyName, Collection<? extends Geometry> values) {
+		if ( values.isEmpty() ) {
+			throw new IllegalArgumentException( "At least one geometry value is required." );
+		}
+		final int srid = values.iterator().next().getSRID();
+		final Envelope envelope = new Envelope();
+		for ( Geometry value : values ) {
+			if ( value.getSRID() != srid ) {
+				throw new IllegalArgumentException( "Geometry values must have the same SRID." );
+			}
+			envelope.expandToInclude( value.getEnvelopeInternal() );
+			// the bounding box of all the values is tested once, rather than for each of them
+			within.add( SpatialRestrictions.within( propertyName, value ).withBoundingBoxPrefilter( false ) );
+		}
+		this.propertyName = propertyName;
+		this.boundingBox = EnvelopeAdapter.toPolygon( envelope, srid );
+	}
+
+	/**
+	 * Specifies whether the spatial relations are preceded by the bounding box test of the spatial dialect, when
+	 * it has one, so that the spatial index is used.  By default, this is determined by the
+	 * {@link HibernateSpatialConfigurationSettings#BOUNDING_BOX_PREFILTER} setting.
+	 *
+	 * @param enabled Whether to prefilter on the bounding box
+	 *
+	 * @return {@code this}, for method chaining
+	 */
+	public WithinAnyExpression withBoundingBoxPrefilter(boolean enabled) {
+		this.boundingBoxPrefilter = enabled;
+		return this;
+	}
+
+	@Override
+	public String toSqlString(Criteria criteria, CriteriaQuery criteriaQuery) throws HibernateException {
+		final String withinSql = within.toSqlString( criteria, criteriaQuery );
+		final String prefilterSql = getBoundingBoxPrefilterSQL( criteria, criteriaQuery );
+		return prefilterSql == null ? withinSql : "(" + prefilterSql + " and " + withinSql + ")";
+	}
+
+	@Override
+	public TypedValue[] getTypedValues(Criteria criteria, CriteriaQuery criteriaQuery) throws HibernateException {
+		final TypedValue[] withinValues = within.getTypedValues( criteria, criteriaQuery );
+		if ( getBoundingBoxPrefilterSQL( criteria, criteriaQuery ) == null ) {
+			return withinValues;
+		}
+		final TypedValue[] values = new TypedValue[withinValues.length + 1];
+		values[0] = criteriaQuery.getTypedValue( criteria, propertyName, boundingBox );
+		System.arraycopy( withinValues, 0, values, 1, withinValues.length );
+		return values;
+	}
+
+	private String getBoundingBoxPrefilterSQL(Criteria criteria, CriteriaQuery criteriaQuery) {
+		final boolean enabled = boundingBoxPrefilter != null
+				? boundingBoxPrefilter
+				: ConfigurationHelper.getBoolean(
+						HibernateSpatialConfigurationSettings.BOUNDING_BOX_PREFILTER,
+						criteriaQuery.getFactory().getProperties(),
+						false
+				);
+		if ( !enabled ) {
+			return null;
+		}
+		final SpatialDialect spatialDialect = ExpressionUtil.getSpatialDialect( criteriaQuery, SpatialFunction.within );
+		return spatialDialect.getBoundingBoxPrefilterSQL( ExpressionUtil.findColumn( propertyName, criteria, criteriaQuery ) );
+	}
+
+	@Override
+	public String toString() {
+		return "withinAny(" + propertyName + ", " + within + ")";
+	}
+}
@@ -161,6 +161,11 @@ public class GeoDBDialect extends H2Dialect implements SpatialDialect {
 		return false;
 	}
 
+	@Override
+	public String getBoundingBoxPrefilterSQL(String columnName) {
+		return getSpatialFilterExpression( columnName );
+	}
+
 	@Override
 	public boolean supports(SpatialFunction function) {
 		return function != SpatialFunction.difference && ( getFunctions().get( function.toString() ) != null );
@@ -145,6 +145,11 @@ public class MySQL56SpatialDialect extends MySQL55Dialect implements SpatialDial
 		return dialectDelegate.supportsFiltering();
 	}
 
+	@Override
+	public String getBoundingBoxPrefilterSQL(String columnName) {
+		return dialectDelegate.getBoundingBoxPrefilterSQL( columnName );
+	}
+
 	@Override
 	public boolean supports(SpatialFunction function) {
 		return dialectDelegate.supports( function );
@@ -92,6 +92,11 @@ public class MySQL5SpatialDialect extends MySQL5Dialect implements SpatialDialec
 		return dialectDelegate.supportsFiltering();
 	}
 
+	@Override
+	public String getBoundingBoxPrefilterSQL(String columnName) {
+		return dialectDelegate.getBoundingBoxPrefilterSQL( columnName );
+	}
+
 	@Override
 	public boolean supports(SpatialFunction function) {
 		return dialectDelegate.supports( function );
@@ -112,6 +112,12 @@ public class MySQLSpatialDialect extends MySQLDialect implements SpatialDialect
 		return false;
 	}
 
+	@Override
+	public String getBoundingBoxPrefilterSQL(String columnName) {
+		// MBRIntersects is a superset of the exact relations, whatever the MBR semantics of the server
+		return getSpatialFilterExpression( columnName );
+	}
+
 	@Override
 	public boolean supports(SpatialFunction function) {
 		switch ( function ) {
@@ -7,11 +7,13 @@
 
 package org.hibernate.spatial.dialect.postgis;
 
+import java.nio.charset.StandardCharsets;
 import java.sql.CallableStatement;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Types;
+import java.util.Arrays;
 
 import org.hibernate.type.descriptor.ValueBinder;
 import org.hibernate.type.descriptor.ValueExtractor;
@@ -29,6 +31,7 @@ import org.geolatte.geom.codec.WkbDecoder;
 import org.geolatte.geom.codec.WkbEncoder;
 import org.geolatte.geom.codec.Wkt;
 import org.geolatte.geom.codec.WktDecoder;
+import org.postgresql.util.PGBinaryObject;
 import org.postgresql.util.PGobject;
 
 /**
@@ -42,12 +45,31 @@ public class PGGeometryTypeDescriptor implements SqlTypeDescriptor {
 	/**
 	 * An instance of this class
 	 */
-	public static final PGGeometryTypeDescriptor INSTANCE = new PGGeometryTypeDescriptor();
+	public static final PGGeometryTypeDescriptor INSTANCE = new PGGeometryTypeDescriptor( false );
+
+	/**
+	 * An instance of this class binding and extracting geometries as raw EWKB bytes
+	 *
+	 * @see org.hibernate.spatial.HibernateSpatialConfigurationSettings#POSTGIS_BINARY_GEOMETRY
+	 */
+	public static final PGGeometryTypeDescriptor BINARY_INSTANCE = new PGGeometryTypeDescriptor( true );
+
+	private final boolean binary;
+
+	private PGGeometryTypeDescriptor(boolean binary) {
+		this.binary = binary;
+	}
 
 	public static Geometry<?> toGeometry(Object object) {
 		if ( object == null ) {
 			return null;
 		}
+		if ( object instanceof byte[] ) {
+			return toGeometry( (byte[]) object );
+		}
+		if ( object instanceof EwkbPGobject ) {
+			return decodeWkb( ( (EwkbPGobject) object ).bytes );
+		}
 		ByteBuffer buffer = null;
 		if ( object instanceof PGobject ) {
 			String pgValue = ( (PGobject) object ).getValue();
@@ -67,6 +89,45 @@ public class PGGeometryTypeDescriptor implements SqlTypeDescriptor {
 		throw new IllegalStateException( "Received object of type " + object.getClass().getCanonicalName() );
 	}
 
+	/**
+	 * Decodes a geometry from the bytes of a column value, as returned by {@link ResultSet#getBytes}: the
+	 * EWKB itself when transferred in binary form, otherwise the characters of its hex encoding or of its WKT.
+	 */
+	public static Geometry<?> toGeometry(byte[] bytes) {
+		if ( bytes == null ) {
+			return null;
+		}
+		if ( bytes.length > 0 && ( bytes[0] == 0 || bytes[0] == 1 ) ) {
+			//we have a WKB because the value starts with the bit-order byte
+			return decodeWkb( bytes );
+		}
+		if ( bytes.length > 1 && bytes[0] == '0' && ( bytes[1] == '0' || bytes[1] == '1' ) ) {
+			return decodeWkb( fromHex( bytes ) );
+		}
+		return parseWkt( new String( bytes, StandardCharsets.US_ASCII ) );
+	}
+
+	private static Geometry<?> decodeWkb(byte[] wkb) {
+		final WkbDecoder decoder = Wkb.newDecoder( Wkb.Dialect.POSTGIS_EWKB_1 );
+		return decoder.decode( ByteBuffer.from( wkb ) );
+	}
+
+	private static byte[] fromHex(byte[] hex) {
+		final byte[] bytes = new byte[hex.length / 2];
+		for ( int i = 0; i < bytes.length; i++ ) {
+			bytes[i] = (byte) ( ( hexDigit( hex[2 * i] ) << 4 ) | hexDigit( hex[2 * i + 1] ) );
+		}
+		return bytes;
+	}
+
+	private static int hexDigit(byte c) {
+		final int digit = Character.digit( c, 16 );
+		if ( digit < 0 ) {
+			throw new IllegalArgumentException( "Invalid hex character in WKB: " + (char) c );
+		}
+		return digit;
+	}
+
 	private static Geometry<?> parseWkt(String pgValue) {
 		final WktDecoder decoder = Wkt.newDecoder( Wkt.Dialect.POSTGIS_EWKT_1 );
 		return decoder.decode( pgValue );
@@ -88,14 +149,14 @@ public class PGGeometryTypeDescriptor implements SqlTypeDescriptor {
 			@Override
 			protected void doBind(PreparedStatement st, X value, int index, WrapperOptions options)
 					throws SQLException {
-				final PGobject obj = toPGobject( value, options );
+				final PGobject obj = binary ? toEwkbPGobject( value, options ) : toPGobject( value, options );
 				st.setObject( index, obj );
 			}
 
 			@Override
 			protected void doBind(CallableStatement st, X value, String name, WrapperOptions options)
 					throws SQLException {
-				final PGobject obj = toPGobject( value, options );
+				final PGobject obj = binary ? toEwkbPGobject( value, options ) : toPGobject( value, options );
 				st.setObject( name, obj );
 			}
 
@@ -109,6 +170,12 @@ public class PGGeometryTypeDescriptor implements SqlTypeDescriptor {
 				return obj;
 			}
 
+			private PGobject toEwkbPGobject(X value, WrapperOptions options) {
+				final WkbEncoder encoder = Wkb.newEncoder( Wkb.Dialect.POSTGIS_EWKB_1 );
+				final Geometry geometry = getJavaDescriptor().unwrap( value, Geometry.class, options );
+				return new EwkbPGobject( encoder.encode( geometry, ByteOrder.NDR ).toByteArray() );
+			}
+
 		};
 	}
 
@@ -118,19 +185,65 @@ public class PGGeometryTypeDescriptor implements SqlTypeDescriptor {
 
 			@Override
 			protected X doExtract(ResultSet rs, String name, WrapperOptions options) throws SQLException {
-				return getJavaDescriptor().wrap( toGeometry( rs.getObject( name ) ), options );
+				final Object value = binary ? rs.getBytes( name ) : rs.getObject( name );
+				return getJavaDescriptor().wrap( toGeometry( value ), options );
 			}
 
 			@Override
 			protected X doExtract(CallableStatement statement, int index, WrapperOptions options) throws SQLException {
-				return getJavaDescriptor().wrap( toGeometry( statement.getObject( index ) ), options );
+				final Object value = binary ? statement.getBytes( index ) : statement.getObject( index );
+				return getJavaDescriptor().wrap( toGeometry( value ), options );
 			}
 
 			@Override
 			protected X doExtract(CallableStatement statement, String name, WrapperOptions options)
 					throws SQLException {
-				return getJavaDescriptor().wrap( toGeometry( statement.getObject( name ) ), options );
+				final Object value = binary ? statement.getBytes( name ) : statement.getObject( name );
+				return getJavaDescriptor().wrap( toGeometry( value ), options );
 			}
 		};
 	}
+
+	/**
+	 * A geometry value holding its EWKB, sent as such when the driver transfers geometries in binary form,
+	 * and hex-encoded only otherwise.  It can also be registered for the geometry type with
+	 * {@code PGConnection#addDataType}.
+	 */
+	public static final class EwkbPGobject extends PGobject implements PGBinaryObject {
+		private byte[] bytes;
+
+		public EwkbPGobject() {
+			setType( "geometry" );
+		}
+
+		EwkbPGobject(byte[] bytes) {
+			this();
+			this.bytes = bytes;
+		}
+
+		@Override
+		public void setByteValue(byte[] value, int offset) {
+			this.bytes = Arrays.copyOfRange( value, offset, value.length );
+		}
+
+		@Override
+		public int lengthInBytes() {
+			return bytes.length;
+		}
+
+		@Override
+		public void toBytes(byte[] target, int offset) {
+			System.arraycopy( bytes, 0, target, offset, bytes.length );
+		}
+
+		@Override
+		public void setValue(String value) throws SQLException {
+			this.bytes = value == null ? null : ByteBuffer.from( value ).toByteArray();
+		}
+
+		@Override
+		public String getValue() {
+			return bytes == null ? null : ByteBuffer.from( bytes ).toString();
+		}
+	}
 }
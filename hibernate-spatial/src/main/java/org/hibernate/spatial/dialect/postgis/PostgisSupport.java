@@ -9,9 +9,12 @@ package org.hibernate.spatial.dialect.postgis;
 import java.io.Serializable;
 
 import org.hibernate.boot.model.TypeContributions;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
 import org.hibernate.service.ServiceRegistry;
 import org.hibernate.spatial.GeolatteGeometryJavaTypeDescriptor;
 import org.hibernate.spatial.GeolatteGeometryType;
+import org.hibernate.spatial.HibernateSpatialConfigurationSettings;
 import org.hibernate.spatial.JTSGeometryJavaTypeDescriptor;
 import org.hibernate.spatial.JTSGeometryType;
 import org.hibernate.spatial.SpatialAggregate;
@@ -28,13 +31,24 @@ public class PostgisSupport implements SpatialDialect, Serializable {
 	private PostgisFunctions postgisFunctions = new PostgisFunctions();
 
 	void contributeTypes(TypeContributions typeContributions, ServiceRegistry serviceRegistry) {
-		typeContributions.contributeType( new GeolatteGeometryType( PGGeometryTypeDescriptor.INSTANCE ) );
-		typeContributions.contributeType( new JTSGeometryType( PGGeometryTypeDescriptor.INSTANCE ) );
+		final PGGeometryTypeDescriptor typeDescriptor = mkDescriptor( serviceRegistry );
+		typeContributions.contributeType( new GeolatteGeometryType( typeDescriptor ) );
+		typeContributions.contributeType( new JTSGeometryType( typeDescriptor ) );
 
 		typeContributions.contributeJavaTypeDescriptor( GeolatteGeometryJavaTypeDescriptor.INSTANCE );
 		typeContributions.contributeJavaTypeDescriptor( JTSGeometryJavaTypeDescriptor.INSTANCE );
 	}
 
+	private PGGeometryTypeDescriptor mkDescriptor(ServiceRegistry serviceRegistry) {
+		final ConfigurationService configurationService = serviceRegistry.getService( ConfigurationService.class );
+		final boolean binary = configurationService.getSetting(
+				HibernateSpatialConfigurationSettings.POSTGIS_BINARY_GEOMETRY,
+				StandardConverters.BOOLEAN,
+				false
+		);
+		return binary ? PGGeometryTypeDescriptor.BINARY_INSTANCE : PGGeometryTypeDescriptor.INSTANCE;
+	}
+
 	public PostgisFunctions functionsToRegister() {
 		return postgisFunctions;
 	}
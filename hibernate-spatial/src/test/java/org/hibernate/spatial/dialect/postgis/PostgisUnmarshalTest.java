@@ -6,6 +6,7 @@
  */
 package org.hibernate.spatial.dialect.postgis;
 
+import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
 
 import org.junit.Test;
@@ -23,6 +24,7 @@ import org.postgresql.util.PGobject;
 import static org.geolatte.geom.builder.DSL.c;
 import static org.geolatte.geom.builder.DSL.g;
 import static org.geolatte.geom.builder.DSL.linestring;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
 /**
@@ -66,11 +68,38 @@ public class PostgisUnmarshalTest {
 	}
 
 
+	@Test
+	public void testRawWkbNDR() {
+		byte[] wkb = Wkb.toWkb( geom, ByteOrder.NDR ).toByteArray();
+		assertEquals( geom, PGGeometryTypeDescriptor.toGeometry( wkb ) );
+	}
+
+	@Test
+	public void testRawWkbXDR() {
+		byte[] wkb = Wkb.toWkb( geom, ByteOrder.XDR ).toByteArray();
+		assertEquals( geom, PGGeometryTypeDescriptor.toGeometry( wkb ) );
+	}
+
+	@Test
+	public void testEwkbPGobject() throws SQLException {
+		byte[] wkb = Wkb.toWkb( geom, ByteOrder.NDR ).toByteArray();
+		PGGeometryTypeDescriptor.EwkbPGobject pgo = new PGGeometryTypeDescriptor.EwkbPGobject();
+		pgo.setByteValue( wkb, 0 );
+		byte[] sent = new byte[pgo.lengthInBytes()];
+		pgo.toBytes( sent, 0 );
+		assertArrayEquals( wkb, sent );
+		assertEquals( Wkb.toWkb( geom, ByteOrder.NDR ).toString(), pgo.getValue() );
+		assertEquals( geom, PGGeometryTypeDescriptor.toGeometry( pgo ) );
+	}
+
 	public void testCase(String pgValue, Geometry<?> expected) throws SQLException {
 		PGobject pgo = new PGobject();
 		pgo.setValue( pgValue );
 		Geometry<?> received = PGGeometryTypeDescriptor.toGeometry( pgo );
 		assertEquals( String.format( "Failure on %s", pgValue ), expected, received );
+		// the text value as read through ResultSet#getBytes
+		received = PGGeometryTypeDescriptor.toGeometry( pgValue.getBytes( StandardCharsets.US_ASCII ) );
+		assertEquals( String.format( "Failure on bytes of %s", pgValue ), expected, received );
 	}
 
 
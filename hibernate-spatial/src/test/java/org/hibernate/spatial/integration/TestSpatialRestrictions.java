@@ -8,6 +8,7 @@
 package org.hibernate.spatial.integration;
 
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
@@ -125,6 +126,60 @@ public class TestSpatialRestrictions extends SpatialFunctionalTestCase {
 		retrieveAndCompare( dbexpected, spatialCriterion );
 	}
 
+	@Test
+	public void intersectsWithBoundingBoxPrefilter() throws SQLException {
+		if ( !isSupportedByDialect( SpatialFunction.intersects ) ) {
+			return;
+		}
+		Map<Integer, Boolean> dbexpected = expectationsFactory.getIntersects( expectationsFactory.getTestPolygon() );
+		Criterion spatialCriterion = SpatialRestrictions.intersects( "geom", expectationsFactory.getTestPolygon() )
+				.withBoundingBoxPrefilter( true );
+		retrieveAndCompare( dbexpected, spatialCriterion );
+	}
+
+	@Test
+	public void intersectsAny() throws SQLException {
+		if ( !isSupportedByDialect( SpatialFunction.intersects ) ) {
+			return;
+		}
+		Map<Integer, Boolean> dbexpected = expectationsFactory.getIntersects( expectationsFactory.getTestPolygon() );
+		expectationsFactory.getIntersects( expectationsFactory.getTestPoint() )
+				.forEach( (id, intersects) -> dbexpected.merge( id, intersects, Boolean::logicalOr ) );
+		Criterion spatialCriterion = SpatialRestrictions.intersectsAny(
+				"geom",
+				Arrays.asList( expectationsFactory.getTestPolygon(), expectationsFactory.getTestPoint() )
+		);
+		retrieveAndCompare( dbexpected, spatialCriterion );
+	}
+
+	@Test
+	public void withinAny() throws SQLException {
+		if ( !isSupportedByDialect( SpatialFunction.within ) ) {
+			return;
+		}
+		Map<Integer, Boolean> dbexpected = expectationsFactory.getWithin( expectationsFactory.getTestPolygon() );
+		expectationsFactory.getWithin( expectationsFactory.getTestPoint() )
+				.forEach( (id, within) -> dbexpected.merge( id, within, Boolean::logicalOr ) );
+		Criterion spatialCriterion = SpatialRestrictions.withinAny(
+				"geom",
+				Arrays.asList( expectationsFactory.getTestPolygon(), expectationsFactory.getTestPoint() )
+		);
+		retrieveAndCompare( dbexpected, spatialCriterion );
+	}
+
+	@Test
+	public void withinAnyWithBoundingBoxPrefilter() throws SQLException {
+		if ( !isSupportedByDialect( SpatialFunction.within ) ) {
+			return;
+		}
+		Map<Integer, Boolean> dbexpected = expectationsFactory.getWithin( expectationsFactory.getTestPolygon() );
+		Criterion spatialCriterion = SpatialRestrictions.withinAny(
+				"geom",
+				Arrays.asList( expectationsFactory.getTestPolygon() )
+		).withBoundingBoxPrefilter( true );
+		retrieveAndCompare( dbexpected, spatialCriterion );
+	}
+
 	@Test
 	public void overlaps() throws SQLException {
 		if ( !isSupportedByDialect( SpatialFunction.overlaps ) ) {